@@ -0,0 +1,80 @@
+/*
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.15.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package org.opendevstack.apiservice.projectplatform.api;
+
+import org.opendevstack.apiservice.projectplatform.model.ProjectPlatforms;
+import org.opendevstack.apiservice.projectplatform.model.RestErrorMessage;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+@Validated
+@Tag(name = "Projects", description = "the Projects API")
+public interface ProjectsApi {
+
+    public static final String PATH_GET_PROJECT_PLATFORMS = "/projects/{projectKey}/platforms";
+    /**
+     * GET /projects/{projectKey}/platforms : Get platform information for a given project key.
+     * Returns disabled platforms and categorized platform links for the specified project.
+     *
+     * @param projectKey Project key to retrieve platform information. (required)
+     * @return Platform information for the project. (status code 200)
+     *         or Invalid client token on the request. (status code 401)
+     *         or Insufficient permissions for the client to access the resource. (status code 403)
+     */
+    @Operation(
+        operationId = "getProjectPlatforms",
+        summary = "Get platform information for a given project key.",
+        description = "Returns disabled platforms and categorized platform links for the specified project.",
+        tags = { "Projects" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Platform information for the project.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ProjectPlatforms.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Invalid client token on the request.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = RestErrorMessage.class))
+            }),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions for the client to access the resource.", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = RestErrorMessage.class))
+            })
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = ProjectsApi.PATH_GET_PROJECT_PLATFORMS,
+        produces = { "application/json" }
+    )
+    
+    ResponseEntity<ProjectPlatforms> getProjectPlatforms(
+        @Parameter(name = "projectKey", description = "Project key to retrieve platform information.", required = true, in = ParameterIn.PATH) @PathVariable("projectKey") String projectKey
+    );
+
+}
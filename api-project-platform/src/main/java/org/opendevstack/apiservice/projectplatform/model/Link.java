@@ -0,0 +1,220 @@
+package org.opendevstack.apiservice.projectplatform.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Link
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class Link {
+
+  private String label;
+
+  private String url;
+
+  private String tooltip;
+
+  private String type;
+
+  private String abbreviation;
+
+  private Boolean disabled;
+
+  public Link() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public Link(String label, String url, String tooltip, String type, String abbreviation, Boolean disabled) {
+    this.label = label;
+    this.url = url;
+    this.tooltip = tooltip;
+    this.type = type;
+    this.abbreviation = abbreviation;
+    this.disabled = disabled;
+  }
+
+  public Link label(String label) {
+    this.label = label;
+    return this;
+  }
+
+  /**
+   * Get label
+   * @return label
+   */
+  @NotNull 
+  @Schema(name = "label", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("label")
+  public String getLabel() {
+    return label;
+  }
+
+  public void setLabel(String label) {
+    this.label = label;
+  }
+
+  public Link url(String url) {
+    this.url = url;
+    return this;
+  }
+
+  /**
+   * Get url
+   * @return url
+   */
+  @NotNull 
+  @Schema(name = "url", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("url")
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public Link tooltip(String tooltip) {
+    this.tooltip = tooltip;
+    return this;
+  }
+
+  /**
+   * Get tooltip
+   * @return tooltip
+   */
+  @NotNull 
+  @Schema(name = "tooltip", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("tooltip")
+  public String getTooltip() {
+    return tooltip;
+  }
+
+  public void setTooltip(String tooltip) {
+    this.tooltip = tooltip;
+  }
+
+  public Link type(String type) {
+    this.type = type;
+    return this;
+  }
+
+  /**
+   * Get type
+   * @return type
+   */
+  @NotNull 
+  @Schema(name = "type", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("type")
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public Link abbreviation(String abbreviation) {
+    this.abbreviation = abbreviation;
+    return this;
+  }
+
+  /**
+   * Get abbreviation
+   * @return abbreviation
+   */
+  @NotNull 
+  @Schema(name = "abbreviation", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("abbreviation")
+  public String getAbbreviation() {
+    return abbreviation;
+  }
+
+  public void setAbbreviation(String abbreviation) {
+    this.abbreviation = abbreviation;
+  }
+
+  public Link disabled(Boolean disabled) {
+    this.disabled = disabled;
+    return this;
+  }
+
+  /**
+   * Get disabled
+   * @return disabled
+   */
+  @NotNull 
+  @Schema(name = "disabled", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("disabled")
+  public Boolean getDisabled() {
+    return disabled;
+  }
+
+  public void setDisabled(Boolean disabled) {
+    this.disabled = disabled;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Link link = (Link) o;
+    return Objects.equals(this.label, link.label) &&
+        Objects.equals(this.url, link.url) &&
+        Objects.equals(this.tooltip, link.tooltip) &&
+        Objects.equals(this.type, link.type) &&
+        Objects.equals(this.abbreviation, link.abbreviation) &&
+        Objects.equals(this.disabled, link.disabled);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(label, url, tooltip, type, abbreviation, disabled);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Link {\n");
+    sb.append("    label: ").append(toIndentedString(label)).append("\n");
+    sb.append("    url: ").append(toIndentedString(url)).append("\n");
+    sb.append("    tooltip: ").append(toIndentedString(tooltip)).append("\n");
+    sb.append("    type: ").append(toIndentedString(type)).append("\n");
+    sb.append("    abbreviation: ").append(toIndentedString(abbreviation)).append("\n");
+    sb.append("    disabled: ").append(toIndentedString(disabled)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,281 @@
+/*
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech) (7.15.0).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+package org.opendevstack.apiservice.projectusers.api;
+
+import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseBulkMembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseBulkMembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseMembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseMembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.model.BulkAddUsersToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.ValidationErrorResponse;
+import io.swagger.v3.oas.annotations.ExternalDocumentation;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import jakarta.annotation.Generated;
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+@Validated
+@Tag(name = "Project Users", description = "API for managing project users and their roles")
+public interface ProjectUsersApi {
+
+    public static final String PATH_GET_BULK_REQUEST_STATUS = "/project/{projectKey}/users/bulk/status";
+    /**
+     * GET /project/{projectKey}/users/bulk/status : Get bulk membership request status
+     * Retrieves the combined status of a bulk membership request together with the status of each entry
+     *
+     * @param projectKey Project identifier (required)
+     * @param requestId Aggregate request ID returned by the bulk membership request (required)
+     * @return Request status retrieved successfully (status code 200)
+     *         or Invalid request ID (status code 400)
+     *         or Unauthorized - authentication required or token invalid/expired (status code 401)
+     *         or Forbidden - authenticated but insufficient permissions to access this resource (status code 403)
+     *         or Internal server error (status code 500)
+     */
+    @Operation(
+        operationId = "getBulkRequestStatus",
+        summary = "Get bulk membership request status",
+        description = "Retrieves the combined status of a bulk membership request together with the status of each entry",
+        tags = { "Project Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Request status retrieved successfully", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request ID", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required or token invalid/expired", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "403", description = "Forbidden - authenticated but insufficient permissions to access this resource", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestStatusResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "bearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = ProjectUsersApi.PATH_GET_BULK_REQUEST_STATUS,
+        produces = { "application/json" }
+    )
+    
+    ResponseEntity<ApiResponseBulkMembershipRequestStatusResponse> getBulkRequestStatus(
+        @Parameter(name = "projectKey", description = "Project identifier", required = true, in = ParameterIn.PATH) @PathVariable("projectKey") String projectKey,
+        @NotNull @Parameter(name = "requestId", description = "Aggregate request ID returned by the bulk membership request", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "requestId", required = true) String requestId
+    );
+
+
+    public static final String PATH_GET_REQUEST_STATUS = "/project/{projectKey}/users/{userid}/status";
+    /**
+     * GET /project/{projectKey}/users/{userid}/status : Get membership request status
+     * Retrieves the current status of a membership request
+     *
+     * @param projectKey Project identifier (required)
+     * @param userid User identifier (required)
+     * @param requestId Request ID for status tracking (required)
+     * @return Request status retrieved successfully (status code 200)
+     *         or Invalid request ID (status code 400)
+     *         or Unauthorized - authentication required or token invalid/expired (status code 401)
+     *         or Forbidden - authenticated but insufficient permissions to access this resource (status code 403)
+     *         or Request not found or expired (status code 404)
+     *         or Internal server error (status code 500)
+     */
+    @Operation(
+        operationId = "getRequestStatus",
+        summary = "Get membership request status",
+        description = "Retrieves the current status of a membership request",
+        tags = { "Project Users" },
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Request status retrieved successfully", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Invalid request ID", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required or token invalid/expired", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "403", description = "Forbidden - authenticated but insufficient permissions to access this resource", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Request not found or expired", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestStatusResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "bearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.GET,
+        value = ProjectUsersApi.PATH_GET_REQUEST_STATUS,
+        produces = { "application/json" }
+    )
+    
+    ResponseEntity<ApiResponseMembershipRequestStatusResponse> getRequestStatus(
+        @Parameter(name = "projectKey", description = "Project identifier", required = true, in = ParameterIn.PATH) @PathVariable("projectKey") String projectKey,
+        @Parameter(name = "userid", description = "User identifier", required = true, in = ParameterIn.PATH) @PathVariable("userid") String userid,
+        @NotNull @Parameter(name = "requestId", description = "Request ID for status tracking", required = true, in = ParameterIn.QUERY) @Valid @RequestParam(value = "requestId", required = true) String requestId
+    );
+
+
+    public static final String PATH_TRIGGER_BULK_MEMBERSHIP_REQUEST = "/project/{projectKey}/users/bulk";
+    /**
+     * POST /project/{projectKey}/users/bulk : Trigger bulk membership request
+     * Triggers membership requests for several users of a project at once. Each entry is launched separately and receives its own request ID; the aggregate request ID reports the combined status of all entries
+     *
+     * @param projectKey Project identifier (required)
+     * @param bulkAddUsersToProjectRequest  (required)
+     * @return Bulk membership request triggered; entries that could not be launched are listed in failures (status code 201)
+     *         or Validation failed - invalid request data with detailed field-level error information (status code 400)
+     *         or Unauthorized - authentication required or token invalid/expired (status code 401)
+     *         or Forbidden - authenticated but insufficient permissions to perform this operation (status code 403)
+     *         or Project not found (status code 404)
+     *         or External automation platform service error for every entry (status code 502)
+     *         or Internal server error (status code 500)
+     */
+    @Operation(
+        operationId = "triggerBulkMembershipRequest",
+        summary = "Trigger bulk membership request",
+        description = "Triggers membership requests for several users of a project at once. Each entry is launched separately and receives its own request ID; the aggregate request ID reports the combined status of all entries",
+        tags = { "Project Users" },
+        responses = {
+            @ApiResponse(responseCode = "201", description = "Bulk membership request triggered; entries that could not be launched are listed in failures", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Validation failed - invalid request data with detailed field-level error information", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required or token invalid/expired", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "403", description = "Forbidden - authenticated but insufficient permissions to perform this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Project not found", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "502", description = "External automation platform service error for every entry", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseBulkMembershipRequestResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "bearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = ProjectUsersApi.PATH_TRIGGER_BULK_MEMBERSHIP_REQUEST,
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    ResponseEntity<ApiResponseBulkMembershipRequestResponse> triggerBulkMembershipRequest(
+        @Parameter(name = "projectKey", description = "Project identifier", required = true, in = ParameterIn.PATH) @PathVariable("projectKey") String projectKey,
+        @Parameter(name = "BulkAddUsersToProjectRequest", description = "", required = true) @Valid @RequestBody BulkAddUsersToProjectRequest bulkAddUsersToProjectRequest
+    );
+
+
+    public static final String PATH_TRIGGER_MEMBERSHIP_REQUEST = "/project/{projectKey}/users";
+    /**
+     * POST /project/{projectKey}/users : Trigger membership request
+     * Triggers a membership request for a user to join a project with the specified role
+     *
+     * @param projectKey Project identifier (required)
+     * @param addUserToProjectRequest  (required)
+     * @param idempotencyKey Optional client-supplied key. Repeated identical requests with the same key return the original request ID instead of launching the workflow again (optional)
+     * @return Membership request triggered successfully (status code 201)
+     *         or Validation failed - invalid request data with detailed field-level error information (status code 400)
+     *         or Unauthorized - authentication required or token invalid/expired (status code 401)
+     *         or Forbidden - authenticated but insufficient permissions to perform this operation (status code 403)
+     *         or User already has a pending or existing membership in project (status code 409)
+     *         or Project not found (status code 404)
+     *         or External automation platform service error (status code 502)
+     *         or Internal server error (status code 500)
+     */
+    @Operation(
+        operationId = "triggerMembershipRequest",
+        summary = "Trigger membership request",
+        description = "Triggers a membership request for a user to join a project with the specified role",
+        tags = { "Project Users" },
+        responses = {
+            @ApiResponse(responseCode = "201", description = "Membership request triggered successfully", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "400", description = "Validation failed - invalid request data with detailed field-level error information", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ValidationErrorResponse.class))
+            }),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - authentication required or token invalid/expired", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "403", description = "Forbidden - authenticated but insufficient permissions to perform this operation", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "409", description = "User already has a pending or existing membership in project", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "404", description = "Project not found", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "502", description = "External automation platform service error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            }),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = {
+                @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseMembershipRequestResponse.class))
+            })
+        },
+        security = {
+            @SecurityRequirement(name = "bearerAuth")
+        }
+    )
+    @RequestMapping(
+        method = RequestMethod.POST,
+        value = ProjectUsersApi.PATH_TRIGGER_MEMBERSHIP_REQUEST,
+        produces = { "application/json" },
+        consumes = { "application/json" }
+    )
+    
+    ResponseEntity<ApiResponseMembershipRequestResponse> triggerMembershipRequest(
+        @Parameter(name = "projectKey", description = "Project identifier", required = true, in = ParameterIn.PATH) @PathVariable("projectKey") String projectKey,
+        @Parameter(name = "AddUserToProjectRequest", description = "", required = true) @Valid @RequestBody AddUserToProjectRequest addUserToProjectRequest,
+        @Parameter(name = "Idempotency-Key", description = "Optional client-supplied key. Repeated identical requests with the same key return the original request ID instead of launching the workflow again", in = ParameterIn.HEADER) @RequestHeader(value = "Idempotency-Key", required = false) @Nullable String idempotencyKey
+    );
+
+}
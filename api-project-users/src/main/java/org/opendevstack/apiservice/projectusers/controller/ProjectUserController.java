@@ -1,8 +1,13 @@
 package org.opendevstack.apiservice.projectusers.controller;
 
 import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseBulkMembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.model.ApiResponseBulkMembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.model.ApiResponseMembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.model.ApiResponseMembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.model.BulkAddUsersToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.api.ProjectUsersApi;
@@ -39,17 +44,19 @@ public class ProjectUserController implements ProjectUsersApi{
      *
      * @param projectKey the project identifier
      * @param addUserToProjectRequest the request containing user details and role
+     * @param idempotencyKey optional client-supplied key used to deduplicate retried requests
      * @return API response with the created project user
      */
     @Override
     public ResponseEntity<ApiResponseMembershipRequestResponse> triggerMembershipRequest(
             String projectKey,
-            AddUserToProjectRequest addUserToProjectRequest) {
+            AddUserToProjectRequest addUserToProjectRequest,
+            String idempotencyKey) {
         
         logger.info("Triggering membership request for account '{}' of user '{}' to project '{}' with role '{}'", 
             addUserToProjectRequest.getAccount(), addUserToProjectRequest.getUser(), projectKey, addUserToProjectRequest.getRole());
         
-        MembershipRequestResponse response = projectUserService.addUserToProject(projectKey, addUserToProjectRequest);
+        MembershipRequestResponse response = projectUserService.addUserToProject(projectKey, addUserToProjectRequest, idempotencyKey);
         
         ApiResponseMembershipRequestResponse apiResponse = new ApiResponseMembershipRequestResponse();
         apiResponse.setSuccess(true);
@@ -60,6 +67,55 @@ public class ProjectUserController implements ProjectUsersApi{
         return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
     }
 
+    /**
+     * Request the membership of several users to a project in one call.
+     *
+     * @param projectKey the project identifier
+     * @param bulkAddUsersToProjectRequest the requests containing user details and roles
+     * @return API response with the launched requests, failed entries and the aggregate request ID
+     */
+    @Override
+    public ResponseEntity<ApiResponseBulkMembershipRequestResponse> triggerBulkMembershipRequest(
+            String projectKey,
+            BulkAddUsersToProjectRequest bulkAddUsersToProjectRequest) {
+
+        logger.info("Triggering bulk membership request for {} users to project '{}'",
+            bulkAddUsersToProjectRequest.getRequests().size(), projectKey);
+
+        BulkMembershipRequestResponse response =
+            projectUserService.addUsersToProject(projectKey, bulkAddUsersToProjectRequest.getRequests());
+
+        ApiResponseBulkMembershipRequestResponse apiResponse = new ApiResponseBulkMembershipRequestResponse();
+        apiResponse.setSuccess(true);
+        apiResponse.setMessage("Bulk membership request triggered successfully");
+        apiResponse.setData(response);
+        apiResponse.setTimestamp(java.time.OffsetDateTime.now());
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseBulkMembershipRequestStatusResponse> getBulkRequestStatus(
+            String projectKey,
+            String requestId) {
+
+        logger.info("Getting status for bulk request '{}' - project '{}'", requestId, projectKey);
+
+        if (!statusService.validateBulkRequestToken(requestId, projectKey)) {
+            throw new InvalidTokenException("Invalid bulk request ID for the specified project");
+        }
+
+        BulkMembershipRequestStatusResponse statusResponse = statusService.getBulkRequestStatus(requestId);
+
+        ApiResponseBulkMembershipRequestStatusResponse apiResponse = new ApiResponseBulkMembershipRequestStatusResponse();
+        apiResponse.setSuccess(true);
+        apiResponse.setMessage("Request status retrieved successfully");
+        apiResponse.setData(statusResponse);
+        apiResponse.setTimestamp(java.time.OffsetDateTime.now());
+
+        return ResponseEntity.ok(apiResponse);
+    }
+
     @Override
     public ResponseEntity<ApiResponseMembershipRequestStatusResponse> getRequestStatus(
             String projectKey,
@@ -0,0 +1,194 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * User details and role information
+ */
+
+@Schema(name = "AddUserToProjectRequest", description = "User details and role information")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class AddUserToProjectRequest {
+
+  private String environment;
+
+  private String user;
+
+  private @Nullable String account;
+
+  private String role;
+
+  private @Nullable String comments;
+
+  public AddUserToProjectRequest() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public AddUserToProjectRequest(String environment, String user, String role) {
+    this.environment = environment;
+    this.user = user;
+    this.role = role;
+  }
+
+  public AddUserToProjectRequest environment(String environment) {
+    this.environment = environment;
+    return this;
+  }
+
+  /**
+   * Environment where the user will be added
+   * @return environment
+   */
+  @NotNull @Pattern(regexp = "^(PRODUCTIVE|QUALITYASSURANCE|DEVELOPMENT)$") @Size(min = 1) 
+  @Schema(name = "environment", example = "PRODUCTIVE", description = "Environment where the user will be added", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("environment")
+  public String getEnvironment() {
+    return environment;
+  }
+
+  public void setEnvironment(String environment) {
+    this.environment = environment;
+  }
+
+  public AddUserToProjectRequest user(String user) {
+    this.user = user;
+    return this;
+  }
+
+  /**
+   * Identifier of the user (short name)
+   * @return user
+   */
+  @NotNull @Pattern(regexp = "^[a-zA-Z0-9]+$") @Size(min = 1) 
+  @Schema(name = "user", example = "doejohn", description = "Identifier of the user (short name)", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("user")
+  public String getUser() {
+    return user;
+  }
+
+  public void setUser(String user) {
+    this.user = user;
+  }
+
+  public AddUserToProjectRequest account(@Nullable String account) {
+    this.account = account;
+    return this;
+  }
+
+  /**
+   * Account identifier of the user if it is not the same than the user
+   * @return account
+   */
+  @Pattern(regexp = "^[a-zA-Z0-9]+$") 
+  @Schema(name = "account", example = "doejane", description = "Account identifier of the user if it is not the same than the user", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("account")
+  public @Nullable String getAccount() {
+    return account;
+  }
+
+  public void setAccount(@Nullable String account) {
+    this.account = account;
+  }
+
+  public AddUserToProjectRequest role(String role) {
+    this.role = role;
+    return this;
+  }
+
+  /**
+   * Role to assign to the user in the project, TEAM, MANAGER, STAKEHOLDER, VM, etc.
+   * @return role
+   */
+  @NotNull @Pattern(regexp = "^[a-zA-Z]+[a-zA-Z_-]*$") 
+  @Schema(name = "role", example = "TEAM", description = "Role to assign to the user in the project, TEAM, MANAGER, STAKEHOLDER, VM, etc.", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("role")
+  public String getRole() {
+    return role;
+  }
+
+  public void setRole(String role) {
+    this.role = role;
+  }
+
+  public AddUserToProjectRequest comments(@Nullable String comments) {
+    this.comments = comments;
+    return this;
+  }
+
+  /**
+   * Additional comments
+   * @return comments
+   */
+  
+  @Schema(name = "comments", example = "Adding team member for development", description = "Additional comments", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("comments")
+  public @Nullable String getComments() {
+    return comments;
+  }
+
+  public void setComments(@Nullable String comments) {
+    this.comments = comments;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AddUserToProjectRequest addUserToProjectRequest = (AddUserToProjectRequest) o;
+    return Objects.equals(this.environment, addUserToProjectRequest.environment) &&
+        Objects.equals(this.user, addUserToProjectRequest.user) &&
+        Objects.equals(this.account, addUserToProjectRequest.account) &&
+        Objects.equals(this.role, addUserToProjectRequest.role) &&
+        Objects.equals(this.comments, addUserToProjectRequest.comments);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(environment, user, account, role, comments);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AddUserToProjectRequest {\n");
+    sb.append("    environment: ").append(toIndentedString(environment)).append("\n");
+    sb.append("    user: ").append(toIndentedString(user)).append("\n");
+    sb.append("    account: ").append(toIndentedString(account)).append("\n");
+    sb.append("    role: ").append(toIndentedString(role)).append("\n");
+    sb.append("    comments: ").append(toIndentedString(comments)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,196 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestStatusResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * ApiResponseBulkMembershipRequestStatusResponse
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class ApiResponseBulkMembershipRequestStatusResponse {
+
+  private Boolean success;
+
+  private @Nullable String message;
+
+  private @Nullable String error;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime timestamp;
+
+  private @Nullable BulkMembershipRequestStatusResponse data;
+
+  public ApiResponseBulkMembershipRequestStatusResponse() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public ApiResponseBulkMembershipRequestStatusResponse(Boolean success, OffsetDateTime timestamp) {
+    this.success = success;
+    this.timestamp = timestamp;
+  }
+
+  public ApiResponseBulkMembershipRequestStatusResponse success(Boolean success) {
+    this.success = success;
+    return this;
+  }
+
+  /**
+   * Indicates if the request was successful
+   * @return success
+   */
+  @NotNull 
+  @Schema(name = "success", example = "true", description = "Indicates if the request was successful", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("success")
+  public Boolean getSuccess() {
+    return success;
+  }
+
+  public void setSuccess(Boolean success) {
+    this.success = success;
+  }
+
+  public ApiResponseBulkMembershipRequestStatusResponse message(@Nullable String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * Response message
+   * @return message
+   */
+  
+  @Schema(name = "message", example = "Operation completed successfully", description = "Response message", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("message")
+  public @Nullable String getMessage() {
+    return message;
+  }
+
+  public void setMessage(@Nullable String message) {
+    this.message = message;
+  }
+
+  public ApiResponseBulkMembershipRequestStatusResponse error(@Nullable String error) {
+    this.error = error;
+    return this;
+  }
+
+  /**
+   * Error details or error code if any (populated when success is false)
+   * @return error
+   */
+  
+  @Schema(name = "error", description = "Error details or error code if any (populated when success is false)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("error")
+  public @Nullable String getError() {
+    return error;
+  }
+
+  public void setError(@Nullable String error) {
+    this.error = error;
+  }
+
+  public ApiResponseBulkMembershipRequestStatusResponse timestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  /**
+   * Response timestamp (ISO 8601 format)
+   * @return timestamp
+   */
+  @NotNull @Valid 
+  @Schema(name = "timestamp", example = "2023-10-01T12:34:56Z", description = "Response timestamp (ISO 8601 format)", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("timestamp")
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public ApiResponseBulkMembershipRequestStatusResponse data(@Nullable BulkMembershipRequestStatusResponse data) {
+    this.data = data;
+    return this;
+  }
+
+  /**
+   * Get data
+   * @return data
+   */
+  @Valid 
+  @Schema(name = "data", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("data")
+  public @Nullable BulkMembershipRequestStatusResponse getData() {
+    return data;
+  }
+
+  public void setData(@Nullable BulkMembershipRequestStatusResponse data) {
+    this.data = data;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ApiResponseBulkMembershipRequestStatusResponse apiResponseBulkMembershipRequestStatusResponse = (ApiResponseBulkMembershipRequestStatusResponse) o;
+    return Objects.equals(this.success, apiResponseBulkMembershipRequestStatusResponse.success) &&
+        Objects.equals(this.message, apiResponseBulkMembershipRequestStatusResponse.message) &&
+        Objects.equals(this.error, apiResponseBulkMembershipRequestStatusResponse.error) &&
+        Objects.equals(this.timestamp, apiResponseBulkMembershipRequestStatusResponse.timestamp) &&
+        Objects.equals(this.data, apiResponseBulkMembershipRequestStatusResponse.data);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(success, message, error, timestamp, data);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ApiResponseBulkMembershipRequestStatusResponse {\n");
+    sb.append("    success: ").append(toIndentedString(success)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("    error: ").append(toIndentedString(error)).append("\n");
+    sb.append("    timestamp: ").append(toIndentedString(timestamp)).append("\n");
+    sb.append("    data: ").append(toIndentedString(data)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,109 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Users to add to a project in one request
+ */
+
+@Schema(name = "BulkAddUsersToProjectRequest", description = "Users to add to a project in one request")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class BulkAddUsersToProjectRequest {
+
+  @Valid
+  private List<@Valid AddUserToProjectRequest> requests = new ArrayList<>();
+
+  public BulkAddUsersToProjectRequest() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public BulkAddUsersToProjectRequest(List<@Valid AddUserToProjectRequest> requests) {
+    this.requests = requests;
+  }
+
+  public BulkAddUsersToProjectRequest requests(List<@Valid AddUserToProjectRequest> requests) {
+    this.requests = requests;
+    return this;
+  }
+
+  public BulkAddUsersToProjectRequest addRequestsItem(AddUserToProjectRequest requestsItem) {
+    if (this.requests == null) {
+      this.requests = new ArrayList<>();
+    }
+    this.requests.add(requestsItem);
+    return this;
+  }
+
+  /**
+   * Membership requests to trigger
+   * @return requests
+   */
+  @NotNull @Valid @Size(min = 1, max = 50) 
+  @Schema(name = "requests", description = "Membership requests to trigger", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("requests")
+  public List<@Valid AddUserToProjectRequest> getRequests() {
+    return requests;
+  }
+
+  public void setRequests(List<@Valid AddUserToProjectRequest> requests) {
+    this.requests = requests;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkAddUsersToProjectRequest bulkAddUsersToProjectRequest = (BulkAddUsersToProjectRequest) o;
+    return Objects.equals(this.requests, bulkAddUsersToProjectRequest.requests);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requests);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkAddUsersToProjectRequest {\n");
+    sb.append("    requests: ").append(toIndentedString(requests)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,157 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Entry of a bulk membership request that could not be launched
+ */
+
+@Schema(name = "BulkMembershipRequestFailure", description = "Entry of a bulk membership request that could not be launched")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class BulkMembershipRequestFailure {
+
+  private @Nullable String user;
+
+  private @Nullable String role;
+
+  private @Nullable String environment;
+
+  private @Nullable String message;
+
+  public BulkMembershipRequestFailure user(@Nullable String user) {
+    this.user = user;
+    return this;
+  }
+
+  /**
+   * Username
+   * @return user
+   */
+  
+  @Schema(name = "user", example = "doejohn", description = "Username", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("user")
+  public @Nullable String getUser() {
+    return user;
+  }
+
+  public void setUser(@Nullable String user) {
+    this.user = user;
+  }
+
+  public BulkMembershipRequestFailure role(@Nullable String role) {
+    this.role = role;
+    return this;
+  }
+
+  /**
+   * User's role in the project
+   * @return role
+   */
+  
+  @Schema(name = "role", example = "TEAM", description = "User's role in the project", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("role")
+  public @Nullable String getRole() {
+    return role;
+  }
+
+  public void setRole(@Nullable String role) {
+    this.role = role;
+  }
+
+  public BulkMembershipRequestFailure environment(@Nullable String environment) {
+    this.environment = environment;
+    return this;
+  }
+
+  /**
+   * Environment
+   * @return environment
+   */
+  
+  @Schema(name = "environment", example = "DEVELOPMENT", description = "Environment", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("environment")
+  public @Nullable String getEnvironment() {
+    return environment;
+  }
+
+  public void setEnvironment(@Nullable String environment) {
+    this.environment = environment;
+  }
+
+  public BulkMembershipRequestFailure message(@Nullable String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * Reason the entry could not be launched
+   * @return message
+   */
+  
+  @Schema(name = "message", example = "Automation platform execution failed", description = "Reason the entry could not be launched", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("message")
+  public @Nullable String getMessage() {
+    return message;
+  }
+
+  public void setMessage(@Nullable String message) {
+    this.message = message;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkMembershipRequestFailure bulkMembershipRequestFailure = (BulkMembershipRequestFailure) o;
+    return Objects.equals(this.user, bulkMembershipRequestFailure.user) &&
+        Objects.equals(this.role, bulkMembershipRequestFailure.role) &&
+        Objects.equals(this.environment, bulkMembershipRequestFailure.environment) &&
+        Objects.equals(this.message, bulkMembershipRequestFailure.message);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(user, role, environment, message);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkMembershipRequestFailure {\n");
+    sb.append("    user: ").append(toIndentedString(user)).append("\n");
+    sb.append("    role: ").append(toIndentedString(role)).append("\n");
+    sb.append("    environment: ").append(toIndentedString(environment)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,207 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestFailure;
+import org.opendevstack.apiservice.projectusers.model.MembershipRequestResponse;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Bulk membership request response with tracking information
+ */
+
+@Schema(name = "BulkMembershipRequestResponse", description = "Bulk membership request response with tracking information")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class BulkMembershipRequestResponse {
+
+  private @Nullable String requestId;
+
+  private @Nullable String project;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private @Nullable OffsetDateTime requestedAt;
+
+  @Valid
+  private List<@Valid MembershipRequestResponse> requests = new ArrayList<>();
+
+  @Valid
+  private List<@Valid BulkMembershipRequestFailure> failures = new ArrayList<>();
+
+  public BulkMembershipRequestResponse requestId(@Nullable String requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  /**
+   * Aggregate request identifier covering every launched entry
+   * @return requestId
+   */
+  
+  @Schema(name = "requestId", example = "req_abc123def456", description = "Aggregate request identifier covering every launched entry", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestId")
+  public @Nullable String getRequestId() {
+    return requestId;
+  }
+
+  public void setRequestId(@Nullable String requestId) {
+    this.requestId = requestId;
+  }
+
+  public BulkMembershipRequestResponse project(@Nullable String project) {
+    this.project = project;
+    return this;
+  }
+
+  /**
+   * Project identifier
+   * @return project
+   */
+  
+  @Schema(name = "project", example = "my-project", description = "Project identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("project")
+  public @Nullable String getProject() {
+    return project;
+  }
+
+  public void setProject(@Nullable String project) {
+    this.project = project;
+  }
+
+  public BulkMembershipRequestResponse requestedAt(@Nullable OffsetDateTime requestedAt) {
+    this.requestedAt = requestedAt;
+    return this;
+  }
+
+  /**
+   * When the bulk membership request was triggered
+   * @return requestedAt
+   */
+  @Valid 
+  @Schema(name = "requestedAt", description = "When the bulk membership request was triggered", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestedAt")
+  public @Nullable OffsetDateTime getRequestedAt() {
+    return requestedAt;
+  }
+
+  public void setRequestedAt(@Nullable OffsetDateTime requestedAt) {
+    this.requestedAt = requestedAt;
+  }
+
+  public BulkMembershipRequestResponse requests(List<@Valid MembershipRequestResponse> requests) {
+    this.requests = requests;
+    return this;
+  }
+
+  public BulkMembershipRequestResponse addRequestsItem(MembershipRequestResponse requestsItem) {
+    if (this.requests == null) {
+      this.requests = new ArrayList<>();
+    }
+    this.requests.add(requestsItem);
+    return this;
+  }
+
+  /**
+   * Membership requests that were launched
+   * @return requests
+   */
+  @Valid 
+  @Schema(name = "requests", description = "Membership requests that were launched", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requests")
+  public List<@Valid MembershipRequestResponse> getRequests() {
+    return requests;
+  }
+
+  public void setRequests(List<@Valid MembershipRequestResponse> requests) {
+    this.requests = requests;
+  }
+
+  public BulkMembershipRequestResponse failures(List<@Valid BulkMembershipRequestFailure> failures) {
+    this.failures = failures;
+    return this;
+  }
+
+  public BulkMembershipRequestResponse addFailuresItem(BulkMembershipRequestFailure failuresItem) {
+    if (this.failures == null) {
+      this.failures = new ArrayList<>();
+    }
+    this.failures.add(failuresItem);
+    return this;
+  }
+
+  /**
+   * Entries that could not be launched
+   * @return failures
+   */
+  @Valid 
+  @Schema(name = "failures", description = "Entries that could not be launched", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("failures")
+  public List<@Valid BulkMembershipRequestFailure> getFailures() {
+    return failures;
+  }
+
+  public void setFailures(List<@Valid BulkMembershipRequestFailure> failures) {
+    this.failures = failures;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkMembershipRequestResponse bulkMembershipRequestResponse = (BulkMembershipRequestResponse) o;
+    return Objects.equals(this.requestId, bulkMembershipRequestResponse.requestId) &&
+        Objects.equals(this.project, bulkMembershipRequestResponse.project) &&
+        Objects.equals(this.requestedAt, bulkMembershipRequestResponse.requestedAt) &&
+        Objects.equals(this.requests, bulkMembershipRequestResponse.requests) &&
+        Objects.equals(this.failures, bulkMembershipRequestResponse.failures);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requestId, project, requestedAt, requests, failures);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkMembershipRequestResponse {\n");
+    sb.append("    requestId: ").append(toIndentedString(requestId)).append("\n");
+    sb.append("    project: ").append(toIndentedString(project)).append("\n");
+    sb.append("    requestedAt: ").append(toIndentedString(requestedAt)).append("\n");
+    sb.append("    requests: ").append(toIndentedString(requests)).append("\n");
+    sb.append("    failures: ").append(toIndentedString(failures)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
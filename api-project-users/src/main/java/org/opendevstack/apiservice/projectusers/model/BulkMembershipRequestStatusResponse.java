@@ -0,0 +1,328 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opendevstack.apiservice.projectusers.model.MembershipRequestStatusResponse;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Combined status information for a bulk membership request
+ */
+
+@Schema(name = "BulkMembershipRequestStatusResponse", description = "Combined status information for a bulk membership request")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class BulkMembershipRequestStatusResponse {
+
+  private @Nullable String requestId;
+
+  private @Nullable String project;
+
+  /**
+   * IN_PROGRESS while any entry is still being processed, COMPLETED once every entry has finished
+   */
+  public enum StatusEnum {
+    PENDING("PENDING"),
+    
+    IN_PROGRESS("IN_PROGRESS"),
+    
+    COMPLETED("COMPLETED");
+
+    private final String value;
+
+    StatusEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static StatusEnum fromValue(String value) {
+      for (StatusEnum b : StatusEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  private @Nullable StatusEnum status;
+
+  private @Nullable Boolean completed;
+
+  private @Nullable Boolean successful;
+
+  private @Nullable Integer total;
+
+  private @Nullable Integer completedCount;
+
+  private @Nullable Integer failedCount;
+
+  @Valid
+  private List<@Valid MembershipRequestStatusResponse> requests = new ArrayList<>();
+
+  public BulkMembershipRequestStatusResponse requestId(@Nullable String requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  /**
+   * Aggregate request identifier
+   * @return requestId
+   */
+  
+  @Schema(name = "requestId", example = "req_abc123def456", description = "Aggregate request identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestId")
+  public @Nullable String getRequestId() {
+    return requestId;
+  }
+
+  public void setRequestId(@Nullable String requestId) {
+    this.requestId = requestId;
+  }
+
+  public BulkMembershipRequestStatusResponse project(@Nullable String project) {
+    this.project = project;
+    return this;
+  }
+
+  /**
+   * Project identifier
+   * @return project
+   */
+  
+  @Schema(name = "project", example = "my-project", description = "Project identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("project")
+  public @Nullable String getProject() {
+    return project;
+  }
+
+  public void setProject(@Nullable String project) {
+    this.project = project;
+  }
+
+  public BulkMembershipRequestStatusResponse status(@Nullable StatusEnum status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * IN_PROGRESS while any entry is still being processed, COMPLETED once every entry has finished
+   * @return status
+   */
+  
+  @Schema(name = "status", example = "IN_PROGRESS", description = "IN_PROGRESS while any entry is still being processed, COMPLETED once every entry has finished", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("status")
+  public @Nullable StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(@Nullable StatusEnum status) {
+    this.status = status;
+  }
+
+  public BulkMembershipRequestStatusResponse completed(@Nullable Boolean completed) {
+    this.completed = completed;
+    return this;
+  }
+
+  /**
+   * Whether every entry has completed processing
+   * @return completed
+   */
+  
+  @Schema(name = "completed", example = "false", description = "Whether every entry has completed processing", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("completed")
+  public @Nullable Boolean getCompleted() {
+    return completed;
+  }
+
+  public void setCompleted(@Nullable Boolean completed) {
+    this.completed = completed;
+  }
+
+  public BulkMembershipRequestStatusResponse successful(@Nullable Boolean successful) {
+    this.successful = successful;
+    return this;
+  }
+
+  /**
+   * Whether every entry completed successfully (only valid when completed=true)
+   * @return successful
+   */
+  
+  @Schema(name = "successful", example = "true", description = "Whether every entry completed successfully (only valid when completed=true)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("successful")
+  public @Nullable Boolean getSuccessful() {
+    return successful;
+  }
+
+  public void setSuccessful(@Nullable Boolean successful) {
+    this.successful = successful;
+  }
+
+  public BulkMembershipRequestStatusResponse total(@Nullable Integer total) {
+    this.total = total;
+    return this;
+  }
+
+  /**
+   * Number of entries in the bulk request
+   * @return total
+   */
+  
+  @Schema(name = "total", example = "10", description = "Number of entries in the bulk request", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("total")
+  public @Nullable Integer getTotal() {
+    return total;
+  }
+
+  public void setTotal(@Nullable Integer total) {
+    this.total = total;
+  }
+
+  public BulkMembershipRequestStatusResponse completedCount(@Nullable Integer completedCount) {
+    this.completedCount = completedCount;
+    return this;
+  }
+
+  /**
+   * Number of entries that have completed processing
+   * @return completedCount
+   */
+  
+  @Schema(name = "completedCount", example = "7", description = "Number of entries that have completed processing", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("completedCount")
+  public @Nullable Integer getCompletedCount() {
+    return completedCount;
+  }
+
+  public void setCompletedCount(@Nullable Integer completedCount) {
+    this.completedCount = completedCount;
+  }
+
+  public BulkMembershipRequestStatusResponse failedCount(@Nullable Integer failedCount) {
+    this.failedCount = failedCount;
+    return this;
+  }
+
+  /**
+   * Number of entries that completed unsuccessfully
+   * @return failedCount
+   */
+  
+  @Schema(name = "failedCount", example = "1", description = "Number of entries that completed unsuccessfully", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("failedCount")
+  public @Nullable Integer getFailedCount() {
+    return failedCount;
+  }
+
+  public void setFailedCount(@Nullable Integer failedCount) {
+    this.failedCount = failedCount;
+  }
+
+  public BulkMembershipRequestStatusResponse requests(List<@Valid MembershipRequestStatusResponse> requests) {
+    this.requests = requests;
+    return this;
+  }
+
+  public BulkMembershipRequestStatusResponse addRequestsItem(MembershipRequestStatusResponse requestsItem) {
+    if (this.requests == null) {
+      this.requests = new ArrayList<>();
+    }
+    this.requests.add(requestsItem);
+    return this;
+  }
+
+  /**
+   * Status of each entry
+   * @return requests
+   */
+  @Valid 
+  @Schema(name = "requests", description = "Status of each entry", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requests")
+  public List<@Valid MembershipRequestStatusResponse> getRequests() {
+    return requests;
+  }
+
+  public void setRequests(List<@Valid MembershipRequestStatusResponse> requests) {
+    this.requests = requests;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    BulkMembershipRequestStatusResponse bulkMembershipRequestStatusResponse = (BulkMembershipRequestStatusResponse) o;
+    return Objects.equals(this.requestId, bulkMembershipRequestStatusResponse.requestId) &&
+        Objects.equals(this.project, bulkMembershipRequestStatusResponse.project) &&
+        Objects.equals(this.status, bulkMembershipRequestStatusResponse.status) &&
+        Objects.equals(this.completed, bulkMembershipRequestStatusResponse.completed) &&
+        Objects.equals(this.successful, bulkMembershipRequestStatusResponse.successful) &&
+        Objects.equals(this.total, bulkMembershipRequestStatusResponse.total) &&
+        Objects.equals(this.completedCount, bulkMembershipRequestStatusResponse.completedCount) &&
+        Objects.equals(this.failedCount, bulkMembershipRequestStatusResponse.failedCount) &&
+        Objects.equals(this.requests, bulkMembershipRequestStatusResponse.requests);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requestId, project, status, completed, successful, total, completedCount, failedCount, requests);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class BulkMembershipRequestStatusResponse {\n");
+    sb.append("    requestId: ").append(toIndentedString(requestId)).append("\n");
+    sb.append("    project: ").append(toIndentedString(project)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    completed: ").append(toIndentedString(completed)).append("\n");
+    sb.append("    successful: ").append(toIndentedString(successful)).append("\n");
+    sb.append("    total: ").append(toIndentedString(total)).append("\n");
+    sb.append("    completedCount: ").append(toIndentedString(completedCount)).append("\n");
+    sb.append("    failedCount: ").append(toIndentedString(failedCount)).append("\n");
+    sb.append("    requests: ").append(toIndentedString(requests)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,171 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Arrays;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.lang.Nullable;
+import java.util.NoSuchElementException;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Field-specific validation error
+ */
+
+@Schema(name = "FieldError", description = "Field-specific validation error")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class FieldError {
+
+  private @Nullable String field;
+
+  private @Nullable String message;
+
+  private JsonNullable<Object> rejectedValue = JsonNullable.<Object>undefined();
+
+  private @Nullable String expectedFormat;
+
+  public FieldError field(@Nullable String field) {
+    this.field = field;
+    return this;
+  }
+
+  /**
+   * Field name that failed validation
+   * @return field
+   */
+  
+  @Schema(name = "field", example = "email", description = "Field name that failed validation", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("field")
+  public @Nullable String getField() {
+    return field;
+  }
+
+  public void setField(@Nullable String field) {
+    this.field = field;
+  }
+
+  public FieldError message(@Nullable String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * Validation error message
+   * @return message
+   */
+  
+  @Schema(name = "message", example = "must be a well-formed email address", description = "Validation error message", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("message")
+  public @Nullable String getMessage() {
+    return message;
+  }
+
+  public void setMessage(@Nullable String message) {
+    this.message = message;
+  }
+
+  public FieldError rejectedValue(Object rejectedValue) {
+    this.rejectedValue = JsonNullable.of(rejectedValue);
+    return this;
+  }
+
+  /**
+   * The value that was rejected
+   * @return rejectedValue
+   */
+  
+  @Schema(name = "rejectedValue", example = "invalid-email", description = "The value that was rejected", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("rejectedValue")
+  public JsonNullable<Object> getRejectedValue() {
+    return rejectedValue;
+  }
+
+  public void setRejectedValue(JsonNullable<Object> rejectedValue) {
+    this.rejectedValue = rejectedValue;
+  }
+
+  public FieldError expectedFormat(@Nullable String expectedFormat) {
+    this.expectedFormat = expectedFormat;
+    return this;
+  }
+
+  /**
+   * Expected format or constraint
+   * @return expectedFormat
+   */
+  
+  @Schema(name = "expectedFormat", example = "Valid email format (user@domain.com)", description = "Expected format or constraint", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("expectedFormat")
+  public @Nullable String getExpectedFormat() {
+    return expectedFormat;
+  }
+
+  public void setExpectedFormat(@Nullable String expectedFormat) {
+    this.expectedFormat = expectedFormat;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FieldError fieldError = (FieldError) o;
+    return Objects.equals(this.field, fieldError.field) &&
+        Objects.equals(this.message, fieldError.message) &&
+        equalsNullable(this.rejectedValue, fieldError.rejectedValue) &&
+        Objects.equals(this.expectedFormat, fieldError.expectedFormat);
+  }
+
+  private static <T> boolean equalsNullable(JsonNullable<T> a, JsonNullable<T> b) {
+    return a == b || (a != null && b != null && a.isPresent() && b.isPresent() && Objects.deepEquals(a.get(), b.get()));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(field, message, hashCodeNullable(rejectedValue), expectedFormat);
+  }
+
+  private static <T> int hashCodeNullable(JsonNullable<T> a) {
+    if (a == null) {
+      return 1;
+    }
+    return a.isPresent() ? Arrays.deepHashCode(new Object[]{a.get()}) : 31;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class FieldError {\n");
+    sb.append("    field: ").append(toIndentedString(field)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("    rejectedValue: ").append(toIndentedString(rejectedValue)).append("\n");
+    sb.append("    expectedFormat: ").append(toIndentedString(expectedFormat)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
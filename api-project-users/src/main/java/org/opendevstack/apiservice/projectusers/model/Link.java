@@ -0,0 +1,108 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Link
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class Link {
+
+  private @Nullable String href;
+
+  private @Nullable Boolean templated;
+
+  public Link href(@Nullable String href) {
+    this.href = href;
+    return this;
+  }
+
+  /**
+   * Get href
+   * @return href
+   */
+  
+  @Schema(name = "href", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("href")
+  public @Nullable String getHref() {
+    return href;
+  }
+
+  public void setHref(@Nullable String href) {
+    this.href = href;
+  }
+
+  public Link templated(@Nullable Boolean templated) {
+    this.templated = templated;
+    return this;
+  }
+
+  /**
+   * Get templated
+   * @return templated
+   */
+  
+  @Schema(name = "templated", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("templated")
+  public @Nullable Boolean getTemplated() {
+    return templated;
+  }
+
+  public void setTemplated(@Nullable Boolean templated) {
+    this.templated = templated;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Link link = (Link) o;
+    return Objects.equals(this.href, link.href) &&
+        Objects.equals(this.templated, link.templated);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(href, templated);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Link {\n");
+    sb.append("    href: ").append(toIndentedString(href)).append("\n");
+    sb.append("    templated: ").append(toIndentedString(templated)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,294 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Membership request response with tracking information
+ */
+
+@Schema(name = "MembershipRequestResponse", description = "Membership request response with tracking information")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class MembershipRequestResponse {
+
+  private @Nullable String requestId;
+
+  private @Nullable String project;
+
+  private @Nullable String environment;
+
+  private @Nullable String user;
+
+  private @Nullable String account;
+
+  private @Nullable String role;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private @Nullable OffsetDateTime requestedAt;
+
+  /**
+   * Current request status
+   */
+  public enum StatusEnum {
+    PENDING("PENDING"),
+    
+    IN_PROGRESS("IN_PROGRESS"),
+    
+    COMPLETED("COMPLETED");
+
+    private final String value;
+
+    StatusEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static StatusEnum fromValue(String value) {
+      for (StatusEnum b : StatusEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  private @Nullable StatusEnum status;
+
+  public MembershipRequestResponse requestId(@Nullable String requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  /**
+   * Unique request identifier for status tracking
+   * @return requestId
+   */
+  
+  @Schema(name = "requestId", example = "req_abc123def456", description = "Unique request identifier for status tracking", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestId")
+  public @Nullable String getRequestId() {
+    return requestId;
+  }
+
+  public void setRequestId(@Nullable String requestId) {
+    this.requestId = requestId;
+  }
+
+  public MembershipRequestResponse project(@Nullable String project) {
+    this.project = project;
+    return this;
+  }
+
+  /**
+   * Project identifier
+   * @return project
+   */
+  
+  @Schema(name = "project", example = "my-project", description = "Project identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("project")
+  public @Nullable String getProject() {
+    return project;
+  }
+
+  public void setProject(@Nullable String project) {
+    this.project = project;
+  }
+
+  public MembershipRequestResponse environment(@Nullable String environment) {
+    this.environment = environment;
+    return this;
+  }
+
+  /**
+   * Environment
+   * @return environment
+   */
+  
+  @Schema(name = "environment", example = "DEVELOPMENT", description = "Environment", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("environment")
+  public @Nullable String getEnvironment() {
+    return environment;
+  }
+
+  public void setEnvironment(@Nullable String environment) {
+    this.environment = environment;
+  }
+
+  public MembershipRequestResponse user(@Nullable String user) {
+    this.user = user;
+    return this;
+  }
+
+  /**
+   * Username
+   * @return user
+   */
+  
+  @Schema(name = "user", example = "doejohn", description = "Username", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("user")
+  public @Nullable String getUser() {
+    return user;
+  }
+
+  public void setUser(@Nullable String user) {
+    this.user = user;
+  }
+
+  public MembershipRequestResponse account(@Nullable String account) {
+    this.account = account;
+    return this;
+  }
+
+  /**
+   * Account identifier
+   * @return account
+   */
+  
+  @Schema(name = "account", example = "doejohn", description = "Account identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("account")
+  public @Nullable String getAccount() {
+    return account;
+  }
+
+  public void setAccount(@Nullable String account) {
+    this.account = account;
+  }
+
+  public MembershipRequestResponse role(@Nullable String role) {
+    this.role = role;
+    return this;
+  }
+
+  /**
+   * User's role in the project
+   * @return role
+   */
+  
+  @Schema(name = "role", example = "TEAM", description = "User's role in the project", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("role")
+  public @Nullable String getRole() {
+    return role;
+  }
+
+  public void setRole(@Nullable String role) {
+    this.role = role;
+  }
+
+  public MembershipRequestResponse requestedAt(@Nullable OffsetDateTime requestedAt) {
+    this.requestedAt = requestedAt;
+    return this;
+  }
+
+  /**
+   * When the membership request was triggered
+   * @return requestedAt
+   */
+  @Valid 
+  @Schema(name = "requestedAt", description = "When the membership request was triggered", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestedAt")
+  public @Nullable OffsetDateTime getRequestedAt() {
+    return requestedAt;
+  }
+
+  public void setRequestedAt(@Nullable OffsetDateTime requestedAt) {
+    this.requestedAt = requestedAt;
+  }
+
+  public MembershipRequestResponse status(@Nullable StatusEnum status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * Current request status
+   * @return status
+   */
+  
+  @Schema(name = "status", example = "PENDING", description = "Current request status", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("status")
+  public @Nullable StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(@Nullable StatusEnum status) {
+    this.status = status;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MembershipRequestResponse membershipRequestResponse = (MembershipRequestResponse) o;
+    return Objects.equals(this.requestId, membershipRequestResponse.requestId) &&
+        Objects.equals(this.project, membershipRequestResponse.project) &&
+        Objects.equals(this.environment, membershipRequestResponse.environment) &&
+        Objects.equals(this.user, membershipRequestResponse.user) &&
+        Objects.equals(this.account, membershipRequestResponse.account) &&
+        Objects.equals(this.role, membershipRequestResponse.role) &&
+        Objects.equals(this.requestedAt, membershipRequestResponse.requestedAt) &&
+        Objects.equals(this.status, membershipRequestResponse.status);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requestId, project, environment, user, account, role, requestedAt, status);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class MembershipRequestResponse {\n");
+    sb.append("    requestId: ").append(toIndentedString(requestId)).append("\n");
+    sb.append("    project: ").append(toIndentedString(project)).append("\n");
+    sb.append("    environment: ").append(toIndentedString(environment)).append("\n");
+    sb.append("    user: ").append(toIndentedString(user)).append("\n");
+    sb.append("    account: ").append(toIndentedString(account)).append("\n");
+    sb.append("    role: ").append(toIndentedString(role)).append("\n");
+    sb.append("    requestedAt: ").append(toIndentedString(requestedAt)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -0,0 +1,315 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * Status information for a membership request
+ */
+
+@Schema(name = "MembershipRequestStatusResponse", description = "Status information for a membership request")
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class MembershipRequestStatusResponse {
+
+  private @Nullable String requestId;
+
+  /**
+   * Current request status
+   */
+  public enum StatusEnum {
+    PENDING("PENDING"),
+    
+    IN_PROGRESS("IN_PROGRESS"),
+    
+    COMPLETED("COMPLETED");
+
+    private final String value;
+
+    StatusEnum(String value) {
+      this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    @JsonCreator
+    public static StatusEnum fromValue(String value) {
+      for (StatusEnum b : StatusEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+  }
+
+  private @Nullable StatusEnum status;
+
+  private @Nullable Boolean completed;
+
+  private @Nullable Boolean successful;
+
+  private @Nullable String message;
+
+  private @Nullable String project;
+
+  private @Nullable String user;
+
+  private @Nullable String environment;
+
+  private @Nullable String errorDetails;
+
+  public MembershipRequestStatusResponse requestId(@Nullable String requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  /**
+   * Unique request identifier
+   * @return requestId
+   */
+  
+  @Schema(name = "requestId", example = "req_abc123def456", description = "Unique request identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("requestId")
+  public @Nullable String getRequestId() {
+    return requestId;
+  }
+
+  public void setRequestId(@Nullable String requestId) {
+    this.requestId = requestId;
+  }
+
+  public MembershipRequestStatusResponse status(@Nullable StatusEnum status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * Current request status
+   * @return status
+   */
+  
+  @Schema(name = "status", example = "PENDING", description = "Current request status", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("status")
+  public @Nullable StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(@Nullable StatusEnum status) {
+    this.status = status;
+  }
+
+  public MembershipRequestStatusResponse completed(@Nullable Boolean completed) {
+    this.completed = completed;
+    return this;
+  }
+
+  /**
+   * Whether the request has completed processing
+   * @return completed
+   */
+  
+  @Schema(name = "completed", example = "false", description = "Whether the request has completed processing", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("completed")
+  public @Nullable Boolean getCompleted() {
+    return completed;
+  }
+
+  public void setCompleted(@Nullable Boolean completed) {
+    this.completed = completed;
+  }
+
+  public MembershipRequestStatusResponse successful(@Nullable Boolean successful) {
+    this.successful = successful;
+    return this;
+  }
+
+  /**
+   * Whether the request completed successfully (only valid when completed=true)
+   * @return successful
+   */
+  
+  @Schema(name = "successful", example = "true", description = "Whether the request completed successfully (only valid when completed=true)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("successful")
+  public @Nullable Boolean getSuccessful() {
+    return successful;
+  }
+
+  public void setSuccessful(@Nullable Boolean successful) {
+    this.successful = successful;
+  }
+
+  public MembershipRequestStatusResponse message(@Nullable String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * Status message or description
+   * @return message
+   */
+  
+  @Schema(name = "message", example = "Request is being processed", description = "Status message or description", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("message")
+  public @Nullable String getMessage() {
+    return message;
+  }
+
+  public void setMessage(@Nullable String message) {
+    this.message = message;
+  }
+
+  public MembershipRequestStatusResponse project(@Nullable String project) {
+    this.project = project;
+    return this;
+  }
+
+  /**
+   * Project identifier
+   * @return project
+   */
+  
+  @Schema(name = "project", example = "my-project", description = "Project identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("project")
+  public @Nullable String getProject() {
+    return project;
+  }
+
+  public void setProject(@Nullable String project) {
+    this.project = project;
+  }
+
+  public MembershipRequestStatusResponse user(@Nullable String user) {
+    this.user = user;
+    return this;
+  }
+
+  /**
+   * User identifier
+   * @return user
+   */
+  
+  @Schema(name = "user", example = "john.doe", description = "User identifier", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("user")
+  public @Nullable String getUser() {
+    return user;
+  }
+
+  public void setUser(@Nullable String user) {
+    this.user = user;
+  }
+
+  public MembershipRequestStatusResponse environment(@Nullable String environment) {
+    this.environment = environment;
+    return this;
+  }
+
+  /**
+   * Environment
+   * @return environment
+   */
+  
+  @Schema(name = "environment", example = "DEVELOPMENT", description = "Environment", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("environment")
+  public @Nullable String getEnvironment() {
+    return environment;
+  }
+
+  public void setEnvironment(@Nullable String environment) {
+    this.environment = environment;
+  }
+
+  public MembershipRequestStatusResponse errorDetails(@Nullable String errorDetails) {
+    this.errorDetails = errorDetails;
+    return this;
+  }
+
+  /**
+   * Additional error details (if failed)
+   * @return errorDetails
+   */
+  
+  @Schema(name = "errorDetails", example = "User already exists in project", description = "Additional error details (if failed)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("errorDetails")
+  public @Nullable String getErrorDetails() {
+    return errorDetails;
+  }
+
+  public void setErrorDetails(@Nullable String errorDetails) {
+    this.errorDetails = errorDetails;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    MembershipRequestStatusResponse membershipRequestStatusResponse = (MembershipRequestStatusResponse) o;
+    return Objects.equals(this.requestId, membershipRequestStatusResponse.requestId) &&
+        Objects.equals(this.status, membershipRequestStatusResponse.status) &&
+        Objects.equals(this.completed, membershipRequestStatusResponse.completed) &&
+        Objects.equals(this.successful, membershipRequestStatusResponse.successful) &&
+        Objects.equals(this.message, membershipRequestStatusResponse.message) &&
+        Objects.equals(this.project, membershipRequestStatusResponse.project) &&
+        Objects.equals(this.user, membershipRequestStatusResponse.user) &&
+        Objects.equals(this.environment, membershipRequestStatusResponse.environment) &&
+        Objects.equals(this.errorDetails, membershipRequestStatusResponse.errorDetails);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(requestId, status, completed, successful, message, project, user, environment, errorDetails);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class MembershipRequestStatusResponse {\n");
+    sb.append("    requestId: ").append(toIndentedString(requestId)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    completed: ").append(toIndentedString(completed)).append("\n");
+    sb.append("    successful: ").append(toIndentedString(successful)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("    project: ").append(toIndentedString(project)).append("\n");
+    sb.append("    user: ").append(toIndentedString(user)).append("\n");
+    sb.append("    environment: ").append(toIndentedString(environment)).append("\n");
+    sb.append("    errorDetails: ").append(toIndentedString(errorDetails)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
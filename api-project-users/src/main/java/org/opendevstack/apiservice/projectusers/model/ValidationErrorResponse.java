@@ -0,0 +1,232 @@
+package org.opendevstack.apiservice.projectusers.model;
+
+import java.net.URI;
+import java.util.Objects;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.opendevstack.apiservice.projectusers.model.FieldError;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.lang.Nullable;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.time.OffsetDateTime;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+
+import java.util.*;
+import jakarta.annotation.Generated;
+
+/**
+ * ValidationErrorResponse
+ */
+
+@Generated(value = "org.openapitools.codegen.languages.SpringCodegen", comments = "Generator version: 7.15.0")
+public class ValidationErrorResponse {
+
+  private Boolean success;
+
+  private @Nullable String message;
+
+  private @Nullable String error;
+
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+  private OffsetDateTime timestamp;
+
+  private @Nullable String errorCode;
+
+  @Valid
+  private List<@Valid FieldError> fieldErrors = new ArrayList<>();
+
+  public ValidationErrorResponse() {
+    super();
+  }
+
+  /**
+   * Constructor with only required parameters
+   */
+  public ValidationErrorResponse(Boolean success, OffsetDateTime timestamp) {
+    this.success = success;
+    this.timestamp = timestamp;
+  }
+
+  public ValidationErrorResponse success(Boolean success) {
+    this.success = success;
+    return this;
+  }
+
+  /**
+   * Indicates if the request was successful
+   * @return success
+   */
+  @NotNull 
+  @Schema(name = "success", example = "true", description = "Indicates if the request was successful", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("success")
+  public Boolean getSuccess() {
+    return success;
+  }
+
+  public void setSuccess(Boolean success) {
+    this.success = success;
+  }
+
+  public ValidationErrorResponse message(@Nullable String message) {
+    this.message = message;
+    return this;
+  }
+
+  /**
+   * Response message
+   * @return message
+   */
+  
+  @Schema(name = "message", example = "Operation completed successfully", description = "Response message", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("message")
+  public @Nullable String getMessage() {
+    return message;
+  }
+
+  public void setMessage(@Nullable String message) {
+    this.message = message;
+  }
+
+  public ValidationErrorResponse error(@Nullable String error) {
+    this.error = error;
+    return this;
+  }
+
+  /**
+   * Error details or error code if any (populated when success is false)
+   * @return error
+   */
+  
+  @Schema(name = "error", description = "Error details or error code if any (populated when success is false)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("error")
+  public @Nullable String getError() {
+    return error;
+  }
+
+  public void setError(@Nullable String error) {
+    this.error = error;
+  }
+
+  public ValidationErrorResponse timestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+    return this;
+  }
+
+  /**
+   * Response timestamp (ISO 8601 format)
+   * @return timestamp
+   */
+  @NotNull @Valid 
+  @Schema(name = "timestamp", example = "2023-10-01T12:34:56Z", description = "Response timestamp (ISO 8601 format)", requiredMode = Schema.RequiredMode.REQUIRED)
+  @JsonProperty("timestamp")
+  public OffsetDateTime getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(OffsetDateTime timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  public ValidationErrorResponse errorCode(@Nullable String errorCode) {
+    this.errorCode = errorCode;
+    return this;
+  }
+
+  /**
+   * Error code for programmatic handling
+   * @return errorCode
+   */
+  
+  @Schema(name = "errorCode", example = "VALIDATION_ERROR", description = "Error code for programmatic handling", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("errorCode")
+  public @Nullable String getErrorCode() {
+    return errorCode;
+  }
+
+  public void setErrorCode(@Nullable String errorCode) {
+    this.errorCode = errorCode;
+  }
+
+  public ValidationErrorResponse fieldErrors(List<@Valid FieldError> fieldErrors) {
+    this.fieldErrors = fieldErrors;
+    return this;
+  }
+
+  public ValidationErrorResponse addFieldErrorsItem(FieldError fieldErrorsItem) {
+    if (this.fieldErrors == null) {
+      this.fieldErrors = new ArrayList<>();
+    }
+    this.fieldErrors.add(fieldErrorsItem);
+    return this;
+  }
+
+  /**
+   * List of specific field validation errors
+   * @return fieldErrors
+   */
+  @Valid 
+  @Schema(name = "fieldErrors", description = "List of specific field validation errors", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+  @JsonProperty("fieldErrors")
+  public List<@Valid FieldError> getFieldErrors() {
+    return fieldErrors;
+  }
+
+  public void setFieldErrors(List<@Valid FieldError> fieldErrors) {
+    this.fieldErrors = fieldErrors;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ValidationErrorResponse validationErrorResponse = (ValidationErrorResponse) o;
+    return Objects.equals(this.success, validationErrorResponse.success) &&
+        Objects.equals(this.message, validationErrorResponse.message) &&
+        Objects.equals(this.error, validationErrorResponse.error) &&
+        Objects.equals(this.timestamp, validationErrorResponse.timestamp) &&
+        Objects.equals(this.errorCode, validationErrorResponse.errorCode) &&
+        Objects.equals(this.fieldErrors, validationErrorResponse.fieldErrors);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(success, message, error, timestamp, errorCode, fieldErrors);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ValidationErrorResponse {\n");
+    sb.append("    success: ").append(toIndentedString(success)).append("\n");
+    sb.append("    message: ").append(toIndentedString(message)).append("\n");
+    sb.append("    error: ").append(toIndentedString(error)).append("\n");
+    sb.append("    timestamp: ").append(toIndentedString(timestamp)).append("\n");
+    sb.append("    errorCode: ").append(toIndentedString(errorCode)).append("\n");
+    sb.append("    fieldErrors: ").append(toIndentedString(fieldErrors)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
@@ -14,4 +14,5 @@ public final class JwtMembershipRequestClaims {
     public static final String CLAIM_ROLE = "role";
     public static final String CLAIM_INITIATED_AT = "initiatedAt";
     public static final String CLAIM_INITIATED_BY = "initiatedBy";
+    public static final String CLAIM_REQUESTS = "requests";
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.opendevstack.apiservice.projectusers.service;
 
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.exception.ProjectUserException;
 
@@ -26,4 +27,23 @@ public interface MembershipRequestStatusService {
      * @return true if the token is valid for the specified project and user, false otherwise
      */
     boolean validateRequestToken(String requestId, String projectKey, String user);
-}
\ No newline at end of file
+
+    /**
+     * Gets the combined status of a bulk membership request by its aggregate request ID.
+     * The bulk request is in progress while any entry is, and successful only if every entry is.
+     *
+     * @param requestId the aggregate request ID (JWT token)
+     * @return the combined status together with the status of each entry
+     * @throws ProjectUserException if the request ID is invalid
+     */
+    BulkMembershipRequestStatusResponse getBulkRequestStatus(String requestId);
+
+    /**
+     * Validates that the aggregate request token corresponds to the given project.
+     *
+     * @param requestId the aggregate request ID (JWT token)
+     * @param projectKey the project identifier
+     * @return true if the token is a valid bulk request token for the specified project, false otherwise
+     */
+    boolean validateBulkRequestToken(String requestId, String projectKey);
+}
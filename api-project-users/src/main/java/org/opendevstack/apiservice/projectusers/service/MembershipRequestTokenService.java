@@ -2,6 +2,7 @@ package org.opendevstack.apiservice.projectusers.service;
 
 import org.opendevstack.apiservice.projectusers.exception.ProjectUserException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +30,22 @@ public interface MembershipRequestTokenService {
                              String environment, String role, 
                              LocalDateTime initiatedAt, String initiatedBy);
 
+    /**
+     * Creates an aggregate request token for a bulk membership request.
+     * The token embeds the job ID, UIPath reference, user, environment and role of every entry
+     * (under {@link JwtMembershipRequestClaims#CLAIM_REQUESTS}) so that the combined status can be
+     * resolved without any server-side state.
+     *
+     * @param projectKey the project identifier
+     * @param requestIds the request IDs of the launched entries
+     * @param initiatedAt when the request was initiated
+     * @param initiatedBy who initiated the request
+     * @return encoded aggregate request token
+     * @throws ProjectUserException if token creation fails or an entry request ID is invalid
+     */
+    String createBulkRequestToken(String projectKey, List<String> requestIds,
+                                  LocalDateTime initiatedAt, String initiatedBy);
+
     /**
      * Decodes and validates a request token.
      *
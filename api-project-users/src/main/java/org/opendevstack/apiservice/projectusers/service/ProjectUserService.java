@@ -1,9 +1,12 @@
 package org.opendevstack.apiservice.projectusers.service;
 
 import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.exception.ProjectUserException;
 
+import java.util.List;
+
 /**
  * Service interface for managing project users and their roles.
  */
@@ -17,6 +20,34 @@ public interface ProjectUserService {
      * @return the membership request response with tracking information
      * @throws ProjectUserException if the operation fails
      */
-    MembershipRequestResponse addUserToProject(String projectKey, AddUserToProjectRequest request);
+    default MembershipRequestResponse addUserToProject(String projectKey, AddUserToProjectRequest request) {
+        return addUserToProject(projectKey, request, null);
+    }
+
+    /**
+     * Adds a user to a project with the specified role, deduplicating repeated requests.
+     * An identical request (same project, user, account, role, environment and comments) that is still
+     * in flight, or that completed recently, returns the original membership request instead of
+     * launching the workflow again.
+     *
+     * @param projectKey the project identifier
+     * @param request the request containing user details and role
+     * @param idempotencyKey optional client-supplied key; {@code null} deduplicates on the request alone
+     * @return the membership request response with tracking information
+     * @throws ProjectUserException if the operation fails
+     */
+    MembershipRequestResponse addUserToProject(String projectKey, AddUserToProjectRequest request, String idempotencyKey);
+
+    /**
+     * Adds several users to a project. Entries are launched with bounded parallelism and each one
+     * receives its own request ID; entries that cannot be launched are reported as failures without
+     * affecting the others.
+     *
+     * @param projectKey the project identifier
+     * @param requests the requests containing user details and roles
+     * @return the launched membership requests, the failed entries and an aggregate request ID
+     * @throws ProjectUserException if the project is invalid or no entry could be launched
+     */
+    BulkMembershipRequestResponse addUsersToProject(String projectKey, List<AddUserToProjectRequest> requests);
 
 }
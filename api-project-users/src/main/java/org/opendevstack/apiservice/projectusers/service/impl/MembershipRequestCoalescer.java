@@ -0,0 +1,88 @@
+package org.opendevstack.apiservice.projectusers.service.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates membership request launches by key.
+ * The first caller for a key runs the launch; concurrent callers with the same key wait for and
+ * share its result. Successful results are kept for the configured window so that retries return
+ * the original response. Failed launches are forgotten immediately so that a retry launches again.
+ */
+class MembershipRequestCoalescer<K, T> {
+
+    private final Map<K, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private final long windowNanos;
+
+    MembershipRequestCoalescer(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Returns the in-flight or recently completed result for the key, or runs the launch if there is none.
+     *
+     * @param key the deduplication key
+     * @param launch the launch to run when no usable entry exists
+     * @return the result shared by all callers with the same key
+     */
+    T coalesce(K key, Supplier<T> launch) {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now, windowNanos));
+
+        Entry<T> created = new Entry<>();
+        Entry<T> entry = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now, windowNanos) ? created : existing);
+
+        if (entry != created) {
+            return join(entry.result);
+        }
+
+        try {
+            T result = launch.get();
+            entry.completedAt = System.nanoTime();
+            entry.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, otherwise waiting callers would block until the entry expires, which it never does
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        /** {@link System#nanoTime()} at successful completion; {@code 0} while the launch is in flight. */
+        private volatile long completedAt;
+
+        boolean isExpired(long now, long windowNanos) {
+            long completed = completedAt;
+            return completed != 0 && now - completed >= windowNanos;
+        }
+    }
+}
@@ -5,13 +5,19 @@ import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus
 import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
 import org.opendevstack.apiservice.externalservice.uipath.service.UiPathOrchestratorService;
+import org.opendevstack.apiservice.externalservice.uipath.service.UiPathQueueItemStatusBatcher;
+import org.opendevstack.apiservice.projectusers.exception.InvalidTokenException;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestStatusResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.service.JwtMembershipRequestClaims;
 import org.opendevstack.apiservice.projectusers.service.MembershipRequestStatusService;
 import org.opendevstack.apiservice.projectusers.service.MembershipRequestTokenService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,13 +39,16 @@ public class MembershipRequestStatusServiceImpl implements MembershipRequestStat
     private final MembershipRequestTokenService tokenService;
     private final AutomationPlatformService automationPlatformService;
     private final UiPathOrchestratorService uiPathService;
+    private final UiPathQueueItemStatusBatcher uiPathStatusBatcher;
 
     public MembershipRequestStatusServiceImpl(MembershipRequestTokenService tokenService,
             AutomationPlatformService automationPlatformService,
-            UiPathOrchestratorService uiPathService) {
+            UiPathOrchestratorService uiPathService,
+            UiPathQueueItemStatusBatcher uiPathStatusBatcher) {
         this.tokenService = tokenService;
         this.automationPlatformService = automationPlatformService;
         this.uiPathService = uiPathService;
+        this.uiPathStatusBatcher = uiPathStatusBatcher;
     }
 
     @Override
@@ -55,6 +64,96 @@ public class MembershipRequestStatusServiceImpl implements MembershipRequestStat
         String user = (String) tokenData.get("user");
         String environment = (String) tokenData.get("environment");
 
+        return resolveStatus(requestId, jobId, uipathReference, projectKey, user, environment);
+    }
+
+    @Override
+    public BulkMembershipRequestStatusResponse getBulkRequestStatus(String requestId) {
+        logger.debug("Getting status for bulk request ID: {}", requestId);
+
+        Map<String, Object> tokenData = tokenService.decodeRequestToken(requestId);
+        String projectKey = (String) tokenData.get(JwtMembershipRequestClaims.CLAIM_PROJECT_KEY);
+        List<?> entries = (List<?>) tokenData.get(JwtMembershipRequestClaims.CLAIM_REQUESTS);
+        if (entries == null) {
+            throw new InvalidTokenException("Request ID does not belong to a bulk membership request");
+        }
+
+        // Step 1: Check the Ansible job of every entry, remembering the entries that still need a UIPath check
+        List<MembershipRequestStatusResponse> statuses = new ArrayList<>();
+        List<String> uipathReferences = new ArrayList<>();
+        for (Object element : entries) {
+            Map<?, ?> entry = (Map<?, ?>) element;
+            MembershipRequestStatusResponse ansibleResponse = checkAnsibleStatus(null,
+                    (String) entry.get(JwtMembershipRequestClaims.CLAIM_JOB_ID),
+                    projectKey,
+                    (String) entry.get(JwtMembershipRequestClaims.CLAIM_USER),
+                    (String) entry.get(JwtMembershipRequestClaims.CLAIM_ENVIRONMENT));
+            statuses.add(ansibleResponse);
+            if (ansibleResponse == null) {
+                uipathReferences.add((String) entry.get(JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE));
+            }
+        }
+
+        // Step 2: Resolve the UIPath status of those entries with batched queries
+        if (!uipathReferences.isEmpty()) {
+            Map<String, UiPathQueueItemResult> uiPathResults = uiPathService.checkQueueItemsByReference(uipathReferences);
+            for (int i = 0; i < statuses.size(); i++) {
+                if (statuses.get(i) == null) {
+                    Map<?, ?> entry = (Map<?, ?>) entries.get(i);
+                    String uipathReference = (String) entry.get(JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE);
+                    statuses.set(i, toUiPathResponse(null, projectKey,
+                            (String) entry.get(JwtMembershipRequestClaims.CLAIM_USER),
+                            (String) entry.get(JwtMembershipRequestClaims.CLAIM_ENVIRONMENT),
+                            uipathReference, uiPathResults.get(uipathReference)));
+                }
+            }
+        }
+
+        int completedCount = (int) statuses.stream().filter(status -> Boolean.TRUE.equals(status.getCompleted())).count();
+        int failedCount = (int) statuses.stream()
+                .filter(status -> Boolean.TRUE.equals(status.getCompleted()) && !Boolean.TRUE.equals(status.getSuccessful()))
+                .count();
+        boolean completed = completedCount == statuses.size();
+
+        BulkMembershipRequestStatusResponse response = new BulkMembershipRequestStatusResponse();
+        response.setRequestId(requestId);
+        response.setProject(projectKey);
+        response.setStatus(completed
+                ? BulkMembershipRequestStatusResponse.StatusEnum.COMPLETED
+                : BulkMembershipRequestStatusResponse.StatusEnum.IN_PROGRESS);
+        response.setCompleted(completed);
+        response.setSuccessful(completed && failedCount == 0);
+        response.setTotal(statuses.size());
+        response.setCompletedCount(completedCount);
+        response.setFailedCount(failedCount);
+        response.setRequests(statuses);
+        return response;
+    }
+
+    /**
+     * Resolves the status of a single membership request from its Ansible job and UIPath reference.
+     */
+    private MembershipRequestStatusResponse resolveStatus(String requestId, String jobId, String uipathReference,
+            String projectKey, String user, String environment) {
+        MembershipRequestStatusResponse ansibleResponse = checkAnsibleStatus(requestId, jobId, projectKey, user, environment);
+        if (ansibleResponse != null) {
+            return ansibleResponse;
+        }
+
+        // Step 3: AAP succeeded, now check UIPath status; concurrent checks are combined into one query
+        logger.debug("Ansible workflow completed successfully, checking UIPath status for reference: '{}'", uipathReference);
+        return toUiPathResponse(requestId, projectKey, user, environment, uipathReference,
+                uiPathStatusBatcher.checkQueueItemByReference(uipathReference));
+    }
+
+    /**
+     * Checks the Ansible job of a membership request.
+     *
+     * @return the response while the job is running or when it failed, or {@code null} when it succeeded
+     *         and the UIPath status decides the outcome
+     */
+    private MembershipRequestStatusResponse checkAnsibleStatus(String requestId, String jobId,
+            String projectKey, String user, String environment) {
         try {
             // Step 1: Check Ansible Automation Platform status
             AutomationJobStatus ansibleStatus = automationPlatformService.getWorkflowJobStatus(jobId);
@@ -80,9 +179,7 @@ public class MembershipRequestStatusServiceImpl implements MembershipRequestStat
                         "Ansible status: " + ansibleStatus.getStatus());
             }
 
-            // Step 3: AAP succeeded, now check UIPath status
-            logger.debug("Ansible workflow completed successfully, checking UIPath status");
-            return checkUiPathAndCreateResponse(requestId, projectKey, user, environment, uipathReference);
+            return null;
 
         } catch (AutomationPlatformException e) {
             logger.error("Failed to get job status for request '{}': {}", requestId, e.getMessage(), e);
@@ -96,16 +193,11 @@ public class MembershipRequestStatusServiceImpl implements MembershipRequestStat
     }
 
     /**
-     * Check UIPath status and create appropriate response using the UIPath service.
+     * Create the appropriate response for the UIPath status of a membership request.
      */
-    private MembershipRequestStatusResponse checkUiPathAndCreateResponse(String requestId, String projectKey,
+    private MembershipRequestStatusResponse toUiPathResponse(String requestId, String projectKey,
             String user, String environment,
-            String uipathReference) {
-        
-        logger.debug("Checking UIPath status for reference: '{}'", uipathReference);
-        
-        // Use the generic service method to check the queue item status
-        UiPathQueueItemResult result = uiPathService.checkQueueItemByReference(uipathReference);
+            String uipathReference, UiPathQueueItemResult result) {
         
         // Map the result to the appropriate response
         return switch (result.getResultStatus()) {
@@ -198,6 +290,23 @@ public class MembershipRequestStatusServiceImpl implements MembershipRequestStat
         return response;
     }
 
+    @Override
+    public boolean validateBulkRequestToken(String requestId, String projectKey) {
+        logger.debug("Validating bulk request token for requestId: {}, projectKey: {}", requestId, projectKey);
+        try {
+            Map<String, Object> tokenData = tokenService.decodeRequestToken(requestId);
+            boolean isValid = tokenData.get(JwtMembershipRequestClaims.CLAIM_REQUESTS) != null
+                    && projectKey.equals(tokenData.get(JwtMembershipRequestClaims.CLAIM_PROJECT_KEY));
+            if (!isValid) {
+                logger.warn("Bulk request token validation failed: not a bulk request or projectKey does not match");
+            }
+            return isValid;
+        } catch (Exception e) {
+            logger.error("Error validating bulk request token: {}", e.getMessage(), e);
+            return false;
+        }
+    }
+
     private boolean isAnsibleTerminalStatus(AutomationJobStatus.Status status) {
         return status == AutomationJobStatus.Status.SUCCESSFUL ||
                 status == AutomationJobStatus.Status.FAILED ||
@@ -18,6 +18,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -76,6 +78,51 @@ public class MembershipRequestTokenServiceImpl implements MembershipRequestToken
         }
     }
 
+    @Override
+    public String createBulkRequestToken(String projectKey, List<String> requestIds,
+            LocalDateTime initiatedAt, String initiatedBy) {
+        // Only the fields needed for status resolution are embedded, keeping the aggregate ID compact
+        List<Map<String, Object>> requests = requestIds.stream()
+                .map(this::decodeRequestToken)
+                .map(MembershipRequestTokenServiceImpl::toBulkEntryClaims)
+                .toList();
+
+        try {
+            Date now = new Date();
+            Date expiration = new Date(now.getTime() + (tokenExpirationHours * 60 * 60 * 1000));
+
+            String token = Jwts.builder()
+                    .claim(JwtMembershipRequestClaims.CLAIM_PROJECT_KEY, projectKey)
+                    .claim(JwtMembershipRequestClaims.CLAIM_INITIATED_AT, initiatedAt.toEpochSecond(ZoneOffset.UTC))
+                    .claim(JwtMembershipRequestClaims.CLAIM_INITIATED_BY, initiatedBy)
+                    .claim(JwtMembershipRequestClaims.CLAIM_REQUESTS, requests)
+                    .subject("bulk-membership-request")
+                    .issuedAt(now)
+                    .expiration(expiration)
+                    .signWith(secretKey)
+                    .compact();
+
+            String requestId = "req_" + System.currentTimeMillis() + "_" + token;
+
+            logger.debug("Created bulk request token for project '{}' with {} entries", projectKey, requests.size());
+            return requestId;
+
+        } catch (Exception e) {
+            logger.warn("Failed to create bulk request token for project '{}': {}", projectKey, e.getMessage(), e);
+            throw new TokenCreationException("Failed to create bulk request token", e);
+        }
+    }
+
+    private static Map<String, Object> toBulkEntryClaims(Map<String, Object> claims) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put(JwtMembershipRequestClaims.CLAIM_JOB_ID, claims.get(JwtMembershipRequestClaims.CLAIM_JOB_ID));
+        entry.put(JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE, claims.get(JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE));
+        entry.put(JwtMembershipRequestClaims.CLAIM_USER, claims.get(JwtMembershipRequestClaims.CLAIM_USER));
+        entry.put(JwtMembershipRequestClaims.CLAIM_ENVIRONMENT, claims.get(JwtMembershipRequestClaims.CLAIM_ENVIRONMENT));
+        entry.put(JwtMembershipRequestClaims.CLAIM_ROLE, claims.get(JwtMembershipRequestClaims.CLAIM_ROLE));
+        return entry;
+    }
+
     @Override
     public Map<String, Object> decodeRequestToken(String token) {
         try {
@@ -103,6 +150,11 @@ public class MembershipRequestTokenServiceImpl implements MembershipRequestToken
             result.put(JwtMembershipRequestClaims.CLAIM_INITIATED_BY,
                     claims.get(JwtMembershipRequestClaims.CLAIM_INITIATED_BY, String.class));
 
+            List<?> requests = claims.get(JwtMembershipRequestClaims.CLAIM_REQUESTS, List.class);
+            if (requests != null) {
+                result.put(JwtMembershipRequestClaims.CLAIM_REQUESTS, requests);
+            }
+
             Long initiatedAtEpoch = claims.get(JwtMembershipRequestClaims.CLAIM_INITIATED_AT, Long.class);
             if (initiatedAtEpoch != null) {
                 result.put(JwtMembershipRequestClaims.CLAIM_INITIATED_AT,
@@ -4,52 +4,161 @@ import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecution
 import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
 import org.opendevstack.apiservice.projectusers.exception.AutomationPlatformException;
 import org.opendevstack.apiservice.projectusers.exception.ProjectNotFoundException;
+import org.opendevstack.apiservice.projectusers.exception.ProjectUserException;
 import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestFailure;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.model.MembershipRequestResponse;
 import org.opendevstack.apiservice.projectusers.service.MembershipRequestTokenService;
 import org.opendevstack.apiservice.projectusers.service.ProjectUserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 /**
  * Implementation of ProjectUserService that manages project users and integrates with automation platform.
  * This is a stateless implementation that uses the automation platform for persistence.
  */
 @Service("projectUserService")
-public class ProjectUserServiceImpl implements ProjectUserService {
+public class ProjectUserServiceImpl implements ProjectUserService, DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(ProjectUserServiceImpl.class);
     
     @Value("${apis.project-users.ansible-workflow-name}")
     private String addUserWorkflow;
 
+    @Value("${apis.project-users.bulk.max-parallel-launches:4}")
+    private int maxParallelLaunches = 4;
+
     private final AutomationPlatformService automationPlatformService;
     private final MembershipRequestTokenService tokenService;
+    private final MembershipRequestCoalescer<LaunchKey, MembershipRequestResponse> launches;
+    /** Runs the entries of bulk requests; each call limits its own entries to {@code maxParallelLaunches} */
+    private final ExecutorService launchExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
     public ProjectUserServiceImpl(AutomationPlatformService automationPlatformService,
-                                 MembershipRequestTokenService membershipRequestTokenService) {
+                                 MembershipRequestTokenService membershipRequestTokenService,
+                                 @Value("${apis.project-users.idempotency-window-seconds:60}") long idempotencyWindowSeconds) {
         this.automationPlatformService = automationPlatformService;
         this.tokenService = membershipRequestTokenService;
+        this.launches = new MembershipRequestCoalescer<>(Duration.ofSeconds(idempotencyWindowSeconds));
     }
 
     @Override
-    public MembershipRequestResponse addUserToProject(String projectKey, AddUserToProjectRequest request) {
+    public MembershipRequestResponse addUserToProject(String projectKey, AddUserToProjectRequest request, String idempotencyKey) {
         logger.info("Adding user '{}' to project '{}' with role '{}'", request.getUser(), projectKey, request.getRole());
 
         // Validate project exists (this would typically be a call to a project service)
         validateProject(projectKey);
 
+        // Generate UIPath reference in format: project_user_role
+        String uipathReference = String.format("%s_%s_%s", 
+            projectKey, 
+            request.getUser(), 
+            request.getRole());
+
+        // Duplicates of an in-flight or recently completed request share its response instead of launching again;
+        // the key holds every field passed to the workflow so that a different payload is always launched
+        LaunchKey launchKey = new LaunchKey(
+            projectKey,
+            request.getUser(),
+            request.getAccount() != null ? request.getAccount() : request.getUser(),
+            request.getRole(),
+            request.getEnvironment(),
+            request.getComments(),
+            idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey.trim());
+        return launches.coalesce(launchKey, () -> launchMembershipRequest(projectKey, request, uipathReference));
+    }
+
+    @Override
+    public BulkMembershipRequestResponse addUsersToProject(String projectKey, List<AddUserToProjectRequest> requests) {
+        logger.info("Adding {} users to project '{}'", requests.size(), projectKey);
+
+        validateProject(projectKey);
+
+        // Launch entries in parallel, bounded so that a large batch does not monopolise the automation platform
+        Semaphore permits = new Semaphore(Math.max(1, maxParallelLaunches));
+        List<CompletableFuture<MembershipRequestResponse>> launched = requests.stream()
+            .map(request -> CompletableFuture.supplyAsync(() -> launchWithPermit(permits, projectKey, request), launchExecutor))
+            .toList();
+
+        List<MembershipRequestResponse> responses = new ArrayList<>();
+        List<BulkMembershipRequestFailure> failures = new ArrayList<>();
+        ProjectUserException firstFailure = null;
+        for (int i = 0; i < requests.size(); i++) {
+            AddUserToProjectRequest request = requests.get(i);
+            try {
+                responses.add(launched.get(i).join());
+            } catch (CompletionException e) {
+                ProjectUserException cause = e.getCause() instanceof ProjectUserException projectUserException
+                    ? projectUserException
+                    : new ProjectUserException("Failed to trigger membership request", e.getCause());
+                if (firstFailure == null) {
+                    firstFailure = cause;
+                }
+                failures.add(new BulkMembershipRequestFailure()
+                    .user(request.getUser())
+                    .role(request.getRole())
+                    .environment(request.getEnvironment())
+                    .message(cause.getMessage()));
+            }
+        }
+
+        if (responses.isEmpty()) {
+            throw firstFailure;
+        }
+
+        String requestId = tokenService.createBulkRequestToken(
+            projectKey,
+            responses.stream().map(MembershipRequestResponse::getRequestId).toList(),
+            java.time.LocalDateTime.now(),
+            getCurrentUser()
+        );
+
+        logger.info("Triggered bulk membership request for project '{}': {} launched, {} failed",
+            projectKey, responses.size(), failures.size());
+
+        BulkMembershipRequestResponse response = new BulkMembershipRequestResponse();
+        response.setRequestId(requestId);
+        response.setProject(projectKey);
+        response.setRequestedAt(java.time.OffsetDateTime.now());
+        response.setRequests(responses);
+        response.setFailures(failures);
+        return response;
+    }
+
+    private MembershipRequestResponse launchWithPermit(Semaphore permits, String projectKey, AddUserToProjectRequest request) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectUserException("Interrupted while waiting to trigger membership request", e);
+        }
+        try {
+            return addUserToProject(projectKey, request, null);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        launchExecutor.close();
+    }
+
+    private MembershipRequestResponse launchMembershipRequest(String projectKey, AddUserToProjectRequest request, String uipathReference) {
         try {
             // Prepare parameters for automation platform
-            // Generate UIPath reference in format: project_user_role
-            String uipathReference = String.format("%s_%s_%s", 
-                projectKey, 
-                request.getUser(), 
-                request.getRole());            
             Map<String, Object> parameters = new HashMap<>();
             parameters.put("project_key", projectKey);
             parameters.put("environment", request.getEnvironment());
@@ -114,6 +223,13 @@ public class ProjectUserServiceImpl implements ProjectUserService {
     }
 
 
+    /**
+     * Identifies a membership request launch by everything that is passed to the workflow.
+     */
+    private record LaunchKey(String projectKey, String user, String account, String role, String environment,
+                             String comments, String idempotencyKey) {
+    }
+
     private static final String DEFAULT_USER = "system";
 
     private String getCurrentUser() {
@@ -52,7 +52,7 @@ class GlobalExceptionHandlerTest {
         try {
             methodParameter = new MethodParameter(
                     ProjectUserController.class.getMethod(
-                            "triggerMembershipRequest", String.class, AddUserToProjectRequest.class),
+                            "triggerMembershipRequest", String.class, AddUserToProjectRequest.class, String.class),
                     1 // index of AddUserToProjectRequest parameter
             );
         } catch (NoSuchMethodException e) {
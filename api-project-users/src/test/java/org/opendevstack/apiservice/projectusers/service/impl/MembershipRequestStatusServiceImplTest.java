@@ -0,0 +1,176 @@
+package org.opendevstack.apiservice.projectusers.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
+import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
+import org.opendevstack.apiservice.externalservice.uipath.service.UiPathOrchestratorService;
+import org.opendevstack.apiservice.externalservice.uipath.service.UiPathQueueItemStatusBatcher;
+import org.opendevstack.apiservice.projectusers.exception.InvalidTokenException;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.model.MembershipRequestStatusResponse;
+import org.opendevstack.apiservice.projectusers.service.JwtMembershipRequestClaims;
+import org.opendevstack.apiservice.projectusers.service.MembershipRequestTokenService;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipRequestStatusServiceImplTest {
+
+    @Mock
+    private MembershipRequestTokenService tokenService;
+
+    @Mock
+    private AutomationPlatformService automationPlatformService;
+
+    @Mock
+    private UiPathOrchestratorService uiPathService;
+
+    @Mock
+    private UiPathQueueItemStatusBatcher uiPathStatusBatcher;
+
+    private MembershipRequestStatusServiceImpl statusService;
+
+    @BeforeEach
+    void setUp() {
+        statusService = new MembershipRequestStatusServiceImpl(tokenService, automationPlatformService, uiPathService,
+                uiPathStatusBatcher);
+    }
+
+    @Test
+    void getBulkRequestStatus_EntryStillRunning_IsInProgress() throws Exception {
+        // Arrange
+        stubBulkToken(entry("1", "proj_alice_TEAM", "alice"), entry("2", "proj_bob_TEAM", "bob"));
+        when(automationPlatformService.getWorkflowJobStatus("1")).thenReturn(jobStatus(AutomationJobStatus.Status.SUCCESSFUL));
+        when(automationPlatformService.getWorkflowJobStatus("2")).thenReturn(jobStatus(AutomationJobStatus.Status.RUNNING));
+        when(uiPathService.checkQueueItemsByReference(List.of("proj_alice_TEAM")))
+                .thenReturn(Map.of("proj_alice_TEAM", UiPathQueueItemResult.noReference()));
+
+        // Act
+        BulkMembershipRequestStatusResponse response = statusService.getBulkRequestStatus("req_bulk");
+
+        // Assert
+        assertEquals(BulkMembershipRequestStatusResponse.StatusEnum.IN_PROGRESS, response.getStatus());
+        assertFalse(response.getCompleted());
+        assertFalse(response.getSuccessful());
+        assertEquals(2, response.getTotal());
+        assertEquals(1, response.getCompletedCount());
+        assertEquals(0, response.getFailedCount());
+        assertEquals("bob", response.getRequests().get(1).getUser());
+    }
+
+    @Test
+    void getBulkRequestStatus_AllEntriesFinished_RollsUpFailures() throws Exception {
+        // Arrange
+        stubBulkToken(entry("1", "proj_alice_TEAM", "alice"), entry("2", "proj_bob_TEAM", "bob"));
+        when(automationPlatformService.getWorkflowJobStatus("1")).thenReturn(jobStatus(AutomationJobStatus.Status.SUCCESSFUL));
+        when(automationPlatformService.getWorkflowJobStatus("2")).thenReturn(jobStatus(AutomationJobStatus.Status.FAILED));
+        when(uiPathService.checkQueueItemsByReference(List.of("proj_alice_TEAM")))
+                .thenReturn(Map.of("proj_alice_TEAM", UiPathQueueItemResult.noReference()));
+
+        // Act
+        BulkMembershipRequestStatusResponse response = statusService.getBulkRequestStatus("req_bulk");
+
+        // Assert
+        assertEquals(BulkMembershipRequestStatusResponse.StatusEnum.COMPLETED, response.getStatus());
+        assertTrue(response.getCompleted());
+        assertFalse(response.getSuccessful());
+        assertEquals(2, response.getCompletedCount());
+        assertEquals(1, response.getFailedCount());
+    }
+
+    @Test
+    void getBulkRequestStatus_ResolvesUiPathStatusInOneBatch() throws Exception {
+        // Arrange
+        stubBulkToken(entry("1", "proj_alice_TEAM", "alice"), entry("2", "proj_bob_TEAM", "bob"));
+        when(automationPlatformService.getWorkflowJobStatus("1")).thenReturn(jobStatus(AutomationJobStatus.Status.SUCCESSFUL));
+        when(automationPlatformService.getWorkflowJobStatus("2")).thenReturn(jobStatus(AutomationJobStatus.Status.SUCCESSFUL));
+        when(uiPathService.checkQueueItemsByReference(List.of("proj_alice_TEAM", "proj_bob_TEAM"))).thenReturn(Map.of(
+                "proj_alice_TEAM", UiPathQueueItemResult.noReference(),
+                "proj_bob_TEAM", UiPathQueueItemResult.notFound("proj_bob_TEAM")));
+
+        // Act
+        BulkMembershipRequestStatusResponse response = statusService.getBulkRequestStatus("req_bulk");
+
+        // Assert
+        assertTrue(response.getCompleted());
+        assertEquals(1, response.getFailedCount());
+        assertTrue(response.getRequests().get(0).getSuccessful());
+        assertFalse(response.getRequests().get(1).getSuccessful());
+        verify(uiPathService, never()).checkQueueItemByReference(anyString());
+    }
+
+    @Test
+    void getRequestStatus_ChecksUiPathThroughBatcher() throws Exception {
+        // Arrange
+        when(tokenService.decodeRequestToken("req_single")).thenReturn(Map.of(
+                JwtMembershipRequestClaims.CLAIM_JOB_ID, "1",
+                JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE, "proj_alice_TEAM",
+                JwtMembershipRequestClaims.CLAIM_PROJECT_KEY, "proj",
+                JwtMembershipRequestClaims.CLAIM_USER, "alice"));
+        when(automationPlatformService.getWorkflowJobStatus("1")).thenReturn(jobStatus(AutomationJobStatus.Status.SUCCESSFUL));
+        when(uiPathStatusBatcher.checkQueueItemByReference("proj_alice_TEAM")).thenReturn(UiPathQueueItemResult.noReference());
+
+        // Act
+        MembershipRequestStatusResponse response = statusService.getRequestStatus("req_single");
+
+        // Assert
+        assertEquals(MembershipRequestStatusResponse.StatusEnum.COMPLETED, response.getStatus());
+        assertTrue(response.getSuccessful());
+        assertEquals("req_single", response.getRequestId());
+    }
+
+    @Test
+    void getBulkRequestStatus_SingleRequestToken_IsRejected() {
+        // Arrange
+        when(tokenService.decodeRequestToken("req_single")).thenReturn(Map.of(
+                JwtMembershipRequestClaims.CLAIM_PROJECT_KEY, "proj",
+                JwtMembershipRequestClaims.CLAIM_JOB_ID, "1"));
+
+        // Act & Assert
+        assertThrows(InvalidTokenException.class, () -> statusService.getBulkRequestStatus("req_single"));
+        assertFalse(statusService.validateBulkRequestToken("req_single", "proj"));
+    }
+
+    @Test
+    void validateBulkRequestToken_ChecksProject() {
+        // Arrange
+        stubBulkToken(entry("1", "proj_alice_TEAM", "alice"));
+
+        // Act & Assert
+        assertTrue(statusService.validateBulkRequestToken("req_bulk", "proj"));
+        assertFalse(statusService.validateBulkRequestToken("req_bulk", "other"));
+    }
+
+    @SafeVarargs
+    private void stubBulkToken(Map<String, Object>... entries) {
+        when(tokenService.decodeRequestToken("req_bulk")).thenReturn(Map.of(
+                JwtMembershipRequestClaims.CLAIM_PROJECT_KEY, "proj",
+                JwtMembershipRequestClaims.CLAIM_REQUESTS, List.of(entries)));
+    }
+
+    private static Map<String, Object> entry(String jobId, String uipathReference, String user) {
+        return Map.of(
+                JwtMembershipRequestClaims.CLAIM_JOB_ID, jobId,
+                JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE, uipathReference,
+                JwtMembershipRequestClaims.CLAIM_USER, user,
+                JwtMembershipRequestClaims.CLAIM_ENVIRONMENT, "DEVELOPMENT");
+    }
+
+    private static AutomationJobStatus jobStatus(AutomationJobStatus.Status status) {
+        AutomationJobStatus jobStatus = new AutomationJobStatus();
+        jobStatus.setStatus(status);
+        return jobStatus;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -85,4 +86,44 @@ class MembershipRequestTokenServiceTest {
             tokenService.decodeRequestToken("req_without_second_underscore");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreateAndDecodeBulkToken() throws ProjectUserException {
+        // Arrange
+        String first = tokenService.createRequestToken("111", "proj_alice_TEAM", "proj", "alice", "DEVELOPMENT", "TEAM",
+                LocalDateTime.now(), "admin");
+        String second = tokenService.createRequestToken("222", "proj_bob_MANAGER", "proj", "bob", "DEVELOPMENT", "MANAGER",
+                LocalDateTime.now(), "admin");
+
+        // Act
+        String bulkRequestId = tokenService.createBulkRequestToken("proj", List.of(first, second), LocalDateTime.now(), "admin");
+        Map<String, Object> decodedData = tokenService.decodeRequestToken(bulkRequestId);
+
+        // Assert
+        assertTrue(bulkRequestId.startsWith("req_"));
+        assertEquals("proj", decodedData.get(JwtMembershipRequestClaims.CLAIM_PROJECT_KEY));
+        List<?> requests = (List<?>) decodedData.get(JwtMembershipRequestClaims.CLAIM_REQUESTS);
+        assertEquals(2, requests.size());
+        Map<?, ?> entry = (Map<?, ?>) requests.get(1);
+        assertEquals("222", entry.get(JwtMembershipRequestClaims.CLAIM_JOB_ID));
+        assertEquals("proj_bob_MANAGER", entry.get(JwtMembershipRequestClaims.CLAIM_UIPATH_REFERENCE));
+        assertEquals("bob", entry.get(JwtMembershipRequestClaims.CLAIM_USER));
+    }
+
+    @Test
+    void testCreateBulkTokenWithInvalidEntry() {
+        // Act & Assert
+        assertThrows(InvalidTokenException.class, () ->
+                tokenService.createBulkRequestToken("proj", List.of("invalid-format"), LocalDateTime.now(), "admin"));
+    }
+
+    @Test
+    void testSingleTokenHasNoBulkEntries() throws ProjectUserException {
+        // Arrange
+        String requestId = tokenService.createRequestToken("123", null, "proj", "user", "dev", "TEAM", LocalDateTime.now(),
+                "admin");
+
+        // Act & Assert
+        assertNull(tokenService.decodeRequestToken(requestId).get(JwtMembershipRequestClaims.CLAIM_REQUESTS));
+    }
+}
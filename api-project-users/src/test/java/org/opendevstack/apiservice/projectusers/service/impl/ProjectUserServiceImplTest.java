@@ -0,0 +1,324 @@
+package org.opendevstack.apiservice.projectusers.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
+import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
+import org.opendevstack.apiservice.projectusers.exception.AutomationPlatformException;
+import org.opendevstack.apiservice.projectusers.model.AddUserToProjectRequest;
+import org.opendevstack.apiservice.projectusers.model.BulkMembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.model.MembershipRequestResponse;
+import org.opendevstack.apiservice.projectusers.service.MembershipRequestTokenService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectUserServiceImplTest {
+
+    private static final String WORKFLOW = "add-user-workflow";
+
+    @Mock
+    private AutomationPlatformService automationPlatformService;
+
+    @Mock
+    private MembershipRequestTokenService tokenService;
+
+    private ProjectUserServiceImpl projectUserService;
+
+    @BeforeEach
+    void setUp() {
+        projectUserService = newService(60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectUserService.destroy();
+    }
+
+    @Test
+    void addUserToProject_LaunchesWorkflowWithUipathReference() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        MembershipRequestResponse response = projectUserService.addUserToProject("proj", request());
+
+        // Assert
+        assertEquals("req_1", response.getRequestId());
+        assertEquals(MembershipRequestResponse.StatusEnum.PENDING, response.getStatus());
+        verify(automationPlatformService).executeWorkflow(eq(WORKFLOW), argThat(
+                (Map<String, Object> parameters) -> "proj_john.doe_TEAM".equals(parameters.get("reference"))));
+    }
+
+    @Test
+    void addUserToProject_RepeatedRequestWithinWindow_ReturnsOriginalRequestId() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        MembershipRequestResponse first = projectUserService.addUserToProject("proj", request());
+        MembershipRequestResponse second = projectUserService.addUserToProject("proj", request());
+
+        // Assert
+        assertEquals("req_1", second.getRequestId());
+        assertSame(first, second);
+        verify(automationPlatformService, times(1)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_DifferentIdempotencyKeys_LaunchSeparately() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        projectUserService.addUserToProject("proj", request(), "key-1");
+        projectUserService.addUserToProject("proj", request(), "key-2");
+        projectUserService.addUserToProject("proj", request(), "key-1");
+
+        // Assert
+        verify(automationPlatformService, times(2)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_DifferentRole_LaunchesSeparately() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        projectUserService.addUserToProject("proj", request());
+        projectUserService.addUserToProject("proj", request().role("ADMIN"));
+
+        // Assert
+        verify(automationPlatformService, times(2)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_DifferentEnvironmentOrAccount_LaunchesSeparately() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        projectUserService.addUserToProject("proj", request());
+        projectUserService.addUserToProject("proj", request().environment("PRODUCTIVE"));
+        projectUserService.addUserToProject("proj", request().account("doejane"));
+
+        // Assert
+        verify(automationPlatformService, times(3)).executeWorkflow(anyString(), anyMap());
+        verify(automationPlatformService).executeWorkflow(eq(WORKFLOW), argThat(
+                (Map<String, Object> parameters) -> "PRODUCTIVE".equals(parameters.get("environment"))));
+    }
+
+    @Test
+    void addUserToProject_LaunchThrowingError_IsNotRemembered() throws Exception {
+        // Arrange
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap()))
+                .thenThrow(new AssertionError("Launch crashed"))
+                .thenReturn(AutomationExecutionResult.success("job-1", "Workflow executed successfully"));
+        stubToken("job-1", "req_1");
+
+        // Act & Assert
+        assertThrows(AssertionError.class, () -> projectUserService.addUserToProject("proj", request()));
+        assertEquals("req_1", projectUserService.addUserToProject("proj", request()).getRequestId());
+        verify(automationPlatformService, times(2)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_AfterWindowExpires_LaunchesAgain() throws Exception {
+        // Arrange
+        projectUserService.destroy();
+        projectUserService = newService(0);
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+
+        // Act
+        projectUserService.addUserToProject("proj", request());
+        projectUserService.addUserToProject("proj", request());
+
+        // Assert
+        verify(automationPlatformService, times(2)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_FailedLaunch_IsNotRemembered() throws Exception {
+        // Arrange
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap()))
+                .thenReturn(AutomationExecutionResult.failure("job-0", "Launch rejected", "error"))
+                .thenReturn(AutomationExecutionResult.success("job-1", "Workflow executed successfully"));
+        stubToken("job-1", "req_1");
+
+        // Act & Assert
+        assertThrows(AutomationPlatformException.class,
+                () -> projectUserService.addUserToProject("proj", request()));
+        assertEquals("req_1", projectUserService.addUserToProject("proj", request()).getRequestId());
+        verify(automationPlatformService, times(2)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUserToProject_ConcurrentDuplicates_JoinInFlightLaunch() throws Exception {
+        // Arrange
+        CountDownLatch launchStarted = new CountDownLatch(1);
+        CountDownLatch releaseLaunch = new CountDownLatch(1);
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap())).thenAnswer(invocation -> {
+            launchStarted.countDown();
+            assertTrue(releaseLaunch.await(5, TimeUnit.SECONDS));
+            return AutomationExecutionResult.success("job-1", "Workflow executed successfully");
+        });
+        stubToken("job-1", "req_1");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // Act
+            Future<MembershipRequestResponse> first = executor.submit(() -> projectUserService.addUserToProject("proj", request()));
+            assertTrue(launchStarted.await(5, TimeUnit.SECONDS));
+            Future<MembershipRequestResponse> second = executor.submit(() -> projectUserService.addUserToProject("proj", request()));
+            releaseLaunch.countDown();
+
+            // Assert
+            assertEquals("req_1", first.get(5, TimeUnit.SECONDS).getRequestId());
+            assertEquals("req_1", second.get(5, TimeUnit.SECONDS).getRequestId());
+            verify(automationPlatformService, times(1)).executeWorkflow(anyString(), anyMap());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void addUsersToProject_LaunchesEachEntryAndCreatesAggregateRequestId() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+        when(tokenService.createBulkRequestToken(eq("proj"), anyList(), any(), anyString())).thenReturn("req_bulk");
+
+        // Act
+        BulkMembershipRequestResponse response = projectUserService.addUsersToProject("proj", List.of(
+                request(), request().user("jane.doe"), request().role("ADMIN")));
+
+        // Assert
+        assertEquals("req_bulk", response.getRequestId());
+        assertEquals(3, response.getRequests().size());
+        assertTrue(response.getFailures().isEmpty());
+        verify(automationPlatformService, times(3)).executeWorkflow(anyString(), anyMap());
+        verify(tokenService).createBulkRequestToken(eq("proj"), eq(List.of("req_1", "req_1", "req_1")), any(), anyString());
+    }
+
+    @Test
+    void addUsersToProject_BoundsParallelLaunches() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(projectUserService, "maxParallelLaunches", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return AutomationExecutionResult.success("job-1", "Workflow executed successfully");
+        });
+        stubToken("job-1", "req_1");
+        when(tokenService.createBulkRequestToken(eq("proj"), anyList(), any(), anyString())).thenReturn("req_bulk");
+
+        // Act
+        BulkMembershipRequestResponse response = projectUserService.addUsersToProject("proj", List.of(
+                request(), request().user("jane.doe"), request().user("max.doe"), request().user("eva.doe"),
+                request().user("tom.doe"), request().user("ann.doe")));
+
+        // Assert
+        assertEquals(6, response.getRequests().size());
+        assertTrue(maxRunning.get() <= 2);
+        verify(automationPlatformService, times(6)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUsersToProject_DuplicateEntries_LaunchOnce() throws Exception {
+        // Arrange
+        stubLaunch("job-1");
+        stubToken("job-1", "req_1");
+        when(tokenService.createBulkRequestToken(eq("proj"), anyList(), any(), anyString())).thenReturn("req_bulk");
+
+        // Act
+        BulkMembershipRequestResponse response = projectUserService.addUsersToProject("proj", List.of(request(), request()));
+
+        // Assert
+        assertEquals(2, response.getRequests().size());
+        verify(automationPlatformService, times(1)).executeWorkflow(anyString(), anyMap());
+    }
+
+    @Test
+    void addUsersToProject_PartialFailure_ReportsFailedEntries() throws Exception {
+        // Arrange
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap())).thenAnswer(invocation -> {
+            Map<String, Object> parameters = invocation.getArgument(1);
+            return "jane.doe".equals(parameters.get("requested_for"))
+                    ? AutomationExecutionResult.failure("job-0", "Launch rejected", "error")
+                    : AutomationExecutionResult.success("job-1", "Workflow executed successfully");
+        });
+        stubToken("job-1", "req_1");
+        when(tokenService.createBulkRequestToken(eq("proj"), anyList(), any(), anyString())).thenReturn("req_bulk");
+
+        // Act
+        BulkMembershipRequestResponse response = projectUserService.addUsersToProject("proj", List.of(
+                request(), request().user("jane.doe")));
+
+        // Assert
+        assertEquals(1, response.getRequests().size());
+        assertEquals(1, response.getFailures().size());
+        assertEquals("jane.doe", response.getFailures().get(0).getUser());
+        verify(tokenService).createBulkRequestToken(eq("proj"), eq(List.of("req_1")), any(), anyString());
+    }
+
+    @Test
+    void addUsersToProject_AllEntriesFail_Throws() throws Exception {
+        // Arrange
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap()))
+                .thenReturn(AutomationExecutionResult.failure("job-0", "Launch rejected", "error"));
+
+        // Act & Assert
+        assertThrows(AutomationPlatformException.class,
+                () -> projectUserService.addUsersToProject("proj", List.of(request(), request().user("jane.doe"))));
+        verify(tokenService, never()).createBulkRequestToken(anyString(), anyList(), any(), anyString());
+    }
+
+    private ProjectUserServiceImpl newService(long idempotencyWindowSeconds) {
+        ProjectUserServiceImpl service = new ProjectUserServiceImpl(automationPlatformService, tokenService, idempotencyWindowSeconds);
+        ReflectionTestUtils.setField(service, "addUserWorkflow", WORKFLOW);
+        return service;
+    }
+
+    private void stubLaunch(String jobId) throws Exception {
+        when(automationPlatformService.executeWorkflow(anyString(), anyMap()))
+                .thenReturn(AutomationExecutionResult.success(jobId, "Workflow executed successfully"));
+    }
+
+    private void stubToken(String jobId, String requestId) {
+        when(tokenService.createRequestToken(eq(jobId), anyString(), anyString(), anyString(), anyString(), anyString(), any(), anyString()))
+                .thenReturn(requestId);
+    }
+
+    private static AddUserToProjectRequest request() {
+        return new AddUserToProjectRequest("DEVELOPMENT", "john.doe", "TEAM");
+    }
+}
@@ -0,0 +1,117 @@
+package org.opendevstack.apiservice.core.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtDecoder that remembers tokens the delegate has already validated
+ * Tokens are keyed by their SHA-256 hash and kept until they expire, but at most for the configured
+ * time to live. The least recently used token is dropped once the cache is full. Tokens the
+ * delegate rejects are not cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder, MeterBinder {
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    private final Map<String, CachedJwt> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration maxTtl) {
+        this(delegate, maxSize, maxTtl, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration maxTtl, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedJwt> eldest) {
+                if (size() > CachingJwtDecoder.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = TokenHashes.sha256(token);
+        Instant now = clock.instant();
+        synchronized (cache) {
+            CachedJwt cached = cache.get(key);
+            if (cached != null) {
+                if (now.isBefore(cached.cachedUntil())) {
+                    hits.increment();
+                    return cached.jwt();
+                }
+                cache.remove(key);
+            }
+        }
+
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+
+        Instant cachedUntil = now.plus(maxTtl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(cachedUntil)) {
+            cachedUntil = jwt.getExpiresAt();
+        }
+        if (now.isBefore(cachedUntil)) {
+            synchronized (cache) {
+                cache.put(key, new CachedJwt(jwt, cachedUntil));
+            }
+        }
+        return jwt;
+    }
+
+    /**
+     * @return number of cached tokens, including expired ones not yet removed
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.jwt.cache.requests", hits, LongAdder::doubleValue)
+            .tag("result", "hit")
+            .description("JWT decodings answered from the validated token cache")
+            .register(registry);
+        FunctionCounter.builder("security.jwt.cache.requests", misses, LongAdder::doubleValue)
+            .tag("result", "miss")
+            .description("JWT decodings passed to the validating decoder")
+            .register(registry);
+        FunctionCounter.builder("security.jwt.cache.evictions", evictions, LongAdder::doubleValue)
+            .description("Validated tokens dropped because the cache was full")
+            .register(registry);
+        Gauge.builder("security.jwt.cache.size", this, CachingJwtDecoder::size)
+            .description("Validated tokens currently cached")
+            .register(registry);
+    }
+
+    private record CachedJwt(Jwt jwt, Instant cachedUntil) {
+    }
+}
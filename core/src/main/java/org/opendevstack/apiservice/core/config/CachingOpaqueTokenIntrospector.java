@@ -0,0 +1,176 @@
+package org.opendevstack.apiservice.core.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2TokenIntrospectionClaimNames;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpaqueTokenIntrospector that remembers introspection results of the delegate
+ * Active tokens are keyed by their SHA-256 hash and kept until they expire, but at most for the
+ * configured time to live. Tokens the identity provider reports as inactive are remembered for a
+ * short time, so that a client retrying with a revoked token does not reach the identity provider
+ * on every request. Concurrent introspections of the same token share one request. Failures to
+ * reach the identity provider are not cached.
+ */
+public class CachingOpaqueTokenIntrospector implements OpaqueTokenIntrospector, MeterBinder {
+
+    private final OpaqueTokenIntrospector delegate;
+    private final int maxSize;
+    private final Duration maxTtl;
+    private final Duration negativeTtl;
+    private final Clock clock;
+
+    private final Map<String, CachedIntrospection> cache;
+    private final Map<String, CompletableFuture<OAuth2AuthenticatedPrincipal>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingOpaqueTokenIntrospector(OpaqueTokenIntrospector delegate, int maxSize, Duration maxTtl, Duration negativeTtl) {
+        this(delegate, maxSize, maxTtl, negativeTtl, Clock.systemUTC());
+    }
+
+    CachingOpaqueTokenIntrospector(OpaqueTokenIntrospector delegate, int maxSize, Duration maxTtl, Duration negativeTtl,
+            Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.maxTtl = maxTtl;
+        this.negativeTtl = negativeTtl;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedIntrospection> eldest) {
+                if (size() > CachingOpaqueTokenIntrospector.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public OAuth2AuthenticatedPrincipal introspect(String token) {
+        String key = TokenHashes.sha256(token);
+        Instant now = clock.instant();
+        synchronized (cache) {
+            CachedIntrospection cached = cache.get(key);
+            if (cached != null) {
+                if (now.isBefore(cached.cachedUntil())) {
+                    if (cached.principal() == null) {
+                        negativeHits.increment();
+                        throw new BadOpaqueTokenException(cached.rejection());
+                    }
+                    hits.increment();
+                    return cached.principal();
+                }
+                cache.remove(key);
+            }
+        }
+
+        CompletableFuture<OAuth2AuthenticatedPrincipal> created = new CompletableFuture<>();
+        CompletableFuture<OAuth2AuthenticatedPrincipal> pending = inFlight.putIfAbsent(key, created);
+        if (pending != null) {
+            return join(pending);
+        }
+
+        misses.increment();
+        try {
+            OAuth2AuthenticatedPrincipal principal = delegate.introspect(token);
+            cache(key, new CachedIntrospection(principal, null, cachedUntil(principal, now)), now);
+            created.complete(principal);
+            return principal;
+        } catch (BadOpaqueTokenException e) {
+            cache(key, new CachedIntrospection(null, e.getMessage(), now.plus(negativeTtl)), now);
+            created.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private Instant cachedUntil(OAuth2AuthenticatedPrincipal principal, Instant now) {
+        Instant cachedUntil = now.plus(maxTtl);
+        if (principal.getAttribute(OAuth2TokenIntrospectionClaimNames.EXP) instanceof Instant expiresAt
+                && expiresAt.isBefore(cachedUntil)) {
+            cachedUntil = expiresAt;
+        }
+        return cachedUntil;
+    }
+
+    private void cache(String key, CachedIntrospection introspection, Instant now) {
+        if (now.isBefore(introspection.cachedUntil())) {
+            synchronized (cache) {
+                cache.put(key, introspection);
+            }
+        }
+    }
+
+    /**
+     * @return number of cached introspection results, including expired ones not yet removed
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.introspection.cache.requests", hits, LongAdder::doubleValue)
+            .tag("result", "hit")
+            .description("Token introspections answered from the cache of active tokens")
+            .register(registry);
+        FunctionCounter.builder("security.introspection.cache.requests", negativeHits, LongAdder::doubleValue)
+            .tag("result", "negative-hit")
+            .description("Token introspections answered from the cache of rejected tokens")
+            .register(registry);
+        FunctionCounter.builder("security.introspection.cache.requests", misses, LongAdder::doubleValue)
+            .tag("result", "miss")
+            .description("Token introspections sent to the identity provider")
+            .register(registry);
+        FunctionCounter.builder("security.introspection.cache.evictions", evictions, LongAdder::doubleValue)
+            .description("Introspection results dropped because the cache was full")
+            .register(registry);
+        Gauge.builder("security.introspection.cache.size", this, CachingOpaqueTokenIntrospector::size)
+            .description("Introspection results currently cached")
+            .register(registry);
+    }
+
+    private static OAuth2AuthenticatedPrincipal join(CompletableFuture<OAuth2AuthenticatedPrincipal> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Result of an introspection; {@code principal} is {@code null} for rejected tokens
+     */
+    private record CachedIntrospection(OAuth2AuthenticatedPrincipal principal, String rejection, Instant cachedUntil) {
+    }
+}
@@ -1,5 +1,6 @@
 package org.opendevstack.apiservice.core.config;
 
+import org.opendevstack.apiservice.core.security.FlowClaims;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -8,10 +9,19 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CustomRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
 
-    private static final String ROLES_CLAIM = "roles";
+    /** Upper bound for distinct role sets kept; further sets are converted without caching. */
+    static final int MAX_CACHED_ROLE_SETS = 1024;
+
+    /**
+     * Immutable authorities per distinct role set, so that tokens with the same roles share one
+     * collection instead of allocating new authorities on every authentication
+     */
+    private final Map<Set<String>, Collection<GrantedAuthority>> authoritiesByRoles = new ConcurrentHashMap<>();
 
     @Override
     @SuppressWarnings("nullness")
@@ -19,60 +29,34 @@ public class CustomRoleConverter implements Converter<Jwt, Collection<GrantedAut
         if (jwt == null) {
             return List.of();
         }
-        // Extract realm roles (Keycloak/Auth0 standard)
-        List<String> realmRoles = getRealmRoles(jwt);
-
-        // Extract resource roles (client-specific roles)
-        List<String> resourceRoles = getResourceRoles(jwt);
-
-        // Combine all roles
-        List<String> allRoles = combineRoles(realmRoles, resourceRoles);
-
-        // Convert to GrantedAuthority with ROLE_ prefix
-        return allRoles.stream()
-            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-            .map(GrantedAuthority.class::cast)
-            .toList();
-    }
-
-    private List<String> getRealmRoles(Jwt jwt) {
-        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-        if (realmAccess != null && realmAccess.containsKey(ROLES_CLAIM)) {
-            @SuppressWarnings("unchecked")
-            List<String> roles = (List<String>) realmAccess.get(ROLES_CLAIM);
-            return roles != null ? roles : List.of();
-        }
-        return List.of();
+        return toAuthorities(FlowClaims.from(jwt));
     }
 
-    private List<String> getResourceRoles(Jwt jwt) {
-        Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
-        if (resourceAccess == null) {
+    /**
+     * Convert the realm and resource roles of parsed flow claims to GrantedAuthority with ROLE_ prefix
+     */
+    public Collection<GrantedAuthority> toAuthorities(FlowClaims flowClaims) {
+        Set<String> roles = flowClaims.getRoles();
+        if (roles.isEmpty()) {
             return List.of();
         }
-
-        return resourceAccess.values().stream()
-            .map(this::extractRolesFromResource)
-            .flatMap(Collection::stream)
+        Collection<GrantedAuthority> authorities = authoritiesByRoles.get(roles);
+        if (authorities != null) {
+            return authorities;
+        }
+        authorities = roles.stream()
+            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+            .map(GrantedAuthority.class::cast)
             .toList();
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<String> extractRolesFromResource(Object resource) {
-        if (resource instanceof Map) {
-            Map<?, ?> resourceMap = (Map<?, ?>) resource;
-            Object roles = resourceMap.get(ROLES_CLAIM);
-            if (roles instanceof List) {
-                return (List<String>) roles;
-            }
+        if (authoritiesByRoles.size() >= MAX_CACHED_ROLE_SETS) {
+            return authorities;
         }
-        return List.of();
+        // The claims' role set is immutable, so it can serve as the key
+        Collection<GrantedAuthority> existing = authoritiesByRoles.putIfAbsent(roles, authorities);
+        return existing != null ? existing : authorities;
     }
 
-    private List<String> combineRoles(List<String> realmRoles, List<String> resourceRoles) {
-        return java.util.stream.Stream.concat(
-            realmRoles.stream(),
-            resourceRoles.stream()
-        ).toList();
+    int cachedRoleSets() {
+        return authoritiesByRoles.size();
     }
 }
@@ -0,0 +1,26 @@
+package org.opendevstack.apiservice.core.config;
+
+import org.opendevstack.apiservice.core.security.FlowClaims;
+import org.opendevstack.apiservice.core.security.FlowClaimsAuthenticationToken;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Converts a validated JWT into an authentication that carries its parsed {@link FlowClaims}
+ * Claims are read once here; authorities are derived from the parsed roles
+ */
+public class FlowClaimsAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+
+    private final CustomRoleConverter roleConverter;
+
+    public FlowClaimsAuthenticationConverter(CustomRoleConverter roleConverter) {
+        this.roleConverter = roleConverter;
+    }
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        FlowClaims flowClaims = FlowClaims.from(jwt);
+        return new FlowClaimsAuthenticationToken(jwt, roleConverter.toAuthorities(flowClaims), jwt.getSubject(), flowClaims);
+    }
+}
@@ -33,6 +33,22 @@ public class OnBehalfOfProperties {
         private List<String> supportedSubjectTokenTypes;
         private String requestedTokenType = "urn:ietf:params:oauth:token-type:access_token";
         private String defaultAudience;
+        /** Token endpoint performing the exchange; falls back to provider.settings.generic.token-exchange-url */
+        private String tokenEndpoint;
+        private String clientId;
+        private String clientSecret;
+        private Cache cache = new Cache();
+
+        @Getter
+        @Setter
+        public static class Cache {
+            /** Maximum number of exchanged tokens kept */
+            private int maxSize = 10000;
+            /** Exchanged tokens are no longer handed out this long before they expire */
+            private long expirySkewSeconds = 30;
+            /** Tokens in use are exchanged again in the background this long before they expire */
+            private long refreshAheadSeconds = 60;
+        }
     }
 
     @Getter
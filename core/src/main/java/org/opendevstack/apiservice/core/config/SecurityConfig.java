@@ -1,17 +1,41 @@
 package org.opendevstack.apiservice.core.config;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.nimbusds.jwt.proc.JWTProcessor;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+import org.springframework.security.oauth2.server.resource.introspection.SpringOpaqueTokenIntrospector;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
@@ -22,10 +46,13 @@ public class SecurityConfig {
     
     private final SecurityProperties securityProperties;
     private final FlowProperties flowProperties;
+    private final OnBehalfOfProperties onBehalfOfProperties;
 
-    public SecurityConfig(SecurityProperties securityProperties, FlowProperties flowProperties) {
+    public SecurityConfig(SecurityProperties securityProperties, FlowProperties flowProperties,
+                          @Qualifier("onBehalfOfProperties") OnBehalfOfProperties onBehalfOfProperties) {
         this.securityProperties = securityProperties;
         this.flowProperties = flowProperties;
+        this.onBehalfOfProperties = onBehalfOfProperties;
     }
 
     @Bean
@@ -44,11 +71,18 @@ public class SecurityConfig {
                 // All other requests require authentication
                 authz.anyRequest().authenticated();
             })
-            .oauth2ResourceServer(oauth2 -> 
-                oauth2.jwt(jwt -> jwt
-                    .jwtAuthenticationConverter(jwtAuthenticationConverter())
-                )
-            )
+            .oauth2ResourceServer(oauth2 -> {
+                if (securityProperties.getIntrospection().isEnabled()) {
+                    oauth2.opaqueToken(opaqueToken -> opaqueToken
+                        .introspector(opaqueTokenIntrospector())
+                        .authenticationConverter(introspectedTokenConverter())
+                    );
+                } else {
+                    oauth2.jwt(jwt -> jwt
+                        .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                    );
+                }
+            })
             .headers(headers -> headers.frameOptions(frame -> frame.disable()))
             .csrf(csrf -> csrf.disable());
 
@@ -88,10 +122,9 @@ public class SecurityConfig {
     }
 
     @Bean
-    public JwtAuthenticationConverter jwtAuthenticationConverter() {
-        JwtAuthenticationConverter authenticationConverter = new JwtAuthenticationConverter();
-        authenticationConverter.setJwtGrantedAuthoritiesConverter(new CustomRoleConverter());
-        return authenticationConverter;
+    public FlowClaimsAuthenticationConverter jwtAuthenticationConverter() {
+        // Parses the flow claims once and attaches them to the authentication
+        return new FlowClaimsAuthenticationConverter(customRoleConverter());
     }
 
     @Bean
@@ -99,6 +132,66 @@ public class SecurityConfig {
         return new CustomRoleConverter();
     }
 
+    @Bean
+    public MeterBinder jwtDecoderCacheMetrics(JwtDecoder jwtDecoder) {
+        return registry -> {
+            if (jwtDecoder instanceof CachingJwtDecoder cachingJwtDecoder) {
+                cachingJwtDecoder.bindTo(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder introspectionCacheMetrics(ObjectProvider<OpaqueTokenIntrospector> introspector) {
+        return registry -> {
+            if (introspector.getIfAvailable() instanceof CachingOpaqueTokenIntrospector cachingIntrospector) {
+                cachingIntrospector.bindTo(registry);
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.security.introspection", name = "enabled", havingValue = "true")
+    public OpaqueTokenIntrospector opaqueTokenIntrospector() {
+        String introspectionEndpoint = onBehalfOfProperties.getSecurity().getIntrospectionEndpoint();
+        if (!StringUtils.hasText(introspectionEndpoint)) {
+            throw new IllegalStateException(
+                "Token introspection is enabled but no introspection endpoint is configured. " +
+                "Please set app.on-behalf-of.security.introspection-endpoint in your configuration."
+            );
+        }
+
+        SecurityProperties.Introspection introspection = securityProperties.getIntrospection();
+        OpaqueTokenIntrospector introspector = SpringOpaqueTokenIntrospector.withIntrospectionUri(introspectionEndpoint)
+            .clientId(introspection.getClientId())
+            .clientSecret(introspection.getClientSecret())
+            .build();
+        if (introspection.getCacheMaxSize() <= 0) {
+            return introspector;
+        }
+        return new CachingOpaqueTokenIntrospector(introspector, introspection.getCacheMaxSize(),
+            Duration.ofSeconds(introspection.getCacheMaxTtlSeconds()),
+            Duration.ofSeconds(introspection.getNegativeCacheTtlSeconds()));
+    }
+
+    /**
+     * Presents the introspected claims as a JWT, so that flow claims and roles are read the same
+     * way for opaque tokens as for JWTs. The introspector returns {@code scope} as a list, it is
+     * joined back into the space-separated string a JWT carries.
+     */
+    OpaqueTokenAuthenticationConverter introspectedTokenConverter() {
+        FlowClaimsAuthenticationConverter converter = jwtAuthenticationConverter();
+        return (introspectedToken, principal) -> converter.convert(Jwt.withTokenValue(introspectedToken)
+            .header("alg", "none")
+            .claims(claims -> {
+                claims.putAll(principal.getAttributes());
+                if (claims.get("scope") instanceof Collection<?> scopes) {
+                    claims.put("scope", scopes.stream().map(String::valueOf).collect(Collectors.joining(" ")));
+                }
+            })
+            .build());
+    }
+
     @Bean
     public JwtDecoder jwtDecoder() {
         // For development: use a lenient decoder when JWT validation is disabled
@@ -168,7 +261,13 @@ public class SecurityConfig {
 
     private JwtDecoder createValidatingJwtDecoder() {
         if (securityProperties.getJwkSetUri() != null && !securityProperties.getJwkSetUri().isEmpty()) {
-            return NimbusJwtDecoder.withJwkSetUri(securityProperties.getJwkSetUri()).build();
+            JwtDecoder decoder = new NimbusJwtDecoder(createJwtProcessor(securityProperties.getJwkSetUri()));
+
+            SecurityProperties.JwtCache jwtCache = securityProperties.getJwtCache();
+            if (jwtCache.getMaxSize() <= 0) {
+                return decoder;
+            }
+            return new CachingJwtDecoder(decoder, jwtCache.getMaxSize(), Duration.ofSeconds(jwtCache.getMaxTtlSeconds()));
         }
         
         throw new IllegalStateException(
@@ -176,4 +275,43 @@ public class SecurityConfig {
             "Please set app.security.jwk-set-uri in your configuration."
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies RS256 signatures against the JWK set, which is cached and refreshed in the background
+     * before it expires. Claims are validated by NimbusJwtDecoder, as with NimbusJwtDecoder.withJwkSetUri.
+     */
+    private JWTProcessor<SecurityContext> createJwtProcessor(String jwkSetUri) {
+        SecurityProperties.JwkSet jwkSet = securityProperties.getJwkSet();
+        JWKSource<SecurityContext> jwkSource;
+        try {
+            jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(TimeUnit.SECONDS.toMillis(jwkSet.getCacheTtlSeconds()),
+                    TimeUnit.SECONDS.toMillis(jwkSet.getRefreshTimeoutSeconds()))
+                .refreshAheadCache(TimeUnit.SECONDS.toMillis(jwkSet.getRefreshAheadSeconds()), true)
+                .build();
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWK Set URI: " + jwkSetUri, e);
+        }
+
+        if (jwkSet.isPrefetch()) {
+            prefetchJwkSet(jwkSource, jwkSetUri);
+        }
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+            // Claims are validated by NimbusJwtDecoder's OAuth2TokenValidator
+        });
+        return jwtProcessor;
+    }
+
+    private void prefetchJwkSet(JWKSource<SecurityContext> jwkSource, String jwkSetUri) {
+        try {
+            int keys = jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+            log.info("Fetched {} keys from JWK Set URI {}", keys, jwkSetUri);
+        } catch (KeySourceException e) {
+            // Not fatal: the JWK set is fetched again on the first request
+            log.warn("Failed to prefetch JWK set from {}: {}", jwkSetUri, e.getMessage());
+        }
+    }
+}
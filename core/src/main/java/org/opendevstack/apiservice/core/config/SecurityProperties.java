@@ -20,6 +20,21 @@ public class SecurityProperties {
     private String audience;
     private String jwkSetUri;
 
+    /**
+     * Cache of validated JWTs in front of the validating decoder
+     */
+    private JwtCache jwtCache = new JwtCache();
+
+    /**
+     * Caching and refresh of the JWK set used to verify token signatures
+     */
+    private JwkSet jwkSet = new JwkSet();
+
+    /**
+     * Introspection of opaque tokens, used instead of JWT decoding when enabled
+     */
+    private Introspection introspection = new Introspection();
+
     /**
      * Map of endpoint patterns to required roles
      * Format: pattern -> list of roles
@@ -35,4 +50,41 @@ public class SecurityProperties {
         "/actuator/info",
         "/h2-console/**"
     };
+
+    @Getter
+    @Setter
+    public static class JwtCache {
+        /** Maximum number of validated tokens kept; 0 disables the cache */
+        private int maxSize = 10000;
+        /** Upper bound for caching a token, even if it expires later */
+        private long maxTtlSeconds = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class JwkSet {
+        /** How long a fetched JWK set is used */
+        private long cacheTtlSeconds = 300;
+        /** How long before expiry the JWK set is refreshed in the background */
+        private long refreshAheadSeconds = 30;
+        /** How long a request waits for a JWK set refresh by another request */
+        private long refreshTimeoutSeconds = 15;
+        /** Fetch the JWK set at startup so that the first request does not wait for the identity provider */
+        private boolean prefetch = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Introspection {
+        /** Accept opaque tokens, introspected at app.on-behalf-of.security.introspection-endpoint */
+        private boolean enabled = false;
+        private String clientId;
+        private String clientSecret;
+        /** Maximum number of introspection results kept; 0 disables the cache */
+        private int cacheMaxSize = 10000;
+        /** Upper bound for caching an active token, even if it expires later */
+        private long cacheMaxTtlSeconds = 300;
+        /** How long tokens reported as inactive are rejected without asking the identity provider again */
+        private long negativeCacheTtlSeconds = 10;
+    }
 }
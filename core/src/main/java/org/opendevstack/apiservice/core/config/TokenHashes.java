@@ -0,0 +1,27 @@
+package org.opendevstack.apiservice.core.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes bearer tokens for use as cache keys, so that caches do not hold the tokens themselves
+ */
+final class TokenHashes {
+
+    private TokenHashes() {
+    }
+
+    /**
+     * @return the hex encoded SHA-256 hash of the token
+     */
+    static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
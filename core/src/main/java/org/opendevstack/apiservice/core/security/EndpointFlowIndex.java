@@ -0,0 +1,153 @@
+package org.opendevstack.apiservice.core.security;
+
+import org.opendevstack.apiservice.core.config.FlowProperties;
+import org.opendevstack.apiservice.core.config.FlowProperties.EndpointFlow;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Endpoint flow configuration compiled for lookup by request path.
+ * Exact patterns are kept in a hash map and {@code /**} patterns in a trie of path segments, so a
+ * lookup costs one hash probe plus one step per path segment regardless of the number of patterns.
+ * The most specific pattern wins: an exact pattern over any wildcard, and otherwise the wildcard
+ * with the longest base path. For equal patterns the first one configured wins.
+ * A {@code /**} suffix is the only wildcard supported.
+ */
+final class EndpointFlowIndex {
+
+    static final EndpointFlowIndex EMPTY = new EndpointFlowIndex(null);
+
+    private static final String WILDCARD_SUFFIX = "/**";
+
+    /** The configuration this index was compiled from, used to detect a rebound configuration. */
+    private final Map<String, FlowProperties.ApiFlows> source;
+    private final Map<String, CompiledEndpointFlow> exact = new HashMap<>();
+    private final Node wildcards = new Node();
+
+    private EndpointFlowIndex(Map<String, FlowProperties.ApiFlows> source) {
+        this.source = source;
+    }
+
+    /**
+     * Compiles the endpoint flows of all APIs.
+     *
+     * @throws IllegalStateException if an endpoint flow has no pattern or a wildcard other than a {@code /**} suffix
+     */
+    static EndpointFlowIndex compile(Map<String, FlowProperties.ApiFlows> apis) {
+        EndpointFlowIndex index = new EndpointFlowIndex(apis);
+        if (apis == null) {
+            return index;
+        }
+        for (Map.Entry<String, FlowProperties.ApiFlows> api : apis.entrySet()) {
+            if (api.getValue().getEndpoints() == null) {
+                continue;
+            }
+            for (EndpointFlow endpointFlow : api.getValue().getEndpoints()) {
+                String pattern = endpointFlow.getPattern();
+                if (pattern == null || pattern.isBlank()) {
+                    throw new IllegalStateException("Endpoint flow of API '" + api.getKey() + "' has no pattern");
+                }
+                String base = pattern.endsWith(WILDCARD_SUFFIX)
+                        ? pattern.substring(0, pattern.length() - WILDCARD_SUFFIX.length()) : pattern;
+                if (base.contains("*")) {
+                    throw new IllegalStateException("Endpoint flow pattern '" + pattern + "' of API '" + api.getKey()
+                            + "' is not supported, only a trailing " + WILDCARD_SUFFIX + " may be used as wildcard");
+                }
+                CompiledEndpointFlow compiled = new CompiledEndpointFlow(endpointFlow);
+                if (pattern.endsWith(WILDCARD_SUFFIX)) {
+                    Node node = index.wildcards;
+                    for (String segment : base.split("/")) {
+                        if (!segment.isEmpty()) {
+                            node = node.children.computeIfAbsent(segment, s -> new Node());
+                        }
+                    }
+                    if (node.flow == null) {
+                        node.flow = compiled;
+                    }
+                } else {
+                    index.exact.putIfAbsent(pattern, compiled);
+                }
+            }
+        }
+        return index;
+    }
+
+    boolean isCompiledFrom(Map<String, FlowProperties.ApiFlows> apis) {
+        return source == apis;
+    }
+
+    /**
+     * Finds the most specific flow configuration for an endpoint.
+     *
+     * @return the compiled flow, or {@code null} if no pattern matches
+     */
+    CompiledEndpointFlow find(String endpoint) {
+        CompiledEndpointFlow match = exact.get(endpoint);
+        if (match != null) {
+            return match;
+        }
+        Node node = wildcards;
+        match = node.flow;
+        int start = 0;
+        while (start < endpoint.length()) {
+            int end = endpoint.indexOf('/', start);
+            if (end < 0) {
+                end = endpoint.length();
+            }
+            if (end > start) {
+                node = node.children.get(endpoint.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.flow != null) {
+                    match = node.flow;
+                }
+            }
+            start = end + 1;
+        }
+        return match;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private CompiledEndpointFlow flow;
+    }
+
+    /**
+     * An endpoint flow with its requirements precomputed for repeated validation.
+     */
+    record CompiledEndpointFlow(EndpointFlow endpointFlow, Set<String> flows, Set<FlowType> flowTypes,
+                                Set<String> requiredScopes, String flowsError, String scopesError) {
+
+        CompiledEndpointFlow(EndpointFlow endpointFlow) {
+            this(endpointFlow, copyOf(endpointFlow.getFlows()), flowTypesOf(endpointFlow.getFlows()),
+                    copyOf(endpointFlow.getRequiredScopes()),
+                    "Token does not match required flows: " + endpointFlow.getFlows(),
+                    "Token missing required scopes: " + endpointFlow.getRequiredScopes());
+        }
+
+        private static Set<String> copyOf(List<String> values) {
+            return values == null ? Set.of() : Set.copyOf(values);
+        }
+
+        /**
+         * Known flow types among the configured flows; unknown flow names can never be satisfied
+         */
+        private static Set<FlowType> flowTypesOf(List<String> values) {
+            Set<FlowType> flowTypes = EnumSet.noneOf(FlowType.class);
+            if (values != null) {
+                for (String value : values) {
+                    FlowType flowType = FlowType.fromValue(value);
+                    if (flowType != null) {
+                        flowTypes.add(flowType);
+                    }
+                }
+            }
+            return Set.copyOf(flowTypes);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package org.opendevstack.apiservice.core.security;
+
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flow related claims of a JWT, parsed once during authentication
+ * Security checks read scopes, flows, actor, delegation depth and roles from this snapshot
+ * instead of reading the raw claims again
+ */
+@Getter
+public final class FlowClaims implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String ROLES_CLAIM = "roles";
+
+    private final Set<String> scopes;
+    private final Set<FlowType> flows;
+    private final String actor;
+    private final int delegationDepth;
+    private final Set<String> roles;
+
+    private FlowClaims(Set<String> scopes, Set<FlowType> flows, String actor, int delegationDepth, Set<String> roles) {
+        this.scopes = scopes;
+        this.flows = flows;
+        this.actor = actor;
+        this.delegationDepth = delegationDepth;
+        this.roles = roles;
+    }
+
+    /**
+     * Parse the flow claims of a token
+     */
+    public static FlowClaims from(Jwt jwt) {
+        String scope = jwt.getClaimAsString("scope");
+        Set<String> scopes = scope == null || scope.isEmpty() ? Set.of() : Set.copyOf(Arrays.asList(scope.split(" ")));
+
+        String actor = jwt.getClaimAsString("actor");
+        if (actor != null && actor.isEmpty()) {
+            actor = null;
+        }
+
+        Number depth = jwt.getClaim("delegation_depth");
+
+        Set<FlowType> flows = EnumSet.noneOf(FlowType.class);
+        if ("Bearer".equals(jwt.getClaimAsString("token_type"))) {
+            // Authorization code tokens appear as Bearer tokens
+            flows.add(FlowType.AUTHORIZATION_CODE);
+        }
+        if ("client_credentials".equals(jwt.getClaimAsString("grant_type"))) {
+            flows.add(FlowType.CLIENT_CREDENTIALS);
+        }
+        if (actor != null || (scope != null && (scope.contains("on-behalf-of") || scope.contains("delegated_access")))) {
+            flows.add(FlowType.ON_BEHALF_OF);
+        }
+
+        return new FlowClaims(scopes, Collections.unmodifiableSet(flows), actor, depth != null ? depth.intValue() : 0, extractRoles(jwt));
+    }
+
+    /**
+     * Flow claims of an authentication: the snapshot attached during JWT authentication, or parsed
+     * from the JWT principal if the authentication was created elsewhere
+     *
+     * @return the flow claims, or {@code null} if the principal is not a JWT
+     */
+    public static FlowClaims of(Authentication authentication) {
+        if (authentication instanceof FlowClaimsAuthenticationToken token) {
+            return token.getFlowClaims();
+        }
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return from(jwt);
+        }
+        return null;
+    }
+
+    public boolean hasFlow(FlowType flowType) {
+        return flows.contains(flowType);
+    }
+
+    public boolean hasActor() {
+        return actor != null;
+    }
+
+    public boolean hasScope(String scope) {
+        return scopes.contains(scope);
+    }
+
+    /**
+     * The detected flow, preferring On-Behalf-Of over client credentials over authorization code
+     *
+     * @return the flow type, or {@code null} if no flow was detected
+     */
+    public FlowType getFlowType() {
+        if (flows.contains(FlowType.ON_BEHALF_OF)) {
+            return FlowType.ON_BEHALF_OF;
+        }
+        if (flows.contains(FlowType.CLIENT_CREDENTIALS)) {
+            return FlowType.CLIENT_CREDENTIALS;
+        }
+        return flows.contains(FlowType.AUTHORIZATION_CODE) ? FlowType.AUTHORIZATION_CODE : null;
+    }
+
+    /**
+     * Realm roles (Keycloak/Auth0 standard) followed by the client specific resource roles
+     */
+    private static Set<String> extractRoles(Jwt jwt) {
+        List<String> roles = new ArrayList<>();
+        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
+        if (realmAccess != null) {
+            addRoles(realmAccess.get(ROLES_CLAIM), roles);
+        }
+        Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
+        if (resourceAccess != null) {
+            for (Object resource : resourceAccess.values()) {
+                if (resource instanceof Map<?, ?> resourceMap) {
+                    addRoles(resourceMap.get(ROLES_CLAIM), roles);
+                }
+            }
+        }
+        return roles.isEmpty() ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(roles));
+    }
+
+    private static void addRoles(Object claim, List<String> roles) {
+        if (claim instanceof Collection<?> values) {
+            for (Object value : values) {
+                if (value != null) {
+                    roles.add(value.toString());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.opendevstack.apiservice.core.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.Collection;
+
+/**
+ * JWT authentication carrying the {@link FlowClaims} parsed when the token was authenticated
+ */
+public class FlowClaimsAuthenticationToken extends JwtAuthenticationToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FlowClaims flowClaims;
+
+    public FlowClaimsAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities,
+                                         String name, FlowClaims flowClaims) {
+        super(jwt, authorities, name);
+        this.flowClaims = flowClaims;
+    }
+
+    public FlowClaims getFlowClaims() {
+        return flowClaims;
+    }
+}
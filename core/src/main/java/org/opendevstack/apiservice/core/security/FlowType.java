@@ -0,0 +1,38 @@
+package org.opendevstack.apiservice.core.security;
+
+/**
+ * OAuth2 flows that can be required for an endpoint
+ */
+public enum FlowType {
+
+    AUTHORIZATION_CODE("authorization-code"),
+    CLIENT_CREDENTIALS("client-credentials"),
+    ON_BEHALF_OF("on-behalf-of");
+
+    private final String value;
+
+    FlowType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Flow name as used in configuration and in {@link RequireFlow#value()}
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Resolve a configured flow name
+     *
+     * @return the flow type, or {@code null} for an unknown name
+     */
+    public static FlowType fromValue(String value) {
+        for (FlowType flowType : values()) {
+            if (flowType.value.equals(value)) {
+                return flowType;
+            }
+        }
+        return null;
+    }
+}
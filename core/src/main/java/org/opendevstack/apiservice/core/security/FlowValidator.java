@@ -2,34 +2,49 @@ package org.opendevstack.apiservice.core.security;
 
 import org.opendevstack.apiservice.core.config.FlowProperties;
 import org.opendevstack.apiservice.core.config.FlowProperties.EndpointFlow;
+import org.opendevstack.apiservice.core.security.EndpointFlowIndex.CompiledEndpointFlow;
 import lombok.Getter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Validates OAuth2 flows for endpoints
  * Checks if authenticated token meets the required flow criteria
  */
 @Component
-public class FlowValidator {
+public class FlowValidator implements InitializingBean {
 
     private final FlowProperties flowProperties;
 
+    /**
+     * Endpoint flows compiled from {@link FlowProperties#getApis()} at startup. Recompiled when the
+     * configuration is rebound, which replaces the map.
+     */
+    private volatile EndpointFlowIndex endpointFlows = EndpointFlowIndex.EMPTY;
+
     public FlowValidator(FlowProperties flowProperties) {
         this.flowProperties = flowProperties;
     }
 
+    /**
+     * Compiles the endpoint flow configuration, so that an invalid configuration fails at startup.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        endpointFlows = EndpointFlowIndex.compile(flowProperties.getApis());
+    }
+
     /**
      * Validate if current token meets flow requirements for an endpoint
      */
     public ValidationResult validateEndpointFlow(String endpointPattern) {
-        EndpointFlow endpointFlow = findEndpointFlow(endpointPattern);
-        if (endpointFlow == null) {
+        CompiledEndpointFlow compiled = findEndpointFlow(endpointPattern);
+        if (compiled == null) {
             // No specific flow configuration, use global defaults
             return ValidationResult.success();
         }
@@ -39,6 +54,7 @@ public class FlowValidator {
             return ValidationResult.failure("No authentication");
         }
 
+        EndpointFlow endpointFlow = compiled.endpointFlow();
         ValidationResult result = new ValidationResult();
 
         // Check if authentication is required
@@ -47,26 +63,24 @@ public class FlowValidator {
         }
 
         // Check if token is present
-        if (authentication.getPrincipal() instanceof Jwt jwt) {
+        FlowClaims claims = FlowClaims.of(authentication);
+        if (claims != null) {
             // Validate required flows
-            if (endpointFlow.getFlows() != null && !endpointFlow.getFlows().isEmpty()) {
-                boolean hasRequiredFlow = validateFlows(endpointFlow.getFlows(), jwt);
+            if (!compiled.flows().isEmpty()) {
+                boolean hasRequiredFlow = validateFlows(compiled.flowTypes(), claims);
                 if (!hasRequiredFlow) {
-                    result.addError("Token does not match required flows: " + endpointFlow.getFlows());
+                    result.addError(compiled.flowsError());
                 }
             }
 
             // Validate actor requirement (for On-Behalf-Of)
-            if (endpointFlow.isRequireActor()) {
-                boolean hasActor = validateActorClaim(jwt);
-                if (!hasActor) {
-                    result.addError("Token must have actor claim (On-Behalf-Of flow required)");
-                }
+            if (endpointFlow.isRequireActor() && !claims.hasActor()) {
+                result.addError("Token must have actor claim (On-Behalf-Of flow required)");
             }
 
             // Validate delegation depth
             if (endpointFlow.getRequireDelegationDepth() > 0) {
-                int currentDepth = getDelegationDepth(jwt);
+                int currentDepth = claims.getDelegationDepth();
                 if (currentDepth < endpointFlow.getRequireDelegationDepth()) {
                     result.addError("Insufficient delegation depth. Required: " +
                         endpointFlow.getRequireDelegationDepth() + ", Actual: " + currentDepth);
@@ -74,11 +88,8 @@ public class FlowValidator {
             }
 
             // Validate required scopes
-            if (endpointFlow.getRequiredScopes() != null && !endpointFlow.getRequiredScopes().isEmpty()) {
-                boolean hasRequiredScopes = validateScopes(endpointFlow.getRequiredScopes(), jwt);
-                if (!hasRequiredScopes) {
-                    result.addError("Token missing required scopes: " + endpointFlow.getRequiredScopes());
-                }
+            if (!compiled.requiredScopes().isEmpty() && !claims.getScopes().containsAll(compiled.requiredScopes())) {
+                result.addError(compiled.scopesError());
             }
         }
 
@@ -86,117 +97,30 @@ public class FlowValidator {
     }
 
     /**
-     * Find flow configuration for an endpoint
-     */
-    private EndpointFlow findEndpointFlow(String endpointPattern) {
-        if (flowProperties.getApis() == null) {
-            return null;
-        }
-
-        // Check each API's endpoints
-        for (Map.Entry<String, FlowProperties.ApiFlows> apiEntry : flowProperties.getApis().entrySet()) {
-            FlowProperties.ApiFlows apiFlows = apiEntry.getValue();
-            if (apiFlows.getEndpoints() != null) {
-                // Check if pattern matches
-                for (EndpointFlow endpointFlow : apiFlows.getEndpoints()) {
-                    String pattern = endpointFlow.getPattern();
-                    if (pattern != null && matchesPattern(endpointPattern, pattern)) {
-                        return endpointFlow;
-                    }
-                }
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Simple pattern matching (supports wildcards like /**)
+     * Find the most specific flow configuration for an endpoint
      */
-    private boolean matchesPattern(String endpoint, String pattern) {
-        if (pattern.endsWith("/**")) {
-            String basePattern = pattern.substring(0, pattern.length() - 3);
-            return endpoint.startsWith(basePattern);
+    private CompiledEndpointFlow findEndpointFlow(String endpointPattern) {
+        EndpointFlowIndex index = endpointFlows;
+        Map<String, FlowProperties.ApiFlows> apis = flowProperties.getApis();
+        if (!index.isCompiledFrom(apis)) {
+            index = EndpointFlowIndex.compile(apis);
+            endpointFlows = index;
         }
-        return endpoint.equals(pattern);
+        return index.find(endpointPattern);
     }
 
     /**
      * Validate if token has one of the required flows
      */
-    private boolean validateFlows(List<String> requiredFlows, Jwt jwt) {
-        // Get flow from token claims or scopes
-        String scope = jwt.getClaimAsString("scope");
-        String grantType = jwt.getClaimAsString("grant_type");
-
-        for (String requiredFlow : requiredFlows) {
-            // Check if flow matches
-            if ("authorization-code".equals(requiredFlow)) {
-                if ("Bearer".equals(jwt.getClaimAsString("token_type"))) {
-                    return true; // Authorization code tokens appear as Bearer tokens
-                }
-            } else if ("client-credentials".equals(requiredFlow)) {
-                if ("client_credentials".equals(grantType)) {
-                    return true;
-                }
-            } else if ("on-behalf-of".equals(requiredFlow)) {
-                // Check for actor claim (indicates OBO flow)
-                String actor = jwt.getClaimAsString("actor");
-                if (actor != null && !actor.isEmpty()) {
-                    return true;
-                }
-                // Or check scope
-                if (scope != null && (scope.contains("on-behalf-of") || scope.contains("delegated_access"))) {
-                    return true;
-                }
+    private boolean validateFlows(Set<FlowType> requiredFlows, FlowClaims claims) {
+        for (FlowType requiredFlow : requiredFlows) {
+            if (claims.hasFlow(requiredFlow)) {
+                return true;
             }
         }
-
         return false;
     }
 
-    /**
-     * Validate actor claim for On-Behalf-Of flow
-     */
-    private boolean validateActorClaim(Jwt jwt) {
-        String actor = jwt.getClaimAsString("actor");
-        return actor != null && !actor.isEmpty();
-    }
-
-    /**
-     * Get delegation depth from token
-     */
-    private int getDelegationDepth(Jwt jwt) {
-        Number depth = jwt.getClaim("delegation_depth");
-        return depth != null ? depth.intValue() : 0;
-    }
-
-    /**
-     * Validate required scopes
-     */
-    private boolean validateScopes(List<String> requiredScopes, Jwt jwt) {
-        String scope = jwt.getClaimAsString("scope");
-        if (scope == null || scope.isEmpty()) {
-            return false;
-        }
-
-        String[] tokenScopes = scope.split(" ");
-        for (String requiredScope : requiredScopes) {
-            boolean found = false;
-            for (String tokenScope : tokenScopes) {
-                if (requiredScope.equals(tokenScope)) {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-
     /**
      * Validation result for flow checks
      */
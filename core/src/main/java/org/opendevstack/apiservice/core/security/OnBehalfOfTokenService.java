@@ -0,0 +1,383 @@
+package org.opendevstack.apiservice.core.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.opendevstack.apiservice.core.config.OnBehalfOfProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Exchanges the caller's token for a delegated token of a downstream service (OAuth2 token exchange,
+ * On-Behalf-Of flow), as configured in {@link OnBehalfOfProperties}
+ *
+ * Exchanged tokens are cached per subject, client, audience and scopes until shortly before they expire.
+ * Concurrent exchanges for the same key share one request to the identity provider, and tokens that
+ * were used are exchanged again in the background before they expire, so that callers do not wait
+ * for the identity provider on every downstream call.
+ */
+@Component
+public class OnBehalfOfTokenService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OnBehalfOfTokenService.class);
+
+    private static final String ACCESS_TOKEN_TYPE = "urn:ietf:params:oauth:token-type:access_token";
+
+    private final OnBehalfOfProperties properties;
+    private final RestTemplate restTemplate;
+    private final Clock clock;
+
+    private final Map<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("obo-token-refresh").daemon().factory());
+
+    @Autowired
+    public OnBehalfOfTokenService(@Qualifier("onBehalfOfProperties") OnBehalfOfProperties properties,
+            RestTemplateBuilder restTemplateBuilder) {
+        this(properties, restTemplateBuilder.build(), Clock.systemUTC());
+    }
+
+    OnBehalfOfTokenService(OnBehalfOfProperties properties, RestTemplate restTemplate, Clock clock) {
+        this.properties = properties;
+        this.restTemplate = restTemplate;
+        this.clock = clock;
+    }
+
+    /**
+     * Exchange the token of the current authentication for a token of the given audience
+     *
+     * @param audience the downstream service; the configured default audience if {@code null}
+     * @param scopes the scopes requested for the downstream service
+     * @return the delegated token
+     * @throws TokenExchangeException if there is no JWT authentication or the exchange fails
+     */
+    public ExchangedToken exchangeForCurrentUser(String audience, Collection<String> scopes) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            throw new TokenExchangeException("On-Behalf-Of exchange requires a JWT authentication");
+        }
+        return exchange(jwt, audience, scopes);
+    }
+
+    /**
+     * Exchange a subject token for a token of the given audience
+     *
+     * @param subjectToken the validated token of the caller
+     * @param audience the downstream service; the configured default audience if {@code null}
+     * @param scopes the scopes requested for the downstream service
+     * @return the delegated token, from the cache if a usable one exists
+     * @throws TokenExchangeException if delegation is not allowed or the exchange fails
+     */
+    public ExchangedToken exchange(Jwt subjectToken, String audience, Collection<String> scopes) {
+        if (!properties.isEnabled()) {
+            throw new TokenExchangeException("On-Behalf-Of token exchange is disabled");
+        }
+        String targetAudience = audience != null ? audience : properties.getTokenExchange().getDefaultAudience();
+        Set<String> requestedScopes = scopes == null ? Set.of() : Set.copyOf(new TreeSet<>(scopes));
+        checkDelegationAllowed(subjectToken, targetAudience, requestedScopes);
+
+        CacheKey key = new CacheKey(subjectToken.getSubject(), clientOf(subjectToken), targetAudience, requestedScopes);
+        Instant now = clock.instant();
+        Entry created = new Entry(subjectToken);
+        Entry entry = cache.compute(key, (k, existing) -> {
+            if (existing != null && existing.isUsable(now, expirySkew())) {
+                existing.touch(subjectToken);
+                return existing;
+            }
+            return created;
+        });
+
+        if (entry != created) {
+            return join(entry.token);
+        }
+
+        try {
+            ExchangedToken token = requestToken(subjectToken, key);
+            entry.token.complete(token);
+            scheduleRefresh(key, entry, token);
+            evictIfFull();
+            return token;
+        } catch (RuntimeException e) {
+            cache.remove(key, entry);
+            entry.token.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of cached or in-flight exchanges
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private void checkDelegationAllowed(Jwt subjectToken, String audience, Set<String> scopes) {
+        if (!StringUtils.hasText(audience)) {
+            throw new TokenExchangeException("No audience given and no default audience configured");
+        }
+        FlowClaims claims = FlowClaims.from(subjectToken);
+        if (properties.getSecurity().isRequireActorClaim() && !claims.hasActor()) {
+            throw new TokenExchangeException("Subject token must have an actor claim");
+        }
+
+        Map<String, OnBehalfOfProperties.Delegation.ServiceDelegation> rules = properties.getDelegation().getRules();
+        String client = clientOf(subjectToken);
+        OnBehalfOfProperties.Delegation.ServiceDelegation rule = rules != null && client != null ? rules.get(client) : null;
+        if (rule == null) {
+            return;
+        }
+        if (rule.getCanDelegateTo() != null && !rule.getCanDelegateTo().contains(audience)) {
+            throw new TokenExchangeException("Client '" + client + "' may not delegate to '" + audience + "'");
+        }
+        if (rule.getAllowedScopes() != null && !rule.getAllowedScopes().containsAll(scopes)) {
+            throw new TokenExchangeException("Client '" + client + "' may not delegate scopes " + scopes);
+        }
+        if (claims.getDelegationDepth() >= rule.getMaxDelegationDepth()) {
+            throw new TokenExchangeException("Maximum delegation depth " + rule.getMaxDelegationDepth() + " reached");
+        }
+    }
+
+    private static String clientOf(Jwt jwt) {
+        String client = jwt.getClaimAsString("azp");
+        return client != null ? client : jwt.getClaimAsString("client_id");
+    }
+
+    private ExchangedToken requestToken(Jwt subjectToken, CacheKey key) {
+        OnBehalfOfProperties.TokenExchange tokenExchange = properties.getTokenExchange();
+        String tokenEndpoint = tokenEndpoint();
+
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", tokenExchange.getGrantType());
+        form.add("subject_token", subjectToken.getTokenValue());
+        form.add("subject_token_type", subjectTokenType());
+        form.add("requested_token_type", tokenExchange.getRequestedTokenType());
+        form.add("audience", key.audience());
+        if (!key.scopes().isEmpty()) {
+            form.add("scope", String.join(" ", new TreeSet<>(key.scopes())));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+        if ("client_secret_post".equals(properties.getProvider().getSettings().getGeneric().getClientAuthMethod())) {
+            form.add("client_id", tokenExchange.getClientId());
+            form.add("client_secret", tokenExchange.getClientSecret());
+        } else if (tokenExchange.getClientId() != null) {
+            headers.setBasicAuth(tokenExchange.getClientId(), tokenExchange.getClientSecret());
+        }
+
+        try {
+            ResponseEntity<TokenResponse> response = restTemplate.postForEntity(
+                    tokenEndpoint, new HttpEntity<>(form, headers), TokenResponse.class);
+            TokenResponse body = response.getBody();
+            if (!response.getStatusCode().is2xxSuccessful() || body == null || !StringUtils.hasText(body.accessToken())) {
+                throw new TokenExchangeException("Unexpected token exchange response: " + response.getStatusCode());
+            }
+
+            long lifetime = body.expiresIn() != null ? body.expiresIn() : properties.getFlow().getDelegatedTokenLifetime();
+            Set<String> grantedScopes = body.scope() != null
+                    ? Arrays.stream(body.scope().split(" ")).filter(scope -> !scope.isBlank()).collect(Collectors.toUnmodifiableSet())
+                    : key.scopes();
+            ExchangedToken token = new ExchangedToken(body.accessToken(), body.tokenType(),
+                    clock.instant().plusSeconds(lifetime), grantedScopes);
+            audit(true, key, grantedScopes, null);
+            return token;
+        } catch (RestClientException e) {
+            audit(false, key, key.scopes(), e.getMessage());
+            throw new TokenExchangeException("Token exchange for audience '" + key.audience() + "' failed", e);
+        } catch (TokenExchangeException e) {
+            audit(false, key, key.scopes(), e.getMessage());
+            throw e;
+        }
+    }
+
+    private String tokenEndpoint() {
+        String tokenEndpoint = properties.getTokenExchange().getTokenEndpoint();
+        if (!StringUtils.hasText(tokenEndpoint)) {
+            tokenEndpoint = properties.getProvider().getSettings().getGeneric().getTokenExchangeUrl();
+        }
+        if (!StringUtils.hasText(tokenEndpoint)) {
+            throw new TokenExchangeException("No token endpoint configured for On-Behalf-Of token exchange");
+        }
+        return tokenEndpoint;
+    }
+
+    private String subjectTokenType() {
+        List<String> supported = properties.getTokenExchange().getSupportedSubjectTokenTypes();
+        return supported != null && !supported.isEmpty() ? supported.get(0) : ACCESS_TOKEN_TYPE;
+    }
+
+    private void audit(boolean success, CacheKey key, Set<String> scopes, String error) {
+        OnBehalfOfProperties.Security.AuditLogging audit = properties.getSecurity().getAuditLogging();
+        if (!audit.isEnabled()) {
+            return;
+        }
+        String scopeInfo = audit.isIncludeTokenScope() ? " with scopes " + scopes : "";
+        if (success && audit.isLogSuccessfulExchanges()) {
+            log.info("Exchanged token of '{}' for audience '{}'{}", key.subject(), key.audience(), scopeInfo);
+        } else if (!success && audit.isLogFailedExchanges()) {
+            log.warn("Failed to exchange token of '{}' for audience '{}'{}: {}", key.subject(), key.audience(), scopeInfo, error);
+        }
+    }
+
+    /**
+     * Exchange the token again shortly before it expires, as long as it keeps being used
+     */
+    private void scheduleRefresh(CacheKey key, Entry entry, ExchangedToken token) {
+        Duration refreshAhead = Duration.ofSeconds(properties.getTokenExchange().getCache().getRefreshAheadSeconds());
+        long delayMs = Duration.between(clock.instant(), token.expiresAt().minus(refreshAhead)).toMillis();
+        if (delayMs <= 0) {
+            return;
+        }
+        refresher.schedule(() -> refresh(key, entry), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh(CacheKey key, Entry entry) {
+        if (cache.get(key) != entry || !entry.usedSinceIssued()) {
+            return;
+        }
+        Jwt subjectToken = entry.subjectToken;
+        if (subjectToken.getExpiresAt() != null && !clock.instant().isBefore(subjectToken.getExpiresAt())) {
+            log.debug("Not refreshing token for audience '{}': subject token expired", key.audience());
+            return;
+        }
+        try {
+            ExchangedToken token = requestToken(subjectToken, key);
+            Entry refreshed = new Entry(subjectToken);
+            refreshed.token.complete(token);
+            if (cache.replace(key, entry, refreshed)) {
+                scheduleRefresh(key, refreshed, token);
+            }
+        } catch (RuntimeException e) {
+            // The current token stays cached until it expires; the next call exchanges again
+            log.debug("Background refresh of token for audience '{}' failed: {}", key.audience(), e.getMessage());
+        }
+    }
+
+    private void evictIfFull() {
+        int maxSize = properties.getTokenExchange().getCache().getMaxSize();
+        if (cache.size() <= maxSize) {
+            return;
+        }
+        Instant now = clock.instant();
+        cache.values().removeIf(entry -> !entry.isUsable(now, expirySkew()));
+        if (cache.size() > maxSize) {
+            cache.values().removeIf(entry -> entry.token.isDone());
+        }
+    }
+
+    private Duration expirySkew() {
+        return Duration.ofSeconds(properties.getTokenExchange().getCache().getExpirySkewSeconds());
+    }
+
+    private static ExchangedToken join(CompletableFuture<ExchangedToken> token) {
+        try {
+            return token.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * A delegated token for a downstream service
+     */
+    public record ExchangedToken(String accessToken, String tokenType, Instant expiresAt, Set<String> scopes) {
+    }
+
+    private record CacheKey(String subject, String client, String audience, Set<String> scopes) {
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<ExchangedToken> token = new CompletableFuture<>();
+        /** Latest subject token of the user, used for background refreshes */
+        private volatile Jwt subjectToken;
+        private volatile boolean used;
+
+        private Entry(Jwt subjectToken) {
+            this.subjectToken = subjectToken;
+        }
+
+        void touch(Jwt latestSubjectToken) {
+            if (latestSubjectToken.getExpiresAt() == null || subjectToken.getExpiresAt() == null
+                    || latestSubjectToken.getExpiresAt().isAfter(subjectToken.getExpiresAt())) {
+                subjectToken = latestSubjectToken;
+            }
+            used = true;
+        }
+
+        boolean usedSinceIssued() {
+            return used;
+        }
+
+        boolean isUsable(Instant now, Duration expirySkew) {
+            if (!token.isDone()) {
+                return true;
+            }
+            if (token.isCompletedExceptionally()) {
+                return false;
+            }
+            return now.isBefore(token.join().expiresAt().minus(expirySkew));
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record TokenResponse(@JsonProperty("access_token") String accessToken,
+                         @JsonProperty("token_type") String tokenType,
+                         @JsonProperty("expires_in") Long expiresIn,
+                         @JsonProperty("scope") String scope) {
+    }
+
+    /**
+     * Exception thrown when a token cannot be exchanged
+     */
+    public static class TokenExchangeException extends RuntimeException {
+        public TokenExchangeException(String message) {
+            super(message);
+        }
+
+        public TokenExchangeException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
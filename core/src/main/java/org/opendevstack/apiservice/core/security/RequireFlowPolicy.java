@@ -0,0 +1,99 @@
+package org.opendevstack.apiservice.core.security;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link RequireFlow} annotation compiled for repeated evaluation
+ * Checking a token allocates nothing; error messages are only built for tokens that fail
+ */
+final class RequireFlowPolicy {
+
+    private final String[] flowNames;
+    /** Known flows among {@link #flowNames}; unknown flow names can never be satisfied. */
+    private final FlowType[] flows;
+    private final boolean requireActor;
+    private final int requiredDelegationDepth;
+    private final String[] scopes;
+
+    private RequireFlowPolicy(String[] flowNames, FlowType[] flows, boolean requireActor,
+                              int requiredDelegationDepth, String[] scopes) {
+        this.flowNames = flowNames;
+        this.flows = flows;
+        this.requireActor = requireActor;
+        this.requiredDelegationDepth = requiredDelegationDepth;
+        this.scopes = scopes;
+    }
+
+    static RequireFlowPolicy compile(RequireFlow requireFlow) {
+        Set<FlowType> flows = EnumSet.noneOf(FlowType.class);
+        for (String flowName : requireFlow.value()) {
+            FlowType flowType = FlowType.fromValue(flowName);
+            if (flowType != null) {
+                flows.add(flowType);
+            }
+        }
+        return new RequireFlowPolicy(requireFlow.value().clone(), flows.toArray(new FlowType[0]),
+                requireFlow.requireActor(), requireFlow.requireDelegationDepth(), requireFlow.scopes().clone());
+    }
+
+    /**
+     * Check whether the token meets every requirement of the policy
+     */
+    boolean permits(FlowClaims claims) {
+        return hasRequiredFlow(claims)
+            && (!requireActor || claims.hasActor())
+            && (requiredDelegationDepth <= 0 || claims.getDelegationDepth() >= requiredDelegationDepth)
+            && hasRequiredScopes(claims);
+    }
+
+    /**
+     * Describe every requirement the token does not meet
+     */
+    String describeViolations(FlowClaims claims) {
+        List<String> errors = new ArrayList<>();
+        if (!hasRequiredFlow(claims)) {
+            errors.add("Token does not match required flows: " + String.join(", ", flowNames));
+        }
+        if (requireActor && !claims.hasActor()) {
+            errors.add("Actor claim required (On-Behalf-Of flow)");
+        }
+        if (requiredDelegationDepth > 0 && claims.getDelegationDepth() < requiredDelegationDepth) {
+            errors.add("Insufficient delegation depth. Required: " +
+                requiredDelegationDepth + ", Actual: " + claims.getDelegationDepth());
+        }
+        if (scopes.length > 0 && claims.getScopes().isEmpty()) {
+            errors.add("Token has no scopes");
+        } else {
+            for (String scope : scopes) {
+                if (!claims.hasScope(scope)) {
+                    errors.add("Missing required scope: " + scope);
+                }
+            }
+        }
+        return String.join("; ", errors);
+    }
+
+    private boolean hasRequiredFlow(FlowClaims claims) {
+        if (flowNames.length == 0) {
+            return true;
+        }
+        for (FlowType flow : flows) {
+            if (claims.hasFlow(flow)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasRequiredScopes(FlowClaims claims) {
+        for (String scope : scopes) {
+            if (!claims.hasScope(scope)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
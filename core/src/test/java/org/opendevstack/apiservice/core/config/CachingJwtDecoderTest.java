@@ -0,0 +1,170 @@
+package org.opendevstack.apiservice.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private JwtDecoder delegate;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        clock = new MutableClock(NOW);
+    }
+
+    @Test
+    void testRepeatedTokenIsDecodedOnce() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Duration.ofMinutes(5), clock);
+        Jwt jwt = createJwt("token-a", NOW.plusSeconds(3600));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        // When
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+
+        // Then
+        assertSame(jwt, first);
+        assertSame(jwt, second);
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    void testTokenIsNotServedAfterExpiry() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Duration.ofMinutes(5), clock);
+        when(delegate.decode("token-a")).thenReturn(createJwt("token-a", NOW.plusSeconds(60)));
+
+        // When
+        decoder.decode("token-a");
+        clock.advance(Duration.ofSeconds(60));
+        decoder.decode("token-a");
+
+        // Then
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    void testTokenIsNotServedAfterMaxTtl() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Duration.ofSeconds(30), clock);
+        when(delegate.decode("token-a")).thenReturn(createJwt("token-a", NOW.plusSeconds(3600)));
+
+        // When
+        decoder.decode("token-a");
+        clock.advance(Duration.ofSeconds(30));
+        decoder.decode("token-a");
+
+        // Then
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    void testRejectedTokenIsNotCached() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, Duration.ofMinutes(5), clock);
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("Invalid signature"));
+
+        // When / Then
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedTokenIsEvictedWhenFull() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, Duration.ofMinutes(5), clock);
+        for (String token : new String[]{"token-a", "token-b", "token-c"}) {
+            when(delegate.decode(token)).thenReturn(createJwt(token, NOW.plusSeconds(3600)));
+        }
+
+        // When
+        decoder.decode("token-a");
+        decoder.decode("token-b");
+        decoder.decode("token-a");
+        decoder.decode("token-c");
+        decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        // Then
+        assertEquals(2, decoder.size());
+        verify(delegate, times(1)).decode("token-a");
+        verify(delegate, times(2)).decode("token-b");
+    }
+
+    @Test
+    void testMetrics() {
+        // Given
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 1, Duration.ofMinutes(5), clock);
+        when(delegate.decode("token-a")).thenReturn(createJwt("token-a", NOW.plusSeconds(3600)));
+        when(delegate.decode("token-b")).thenReturn(createJwt("token-b", NOW.plusSeconds(3600)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        decoder.bindTo(registry);
+
+        // When
+        decoder.decode("token-a");
+        decoder.decode("token-a");
+        decoder.decode("token-b");
+
+        // Then
+        assertEquals(1.0, registry.get("security.jwt.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, registry.get("security.jwt.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("security.jwt.cache.evictions").functionCounter().count());
+        assertEquals(1.0, registry.get("security.jwt.cache.size").gauge().value());
+    }
+
+    private Jwt createJwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("test-user")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.opendevstack.apiservice.core.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.core.OAuth2AuthenticatedPrincipal;
+import org.springframework.security.oauth2.server.resource.introspection.BadOpaqueTokenException;
+import org.springframework.security.oauth2.server.resource.introspection.OAuth2IntrospectionException;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingOpaqueTokenIntrospectorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private OpaqueTokenIntrospector delegate;
+    private MutableClock clock;
+    private CachingOpaqueTokenIntrospector introspector;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OpaqueTokenIntrospector.class);
+        clock = new MutableClock(NOW);
+        introspector = new CachingOpaqueTokenIntrospector(delegate, 10, Duration.ofMinutes(5), Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void testActiveTokenIsIntrospectedOnce() {
+        // Given
+        OAuth2AuthenticatedPrincipal principal = createPrincipal(NOW.plusSeconds(3600));
+        when(delegate.introspect("token-a")).thenReturn(principal);
+
+        // When
+        OAuth2AuthenticatedPrincipal first = introspector.introspect("token-a");
+        OAuth2AuthenticatedPrincipal second = introspector.introspect("token-a");
+
+        // Then
+        assertSame(principal, first);
+        assertSame(principal, second);
+        verify(delegate, times(1)).introspect("token-a");
+    }
+
+    @Test
+    void testActiveTokenIsNotServedAfterExpiry() {
+        // Given
+        when(delegate.introspect("token-a")).thenReturn(createPrincipal(NOW.plusSeconds(60)));
+        introspector.introspect("token-a");
+
+        // When
+        clock.advance(Duration.ofSeconds(60));
+        introspector.introspect("token-a");
+
+        // Then
+        verify(delegate, times(2)).introspect("token-a");
+    }
+
+    @Test
+    void testActiveTokenIsCachedAtMostForMaxTtl() {
+        // Given
+        when(delegate.introspect("token-a")).thenReturn(createPrincipal(NOW.plusSeconds(3600)));
+        introspector.introspect("token-a");
+
+        // When
+        clock.advance(Duration.ofMinutes(5));
+        introspector.introspect("token-a");
+
+        // Then
+        verify(delegate, times(2)).introspect("token-a");
+    }
+
+    @Test
+    void testRejectedTokenIsCachedBriefly() {
+        // Given
+        when(delegate.introspect("token-a")).thenThrow(new BadOpaqueTokenException("Provided token isn't active"));
+
+        // When
+        assertThrows(BadOpaqueTokenException.class, () -> introspector.introspect("token-a"));
+        assertThrows(BadOpaqueTokenException.class, () -> introspector.introspect("token-a"));
+        clock.advance(Duration.ofSeconds(10));
+        assertThrows(BadOpaqueTokenException.class, () -> introspector.introspect("token-a"));
+
+        // Then
+        verify(delegate, times(2)).introspect("token-a");
+    }
+
+    @Test
+    void testIntrospectionFailureIsNotCached() {
+        // Given
+        when(delegate.introspect("token-a"))
+            .thenThrow(new OAuth2IntrospectionException("Connection refused"))
+            .thenReturn(createPrincipal(NOW.plusSeconds(3600)));
+
+        // When
+        assertThrows(OAuth2IntrospectionException.class, () -> introspector.introspect("token-a"));
+        OAuth2AuthenticatedPrincipal principal = introspector.introspect("token-a");
+
+        // Then
+        assertNotNull(principal);
+        verify(delegate, times(2)).introspect("token-a");
+    }
+
+    @Test
+    void testConcurrentIntrospectionsShareOneRequest() throws Exception {
+        // Given
+        CountDownLatch introspectionStarted = new CountDownLatch(1);
+        CountDownLatch releaseIntrospection = new CountDownLatch(1);
+        OAuth2AuthenticatedPrincipal principal = createPrincipal(NOW.plusSeconds(3600));
+        when(delegate.introspect("token-a")).thenAnswer(invocation -> {
+            introspectionStarted.countDown();
+            assertTrue(releaseIntrospection.await(5, TimeUnit.SECONDS));
+            return principal;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<OAuth2AuthenticatedPrincipal> first = executor.submit(() -> introspector.introspect("token-a"));
+            assertTrue(introspectionStarted.await(5, TimeUnit.SECONDS));
+            Future<OAuth2AuthenticatedPrincipal> second = executor.submit(() -> introspector.introspect("token-a"));
+            releaseIntrospection.countDown();
+
+            // Then
+            assertSame(principal, first.get(5, TimeUnit.SECONDS));
+            assertSame(principal, second.get(5, TimeUnit.SECONDS));
+            verify(delegate, times(1)).introspect("token-a");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testMetricsAreBound() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        introspector.bindTo(registry);
+        when(delegate.introspect("token-a")).thenReturn(createPrincipal(NOW.plusSeconds(3600)));
+
+        // When
+        introspector.introspect("token-a");
+        introspector.introspect("token-a");
+
+        // Then
+        assertEquals(1.0, registry.get("security.introspection.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("security.introspection.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("security.introspection.cache.size").gauge().value());
+    }
+
+    private static OAuth2AuthenticatedPrincipal createPrincipal(Instant expiresAt) {
+        return new DefaultOAuth2AuthenticatedPrincipal("test-user", Map.of("sub", "test-user", "exp", expiresAt), List.of());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -245,6 +245,40 @@ class CustomRoleConverterTest {
         assertEquals("ROLE_test-role", authority.getAuthority());
     }
 
+    @Test
+    void testConvertWithSameRoleSetSharesAuthorities() {
+        // Given
+        Jwt first = createJwtWithClaims(Map.of("realm_access", Map.of("roles", List.of("admin", "user"))));
+        Jwt second = createJwtWithClaims(Map.of(
+                "realm_access", Map.of("roles", List.of("user")),
+                "resource_access", Map.of("client", Map.of("roles", List.of("admin")))));
+
+        // When
+        Collection<GrantedAuthority> firstAuthorities = converter.convert(first);
+        Collection<GrantedAuthority> secondAuthorities = converter.convert(second);
+
+        // Then
+        assertSame(firstAuthorities, secondAuthorities);
+        assertEquals(1, converter.cachedRoleSets());
+        assertThrows(UnsupportedOperationException.class, () -> firstAuthorities.add(() -> "ROLE_other"));
+    }
+
+    @Test
+    void testConvertStopsCachingWhenLimitReached() {
+        // Given
+        for (int i = 0; i < CustomRoleConverter.MAX_CACHED_ROLE_SETS; i++) {
+            converter.convert(createJwtWithClaims(Map.of("realm_access", Map.of("roles", List.of("role" + i)))));
+        }
+
+        // When
+        Collection<GrantedAuthority> authorities =
+                converter.convert(createJwtWithClaims(Map.of("realm_access", Map.of("roles", List.of("extra")))));
+
+        // Then
+        assertTrue(containsAuthority(authorities, "ROLE_extra"));
+        assertEquals(CustomRoleConverter.MAX_CACHED_ROLE_SETS, converter.cachedRoleSets());
+    }
+
     // Helper methods
 
     private Jwt createJwtWithClaims(Map<String, Object> claims) {
@@ -1,30 +1,43 @@
 package org.opendevstack.apiservice.core.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.core.security.FlowClaims;
+import org.opendevstack.apiservice.core.security.FlowType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.DefaultOAuth2AuthenticatedPrincipal;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.introspection.OpaqueTokenIntrospector;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class SecurityConfigTest {
     private SecurityProperties securityProperties;
     private FlowProperties flowProperties;
+    private OnBehalfOfProperties onBehalfOfProperties;
     private SecurityConfig securityConfig;
 
     @BeforeEach
     void setUp() {
         securityProperties = mock(SecurityProperties.class);
         flowProperties = mock(FlowProperties.class);
-        securityConfig = new SecurityConfig(securityProperties, flowProperties);
+        onBehalfOfProperties = new OnBehalfOfProperties();
+        securityConfig = new SecurityConfig(securityProperties, flowProperties, onBehalfOfProperties);
     }
 
     @Test
     void testJwtAuthenticationConverterBean() {
-        JwtAuthenticationConverter converter = securityConfig.jwtAuthenticationConverter();
+        FlowClaimsAuthenticationConverter converter = securityConfig.jwtAuthenticationConverter();
         assertNotNull(converter);
     }
 
@@ -45,8 +58,30 @@ class SecurityConfigTest {
     void testJwtDecoderValidating() {
         when(securityProperties.isJwtValidationEnabled()).thenReturn(true);
         when(securityProperties.getJwkSetUri()).thenReturn("http://localhost/jwk");
+        when(securityProperties.getJwtCache()).thenReturn(new SecurityProperties.JwtCache());
+        when(securityProperties.getJwkSet()).thenReturn(jwkSetWithoutPrefetch());
         JwtDecoder decoder = securityConfig.jwtDecoder();
-        assertNotNull(decoder);
+        assertInstanceOf(CachingJwtDecoder.class, decoder);
+    }
+
+    @Test
+    void testJwtDecoderValidatingWithoutCache() {
+        SecurityProperties.JwtCache jwtCache = new SecurityProperties.JwtCache();
+        jwtCache.setMaxSize(0);
+        when(securityProperties.isJwtValidationEnabled()).thenReturn(true);
+        when(securityProperties.getJwkSetUri()).thenReturn("http://localhost/jwk");
+        when(securityProperties.getJwtCache()).thenReturn(jwtCache);
+        when(securityProperties.getJwkSet()).thenReturn(jwkSetWithoutPrefetch());
+        JwtDecoder decoder = securityConfig.jwtDecoder();
+        assertInstanceOf(NimbusJwtDecoder.class, decoder);
+    }
+
+    @Test
+    void testJwtDecoderCacheMetricsBound() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(mock(JwtDecoder.class), 10, Duration.ofMinutes(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        securityConfig.jwtDecoderCacheMetrics(decoder).bindTo(registry);
+        assertNotNull(registry.find("security.jwt.cache.size").gauge());
     }
 
     @Test
@@ -57,11 +92,60 @@ class SecurityConfigTest {
         assertTrue(exception.getMessage().contains("no JWK Set URI"));
     }
 
+    private static SecurityProperties.JwkSet jwkSetWithoutPrefetch() {
+        SecurityProperties.JwkSet jwkSet = new SecurityProperties.JwkSet();
+        jwkSet.setPrefetch(false);
+        return jwkSet;
+    }
+
     @Test
     void testSecurityFilterChainBean() throws Exception {
         HttpSecurity http = mock(HttpSecurity.class, RETURNS_DEEP_STUBS);
+        when(securityProperties.getIntrospection()).thenReturn(new SecurityProperties.Introspection());
         // Just verify bean creation does not throw
         SecurityFilterChain chain = securityConfig.securityFilterChain(http);
         assertNotNull(chain);
     }
+
+    @Test
+    void testOpaqueTokenIntrospectorIsCached() {
+        SecurityProperties.Introspection introspection = new SecurityProperties.Introspection();
+        introspection.setClientId("api-service");
+        introspection.setClientSecret("secret");
+        onBehalfOfProperties.getSecurity().setIntrospectionEndpoint("http://localhost/introspect");
+        when(securityProperties.getIntrospection()).thenReturn(introspection);
+        OpaqueTokenIntrospector introspector = securityConfig.opaqueTokenIntrospector();
+        assertInstanceOf(CachingOpaqueTokenIntrospector.class, introspector);
+    }
+
+    @Test
+    void testOpaqueTokenIntrospectorThrowsIfNoEndpoint() {
+        Exception exception = assertThrows(IllegalStateException.class, () -> securityConfig.opaqueTokenIntrospector());
+        assertTrue(exception.getMessage().contains("no introspection endpoint"));
+    }
+
+    @Test
+    void testIntrospectedTokenCarriesFlowClaims() {
+        // Shaped like the attributes SpringOpaqueTokenIntrospector returns: scope and aud as lists, times as instants
+        DefaultOAuth2AuthenticatedPrincipal principal = new DefaultOAuth2AuthenticatedPrincipal(Map.of(
+            "active", true,
+            "sub", "test-user",
+            "client_id", "test-client",
+            "scope", List.of("read:data", "write:data"),
+            "aud", List.of("devstack-api"),
+            "grant_type", "client_credentials",
+            "iat", Instant.now(),
+            "exp", Instant.now().plusSeconds(60),
+            "realm_access", Map.of("roles", List.of("admin"))), List.of());
+
+        Authentication authentication = securityConfig.introspectedTokenConverter().convert("opaque-token", principal);
+
+        FlowClaims claims = FlowClaims.of(authentication);
+        assertEquals("test-user", authentication.getName());
+        assertTrue(claims.hasScope("read:data"));
+        assertTrue(claims.hasScope("write:data"));
+        assertFalse(claims.hasScope("[read:data"));
+        assertTrue(claims.hasFlow(FlowType.CLIENT_CREDENTIALS));
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_admin")));
+    }
 }
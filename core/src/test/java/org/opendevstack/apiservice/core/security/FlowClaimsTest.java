@@ -0,0 +1,118 @@
+package org.opendevstack.apiservice.core.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.core.config.CustomRoleConverter;
+import org.opendevstack.apiservice.core.config.FlowClaimsAuthenticationConverter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FlowClaimsTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testFromParsesFlowClaims() {
+        // Given
+        Jwt jwt = createJwt(Map.of(
+                "scope", "read:data write:data read:data",
+                "actor", "service-account",
+                "delegation_depth", 2,
+                "grant_type", "client_credentials",
+                "realm_access", Map.of("roles", List.of("admin", "user")),
+                "resource_access", Map.of("client", Map.of("roles", List.of("viewer", "admin")))));
+
+        // When
+        FlowClaims claims = FlowClaims.from(jwt);
+
+        // Then
+        assertEquals(Set.of("read:data", "write:data"), claims.getScopes());
+        assertEquals("service-account", claims.getActor());
+        assertEquals(2, claims.getDelegationDepth());
+        assertEquals(Set.of(FlowType.CLIENT_CREDENTIALS, FlowType.ON_BEHALF_OF), claims.getFlows());
+        assertEquals(FlowType.ON_BEHALF_OF, claims.getFlowType());
+        assertEquals(List.of("admin", "user", "viewer"), List.copyOf(claims.getRoles()));
+    }
+
+    @Test
+    void testFromWithoutFlowClaims() {
+        // Given
+        Jwt jwt = createJwt(Map.of("actor", ""));
+
+        // When
+        FlowClaims claims = FlowClaims.from(jwt);
+
+        // Then
+        assertTrue(claims.getScopes().isEmpty());
+        assertFalse(claims.hasActor());
+        assertEquals(0, claims.getDelegationDepth());
+        assertNull(claims.getFlowType());
+        assertTrue(claims.getRoles().isEmpty());
+    }
+
+    @Test
+    void testOfReturnsClaimsAttachedDuringAuthentication() {
+        // Given
+        Jwt jwt = spy(createJwt(Map.of("scope", "read:data", "token_type", "Bearer",
+                "realm_access", Map.of("roles", List.of("user")))));
+        AbstractAuthenticationToken authentication =
+                new FlowClaimsAuthenticationConverter(new CustomRoleConverter()).convert(jwt);
+        clearInvocations(jwt);
+
+        // When
+        FlowClaims claims = FlowClaims.of(authentication);
+
+        // Then
+        assertInstanceOf(FlowClaimsAuthenticationToken.class, authentication);
+        assertSame(((FlowClaimsAuthenticationToken) authentication).getFlowClaims(), claims);
+        assertEquals(FlowType.AUTHORIZATION_CODE, claims.getFlowType());
+        assertEquals("test-user", authentication.getName());
+        assertEquals(List.of("ROLE_user"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verifyNoInteractions(jwt);
+    }
+
+    @Test
+    void testOfParsesJwtPrincipalOfOtherAuthentications() {
+        // Given
+        Authentication authentication = new TestingAuthenticationToken(createJwt(Map.of("scope", "read:data")), null);
+
+        // When
+        FlowClaims claims = FlowClaims.of(authentication);
+
+        // Then
+        assertNotNull(claims);
+        assertTrue(claims.hasScope("read:data"));
+    }
+
+    @Test
+    void testOfWithoutJwtPrincipal() {
+        assertNull(FlowClaims.of(new TestingAuthenticationToken("user", "password")));
+        assertNull(FlowClaims.of(null));
+    }
+
+    private Jwt createJwt(Map<String, Object> claims) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject("test-user")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .claims(c -> c.putAll(claims))
+                .build();
+    }
+}
@@ -259,6 +259,71 @@ class FlowValidatorTest {
         assertTrue(result.isValid());
     }
 
+    @Test
+    void testPatternMatchingPrefersMostSpecificPattern() {
+        // Given - a broad wildcard configured before a narrower wildcard and an exact pattern
+        FlowProperties.ApiFlows apiFlows = new FlowProperties.ApiFlows();
+        apiFlows.setEndpoints(Arrays.asList(
+                endpointFlow("/api/**", true),
+                endpointFlow("/api/open/**", false),
+                endpointFlow("/api/open/strict", true)));
+        flowProperties.setApis(Map.of("test-api", apiFlows));
+
+        setupAuthentication(createJwt(Map.of()));
+
+        // When / Then
+        assertTrue(flowValidator.validateEndpointFlow("/api/open/sub/path").isValid());
+        assertTrue(flowValidator.validateEndpointFlow("/api/open").isValid());
+        assertFalse(flowValidator.validateEndpointFlow("/api/open/strict").isValid());
+        assertFalse(flowValidator.validateEndpointFlow("/api/other").isValid());
+    }
+
+    @Test
+    void testPatternMatchingWildcardMatchesWholeSegments() {
+        // Given
+        FlowProperties.ApiFlows apiFlows = new FlowProperties.ApiFlows();
+        apiFlows.setEndpoints(Arrays.asList(endpointFlow("/api/user/**", true)));
+        flowProperties.setApis(Map.of("test-api", apiFlows));
+
+        setupAuthentication(createJwt(Map.of()));
+
+        // When / Then
+        assertFalse(flowValidator.validateEndpointFlow("/api/user/profile").isValid());
+        assertTrue(flowValidator.validateEndpointFlow("/api/users").isValid());
+    }
+
+    @Test
+    void testAfterPropertiesSetCompilesConfiguration() {
+        // Given
+        FlowProperties.ApiFlows apiFlows = new FlowProperties.ApiFlows();
+        apiFlows.setEndpoints(Arrays.asList(endpointFlow("/api/a", true)));
+        flowProperties.setApis(Map.of("test-api", apiFlows));
+        setupAuthentication(createJwt(Map.of()));
+
+        // When
+        flowValidator.afterPropertiesSet();
+
+        // Then
+        assertFalse(flowValidator.validateEndpointFlow("/api/a").isValid());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidPatterns")
+    void testAfterPropertiesSetRejectsInvalidPattern(String pattern) {
+        // Given
+        FlowProperties.ApiFlows apiFlows = new FlowProperties.ApiFlows();
+        apiFlows.setEndpoints(Arrays.asList(endpointFlow(pattern, true)));
+        flowProperties.setApis(Map.of("test-api", apiFlows));
+
+        // When / Then
+        IllegalStateException exception = assertThrows(IllegalStateException.class, flowValidator::afterPropertiesSet);
+        assertTrue(exception.getMessage().contains("test-api"));
+    }
+
+    static Stream<String> invalidPatterns() {
+        return Stream.of(null, " ", "/api/*", "/api/**/users", "/api/*/users/**");
+    }
+
     @Test
     void testValidationResultSuccess() {
         // When
@@ -333,6 +398,13 @@ class FlowValidatorTest {
                 .build();
     }
 
+    private FlowProperties.EndpointFlow endpointFlow(String pattern, boolean requireActor) {
+        FlowProperties.EndpointFlow endpointFlow = new FlowProperties.EndpointFlow();
+        endpointFlow.setPattern(pattern);
+        endpointFlow.setRequireActor(requireActor);
+        return endpointFlow;
+    }
+
     private void setupAuthentication(Jwt jwt) {
         SecurityContext securityContext = mock(SecurityContext.class);
         Authentication authentication = mock(Authentication.class);
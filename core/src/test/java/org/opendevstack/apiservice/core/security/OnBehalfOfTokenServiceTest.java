@@ -0,0 +1,263 @@
+package org.opendevstack.apiservice.core.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.core.config.OnBehalfOfProperties;
+import org.opendevstack.apiservice.core.security.OnBehalfOfTokenService.ExchangedToken;
+import org.opendevstack.apiservice.core.security.OnBehalfOfTokenService.TokenExchangeException;
+import org.opendevstack.apiservice.core.security.OnBehalfOfTokenService.TokenResponse;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OnBehalfOfTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String TOKEN_ENDPOINT = "https://idp.example.com/token";
+
+    private RestTemplate restTemplate;
+    private OnBehalfOfProperties properties;
+    private MutableClock clock;
+    private OnBehalfOfTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        properties = new OnBehalfOfProperties();
+        properties.getTokenExchange().setTokenEndpoint(TOKEN_ENDPOINT);
+        properties.getTokenExchange().setClientId("api-service");
+        properties.getTokenExchange().setClientSecret("secret");
+        clock = new MutableClock(NOW);
+        service = new OnBehalfOfTokenService(properties, restTemplate, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void testExchangeSendsTokenExchangeRequest() {
+        // Given
+        stubExchange("exchanged-1", 300L);
+
+        // When
+        ExchangedToken token = service.exchange(createJwt("user-1"), "bitbucket", List.of("read"));
+
+        // Then
+        assertEquals("exchanged-1", token.accessToken());
+        assertEquals(NOW.plusSeconds(300), token.expiresAt());
+        verify(restTemplate).postForEntity(eq(TOKEN_ENDPOINT), argThat((HttpEntity<MultiValueMap<String, String>> request) ->
+                "bitbucket".equals(request.getBody().getFirst("audience"))
+                        && "read".equals(request.getBody().getFirst("scope"))
+                        && "token-user-1".equals(request.getBody().getFirst("subject_token"))
+                        && request.getHeaders().containsKey("Authorization")), eq(TokenResponse.class));
+    }
+
+    @Test
+    void testExchangedTokenIsCached() {
+        // Given
+        stubExchange("exchanged-1", 300L);
+
+        // When
+        ExchangedToken first = service.exchange(createJwt("user-1"), "bitbucket", List.of("read", "write"));
+        ExchangedToken second = service.exchange(createJwt("user-1"), "bitbucket", List.of("write", "read"));
+
+        // Then
+        assertSame(first, second);
+        verify(restTemplate, times(1)).postForEntity(any(String.class), any(), eq(TokenResponse.class));
+    }
+
+    @Test
+    void testDifferentAudienceScopesSubjectOrClientExchangeAgain() {
+        // Given
+        stubExchange("exchanged-1", 300L);
+
+        // When
+        service.exchange(createJwt("user-1"), "bitbucket", List.of("read"));
+        service.exchange(createJwt("user-1"), "openshift", List.of("read"));
+        service.exchange(createJwt("user-1"), "bitbucket", List.of("write"));
+        service.exchange(createJwt("user-2"), "bitbucket", List.of("read"));
+        service.exchange(createJwt("user-1", "cli"), "bitbucket", List.of("read"));
+
+        // Then
+        assertEquals(5, service.size());
+        verify(restTemplate, times(5)).postForEntity(any(String.class), any(), eq(TokenResponse.class));
+    }
+
+    @Test
+    void testTokenIsExchangedAgainShortlyBeforeExpiry() {
+        // Given
+        properties.getTokenExchange().getCache().setExpirySkewSeconds(30);
+        stubExchange("exchanged-1", 300L);
+        service.exchange(createJwt("user-1"), "bitbucket", List.of());
+
+        // When
+        clock.advance(Duration.ofSeconds(269));
+        service.exchange(createJwt("user-1"), "bitbucket", List.of());
+        clock.advance(Duration.ofSeconds(1));
+        service.exchange(createJwt("user-1"), "bitbucket", List.of());
+
+        // Then
+        verify(restTemplate, times(2)).postForEntity(any(String.class), any(), eq(TokenResponse.class));
+    }
+
+    @Test
+    void testGrantedScopesIgnoreRepeatedSpaces() {
+        // Given
+        when(restTemplate.postForEntity(any(String.class), any(), eq(TokenResponse.class)))
+                .thenReturn(ResponseEntity.ok(new TokenResponse("exchanged-1", "Bearer", 300L, "read  write read")));
+
+        // When
+        ExchangedToken token = service.exchange(createJwt("user-1"), "bitbucket", List.of("read"));
+
+        // Then
+        assertEquals(Set.of("read", "write"), token.scopes());
+    }
+
+    @Test
+    void testMissingExpiresInUsesDelegatedTokenLifetime() {
+        // Given
+        properties.getFlow().setDelegatedTokenLifetime(600);
+        stubExchange("exchanged-1", null);
+
+        // When
+        ExchangedToken token = service.exchange(createJwt("user-1"), "bitbucket", List.of());
+
+        // Then
+        assertEquals(NOW.plusSeconds(600), token.expiresAt());
+    }
+
+    @Test
+    void testFailedExchangeIsNotCached() {
+        // Given
+        when(restTemplate.postForEntity(any(String.class), any(), eq(TokenResponse.class)))
+                .thenThrow(new ResourceAccessException("timeout"))
+                .thenReturn(ResponseEntity.ok(new TokenResponse("exchanged-1", "Bearer", 300L, null)));
+
+        // When & Then
+        assertThrows(TokenExchangeException.class, () -> service.exchange(createJwt("user-1"), "bitbucket", List.of()));
+        assertEquals("exchanged-1", service.exchange(createJwt("user-1"), "bitbucket", List.of()).accessToken());
+    }
+
+    @Test
+    void testConcurrentExchangesShareOneRequest() throws Exception {
+        // Given
+        CountDownLatch exchangeStarted = new CountDownLatch(1);
+        CountDownLatch releaseExchange = new CountDownLatch(1);
+        when(restTemplate.postForEntity(any(String.class), any(), eq(TokenResponse.class))).thenAnswer(invocation -> {
+            exchangeStarted.countDown();
+            assertTrue(releaseExchange.await(5, TimeUnit.SECONDS));
+            return ResponseEntity.ok(new TokenResponse("exchanged-1", "Bearer", 300L, null));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<ExchangedToken> first = executor.submit(() -> service.exchange(createJwt("user-1"), "bitbucket", List.of()));
+            assertTrue(exchangeStarted.await(5, TimeUnit.SECONDS));
+            Future<ExchangedToken> second = executor.submit(() -> service.exchange(createJwt("user-1"), "bitbucket", List.of()));
+            releaseExchange.countDown();
+
+            // Then
+            assertEquals("exchanged-1", first.get(5, TimeUnit.SECONDS).accessToken());
+            assertEquals("exchanged-1", second.get(5, TimeUnit.SECONDS).accessToken());
+            verify(restTemplate, times(1)).postForEntity(any(String.class), any(), eq(TokenResponse.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testDelegationRulesAreEnforced() {
+        // Given
+        OnBehalfOfProperties.Delegation.ServiceDelegation rule = new OnBehalfOfProperties.Delegation.ServiceDelegation();
+        rule.setCanDelegateTo(List.of("bitbucket"));
+        rule.setAllowedScopes(List.of("read"));
+        properties.getDelegation().setRules(Map.of("frontend", rule));
+        stubExchange("exchanged-1", 300L);
+
+        // When & Then
+        assertThrows(TokenExchangeException.class, () -> service.exchange(createJwt("user-1"), "openshift", List.of("read")));
+        assertThrows(TokenExchangeException.class, () -> service.exchange(createJwt("user-1"), "bitbucket", List.of("write")));
+        assertEquals("exchanged-1", service.exchange(createJwt("user-1"), "bitbucket", List.of("read")).accessToken());
+        verify(restTemplate, times(1)).postForEntity(any(String.class), any(), eq(TokenResponse.class));
+    }
+
+    @Test
+    void testMissingAudienceIsRejected() {
+        // When & Then
+        assertThrows(TokenExchangeException.class, () -> service.exchange(createJwt("user-1"), null, List.of()));
+        verifyNoInteractions(restTemplate);
+    }
+
+    private void stubExchange(String accessToken, Long expiresIn) {
+        when(restTemplate.postForEntity(any(String.class), any(), eq(TokenResponse.class)))
+                .thenReturn(ResponseEntity.ok(new TokenResponse(accessToken, "Bearer", expiresIn, null)));
+    }
+
+    private Jwt createJwt(String subject) {
+        return createJwt(subject, "frontend");
+    }
+
+    private Jwt createJwt(String subject, String client) {
+        return Jwt.withTokenValue("token-" + subject)
+                .header("alg", "none")
+                .subject(subject)
+                .claim("azp", client)
+                .issuedAt(NOW)
+                .expiresAt(NOW.plusSeconds(3600))
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -67,15 +67,15 @@ public class OpenshiftServiceUsageExample {
      * Example 4: Check if secret exists before retrieving
      */
     public String getSecretValueSafely(String instanceName, String secretName, String key) {
-        if (openshiftService.secretExists(instanceName, secretName)) {
-            try {
+        try {
+            if (openshiftService.secretExists(instanceName, secretName)) {
                 return openshiftService.getSecretValue(instanceName, secretName, key);
-            } catch (OpenshiftException e) {
-                log.error("Failed to retrieve secret value", e);
+            } else {
+                log.warn("Secret {} does not exist in instance {}", secretName, instanceName);
                 return null;
             }
-        } else {
-            log.warn("Secret {} does not exist in instance {}", secretName, instanceName);
+        } catch (OpenshiftException e) {
+            log.error("Failed to retrieve secret value", e);
             return null;
         }
     }
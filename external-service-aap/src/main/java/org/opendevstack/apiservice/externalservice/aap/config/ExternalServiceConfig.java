@@ -1,16 +1,25 @@
 package org.opendevstack.apiservice.externalservice.aap.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -21,6 +30,7 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.security.GeneralSecurityException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
 
 /**
  * Configuration class for external service components.
@@ -54,6 +64,33 @@ public class ExternalServiceConfig {
         }
     }
 
+    /**
+     * Creates the WebClient used by the non-blocking AAP client, with a connection pool sized to the
+     * configured concurrency limit and the same SSL settings as the RestTemplate.
+     *
+     * @return WebClient instance backed by Reactor Netty
+     */
+    @Bean(name = "aapWebClient")
+    @ConditionalOnProperty(name = "automation.platform.ansible.client", havingValue = "reactive")
+    public WebClient aapWebClient(WebClient.Builder webClientBuilder,
+            @Value("${automation.platform.ansible.timeout:30000}") int timeoutMs,
+            @Value("${automation.platform.ansible.max-concurrent-requests:16}") int maxConcurrentRequests) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("aap")
+                .maxConnections(maxConcurrentRequests)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutMs)
+                .responseTimeout(Duration.ofMillis(timeoutMs));
+
+        if (!sslProperties.isVerifyCertificates()) {
+            logger.warn("SSL certificate verification is DISABLED for the reactive AAP client - this should only be used in development environments");
+            httpClient = httpClient.secure(spec -> spec.sslContext(Http11SslContextSpec.forClient()
+                    .configure(builder -> builder.trustManager(InsecureTrustManagerFactory.INSTANCE))));
+        }
+
+        return webClientBuilder.clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
     private RestTemplate createInsecureRestTemplate() {
         try {
             // Create a trust manager that accepts all certificates
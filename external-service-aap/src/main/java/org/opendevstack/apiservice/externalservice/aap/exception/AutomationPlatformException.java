@@ -76,4 +76,10 @@ public class AutomationPlatformException extends Exception {
             super(message, "AUTHENTICATION_FAILED", cause);
         }
     }
+
+    public static class CapacityExceededException extends AutomationPlatformException {
+        public CapacityExceededException(int pendingLimit) {
+            super(String.format("Automation platform request queue is full (%d pending requests)", pendingLimit), "CAPACITY_EXCEEDED");
+        }
+    }
 }
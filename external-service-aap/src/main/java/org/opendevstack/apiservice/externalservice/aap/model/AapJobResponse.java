@@ -0,0 +1,38 @@
+package org.opendevstack.apiservice.externalservice.aap.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Subset of an Ansible Automation Platform job or workflow job as returned by the launch and
+ * status endpoints. Only the fields the service uses are bound; the large {@code related},
+ * {@code summary_fields} and {@code extra_vars} trees are skipped during deserialization.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class AapJobResponse {
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("status")
+    private String status;
+    @JsonProperty("result_traceback")
+    private String resultTraceback;
+    @JsonProperty("finished")
+    private OffsetDateTime finished;
+    @JsonProperty("elapsed")
+    private Double elapsed;
+
+    /**
+     * Complete response body, only populated when raw response passthrough is enabled.
+     */
+    @JsonIgnore
+    private Map<String, Object> raw;
+
+    public AapJobResponse() {
+    }
+}
@@ -0,0 +1,37 @@
+package org.opendevstack.apiservice.externalservice.aap.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Page of workflow job templates as returned by {@code GET /workflow_job_templates/}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class AapWorkflowTemplatePage {
+    @JsonProperty("count")
+    private Integer count;
+    @JsonProperty("results")
+    private List<Template> results;
+
+    public AapWorkflowTemplatePage() {
+    }
+
+    /**
+     * Identifying fields of a single workflow job template.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @Data
+    public static class Template {
+        @JsonProperty("id")
+        private Long id;
+        @JsonProperty("name")
+        private String name;
+
+        public Template() {
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class AutomationJobStatus {
     private LocalDateTime createdAt;
     private LocalDateTime startedAt;
     private LocalDateTime finishedAt;
+    private Double elapsedSeconds;
     private Map<String, Object> result;
     private String errorMessage;
     private int progress;
@@ -0,0 +1,47 @@
+package org.opendevstack.apiservice.externalservice.aap.service.impl;
+
+import org.opendevstack.apiservice.externalservice.aap.model.AapJobResponse;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
+
+/**
+ * Maps AAP job responses to the platform-neutral result models, shared by the AAP client implementations.
+ */
+final class AapResponseMapper {
+
+    private AapResponseMapper() {
+    }
+
+    static AutomationExecutionResult toExecutionResult(AapJobResponse job) {
+        AutomationExecutionResult result = new AutomationExecutionResult(
+                String.valueOf(job.getId()), String.valueOf(job.getStatus()), true, "Workflow executed successfully");
+        result.setMetadata(job.getRaw());
+        return result;
+    }
+
+    static AutomationJobStatus toJobStatus(String jobId, AapJobResponse job) {
+        AutomationJobStatus status = new AutomationJobStatus();
+        status.setJobId(jobId);
+        status.setStatus(parseJobStatus(String.valueOf(job.getStatus())));
+        status.setStatusMessage(String.valueOf(job.getResultTraceback()));
+        status.setFinishedAt(job.getFinished() != null ? job.getFinished().toLocalDateTime() : null);
+        status.setElapsedSeconds(job.getElapsed());
+        status.setResult(job.getRaw());
+        return status;
+    }
+
+    static AutomationJobStatus.Status parseJobStatus(String status) {
+        if (status == null) {
+            return AutomationJobStatus.Status.PENDING;
+        }
+        
+        return switch (status.toLowerCase()) {
+            case "pending" -> AutomationJobStatus.Status.PENDING;
+            case "running" -> AutomationJobStatus.Status.RUNNING;
+            case "successful" -> AutomationJobStatus.Status.SUCCESSFUL;
+            case "failed" -> AutomationJobStatus.Status.FAILED;
+            case "canceled", "cancelled" -> AutomationJobStatus.Status.CANCELLED;
+            default -> AutomationJobStatus.Status.ERROR;
+        };
+    }
+}
@@ -1,23 +1,33 @@
 package org.opendevstack.apiservice.externalservice.aap.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import org.opendevstack.apiservice.externalservice.aap.exception.AutomationPlatformException;
+import org.opendevstack.apiservice.externalservice.aap.model.AapJobResponse;
+import org.opendevstack.apiservice.externalservice.aap.model.AapWorkflowTemplatePage;
 import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
 import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
 import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriUtils;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -26,13 +36,24 @@ import java.util.concurrent.CompletableFuture;
 /**
  * Implementation of AutomationPlatformService for Ansible Automation Platform.
  * This service provides integration with Ansible AWX/Tower for executing workflows and modules.
+ * {@link #executeWorkflowAsync} runs on a fixed-size pool with a bounded queue owned by this service;
+ * launches beyond it are rejected. The pool is not exposed as a bean, so it never becomes the
+ * application's default {@code @Async} executor.
  */
 @Service("automationPlatformService")
-public class AnsibleAutomationPlatformService implements AutomationPlatformService {
+@ConditionalOnProperty(name = "automation.platform.ansible.client", havingValue = "blocking", matchIfMissing = true)
+public class AnsibleAutomationPlatformService implements AutomationPlatformService, DisposableBean {
 
     private static final Logger logger = LoggerFactory.getLogger(AnsibleAutomationPlatformService.class);
 
+    private static final ObjectMapper RAW_RESPONSE_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static final int DEFAULT_ASYNC_POOL_SIZE = 8;
+    private static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 100;
+
     private final RestTemplate restTemplate;
+    private final ThreadPoolTaskExecutor asyncExecutor;
+    private final int asyncQueueCapacity;
 
     @Value("${automation.platform.ansible.base-url:http://localhost:8080/api/v2}")
     private String baseUrl;
@@ -46,8 +67,34 @@ public class AnsibleAutomationPlatformService implements AutomationPlatformServi
     @Value("${automation.platform.ansible.timeout:30000}")
     private int timeoutMs;
 
+    @Value("${automation.platform.ansible.workflow-template-cache-ttl-seconds:300}")
+    private long workflowTemplateCacheTtlSeconds = 300;
+
+    /**
+     * When enabled, the complete AAP response body is kept in {@link AutomationExecutionResult#getMetadata()}
+     * and {@link AutomationJobStatus#getResult()}. Disabled by default so that only the bound fields are retained.
+     */
+    @Value("${automation.platform.ansible.include-raw-response:false}")
+    private boolean includeRawResponse;
+
+    private final WorkflowTemplateIdCache workflowTemplateIds = new WorkflowTemplateIdCache();
+
     public AnsibleAutomationPlatformService(RestTemplate restTemplate) {
+        this(restTemplate, DEFAULT_ASYNC_POOL_SIZE, DEFAULT_ASYNC_QUEUE_CAPACITY);
+    }
+
+    @Autowired
+    public AnsibleAutomationPlatformService(RestTemplate restTemplate,
+            @Value("${automation.platform.ansible.async.pool-size:8}") int asyncPoolSize,
+            @Value("${automation.platform.ansible.async.queue-capacity:100}") int asyncQueueCapacity) {
         this.restTemplate = restTemplate;
+        this.asyncQueueCapacity = asyncQueueCapacity;
+        this.asyncExecutor = new ThreadPoolTaskExecutor();
+        this.asyncExecutor.setCorePoolSize(asyncPoolSize);
+        this.asyncExecutor.setMaxPoolSize(asyncPoolSize);
+        this.asyncExecutor.setQueueCapacity(asyncQueueCapacity);
+        this.asyncExecutor.setThreadNamePrefix("aap-async-");
+        this.asyncExecutor.initialize();
     }
 
     @Override
@@ -64,20 +111,25 @@ public class AnsibleAutomationPlatformService implements AutomationPlatformServi
             
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
             
-            // Execute workflow job template with proper URL encoding
-            String encodedWorkflowName = UriUtils.encodePath(workflowName, StandardCharsets.UTF_8);
-            String url = baseUrl + "/workflow_job_templates/" + encodedWorkflowName + "/launch/";
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
+            String templateId = resolveWorkflowTemplate(workflowName, headers);
+            ResponseEntity<AapJobResponse> response;
+            try {
+                response = launchWorkflowTemplate(templateId, request);
+            } catch (HttpClientErrorException.NotFound e) {
+                if (WorkflowTemplateIdCache.isTemplateId(workflowName)) {
+                    throw e;
+                }
+                // The cached ID may belong to a template that was deleted and recreated: re-resolve once
+                logger.info("Workflow job template ID {} for '{}' is stale, resolving again", templateId, workflowName);
+                evictWorkflowTemplate(workflowName);
+                templateId = resolveWorkflowTemplate(workflowName, headers);
+                response = launchWorkflowTemplate(templateId, request);
+            }
             
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                String jobId = String.valueOf(responseBody.get("id"));
-                String status = String.valueOf(responseBody.get("status"));
-                
-                AutomationExecutionResult result = new AutomationExecutionResult(jobId, status, true, "Workflow executed successfully");
-                result.setMetadata(responseBody);
+                AutomationExecutionResult result = AapResponseMapper.toExecutionResult(response.getBody());
                 
-                logger.info("Workflow '{}' executed successfully with job ID: {}", workflowName, jobId);
+                logger.info("Workflow '{}' executed successfully with job ID: {}", workflowName, result.getJobId());
                 return result;
             } else {
                 throw new AutomationPlatformException.WorkflowExecutionException(workflowName, "Unexpected response status: " + response.getStatusCode());
@@ -89,23 +141,105 @@ public class AnsibleAutomationPlatformService implements AutomationPlatformServi
         }
     }
 
+    /**
+     * Drops the cached workflow job template ID for the given name, forcing the next launch to
+     * resolve it again.
+     *
+     * @param workflowName the workflow job template name
+     */
+    public void evictWorkflowTemplate(String workflowName) {
+        workflowTemplateIds.evict(workflowName);
+    }
+
+    private ResponseEntity<AapJobResponse> launchWorkflowTemplate(String templateId, HttpEntity<Map<String, Object>> request) {
+        String url = baseUrl + "/workflow_job_templates/" + templateId + "/launch/";
+        return exchangeJob(url, HttpMethod.POST, request);
+    }
+
+    /**
+     * Calls a job endpoint and binds the response to {@link AapJobResponse}. With raw response
+     * passthrough enabled the body is read as a map first and kept alongside the typed view.
+     */
+    private ResponseEntity<AapJobResponse> exchangeJob(String url, HttpMethod method, HttpEntity<?> request) {
+        if (!includeRawResponse) {
+            return restTemplate.exchange(url, method, request, AapJobResponse.class);
+        }
+
+        ResponseEntity<Map> response = restTemplate.exchange(url, method, request, Map.class);
+        Map<String, Object> raw = response.getBody();
+        AapJobResponse job = null;
+        if (raw != null) {
+            job = RAW_RESPONSE_MAPPER.convertValue(raw, AapJobResponse.class);
+            job.setRaw(raw);
+        }
+        return new ResponseEntity<>(job, response.getHeaders(), response.getStatusCode());
+    }
+
+    /**
+     * Resolves a workflow job template name to its numeric ID, using the cached value while it is
+     * fresh. Purely numeric names are treated as IDs and launched directly.
+     */
+    private String resolveWorkflowTemplate(String workflowName, HttpHeaders headers) throws AutomationPlatformException {
+        if (WorkflowTemplateIdCache.isTemplateId(workflowName)) {
+            return workflowName;
+        }
+
+        String cached = workflowTemplateIds.get(workflowName);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResponseEntity<AapWorkflowTemplatePage> response = restTemplate.exchange(
+                WorkflowTemplateIdCache.lookupUri(baseUrl, workflowName), HttpMethod.GET,
+                new HttpEntity<Void>(headers), AapWorkflowTemplatePage.class);
+
+        AapWorkflowTemplatePage page = response.getBody();
+        String templateId = WorkflowTemplateIdCache.firstTemplateId(page);
+        if (!response.getStatusCode().is2xxSuccessful() || templateId == null) {
+            throw new AutomationPlatformException.WorkflowExecutionException(workflowName, "Workflow job template not found");
+        }
+        if (page.getResults().size() > 1) {
+            logger.warn("Found {} workflow job templates named '{}', using the first one", page.getResults().size(), workflowName);
+        }
+
+        workflowTemplateIds.put(workflowName, templateId, Duration.ofSeconds(workflowTemplateCacheTtlSeconds));
+        logger.debug("Resolved workflow job template '{}' to ID {}", workflowName, templateId);
+        return templateId;
+    }
+
     @Override
-    @Async
     public CompletableFuture<AutomationExecutionResult> executeWorkflowAsync(String workflowName, Map<String, Object> parameters) {
         try {
-            AutomationExecutionResult result = executeWorkflow(workflowName, parameters);
-            return CompletableFuture.completedFuture(result);
+            return CompletableFuture.supplyAsync(() -> executeWorkflowOrFailure(workflowName, parameters), asyncExecutor);
+        } catch (TaskRejectedException e) {
+            logger.warn("Rejecting async workflow execution of '{}', executor queue is full", workflowName);
+            return CompletableFuture.completedFuture(asyncFailure(
+                new AutomationPlatformException.CapacityExceededException(asyncQueueCapacity)));
+        }
+    }
+
+    private AutomationExecutionResult executeWorkflowOrFailure(String workflowName, Map<String, Object> parameters) {
+        try {
+            return executeWorkflow(workflowName, parameters);
         } catch (AutomationPlatformException e) {
             logger.error("Async workflow execution failed: {}", e.getMessage(), e);
-            AutomationExecutionResult errorResult = AutomationExecutionResult.failure(
-                UUID.randomUUID().toString(), 
-                "Async execution failed: " + e.getMessage(),
-                e.getErrorCode()
-            );
-            return CompletableFuture.completedFuture(errorResult);
+            return asyncFailure(e);
         }
     }
 
+    private static AutomationExecutionResult asyncFailure(AutomationPlatformException e) {
+        return AutomationExecutionResult.failure(
+            UUID.randomUUID().toString(),
+            "Async execution failed: " + e.getMessage(),
+            e.getErrorCode()
+        );
+    }
+
+    @Override
+    public void destroy() {
+        asyncExecutor.shutdown();
+    }
+
     @Override
     public AutomationJobStatus getJobStatus(String jobId) throws AutomationPlatformException {
         logger.debug("Checking status for job ID: {}", jobId);
@@ -142,18 +276,10 @@ public class AnsibleAutomationPlatformService implements AutomationPlatformServi
 
     private AutomationJobStatus fetchJobStatus(String jobId, String url, HttpEntity<Void> request) throws AutomationPlatformException {
         try {
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.GET, request, Map.class);
+            ResponseEntity<AapJobResponse> response = exchangeJob(url, HttpMethod.GET, request);
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-
-                AutomationJobStatus status = new AutomationJobStatus();
-                status.setJobId(jobId);
-                status.setStatus(parseJobStatus(String.valueOf(responseBody.get("status"))));
-                status.setStatusMessage(String.valueOf(responseBody.get("result_traceback")));
-                status.setResult(responseBody);
-
-                return status;
+                return AapResponseMapper.toJobStatus(jobId, response.getBody());
             } else {
                 throw new AutomationPlatformException.JobNotFoundException(jobId);
             }
@@ -200,19 +326,4 @@ public class AnsibleAutomationPlatformService implements AutomationPlatformServi
         headers.set("Content-Type", "application/json");
         return headers;
     }
-
-    private AutomationJobStatus.Status parseJobStatus(String status) {
-        if (status == null) {
-            return AutomationJobStatus.Status.PENDING;
-        }
-        
-        return switch (status.toLowerCase()) {
-            case "pending" -> AutomationJobStatus.Status.PENDING;
-            case "running" -> AutomationJobStatus.Status.RUNNING;
-            case "successful" -> AutomationJobStatus.Status.SUCCESSFUL;
-            case "failed" -> AutomationJobStatus.Status.FAILED;
-            case "canceled", "cancelled" -> AutomationJobStatus.Status.CANCELLED;
-            default -> AutomationJobStatus.Status.ERROR;
-        };
-    }
 }
@@ -0,0 +1,341 @@
+package org.opendevstack.apiservice.externalservice.aap.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.opendevstack.apiservice.externalservice.aap.exception.AutomationPlatformException;
+import org.opendevstack.apiservice.externalservice.aap.model.AapJobResponse;
+import org.opendevstack.apiservice.externalservice.aap.model.AapWorkflowTemplatePage;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
+import org.opendevstack.apiservice.externalservice.aap.service.AutomationPlatformService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Non-blocking implementation of AutomationPlatformService for Ansible Automation Platform, based on
+ * {@link WebClient}. Selected with {@code automation.platform.ansible.client=reactive}.
+ * <p>
+ * All platform calls go through a bounded dispatch queue: at most {@code max-concurrent-requests}
+ * calls are in flight and at most {@code max-pending-requests} wait for a slot. Calls beyond that are
+ * rejected with {@link AutomationPlatformException.CapacityExceededException}. Cancelling a future
+ * returned by {@link #executeWorkflowAsync} drops the call from the queue or cancels the in-flight request.
+ */
+@Service("automationPlatformService")
+@ConditionalOnProperty(name = "automation.platform.ansible.client", havingValue = "reactive")
+public class ReactiveAnsibleAutomationPlatformService implements AutomationPlatformService, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveAnsibleAutomationPlatformService.class);
+
+    private static final ObjectMapper RAW_RESPONSE_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RAW_RESPONSE_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final String username;
+    private final String password;
+    private final Duration timeout;
+    private final Duration workflowTemplateCacheTtl;
+    private final boolean includeRawResponse;
+    private final int maxPendingRequests;
+
+    private final WorkflowTemplateIdCache workflowTemplateIds = new WorkflowTemplateIdCache();
+    private final Sinks.Many<PendingCall<?>> dispatchQueue;
+    private final Disposable dispatcher;
+
+    public ReactiveAnsibleAutomationPlatformService(
+            @Qualifier("aapWebClient") WebClient webClient,
+            @Value("${automation.platform.ansible.base-url:http://localhost:8080/api/v2}") String baseUrl,
+            @Value("${automation.platform.ansible.username:admin}") String username,
+            @Value("${automation.platform.ansible.password:password}") String password,
+            @Value("${automation.platform.ansible.timeout:30000}") int timeoutMs,
+            @Value("${automation.platform.ansible.workflow-template-cache-ttl-seconds:300}") long workflowTemplateCacheTtlSeconds,
+            @Value("${automation.platform.ansible.include-raw-response:false}") boolean includeRawResponse,
+            @Value("${automation.platform.ansible.max-concurrent-requests:16}") int maxConcurrentRequests,
+            @Value("${automation.platform.ansible.max-pending-requests:256}") int maxPendingRequests) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.username = username;
+        this.password = password;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.workflowTemplateCacheTtl = Duration.ofSeconds(workflowTemplateCacheTtlSeconds);
+        this.includeRawResponse = includeRawResponse;
+        this.maxPendingRequests = maxPendingRequests;
+
+        this.dispatchQueue = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(maxPendingRequests));
+        this.dispatcher = dispatchQueue.asFlux()
+                .flatMap(PendingCall::run, maxConcurrentRequests)
+                .subscribe();
+    }
+
+    @Override
+    public AutomationExecutionResult executeWorkflow(String workflowName, Map<String, Object> parameters) throws AutomationPlatformException {
+        logger.info("Executing workflow '{}' with parameters: {}", workflowName, parameters);
+        return await(submit(launchWorkflow(workflowName, parameters)));
+    }
+
+    @Override
+    public CompletableFuture<AutomationExecutionResult> executeWorkflowAsync(String workflowName, Map<String, Object> parameters) {
+        logger.info("Executing workflow '{}' asynchronously with parameters: {}", workflowName, parameters);
+        try {
+            return submit(launchWorkflow(workflowName, parameters)
+                    .onErrorResume(AutomationPlatformException.class, e -> Mono.just(asyncFailure(e))));
+        } catch (AutomationPlatformException e) {
+            return CompletableFuture.completedFuture(asyncFailure(e));
+        }
+    }
+
+    @Override
+    public AutomationJobStatus getJobStatus(String jobId) throws AutomationPlatformException {
+        logger.debug("Checking status for job ID: {}", jobId);
+        return await(submit(fetchJobStatus(jobId, "/jobs/{id}/")));
+    }
+
+    @Override
+    public AutomationJobStatus getWorkflowJobStatus(String workflowId) throws AutomationPlatformException {
+        logger.debug("Checking workflow status for job ID: {}", workflowId);
+        return await(submit(fetchJobStatus(workflowId, "/workflow_jobs/{id}/")));
+    }
+
+    @Override
+    public boolean validateConnection() {
+        try {
+            // Connection checks bypass the dispatch queue so that health probes are not starved by launches
+            Boolean isValid = webClient.get()
+                    .uri(baseUrl + "/ping/")
+                    .headers(this::applyAuthHeaders)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .map(response -> response.getStatusCode().is2xxSuccessful())
+                    .block(timeout);
+            logger.debug("Connection validation: {}", Boolean.TRUE.equals(isValid) ? "successful" : "failed");
+            return Boolean.TRUE.equals(isValid);
+        } catch (Exception e) {
+            logger.warn("Connection validation failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isHealthy() {
+        try {
+            return validateConnection();
+        } catch (Exception e) {
+            logger.debug("Health check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Drops the cached workflow job template ID for the given name, forcing the next launch to
+     * resolve it again.
+     *
+     * @param workflowName the workflow job template name
+     */
+    public void evictWorkflowTemplate(String workflowName) {
+        workflowTemplateIds.evict(workflowName);
+    }
+
+    @Override
+    public void destroy() {
+        dispatchQueue.tryEmitComplete();
+        dispatcher.dispose();
+    }
+
+    private Mono<AutomationExecutionResult> launchWorkflow(String workflowName, Map<String, Object> parameters) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("extra_vars", parameters);
+
+        return resolveWorkflowTemplate(workflowName)
+                .flatMap(templateId -> launchWorkflowTemplate(workflowName, templateId, requestBody))
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> {
+                    if (WorkflowTemplateIdCache.isTemplateId(workflowName)) {
+                        return Mono.error(e);
+                    }
+                    // The cached ID may belong to a template that was deleted and recreated: re-resolve once
+                    logger.info("Workflow job template ID for '{}' is stale, resolving again", workflowName);
+                    workflowTemplateIds.evict(workflowName);
+                    return resolveWorkflowTemplate(workflowName)
+                            .flatMap(templateId -> launchWorkflowTemplate(workflowName, templateId, requestBody));
+                })
+                .map(AapResponseMapper::toExecutionResult)
+                .doOnNext(result -> logger.info("Workflow '{}' executed successfully with job ID: {}", workflowName, result.getJobId()))
+                .onErrorMap(WebClientException.class, e -> {
+                    logger.error("Failed to execute workflow '{}': {}", workflowName, e.getMessage(), e);
+                    return new AutomationPlatformException.WorkflowExecutionException(workflowName, e);
+                });
+    }
+
+    private Mono<AapJobResponse> launchWorkflowTemplate(String workflowName, String templateId, Map<String, Object> requestBody) {
+        WebClient.ResponseSpec response = webClient.post()
+                .uri(baseUrl + "/workflow_job_templates/{id}/launch/", templateId)
+                .headers(this::applyAuthHeaders)
+                .bodyValue(requestBody)
+                .retrieve();
+        return readJob(response)
+                .switchIfEmpty(Mono.error(() -> new AutomationPlatformException.WorkflowExecutionException(
+                        workflowName, "Unexpected response status: empty response body")));
+    }
+
+    /**
+     * Resolves a workflow job template name to its numeric ID, using the cached value while it is
+     * fresh. Purely numeric names are treated as IDs and launched directly.
+     */
+    private Mono<String> resolveWorkflowTemplate(String workflowName) {
+        return Mono.defer(() -> {
+            if (WorkflowTemplateIdCache.isTemplateId(workflowName)) {
+                return Mono.just(workflowName);
+            }
+
+            String cached = workflowTemplateIds.get(workflowName);
+            return cached != null ? Mono.just(cached) : lookupWorkflowTemplate(workflowName);
+        });
+    }
+
+    private Mono<String> lookupWorkflowTemplate(String workflowName) {
+        return webClient.get()
+                .uri(WorkflowTemplateIdCache.lookupUri(baseUrl, workflowName))
+                .headers(this::applyAuthHeaders)
+                .retrieve()
+                .bodyToMono(AapWorkflowTemplatePage.class)
+                .mapNotNull(WorkflowTemplateIdCache::firstTemplateId)
+                .switchIfEmpty(Mono.error(() -> new AutomationPlatformException.WorkflowExecutionException(
+                        workflowName, "Workflow job template not found")))
+                .doOnNext(templateId -> {
+                    workflowTemplateIds.put(workflowName, templateId, workflowTemplateCacheTtl);
+                    logger.debug("Resolved workflow job template '{}' to ID {}", workflowName, templateId);
+                });
+    }
+
+    private Mono<AutomationJobStatus> fetchJobStatus(String jobId, String pathTemplate) {
+        WebClient.ResponseSpec response = webClient.get()
+                .uri(baseUrl + pathTemplate, jobId)
+                .headers(this::applyAuthHeaders)
+                .retrieve();
+        return readJob(response)
+                .map(job -> AapResponseMapper.toJobStatus(jobId, job))
+                .switchIfEmpty(Mono.error(() -> new AutomationPlatformException.JobNotFoundException(jobId)))
+                .onErrorMap(WebClientException.class, e -> {
+                    logger.debug("Job '{}' not found: {}", jobId, e.getMessage());
+                    return new AutomationPlatformException.JobNotFoundException(jobId);
+                });
+    }
+
+    /**
+     * Decodes a job response into {@link AapJobResponse}. With raw response passthrough enabled the
+     * body is read as a map first and kept alongside the typed view.
+     */
+    private Mono<AapJobResponse> readJob(WebClient.ResponseSpec response) {
+        if (!includeRawResponse) {
+            return response.bodyToMono(AapJobResponse.class);
+        }
+        return response.bodyToMono(RAW_RESPONSE_TYPE).map(raw -> {
+            AapJobResponse job = RAW_RESPONSE_MAPPER.convertValue(raw, AapJobResponse.class);
+            job.setRaw(raw);
+            return job;
+        });
+    }
+
+    private void applyAuthHeaders(HttpHeaders headers) {
+        headers.setBasicAuth(username, password);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Enqueues a call for dispatch. The call is subscribed once a concurrency slot is free.
+     *
+     * @throws AutomationPlatformException.CapacityExceededException if the pending queue is full
+     */
+    private <T> CompletableFuture<T> submit(Mono<T> call) throws AutomationPlatformException {
+        PendingCall<T> pendingCall = new PendingCall<>(call, new CompletableFuture<>());
+        Sinks.EmitResult result;
+        do {
+            // FAIL_NON_SERIALIZED only means another thread is emitting at the same time
+            result = dispatchQueue.tryEmitNext(pendingCall);
+        } while (result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+
+        if (result.isFailure()) {
+            logger.warn("Rejecting automation platform call, dispatch queue is full ({})", result);
+            throw new AutomationPlatformException.CapacityExceededException(maxPendingRequests);
+        }
+        return pendingCall.future();
+    }
+
+    private <T> T await(CompletableFuture<T> future) throws AutomationPlatformException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AutomationPlatformException automationPlatformException) {
+                throw automationPlatformException;
+            }
+            throw new AutomationPlatformException("Automation platform call failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new AutomationPlatformException("Interrupted while waiting for the automation platform", e);
+        }
+    }
+
+    private AutomationExecutionResult asyncFailure(AutomationPlatformException e) {
+        logger.error("Async workflow execution failed: {}", e.getMessage(), e);
+        return AutomationExecutionResult.failure(
+            UUID.randomUUID().toString(),
+            "Async execution failed: " + e.getMessage(),
+            e.getErrorCode()
+        );
+    }
+
+    /**
+     * A queued platform call and the future handed out to the caller.
+     */
+    private record PendingCall<T>(Mono<T> call, CompletableFuture<T> future) {
+
+        Mono<Void> run() {
+            if (future.isDone()) {
+                // Cancelled while waiting in the queue
+                return Mono.empty();
+            }
+            Mono<Boolean> cancelled = Mono.create(sink -> future.whenComplete((value, error) -> {
+                if (future.isCancelled()) {
+                    sink.success(Boolean.TRUE);
+                } else {
+                    sink.success();
+                }
+            }));
+            return call
+                    .doOnNext(future::complete)
+                    .doOnError(future::completeExceptionally)
+                    .doOnSuccess(value -> {
+                        if (value == null) {
+                            future.complete(null);
+                        }
+                    })
+                    .takeUntilOther(cancelled)
+                    .onErrorResume(e -> Mono.empty())
+                    .then();
+        }
+    }
+}
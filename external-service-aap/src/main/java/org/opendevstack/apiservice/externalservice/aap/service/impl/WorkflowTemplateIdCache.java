@@ -0,0 +1,66 @@
+package org.opendevstack.apiservice.externalservice.aap.service.impl;
+
+import org.opendevstack.apiservice.externalservice.aap.model.AapWorkflowTemplatePage;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Workflow job template IDs resolved by name, shared by the AAP client implementations. Launching by
+ * numeric ID avoids a name lookup on the AAP side and works for names that do not survive path
+ * encoding (e.g. containing '++').
+ */
+class WorkflowTemplateIdCache {
+
+    private final ConcurrentMap<String, Entry> ids = new ConcurrentHashMap<>();
+
+    /**
+     * Purely numeric workflow names are treated as template IDs and launched without a lookup.
+     */
+    static boolean isTemplateId(String workflowName) {
+        return workflowName != null && !workflowName.isEmpty() && workflowName.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * Builds the lookup URI for a template name, strictly encoding the name as a query parameter.
+     */
+    static URI lookupUri(String baseUrl, String workflowName) {
+        return UriComponentsBuilder.fromUriString(baseUrl + "/workflow_job_templates/")
+                .queryParam("name", "{name}")
+                .encode()
+                .buildAndExpand(workflowName)
+                .toUri();
+    }
+
+    /**
+     * Returns the ID of the first template in the page, or {@code null} if the page holds none.
+     */
+    static String firstTemplateId(AapWorkflowTemplatePage page) {
+        List<AapWorkflowTemplatePage.Template> results = page != null && page.getResults() != null ? page.getResults() : List.of();
+        if (results.isEmpty() || results.get(0).getId() == null) {
+            return null;
+        }
+        return String.valueOf(results.get(0).getId());
+    }
+
+    String get(String workflowName) {
+        Entry entry = ids.get(workflowName);
+        return entry != null && Instant.now().isBefore(entry.expiresAt()) ? entry.id() : null;
+    }
+
+    void put(String workflowName, String templateId, Duration ttl) {
+        ids.put(workflowName, new Entry(templateId, Instant.now().plus(ttl)));
+    }
+
+    void evict(String workflowName) {
+        ids.remove(workflowName);
+    }
+
+    private record Entry(String id, Instant expiresAt) {
+    }
+}
@@ -1,8 +1,11 @@
 package org.opendevstack.apiservice.externalservice.aap.service.impl;
 
 import org.opendevstack.apiservice.externalservice.aap.exception.AutomationPlatformException;
+import org.opendevstack.apiservice.externalservice.aap.model.AapJobResponse;
+import org.opendevstack.apiservice.externalservice.aap.model.AapWorkflowTemplatePage;
 import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
 import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,13 +19,21 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -51,6 +62,8 @@ class AnsibleAutomationPlatformServiceTest {
     private static final String USERNAME = "testuser";
     private static final String PASSWORD = "testpass";
     private static final int TIMEOUT = 30000;
+    private static final String TEMPLATE_ID = "42";
+    private static final String LAUNCH_URL = BASE_URL + "/workflow_job_templates/" + TEMPLATE_ID + "/launch/";
 
     @BeforeEach
     void setUp() {
@@ -61,6 +74,45 @@ class AnsibleAutomationPlatformServiceTest {
         ReflectionTestUtils.setField(service, "timeoutMs", TIMEOUT);
     }
 
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    private static AapJobResponse job(String id, String status) {
+        AapJobResponse job = new AapJobResponse();
+        job.setId(id);
+        job.setStatus(status);
+        return job;
+    }
+
+    private static AapWorkflowTemplatePage templatePage(Long... ids) {
+        AapWorkflowTemplatePage page = new AapWorkflowTemplatePage();
+        page.setCount(ids.length);
+        page.setResults(Arrays.stream(ids).map(id -> {
+            AapWorkflowTemplatePage.Template template = new AapWorkflowTemplatePage.Template();
+            template.setId(id);
+            return template;
+        }).toList());
+        return page;
+    }
+
+    private void stubWorkflowTemplateLookup(String templateId) {
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class)))
+                .thenReturn(new ResponseEntity<>(templatePage(Long.valueOf(templateId)), HttpStatus.OK));
+    }
+
+    private void stubLaunch(ResponseEntity<AapJobResponse> response) {
+        stubWorkflowTemplateLookup(TEMPLATE_ID);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenReturn(response);
+    }
+
+    private void stubJobStatus(AapJobResponse job) {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenReturn(new ResponseEntity<>(job, HttpStatus.OK));
+    }
+
     @Test
     void executeWorkflow_Success() throws AutomationPlatformException {
         // Arrange
@@ -69,14 +121,7 @@ class AnsibleAutomationPlatformServiceTest {
         parameters.put("env", "dev");
         parameters.put("region", "us-east-1");
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "12345");
-        responseBody.put("status", "pending");
-        responseBody.put("url", BASE_URL + "/workflow_jobs/12345/");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("12345", "pending"), HttpStatus.OK));
 
         // Act
         AutomationExecutionResult result = service.executeWorkflow(workflowName, parameters);
@@ -87,14 +132,14 @@ class AnsibleAutomationPlatformServiceTest {
         assertEquals("pending", result.getStatus());
         assertTrue(result.isSuccessful());
         assertEquals("Workflow executed successfully", result.getMessage());
-        assertNotNull(result.getMetadata());
-        assertEquals(responseBody, result.getMetadata());
+        assertNull(result.getMetadata());
 
         // Verify REST call
-        verify(restTemplate).postForEntity(
-                eq(BASE_URL + "/workflow_job_templates/" + workflowName + "/launch/"),
+        verify(restTemplate).exchange(
+                eq(LAUNCH_URL),
+                eq(HttpMethod.POST),
                 httpEntityCaptor.capture(),
-                eq(Map.class)
+                eq(AapJobResponse.class)
         );
 
         HttpEntity<Map<String, Object>> capturedEntity = httpEntityCaptor.getValue();
@@ -113,13 +158,7 @@ class AnsibleAutomationPlatformServiceTest {
         String workflowName = "test-workflow";
         Map<String, Object> parameters = null;
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "12345");
-        responseBody.put("status", "pending");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("12345", "pending"), HttpStatus.OK));
 
         // Act
         AutomationExecutionResult result = service.executeWorkflow(workflowName, parameters);
@@ -137,7 +176,8 @@ class AnsibleAutomationPlatformServiceTest {
         Map<String, Object> parameters = new HashMap<>();
         parameters.put("env", "dev");
 
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+        stubWorkflowTemplateLookup(TEMPLATE_ID);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
                 .thenThrow(new RestClientException("Connection timeout"));
 
         // Act & Assert
@@ -156,9 +196,7 @@ class AnsibleAutomationPlatformServiceTest {
         String workflowName = "test-workflow";
         Map<String, Object> parameters = new HashMap<>();
 
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR));
 
         // Act & Assert
         AutomationPlatformException.WorkflowExecutionException exception = assertThrows(
@@ -175,9 +213,7 @@ class AnsibleAutomationPlatformServiceTest {
         String workflowName = "test-workflow";
         Map<String, Object> parameters = new HashMap<>();
 
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(null, HttpStatus.OK));
 
         // Act & Assert
         AutomationPlatformException.WorkflowExecutionException exception = assertThrows(
@@ -188,6 +224,28 @@ class AnsibleAutomationPlatformServiceTest {
         assertTrue(exception.getMessage().contains("Unexpected response status"));
     }
 
+    @Test
+    void executeWorkflow_RawResponsePassthrough() throws AutomationPlatformException {
+        // Arrange
+        ReflectionTestUtils.setField(service, "includeRawResponse", true);
+        Map<String, Object> responseBody = new HashMap<>();
+        responseBody.put("id", 12345);
+        responseBody.put("status", "pending");
+        responseBody.put("url", BASE_URL + "/workflow_jobs/12345/");
+
+        stubWorkflowTemplateLookup(TEMPLATE_ID);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(new ResponseEntity<>(responseBody, HttpStatus.OK));
+
+        // Act
+        AutomationExecutionResult result = service.executeWorkflow("test-workflow", new HashMap<>());
+
+        // Assert
+        assertEquals("12345", result.getJobId());
+        assertEquals("pending", result.getStatus());
+        assertEquals(responseBody, result.getMetadata());
+    }
+
     @Test
     void executeWorkflowAsync_Success() throws ExecutionException, InterruptedException {
         // Arrange
@@ -195,16 +253,10 @@ class AnsibleAutomationPlatformServiceTest {
         Map<String, Object> parameters = new HashMap<>();
         parameters.put("env", "prod");
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "67890");
-        responseBody.put("status", "running");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("67890", "running"), HttpStatus.OK));
 
         // Act
-        CompletableFuture<AutomationExecutionResult> futureResult = 
+        CompletableFuture<AutomationExecutionResult> futureResult =
                 service.executeWorkflowAsync(workflowName, parameters);
 
         // Assert
@@ -216,17 +268,49 @@ class AnsibleAutomationPlatformServiceTest {
         assertTrue(result.isSuccessful());
     }
 
+    @Test
+    void executeWorkflowAsync_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange
+        service.destroy();
+        service = new AnsibleAutomationPlatformService(restTemplate, 1, 1);
+        ReflectionTestUtils.setField(service, "baseUrl", BASE_URL);
+        ReflectionTestUtils.setField(service, "username", USERNAME);
+        ReflectionTestUtils.setField(service, "password", PASSWORD);
+        ReflectionTestUtils.setField(service, "timeoutMs", TIMEOUT);
+        CountDownLatch release = new CountDownLatch(1);
+        stubWorkflowTemplateLookup(TEMPLATE_ID);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenAnswer(invocation -> {
+                    assertTrue(release.await(5, TimeUnit.SECONDS));
+                    return new ResponseEntity<>(job("67890", "running"), HttpStatus.OK);
+                });
+
+        // Act
+        CompletableFuture<AutomationExecutionResult> inFlight = service.executeWorkflowAsync("test-workflow", Map.of());
+        CompletableFuture<AutomationExecutionResult> queued = service.executeWorkflowAsync("test-workflow", Map.of());
+        CompletableFuture<AutomationExecutionResult> rejected = service.executeWorkflowAsync("test-workflow", Map.of());
+        release.countDown();
+
+        // Assert
+        AutomationExecutionResult rejectedResult = rejected.get(1, TimeUnit.SECONDS);
+        assertFalse(rejectedResult.isSuccessful());
+        assertEquals("CAPACITY_EXCEEDED", rejectedResult.getErrorDetails());
+        assertTrue(inFlight.get(5, TimeUnit.SECONDS).isSuccessful());
+        assertTrue(queued.get(5, TimeUnit.SECONDS).isSuccessful());
+    }
+
     @Test
     void executeWorkflowAsync_Failure() throws ExecutionException, InterruptedException {
         // Arrange
         String workflowName = "test-workflow";
         Map<String, Object> parameters = new HashMap<>();
 
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
+        stubWorkflowTemplateLookup(TEMPLATE_ID);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
                 .thenThrow(new RestClientException("Network error"));
 
         // Act
-        CompletableFuture<AutomationExecutionResult> futureResult = 
+        CompletableFuture<AutomationExecutionResult> futureResult =
                 service.executeWorkflowAsync(workflowName, parameters);
 
         // Assert
@@ -242,15 +326,11 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_Success() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", jobId);
-        responseBody.put("status", "successful");
-        responseBody.put("result_traceback", "Job completed successfully");
-        responseBody.put("elapsed", 125.5);
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        AapJobResponse job = job(jobId, "successful");
+        job.setResultTraceback("Job completed successfully");
+        job.setElapsed(125.5);
+        job.setFinished(OffsetDateTime.of(2025, 1, 2, 10, 15, 30, 0, ZoneOffset.UTC));
+        stubJobStatus(job);
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -260,28 +340,49 @@ class AnsibleAutomationPlatformServiceTest {
         assertEquals(jobId, status.getJobId());
         assertEquals(AutomationJobStatus.Status.SUCCESSFUL, status.getStatus());
         assertEquals("Job completed successfully", status.getStatusMessage());
-        assertNotNull(status.getResult());
-        assertEquals(responseBody, status.getResult());
+        assertEquals(125.5, status.getElapsedSeconds());
+        assertEquals(LocalDateTime.of(2025, 1, 2, 10, 15, 30), status.getFinishedAt());
+        assertNull(status.getResult());
 
         verify(restTemplate).exchange(
                 eq(BASE_URL + "/jobs/" + jobId + "/"),
                 eq(HttpMethod.GET),
                 httpEntityVoidCaptor.capture(),
-                eq(Map.class)
+                eq(AapJobResponse.class)
         );
     }
 
     @Test
-    void getJobStatus_PendingStatus() throws AutomationPlatformException {
+    void getJobStatus_RawResponsePassthrough() throws AutomationPlatformException {
         // Arrange
-        String jobId = "12345";
+        ReflectionTestUtils.setField(service, "includeRawResponse", true);
         Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", jobId);
-        responseBody.put("status", "pending");
+        responseBody.put("id", 12345);
+        responseBody.put("status", "failed");
+        responseBody.put("result_traceback", "Traceback");
+        responseBody.put("elapsed", 3.5);
+        responseBody.put("finished", "2025-01-02T10:15:30.123456Z");
+        responseBody.put("summary_fields", Map.of("workflow_job_template", Map.of("id", 42)));
 
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
         when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+                .thenReturn(new ResponseEntity<>(responseBody, HttpStatus.OK));
+
+        // Act
+        AutomationJobStatus status = service.getJobStatus("12345");
+
+        // Assert
+        assertEquals(AutomationJobStatus.Status.FAILED, status.getStatus());
+        assertEquals("Traceback", status.getStatusMessage());
+        assertEquals(3.5, status.getElapsedSeconds());
+        assertNotNull(status.getFinishedAt());
+        assertEquals(responseBody, status.getResult());
+    }
+
+    @Test
+    void getJobStatus_PendingStatus() throws AutomationPlatformException {
+        // Arrange
+        String jobId = "12345";
+        stubJobStatus(job(jobId, "pending"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -294,12 +395,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_RunningStatus() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", "running");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, "running"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -312,12 +408,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_FailedStatus() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", "failed");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, "failed"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -330,12 +421,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_CancelledStatus() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", "canceled");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, "canceled"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -348,12 +434,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_CancelledAlternativeSpelling() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", "cancelled");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, "cancelled"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -366,12 +447,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_UnknownStatus() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", "unknown_status");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, "unknown_status"));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -384,12 +460,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_NullStatus() throws AutomationPlatformException {
         // Arrange
         String jobId = "12345";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("status", null);
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(null, null));
 
         // Act
         AutomationJobStatus status = service.getJobStatus(jobId);
@@ -403,7 +474,7 @@ class AnsibleAutomationPlatformServiceTest {
         // Arrange
         String jobId = "99999";
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapJobResponse.class)))
                 .thenThrow(new RestClientException("404 Not Found"));
 
         // Act & Assert
@@ -421,9 +492,8 @@ class AnsibleAutomationPlatformServiceTest {
         // Arrange
         String jobId = "12345";
 
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenReturn(new ResponseEntity<>(null, HttpStatus.OK));
 
         // Act & Assert
         assertThrows(
@@ -436,14 +506,9 @@ class AnsibleAutomationPlatformServiceTest {
     void getWorkflowJobStatus_Success() throws AutomationPlatformException {
         // Arrange
         String workflowId = "67890";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", workflowId);
-        responseBody.put("status", "successful");
-        responseBody.put("result_traceback", "Workflow completed");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        AapJobResponse job = job(workflowId, "successful");
+        job.setResultTraceback("Workflow completed");
+        stubJobStatus(job);
 
         // Act
         AutomationJobStatus status = service.getWorkflowJobStatus(workflowId);
@@ -458,7 +523,7 @@ class AnsibleAutomationPlatformServiceTest {
                 eq(BASE_URL + "/workflow_jobs/" + workflowId + "/"),
                 eq(HttpMethod.GET),
                 any(HttpEntity.class),
-                eq(Map.class)
+                eq(AapJobResponse.class)
         );
     }
 
@@ -467,7 +532,7 @@ class AnsibleAutomationPlatformServiceTest {
         // Arrange
         String workflowId = "99999";
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapJobResponse.class)))
                 .thenThrow(new RestClientException("404 Not Found"));
 
         // Act & Assert
@@ -566,19 +631,13 @@ class AnsibleAutomationPlatformServiceTest {
         String workflowName = "test-workflow";
         Map<String, Object> parameters = new HashMap<>();
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "12345");
-        responseBody.put("status", "pending");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("12345", "pending"), HttpStatus.OK));
 
         // Act
         service.executeWorkflow(workflowName, parameters);
 
         // Assert
-        verify(restTemplate).postForEntity(anyString(), httpEntityCaptor.capture(), eq(Map.class));
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), httpEntityCaptor.capture(), eq(AapJobResponse.class));
         HttpHeaders headers = httpEntityCaptor.getValue().getHeaders();
 
         // Verify Basic Auth is set
@@ -593,13 +652,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getJobStatus_VerifyUrl() throws AutomationPlatformException {
         // Arrange
         String jobId = "test-job-123";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", jobId);
-        responseBody.put("status", "running");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(jobId, "running"));
 
         // Act
         service.getJobStatus(jobId);
@@ -609,7 +662,7 @@ class AnsibleAutomationPlatformServiceTest {
                 eq(BASE_URL + "/jobs/" + jobId + "/"),
                 eq(HttpMethod.GET),
                 any(HttpEntity.class),
-                eq(Map.class)
+                eq(AapJobResponse.class)
         );
     }
 
@@ -617,13 +670,7 @@ class AnsibleAutomationPlatformServiceTest {
     void getWorkflowJobStatus_VerifyUrl() throws AutomationPlatformException {
         // Arrange
         String workflowId = "test-workflow-456";
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", workflowId);
-        responseBody.put("status", "pending");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubJobStatus(job(workflowId, "pending"));
 
         // Act
         service.getWorkflowJobStatus(workflowId);
@@ -633,7 +680,7 @@ class AnsibleAutomationPlatformServiceTest {
                 eq(BASE_URL + "/workflow_jobs/" + workflowId + "/"),
                 eq(HttpMethod.GET),
                 any(HttpEntity.class),
-                eq(Map.class)
+                eq(AapJobResponse.class)
         );
     }
 
@@ -646,22 +693,16 @@ class AnsibleAutomationPlatformServiceTest {
         parameters.put("version", "1.2.3");
         parameters.put("replicas", 3);
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "99999");
-        responseBody.put("status", "pending");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("99999", "pending"), HttpStatus.OK));
 
         // Act
         service.executeWorkflow(workflowName, parameters);
 
         // Assert
-        verify(restTemplate).postForEntity(anyString(), httpEntityCaptor.capture(), eq(Map.class));
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), httpEntityCaptor.capture(), eq(AapJobResponse.class));
         Map<String, Object> requestBody = httpEntityCaptor.getValue().getBody();
         assertNotNull(requestBody);
-        
+
         Map<String, Object> extraVars = (Map<String, Object>) requestBody.get("extra_vars");
         assertNotNull(extraVars);
         assertEquals("my-app", extraVars.get("app_name"));
@@ -675,13 +716,7 @@ class AnsibleAutomationPlatformServiceTest {
         String workflowName = "test-workflow";
         Map<String, Object> parameters = new HashMap<>();
 
-        Map<String, Object> responseBody = new HashMap<>();
-        responseBody.put("id", "12345");
-        responseBody.put("status", "pending");
-
-        ResponseEntity<Map> responseEntity = new ResponseEntity<>(responseBody, HttpStatus.OK);
-        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Map.class)))
-                .thenReturn(responseEntity);
+        stubLaunch(new ResponseEntity<>(job("12345", "pending"), HttpStatus.OK));
 
         // Act
         AutomationExecutionResult result = service.executeWorkflow(workflowName, parameters);
@@ -689,6 +724,83 @@ class AnsibleAutomationPlatformServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isSuccessful());
-        verify(restTemplate).postForEntity(anyString(), httpEntityCaptor.capture(), eq(Map.class));
+        verify(restTemplate).exchange(anyString(), eq(HttpMethod.POST), httpEntityCaptor.capture(), eq(AapJobResponse.class));
+    }
+
+    @Test
+    void executeWorkflow_TemplateIdIsCached() throws AutomationPlatformException {
+        // Arrange
+        stubLaunch(new ResponseEntity<>(job("1", "pending"), HttpStatus.OK));
+
+        // Act
+        service.executeWorkflow("test-workflow", new HashMap<>());
+        service.executeWorkflow("test-workflow", new HashMap<>());
+
+        // Assert
+        verify(restTemplate, times(1)).exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class));
+        verify(restTemplate, times(2)).exchange(eq(LAUNCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class));
+    }
+
+    @Test
+    void executeWorkflow_TemplateLookupEncodesName() throws AutomationPlatformException {
+        // Arrange
+        stubLaunch(new ResponseEntity<>(job("1", "pending"), HttpStatus.OK));
+        ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+
+        // Act
+        service.executeWorkflow("ansible++workflow", new HashMap<>());
+
+        // Assert
+        verify(restTemplate).exchange(uriCaptor.capture(), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class));
+        assertEquals(BASE_URL + "/workflow_job_templates/?name=ansible%2B%2Bworkflow", uriCaptor.getValue().toString());
+    }
+
+    @Test
+    void executeWorkflow_StaleTemplateIdIsResolvedAgain() throws AutomationPlatformException {
+        // Arrange
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class)))
+                .thenReturn(new ResponseEntity<>(templatePage(42L), HttpStatus.OK))
+                .thenReturn(new ResponseEntity<>(templatePage(43L), HttpStatus.OK));
+        when(restTemplate.exchange(eq(BASE_URL + "/workflow_job_templates/42/launch/"), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, null));
+        when(restTemplate.exchange(eq(BASE_URL + "/workflow_job_templates/43/launch/"), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenReturn(new ResponseEntity<>(job("1", "pending"), HttpStatus.OK));
+
+        // Act
+        AutomationExecutionResult result = service.executeWorkflow("test-workflow", new HashMap<>());
+
+        // Assert
+        assertTrue(result.isSuccessful());
+        verify(restTemplate, times(2)).exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class));
+    }
+
+    @Test
+    void executeWorkflow_NumericNameLaunchesDirectly() throws AutomationPlatformException {
+        // Arrange
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class)))
+                .thenReturn(new ResponseEntity<>(job("1", "pending"), HttpStatus.OK));
+
+        // Act
+        service.executeWorkflow("17", new HashMap<>());
+
+        // Assert
+        verify(restTemplate, never()).exchange(any(URI.class), any(HttpMethod.class), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class));
+        verify(restTemplate).exchange(eq(BASE_URL + "/workflow_job_templates/17/launch/"), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class));
+    }
+
+    @Test
+    void executeWorkflow_TemplateNotFound() {
+        // Arrange
+        when(restTemplate.exchange(any(URI.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(AapWorkflowTemplatePage.class)))
+                .thenReturn(new ResponseEntity<>(templatePage(), HttpStatus.OK));
+
+        // Act & Assert
+        AutomationPlatformException.WorkflowExecutionException exception = assertThrows(
+                AutomationPlatformException.WorkflowExecutionException.class,
+                () -> service.executeWorkflow("missing-workflow", new HashMap<>())
+        );
+
+        assertTrue(exception.getMessage().contains("Workflow job template not found"));
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(AapJobResponse.class));
     }
 }
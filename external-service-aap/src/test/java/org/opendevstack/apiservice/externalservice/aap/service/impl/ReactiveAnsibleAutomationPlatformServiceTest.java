@@ -0,0 +1,232 @@
+package org.opendevstack.apiservice.externalservice.aap.service.impl;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.externalservice.aap.exception.AutomationPlatformException;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationExecutionResult;
+import org.opendevstack.apiservice.externalservice.aap.model.AutomationJobStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReactiveAnsibleAutomationPlatformService against a WireMock AAP stub.
+ */
+class ReactiveAnsibleAutomationPlatformServiceTest {
+
+    private static final String LOOKUP_PATH = "/api/v2/workflow_job_templates/";
+    private static final String LAUNCH_PATH = "/api/v2/workflow_job_templates/42/launch/";
+
+    private WireMockServer wireMockServer;
+
+    private ReactiveAnsibleAutomationPlatformService service;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(options().dynamicPort());
+        wireMockServer.start();
+        service = createService(16, 256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+        wireMockServer.stop();
+    }
+
+    private ReactiveAnsibleAutomationPlatformService createService(int maxConcurrentRequests, int maxPendingRequests) {
+        return new ReactiveAnsibleAutomationPlatformService(WebClient.builder().build(),
+                wireMockServer.baseUrl() + "/api/v2", "testuser", "testpass", 5000, 300, false,
+                maxConcurrentRequests, maxPendingRequests);
+    }
+
+    private void stubTemplateLookup(long templateId) {
+        wireMockServer.stubFor(get(urlPathEqualTo(LOOKUP_PATH))
+                .willReturn(okJson("{\"count\":1,\"results\":[{\"id\":" + templateId + ",\"name\":\"test-workflow\"}]}")));
+    }
+
+    @Test
+    void executeWorkflow_LaunchesResolvedTemplate() throws AutomationPlatformException {
+        // Arrange
+        stubTemplateLookup(42);
+        wireMockServer.stubFor(post(urlEqualTo(LAUNCH_PATH))
+                .willReturn(okJson("{\"id\":12345,\"status\":\"pending\",\"related\":{\"stdout\":\"/x\"}}")));
+
+        // Act
+        AutomationExecutionResult result = service.executeWorkflow("ansible++workflow", Map.of("env", "dev"));
+
+        // Assert
+        assertTrue(result.isSuccessful());
+        assertEquals("12345", result.getJobId());
+        assertEquals("pending", result.getStatus());
+        assertNull(result.getMetadata());
+        wireMockServer.verify(getRequestedFor(urlEqualTo(LOOKUP_PATH + "?name=ansible%2B%2Bworkflow")));
+        wireMockServer.verify(postRequestedFor(urlEqualTo(LAUNCH_PATH))
+                .withHeader("Authorization", matching("Basic .*"))
+                .withRequestBody(equalToJson("{\"extra_vars\":{\"env\":\"dev\"}}")));
+    }
+
+    @Test
+    void executeWorkflow_TemplateIdIsCached() throws AutomationPlatformException {
+        // Arrange
+        stubTemplateLookup(42);
+        wireMockServer.stubFor(post(urlEqualTo(LAUNCH_PATH)).willReturn(okJson("{\"id\":1,\"status\":\"pending\"}")));
+
+        // Act
+        service.executeWorkflow("test-workflow", Map.of());
+        service.executeWorkflow("test-workflow", Map.of());
+
+        // Assert
+        wireMockServer.verify(1, getRequestedFor(urlPathEqualTo(LOOKUP_PATH)));
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo(LAUNCH_PATH)));
+    }
+
+    @Test
+    void executeWorkflow_StaleTemplateIdIsResolvedAgain() throws AutomationPlatformException {
+        // Arrange
+        wireMockServer.stubFor(get(urlPathEqualTo(LOOKUP_PATH)).inScenario("recreated")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(okJson("{\"results\":[{\"id\":42}]}"))
+                .willSetStateTo("resolved"));
+        wireMockServer.stubFor(get(urlPathEqualTo(LOOKUP_PATH)).inScenario("recreated")
+                .whenScenarioStateIs("resolved")
+                .willReturn(okJson("{\"results\":[{\"id\":43}]}")));
+        wireMockServer.stubFor(post(urlEqualTo(LAUNCH_PATH)).willReturn(notFound()));
+        wireMockServer.stubFor(post(urlEqualTo("/api/v2/workflow_job_templates/43/launch/"))
+                .willReturn(okJson("{\"id\":1,\"status\":\"pending\"}")));
+
+        // Act
+        AutomationExecutionResult result = service.executeWorkflow("test-workflow", Map.of());
+
+        // Assert
+        assertTrue(result.isSuccessful());
+        wireMockServer.verify(2, getRequestedFor(urlPathEqualTo(LOOKUP_PATH)));
+    }
+
+    @Test
+    void executeWorkflow_TemplateNotFound() {
+        // Arrange
+        wireMockServer.stubFor(get(urlPathEqualTo(LOOKUP_PATH)).willReturn(okJson("{\"count\":0,\"results\":[]}")));
+
+        // Act & Assert
+        AutomationPlatformException.WorkflowExecutionException exception = assertThrows(
+                AutomationPlatformException.WorkflowExecutionException.class,
+                () -> service.executeWorkflow("missing-workflow", Map.of()));
+        assertTrue(exception.getMessage().contains("Workflow job template not found"));
+    }
+
+    @Test
+    void executeWorkflowAsync_Failure() throws Exception {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo("/api/v2/workflow_job_templates/17/launch/")).willReturn(serverError()));
+
+        // Act
+        AutomationExecutionResult result = service.executeWorkflowAsync("17", Map.of()).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(result.isSuccessful());
+        assertTrue(result.getMessage().contains("Async execution failed"));
+        assertEquals("WORKFLOW_EXECUTION_FAILED", result.getErrorDetails());
+    }
+
+    @Test
+    void executeWorkflowAsync_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange
+        service.destroy();
+        service = createService(1, 1);
+        wireMockServer.stubFor(post(urlEqualTo("/api/v2/workflow_job_templates/17/launch/"))
+                .willReturn(okJson("{\"id\":1,\"status\":\"pending\"}").withFixedDelay(500)));
+
+        // Act
+        CompletableFuture<AutomationExecutionResult> inFlight = service.executeWorkflowAsync("17", Map.of());
+        CompletableFuture<AutomationExecutionResult> queued = service.executeWorkflowAsync("17", Map.of());
+        CompletableFuture<AutomationExecutionResult> rejected = service.executeWorkflowAsync("17", Map.of());
+
+        // Assert
+        AutomationExecutionResult rejectedResult = rejected.get(1, TimeUnit.SECONDS);
+        assertFalse(rejectedResult.isSuccessful());
+        assertEquals("CAPACITY_EXCEEDED", rejectedResult.getErrorDetails());
+        assertTrue(inFlight.get(5, TimeUnit.SECONDS).isSuccessful());
+        assertTrue(queued.get(5, TimeUnit.SECONDS).isSuccessful());
+    }
+
+    @Test
+    void executeWorkflowAsync_CancelledWhileQueuedIsNotSent() throws Exception {
+        // Arrange
+        service.destroy();
+        service = createService(1, 10);
+        wireMockServer.stubFor(post(urlEqualTo("/api/v2/workflow_job_templates/17/launch/"))
+                .willReturn(okJson("{\"id\":1,\"status\":\"pending\"}").withFixedDelay(300)));
+
+        // Act
+        CompletableFuture<AutomationExecutionResult> inFlight = service.executeWorkflowAsync("17", Map.of());
+        CompletableFuture<AutomationExecutionResult> queued = service.executeWorkflowAsync("17", Map.of());
+        queued.cancel(true);
+        inFlight.get(5, TimeUnit.SECONDS);
+        Thread.sleep(200);
+
+        // Assert
+        assertTrue(queued.isCancelled());
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v2/workflow_job_templates/17/launch/")));
+    }
+
+    @Test
+    void getWorkflowJobStatus_BindsUsedFields() throws AutomationPlatformException {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v2/workflow_jobs/67890/"))
+                .willReturn(okJson("{\"id\":67890,\"status\":\"successful\",\"result_traceback\":\"\","
+                        + "\"finished\":\"2025-01-02T10:15:30.123456Z\",\"elapsed\":12.5,"
+                        + "\"summary_fields\":{\"labels\":{\"count\":0}},\"extra_vars\":\"{}\"}")));
+
+        // Act
+        AutomationJobStatus status = service.getWorkflowJobStatus("67890");
+
+        // Assert
+        assertEquals("67890", status.getJobId());
+        assertEquals(AutomationJobStatus.Status.SUCCESSFUL, status.getStatus());
+        assertEquals(12.5, status.getElapsedSeconds());
+        assertEquals(LocalDateTime.of(2025, 1, 2, 10, 15, 30, 123456000), status.getFinishedAt());
+        assertNull(status.getResult());
+    }
+
+    @Test
+    void getJobStatus_JobNotFound() {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v2/jobs/99999/")).willReturn(notFound()));
+
+        // Act & Assert
+        AutomationPlatformException.JobNotFoundException exception = assertThrows(
+                AutomationPlatformException.JobNotFoundException.class,
+                () -> service.getJobStatus("99999"));
+        assertEquals("JOB_NOT_FOUND", exception.getErrorCode());
+    }
+
+    @Test
+    void validateConnection_Success() {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v2/ping/")).willReturn(okJson("{\"ha\":false}")));
+
+        // Act & Assert
+        assertTrue(service.validateConnection());
+        assertTrue(service.isHealthy());
+    }
+
+    @Test
+    void validateConnection_Failure() {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v2/ping/")).willReturn(unauthorized()));
+
+        // Act & Assert
+        assertFalse(service.validateConnection());
+    }
+}
@@ -1,5 +1,7 @@
 package org.opendevstack.apiservice.externalservice.bitbucket.client;
 
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.ProjectApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
 import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration.BitbucketInstanceConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.client.RestTemplate;
@@ -18,6 +20,8 @@ public class BitbucketApiClient {
     private final String instanceName;
     private final BitbucketInstanceConfig config;
     private final ApiClient apiClient;
+    private final ProjectApi projectApi;
+    private final RepositoryApi repositoryApi;
     
     /**
      * Constructor for BitbucketApiClient
@@ -55,6 +59,10 @@ public class BitbucketApiClient {
             log.warn("BitbucketApiClient initialized for instance '{}' without authentication (neither bearer token nor username/password provided)", 
                      instanceName);
         }
+
+        // The generated API wrappers are stateless apart from the ApiClient, so they are shared by all calls
+        this.projectApi = new ProjectApi(apiClient);
+        this.repositoryApi = new RepositoryApi(apiClient);
     }
     
     /**
@@ -66,6 +74,24 @@ public class BitbucketApiClient {
         return apiClient;
     }
     
+    /**
+     * Get the generated project API bound to this instance
+     * 
+     * @return The ProjectApi instance
+     */
+    public ProjectApi getProjectApi() {
+        return projectApi;
+    }
+    
+    /**
+     * Get the generated repository API bound to this instance
+     * 
+     * @return The RepositoryApi instance
+     */
+    public RepositoryApi getRepositoryApi() {
+        return repositoryApi;
+    }
+    
     /**
      * Get the instance name this client is configured for
      * 
@@ -0,0 +1,229 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.client;
+
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.ProjectApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetRepositoriesRecentlyAccessed200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetTags200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestRepository;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestTag;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy streams over the paged collection endpoints of Bitbucket ({@code start}, {@code limit},
+ * {@code isLastPage} and {@code nextPageStart}).
+ * Pages are requested only while the stream is consumed, and the next page is requested in the
+ * background while the current one is consumed, so at most two pages are held at a time.
+ * Streams should be closed, e.g. with try-with-resources, when they are not consumed to the end;
+ * a page requested in the background is then discarded. Failed requests are rethrown to the consumer
+ * as the original {@link RestClientException}.
+ */
+public final class BitbucketPages {
+
+    /**
+     * Page size used when listing repositories, branches and tags
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private static final Executor PREFETCHER = task -> Thread.ofVirtual().name("bitbucket-page-prefetch").start(task);
+
+    private BitbucketPages() {
+    }
+
+    /**
+     * Requests one page of a collection endpoint
+     *
+     * @param <R> Type of the page response
+     */
+    @FunctionalInterface
+    public interface PageRequest<R> {
+        R fetch(BigDecimal start, BigDecimal limit) throws RestClientException;
+    }
+
+    /**
+     * One page of a collection endpoint
+     *
+     * @param values Values of the page
+     * @param lastPage Whether this is the last page
+     * @param nextPageStart Start of the next page, or null if there is none
+     */
+    public record Page<T>(List<T> values, boolean lastPage, Integer nextPageStart) {
+
+        public Page {
+            values = values != null ? values : List.of();
+        }
+    }
+
+    /**
+     * Stream all branches of a repository
+     *
+     * @param repositoryApi Repository API of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     * @param orderBy Order of the branches, "ALPHABETICAL" or "MODIFICATION", or null for the default order
+     * @return Lazy stream of branches
+     */
+    public static Stream<RestBranch> branches(RepositoryApi repositoryApi, String projectKey, String repositorySlug,
+            String orderBy) {
+        return stream((start, limit) -> repositoryApi.getBranches(projectKey, repositorySlug, null, orderBy, null,
+                null, null, start, limit), BitbucketPages::branchPage, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Stream all tags of a repository
+     *
+     * @param repositoryApi Repository API of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     * @param orderBy Order of the tags, "ALPHABETICAL" or "MODIFICATION", or null for the default order
+     * @return Lazy stream of tags
+     */
+    public static Stream<RestTag> tags(RepositoryApi repositoryApi, String projectKey, String repositorySlug,
+            String orderBy) {
+        return stream((start, limit) -> repositoryApi.getTags(projectKey, repositorySlug, orderBy, null, start, limit),
+                BitbucketPages::tagPage, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Stream all repositories of a project
+     *
+     * @param projectApi Project API of the Bitbucket instance
+     * @param projectKey Project key
+     * @return Lazy stream of repositories
+     */
+    public static Stream<RestRepository> repositories(ProjectApi projectApi, String projectKey) {
+        return stream((start, limit) -> projectApi.getRepositories(projectKey, start, limit),
+                BitbucketPages::repositoryPage, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Stream all values of a paged collection endpoint
+     *
+     * @param request Requests one page
+     * @param toPage Extracts the values and paging information from a page response
+     * @param pageSize Number of values requested per page
+     * @return Lazy stream of values, closing it discards a page requested in the background
+     */
+    public static <R, T> Stream<T> stream(PageRequest<R> request, Function<R, Page<T>> toPage, int pageSize) {
+        PageIterator<R, T> iterator = new PageIterator<>(request, toPage, Math.max(1, pageSize));
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private static Page<RestBranch> branchPage(GetBranches200Response response) {
+        return response == null ? null
+                : new Page<>(response.getValues(), !Boolean.FALSE.equals(response.getIsLastPage()), response.getNextPageStart());
+    }
+
+    private static Page<RestTag> tagPage(GetTags200Response response) {
+        return response == null ? null
+                : new Page<>(response.getValues(), !Boolean.FALSE.equals(response.getIsLastPage()), response.getNextPageStart());
+    }
+
+    private static Page<RestRepository> repositoryPage(GetRepositoriesRecentlyAccessed200Response response) {
+        return response == null ? null
+                : new Page<>(response.getValues(), !Boolean.FALSE.equals(response.getIsLastPage()), response.getNextPageStart());
+    }
+
+    /**
+     * Iterates the values of the current page while the next page is requested in the background
+     */
+    private static final class PageIterator<R, T> implements Iterator<T> {
+
+        private final PageRequest<R> request;
+        private final Function<R, Page<T>> toPage;
+        private final int pageSize;
+
+        private Iterator<T> current = Collections.emptyIterator();
+        private CompletableFuture<Page<T>> next;
+        private boolean started;
+        private volatile boolean closed;
+
+        private PageIterator(PageRequest<R> request, Function<R, Page<T>> toPage, int pageSize) {
+            this.request = request;
+            this.toPage = toPage;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext()) {
+                Page<T> page;
+                if (!started) {
+                    started = true;
+                    page = fetch(0);
+                } else if (next != null && !closed) {
+                    page = await(next);
+                } else {
+                    return false;
+                }
+                next = null;
+                if (page == null) {
+                    return false;
+                }
+                if (!page.lastPage() && page.nextPageStart() != null) {
+                    int nextStart = page.nextPageStart();
+                    next = CompletableFuture.supplyAsync(() -> fetch(nextStart), PREFETCHER);
+                }
+                current = page.values().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        void close() {
+            closed = true;
+            current = Collections.emptyIterator();
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+
+        private Page<T> fetch(int start) {
+            if (closed) {
+                return null;
+            }
+            return toPage.apply(request.fetch(BigDecimal.valueOf(start), BigDecimal.valueOf(pageSize)));
+        }
+
+        private static <T> Page<T> await(CompletableFuture<Page<T>> future) {
+            try {
+                return future.join();
+            } catch (CancellationException e) {
+                return null;
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
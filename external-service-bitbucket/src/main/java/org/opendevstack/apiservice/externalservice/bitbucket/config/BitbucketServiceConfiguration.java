@@ -5,6 +5,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -33,6 +34,16 @@ public class BitbucketServiceConfiguration {
      */
     private Map<String, BitbucketInstanceConfig> instances = new HashMap<>();
     
+    /**
+     * Cache of default branches and branch existence, shared by all instances
+     */
+    private RefCacheConfig refCache = new RefCacheConfig();
+    
+    /**
+     * Background index of the repositories and branches of selected projects
+     */
+    private InventoryConfig inventory = new InventoryConfig();
+    
     /**
      * Configuration for a single Bitbucket instance.
      */
@@ -76,5 +87,86 @@ public class BitbucketServiceConfiguration {
          * WARNING: Should only be used in development environments
          */
         private boolean trustAllCertificates = false;
+        
+        /**
+         * Maximum number of concurrent requests of bulk operations against this instance (default: 8)
+         */
+        private int maxConcurrentRequests = 8;
+    }
+    
+    /**
+     * Configuration for the cache of default branches and branch existence.
+     */
+    @Data
+    public static class RefCacheConfig {
+        /**
+         * Whether default branches and branch existence are cached (default: true)
+         */
+        private boolean enabled = true;
+        
+        /**
+         * How long a default branch is used without asking Bitbucket again (default: 60)
+         */
+        private long defaultBranchTtlSeconds = 60;
+        
+        /**
+         * How long an existing branch is used without asking Bitbucket again (default: 30)
+         */
+        private long branchTtlSeconds = 30;
+        
+        /**
+         * How long a missing branch is reported without asking Bitbucket again (default: 5)
+         */
+        private long missingBranchTtlSeconds = 5;
+        
+        /**
+         * How long after expiry a default branch or existing branch is still returned while it is
+         * revalidated in the background (default: 30, 0 disables revalidation in the background)
+         */
+        private long revalidateWindowSeconds = 30;
+        
+        /**
+         * Maximum number of cached entries (default: 10000)
+         */
+        private int maxEntries = 10000;
+    }
+    
+    /**
+     * Configuration for the background repository and branch inventory.
+     */
+    @Data
+    public static class InventoryConfig {
+        /**
+         * Projects indexed from startup, per instance name (e.g., dev: [PROJ, OTHER]).
+         * Other projects are indexed when they are first queried.
+         */
+        private Map<String, List<String>> projects = new HashMap<>();
+        
+        /**
+         * Interval of incremental refreshes, which only re-list repositories whose branches changed (default: 300)
+         */
+        private long refreshIntervalSeconds = 300;
+        
+        /**
+         * Interval of full refreshes, which re-list all repositories, e.g. to notice deleted branches (default: 3600)
+         */
+        private long fullRefreshIntervalSeconds = 3600;
+        
+        /**
+         * Maximum number of repositories indexed concurrently per project (default: 4)
+         */
+        private int parallelism = 4;
+        
+        /**
+         * Maximum number of projects indexed on first query; the least recently queried one is dropped
+         * when another is added (default: 100)
+         */
+        private int maxOnDemandProjects = 100;
+        
+        /**
+         * Projects indexed on first query are dropped when they were not queried for this long;
+         * 0 keeps them until they are displaced (default: 86400)
+         */
+        private long onDemandIdleSeconds = 86400;
     }
 }
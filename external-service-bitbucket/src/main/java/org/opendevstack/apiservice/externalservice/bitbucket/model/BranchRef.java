@@ -0,0 +1,11 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.model;
+
+/**
+ * Reference to a branch in a repository of a Bitbucket instance.
+ *
+ * @param projectKey Project key (e.g., "PROJ")
+ * @param repositorySlug Repository slug (e.g., "my-repo")
+ * @param branchName Name of the branch (e.g., "release/1.0")
+ */
+public record BranchRef(String projectKey, String repositorySlug, String branchName) {
+}
@@ -0,0 +1,27 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.model;
+
+import java.util.Set;
+
+/**
+ * Indexed state of a repository: its default branch and the names of all its branches.
+ *
+ * @param repositorySlug Repository slug (e.g., "my-repo")
+ * @param defaultBranch Name of the default branch, or null if the repository has no branches yet
+ * @param branches Names (display IDs) of all branches of the repository
+ */
+public record RepositoryInventory(String repositorySlug, String defaultBranch, Set<String> branches) {
+
+    public RepositoryInventory {
+        branches = Set.copyOf(branches);
+    }
+
+    /**
+     * Check whether the repository has a branch
+     *
+     * @param branchName Name of the branch (e.g., "release/1.0")
+     * @return true if the branch existed when the repository was last indexed
+     */
+    public boolean hasBranch(String branchName) {
+        return branches.contains(branchName);
+    }
+}
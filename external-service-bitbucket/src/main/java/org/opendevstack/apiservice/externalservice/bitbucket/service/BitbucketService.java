@@ -1,7 +1,11 @@
 package org.opendevstack.apiservice.externalservice.bitbucket.service;
 
 import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.BranchRef;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.RepositoryInventory;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -33,6 +37,48 @@ public interface BitbucketService {
      */
     boolean branchExists(String instanceName, String projectKey, String repositorySlug, String branchName) throws BitbucketException;
     
+    /**
+     * Check whether each of the given branches exists, e.g. a release branch in all repositories of a project.
+     * Repositories are checked concurrently, bounded by the instance's max-concurrent-requests. Where several
+     * branches of one repository are checked, its branch list is fetched once and the names are tested locally.
+     * 
+     * @param instanceName Name of the Bitbucket instance
+     * @param branches Branches to check
+     * @return Map of each given branch to true if it exists, false otherwise, in the order of the given branches
+     * @throws BitbucketException if any check fails due to an error (not including repository or branch not found)
+     */
+    Map<BranchRef, Boolean> branchesExist(String instanceName, Collection<BranchRef> branches) throws BitbucketException;
+    
+    /**
+     * Get all repositories of a project with their default branch and branches, answered from an index that is
+     * refreshed in the background. A project that was not indexed yet is indexed first.
+     * 
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key (e.g., "PROJ")
+     * @return Map of repository slug to its indexed default branch and branches, sorted by slug
+     * @throws BitbucketException if the project was not indexed yet and cannot be indexed
+     */
+    Map<String, RepositoryInventory> getProjectInventory(String instanceName, String projectKey) throws BitbucketException;
+    
+    /**
+     * Evict the cached default branch and branches of a repository, e.g. when its settings changed
+     * 
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key (e.g., "PROJ")
+     * @param repositorySlug Repository slug (e.g., "my-repo")
+     */
+    void evictRepository(String instanceName, String projectKey, String repositorySlug);
+    
+    /**
+     * Evict the cached existence of a branch, e.g. when it was created or deleted
+     * 
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key (e.g., "PROJ")
+     * @param repositorySlug Repository slug (e.g., "my-repo")
+     * @param branchName Name of the branch (e.g., "feature/my-feature")
+     */
+    void evictBranch(String instanceName, String projectKey, String repositorySlug, String branchName);
+    
     /**
      * Get all available Bitbucket instance names
      * 
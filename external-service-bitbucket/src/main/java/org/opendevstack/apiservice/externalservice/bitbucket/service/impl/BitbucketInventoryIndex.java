@@ -0,0 +1,353 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClient;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClientFactory;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketPages;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestRepository;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration.InventoryConfig;
+import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.RepositoryInventory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of the repositories of Bitbucket projects with their default branch and branches.
+ * Configured projects are indexed at startup, other projects when they are first queried. Projects
+ * indexed on demand are bounded in number and dropped when they are no longer queried. Indexed
+ * projects are refreshed in the background: an incremental refresh lists the repositories of the
+ * project and re-lists the branches only of repositories whose most recently modified branch changed
+ * or that were marked stale; a full refresh re-lists all repositories, e.g. to notice deleted branches.
+ * Queries are answered from the last completed refresh.
+ */
+@Component
+@Slf4j
+public class BitbucketInventoryIndex implements InitializingBean, DisposableBean {
+
+    private static final String ORDER_BY_MODIFICATION = "MODIFICATION";
+
+    private final BitbucketApiClientFactory clientFactory;
+    private final InventoryConfig config;
+    private final Clock clock;
+
+    private final Map<ProjectKey, ProjectIndex> projects = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("bitbucket-inventory").daemon().factory());
+
+    @Autowired
+    public BitbucketInventoryIndex(BitbucketApiClientFactory clientFactory, BitbucketServiceConfiguration configuration) {
+        this(clientFactory, configuration.getInventory(), Clock.systemUTC());
+    }
+
+    BitbucketInventoryIndex(BitbucketApiClientFactory clientFactory, InventoryConfig config, Clock clock) {
+        this.clientFactory = clientFactory;
+        this.config = config;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        config.getProjects().forEach((instanceName, projectKeys) -> projectKeys.forEach(projectKey ->
+                projects.computeIfAbsent(new ProjectKey(instanceName, projectKey),
+                        key -> new ProjectIndex(true, clock.instant()))));
+        long intervalSeconds = Math.max(1, config.getRefreshIntervalSeconds());
+        scheduler.scheduleWithFixedDelay(this::refreshAll, projects.isEmpty() ? intervalSeconds : 0,
+                intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Get the indexed repositories of a project, indexing the project first if it is not indexed yet
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @return Map of repository slug to indexed repository, sorted by slug
+     * @throws BitbucketException if the project is not indexed yet and cannot be indexed
+     */
+    public Map<String, RepositoryInventory> getRepositories(String instanceName, String projectKey)
+            throws BitbucketException {
+        ProjectKey key = new ProjectKey(instanceName, projectKey);
+        ProjectIndex index = projects.get(key);
+        if (index == null) {
+            index = projects.computeIfAbsent(key, k -> new ProjectIndex(false, clock.instant()));
+            evictOnDemandProjects(key);
+        }
+        index.lastQueried = clock.instant();
+        Map<String, RepositoryInventory> repositories = index.repositories;
+        if (repositories != null) {
+            return repositories;
+        }
+        synchronized (index) {
+            if (index.repositories == null) {
+                try {
+                    refresh(key, index, true);
+                } catch (BitbucketException | RuntimeException e) {
+                    // Do not keep refreshing a project that may not exist
+                    if (!index.configured) {
+                        projects.remove(key, index);
+                    }
+                    throw e;
+                }
+            }
+            return index.repositories;
+        }
+    }
+
+    /**
+     * Drop the least recently queried projects indexed on demand, other than the given one, until at most
+     * {@code maxOnDemandProjects} remain
+     */
+    private void evictOnDemandProjects(ProjectKey added) {
+        int max = Math.max(1, config.getMaxOnDemandProjects());
+        List<Map.Entry<ProjectKey, ProjectIndex>> onDemand = projects.entrySet().stream()
+                .filter(entry -> !entry.getValue().configured && !entry.getKey().equals(added))
+                .sorted(Comparator.comparing(entry -> entry.getValue().lastQueried))
+                .toList();
+        for (int i = 0; i < onDemand.size() + 1 - max; i++) {
+            Map.Entry<ProjectKey, ProjectIndex> evicted = onDemand.get(i);
+            if (projects.remove(evicted.getKey(), evicted.getValue())) {
+                log.debug("Dropped Bitbucket inventory of project '{}' in instance '{}' to make room for another project",
+                        evicted.getKey().projectKey(), evicted.getKey().instanceName());
+            }
+        }
+    }
+
+    /**
+     * Mark a repository as changed, so that its branches are listed again by the next refresh
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     */
+    public void markStale(String instanceName, String projectKey, String repositorySlug) {
+        ProjectIndex index = projects.get(new ProjectKey(instanceName, projectKey));
+        if (index != null) {
+            index.stale.add(repositorySlug);
+        }
+    }
+
+    /**
+     * Refresh all indexed projects, fully if the last full refresh is older than the full refresh interval.
+     * Projects indexed on demand that were not queried for the idle time are dropped first.
+     */
+    void refreshAll() {
+        Instant now = clock.instant();
+        if (config.getOnDemandIdleSeconds() > 0) {
+            Instant idleSince = now.minusSeconds(config.getOnDemandIdleSeconds());
+            projects.entrySet().removeIf(entry -> !entry.getValue().configured
+                    && entry.getValue().lastQueried.isBefore(idleSince));
+        }
+        Duration fullRefreshInterval = Duration.ofSeconds(config.getFullRefreshIntervalSeconds());
+        projects.forEach((key, index) -> {
+            synchronized (index) {
+                boolean full = index.lastFullRefresh == null
+                        || !now.isBefore(index.lastFullRefresh.plus(fullRefreshInterval));
+                try {
+                    refresh(key, index, full);
+                } catch (BitbucketException | RuntimeException e) {
+                    // The previous index stays in use until the next refresh succeeds
+                    log.warn("Failed to refresh Bitbucket inventory of project '{}' in instance '{}': {}",
+                            key.projectKey(), key.instanceName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Refresh the index of one project. Must be called while holding the monitor of the index.
+     */
+    private void refresh(ProjectKey key, ProjectIndex index, boolean full) throws BitbucketException {
+        long started = System.nanoTime();
+        BitbucketApiClient client = clientFactory.getClient(key.instanceName());
+        List<String> slugs = listRepositorySlugs(client, key.projectKey());
+
+        Map<String, RepositoryInventory> previous = index.repositories != null ? index.repositories : Map.of();
+        Map<String, IndexedRepository> indexed = new ConcurrentHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(Math.max(1, config.getParallelism()));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (String slug : slugs) {
+                boolean stale = index.stale.remove(slug);
+                RepositoryInventory previousRepository = previous.get(slug);
+                String previousFingerprint = index.fingerprints.get(slug);
+                tasks.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        IndexedRepository repository = indexRepository(client, key.projectKey(), slug,
+                                previousRepository, previousFingerprint, full || stale);
+                        if (repository != null) {
+                            indexed.put(slug, repository);
+                        }
+                    } catch (BitbucketException e) {
+                        // Keep the previous state and list the repository again on the next refresh
+                        failures.incrementAndGet();
+                        index.stale.add(slug);
+                        if (previousRepository != null) {
+                            indexed.put(slug, new IndexedRepository(previousRepository, previousFingerprint));
+                        }
+                        log.warn("Failed to index repository '{}/{}' in instance '{}': {}",
+                                key.projectKey(), slug, key.instanceName(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(tasks, key);
+        }
+        if (failures.get() > 0 && index.repositories == null) {
+            throw new BitbucketException(String.format("Failed to index %d repositories of project '%s'",
+                    failures.get(), key.projectKey()));
+        }
+
+        Map<String, RepositoryInventory> repositories = new TreeMap<>();
+        Map<String, String> fingerprints = new ConcurrentHashMap<>();
+        indexed.forEach((slug, repository) -> {
+            repositories.put(slug, repository.inventory());
+            if (repository.fingerprint() != null) {
+                fingerprints.put(slug, repository.fingerprint());
+            }
+        });
+        index.repositories = Collections.unmodifiableMap(repositories);
+        index.fingerprints = fingerprints;
+        if (full) {
+            index.lastFullRefresh = clock.instant();
+        }
+        log.debug("{} refresh of Bitbucket inventory of project '{}' in instance '{}' indexed {} repositories in {} ms",
+                full ? "Full" : "Incremental", key.projectKey(), key.instanceName(), repositories.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Index a repository, reusing the previous state if its most recently modified branch is unchanged
+     *
+     * @return the indexed repository, or null if it no longer exists
+     */
+    private IndexedRepository indexRepository(BitbucketApiClient client, String projectKey, String slug,
+            RepositoryInventory previous, String previousFingerprint, boolean relist) throws BitbucketException {
+        try {
+            if (!relist && previous != null) {
+                GetBranches200Response latest = client.getRepositoryApi().getBranches(projectKey, slug, null,
+                        ORDER_BY_MODIFICATION, null, null, null, BigDecimal.ZERO, BigDecimal.ONE);
+                String fingerprint = latest != null && latest.getValues() != null && !latest.getValues().isEmpty()
+                        ? fingerprint(latest.getValues().get(0))
+                        : null;
+                if (fingerprint != null && fingerprint.equals(previousFingerprint)) {
+                    return new IndexedRepository(previous, previousFingerprint);
+                }
+            }
+            return listBranches(client, projectKey, slug);
+
+        } catch (HttpClientErrorException.NotFound e) {
+            log.debug("Repository '{}/{}' was deleted while indexing", projectKey, slug);
+            return null;
+
+        } catch (RestClientException e) {
+            throw new BitbucketException(
+                    String.format("Failed to index branches of repository '%s/%s'", projectKey, slug), e);
+        }
+    }
+
+    private IndexedRepository listBranches(BitbucketApiClient client, String projectKey, String slug) {
+        Set<String> branches = new HashSet<>();
+        String defaultBranch = null;
+        String fingerprint = null;
+        try (Stream<RestBranch> stream = BitbucketPages.branches(client.getRepositoryApi(), projectKey, slug,
+                ORDER_BY_MODIFICATION)) {
+            for (RestBranch branch : (Iterable<RestBranch>) stream::iterator) {
+                if (fingerprint == null) {
+                    fingerprint = fingerprint(branch);
+                }
+                if (Boolean.TRUE.equals(branch.getIsDefault())) {
+                    defaultBranch = branch.getDisplayId();
+                }
+                branches.add(branch.getDisplayId());
+            }
+        }
+        return new IndexedRepository(new RepositoryInventory(slug, defaultBranch, branches), fingerprint);
+    }
+
+    private List<String> listRepositorySlugs(BitbucketApiClient client, String projectKey) throws BitbucketException {
+        try (Stream<RestRepository> repositories = BitbucketPages.repositories(client.getProjectApi(), projectKey)) {
+            return repositories.map(RestRepository::getSlug).toList();
+        } catch (RestClientException e) {
+            throw new BitbucketException(String.format("Failed to list repositories of project '%s'", projectKey), e);
+        }
+    }
+
+    private static String fingerprint(RestBranch branch) {
+        return branch.getDisplayId() + "@" + branch.getLatestCommit();
+    }
+
+    private static void awaitAll(List<Future<?>> tasks, ProjectKey key) throws BitbucketException {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (ExecutionException e) {
+                throw new BitbucketException("Failed to index project " + key.projectKey(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BitbucketException("Interrupted while indexing project " + key.projectKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    private record ProjectKey(String instanceName, String projectKey) {
+    }
+
+    private record IndexedRepository(RepositoryInventory inventory, String fingerprint) {
+    }
+
+    private static final class ProjectIndex {
+
+        /** Whether the project is configured, rather than indexed on its first query */
+        private final boolean configured;
+        /** Result of the last completed refresh; {@code null} until the project was indexed once */
+        private volatile Map<String, RepositoryInventory> repositories;
+        private volatile Map<String, String> fingerprints = Map.of();
+        private volatile Instant lastFullRefresh;
+        private final Set<String> stale = ConcurrentHashMap.newKeySet();
+        private volatile Instant lastQueried;
+
+        private ProjectIndex(boolean configured, Instant lastQueried) {
+            this.configured = configured;
+            this.lastQueried = lastQueried;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.service.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration.RefCacheConfig;
+import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of default branches and branch existence per Bitbucket instance and repository.
+ * Default branches and existing branches are used for a short time to live. Once that has passed
+ * they are still returned for the revalidate window while a single background request checks them
+ * again, so that callers asking the same questions repeatedly do not wait for Bitbucket. Missing
+ * branches are remembered for a shorter time and are never returned after they expire.
+ * Entries can be evicted explicitly, e.g. by a Bitbucket webhook receiver when refs change.
+ */
+@Component
+@Slf4j
+public class BitbucketRefCache implements MeterBinder, DisposableBean {
+
+    /**
+     * Loads a value from Bitbucket when it is not cached or has to be revalidated
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load() throws BitbucketException;
+    }
+
+    private final RefCacheConfig config;
+    private final Clock clock;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ExecutorService revalidator = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public BitbucketRefCache(BitbucketServiceConfiguration configuration) {
+        this(configuration.getRefCache(), Clock.systemUTC());
+    }
+
+    BitbucketRefCache(RefCacheConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the default branch of a repository, loading it if it is not cached
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     * @param loader Loads the default branch from Bitbucket
+     * @return The default branch name
+     * @throws BitbucketException if the default branch is not cached and cannot be loaded
+     */
+    public String getDefaultBranch(String instanceName, String projectKey, String repositorySlug,
+            Loader<String> loader) throws BitbucketException {
+        return get(new Key(instanceName, projectKey, repositorySlug, null), loader);
+    }
+
+    /**
+     * Check whether a branch exists, loading the answer if it is not cached
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     * @param branchName Name of the branch
+     * @param loader Checks the branch in Bitbucket
+     * @return true if the branch exists, false otherwise
+     * @throws BitbucketException if the answer is not cached and the check fails
+     */
+    public boolean branchExists(String instanceName, String projectKey, String repositorySlug, String branchName,
+            Loader<Boolean> loader) throws BitbucketException {
+        return get(new Key(instanceName, projectKey, repositorySlug, branchName), loader);
+    }
+
+    /**
+     * Evict the default branch and all branches of a repository
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     */
+    public void evictRepository(String instanceName, String projectKey, String repositorySlug) {
+        entries.keySet().removeIf(key -> key.isInRepository(instanceName, projectKey, repositorySlug));
+    }
+
+    /**
+     * Evict a single branch of a repository
+     *
+     * @param instanceName Name of the Bitbucket instance
+     * @param projectKey Project key
+     * @param repositorySlug Repository slug
+     * @param branchName Name of the branch
+     */
+    public void evictBranch(String instanceName, String projectKey, String repositorySlug, String branchName) {
+        entries.remove(new Key(instanceName, projectKey, repositorySlug, branchName));
+    }
+
+    /**
+     * Evict all cached entries
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of cached entries, including expired ones not yet removed
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Loader<T> loader) throws BitbucketException {
+        if (!config.isEnabled()) {
+            return loader.load();
+        }
+
+        Instant now = clock.instant();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (now.isBefore(entry.expiresAt)) {
+                hits.increment();
+                return (T) entry.value;
+            }
+            if (now.isBefore(entry.revalidateUntil)) {
+                staleHits.increment();
+                revalidate(key, entry, loader);
+                return (T) entry.value;
+            }
+        }
+
+        misses.increment();
+        T value = loader.load();
+        put(key, value, now);
+        return value;
+    }
+
+    private void revalidate(Key key, Entry entry, Loader<?> loader) {
+        if (!entry.revalidating.compareAndSet(false, true)) {
+            return;
+        }
+        revalidator.execute(() -> {
+            try {
+                Object value = loader.load();
+                if (entries.get(key) == entry) {
+                    put(key, value, clock.instant());
+                }
+            } catch (BitbucketException | RuntimeException e) {
+                // The entry is revalidated again by the next call within the revalidate window
+                log.debug("Failed to revalidate {}: {}", key, e.getMessage());
+                entry.revalidating.set(false);
+            }
+        });
+    }
+
+    private void put(Key key, Object value, Instant now) {
+        Duration ttl;
+        Duration revalidateWindow = Duration.ofSeconds(config.getRevalidateWindowSeconds());
+        if (key.branchName() == null) {
+            ttl = Duration.ofSeconds(config.getDefaultBranchTtlSeconds());
+        } else if (Boolean.TRUE.equals(value)) {
+            ttl = Duration.ofSeconds(config.getBranchTtlSeconds());
+        } else {
+            ttl = Duration.ofSeconds(config.getMissingBranchTtlSeconds());
+            revalidateWindow = Duration.ZERO;
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+
+        if (entries.size() >= config.getMaxEntries() && !entries.containsKey(key)) {
+            entries.values().removeIf(existing -> !now.isBefore(existing.revalidateUntil));
+            if (entries.size() >= config.getMaxEntries()) {
+                return;
+            }
+        }
+        Instant expiresAt = now.plus(ttl);
+        entries.put(key, new Entry(value, expiresAt, expiresAt.plus(revalidateWindow)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("bitbucket.ref.cache.requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("Default branch and branch lookups answered from the cache")
+                .register(registry);
+        FunctionCounter.builder("bitbucket.ref.cache.requests", staleHits, LongAdder::doubleValue)
+                .tag("result", "revalidate")
+                .description("Default branch and branch lookups answered from the cache while revalidating")
+                .register(registry);
+        FunctionCounter.builder("bitbucket.ref.cache.requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("Default branch and branch lookups sent to Bitbucket")
+                .register(registry);
+        Gauge.builder("bitbucket.ref.cache.size", this, BitbucketRefCache::size)
+                .description("Default branches and branches currently cached")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        revalidator.close();
+    }
+
+    /**
+     * Cache key; {@code branchName} is {@code null} for the default branch of the repository
+     */
+    private record Key(String instanceName, String projectKey, String repositorySlug, String branchName) {
+
+        boolean isInRepository(String instanceName, String projectKey, String repositorySlug) {
+            return Objects.equals(this.instanceName, instanceName)
+                    && Objects.equals(this.projectKey, projectKey)
+                    && Objects.equals(this.repositorySlug, repositorySlug);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+        private final Instant expiresAt;
+        private final Instant revalidateUntil;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private Entry(Object value, Instant expiresAt, Instant revalidateUntil) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.revalidateUntil = revalidateUntil;
+        }
+    }
+}
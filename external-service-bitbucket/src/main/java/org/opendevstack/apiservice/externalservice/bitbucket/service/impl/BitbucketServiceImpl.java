@@ -1,12 +1,15 @@
 package org.opendevstack.apiservice.externalservice.bitbucket.service.impl;
 
-import org.opendevstack.apiservice.externalservice.bitbucket.client.ApiClient;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.api.ProjectApi;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClient;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClientFactory;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketPages;
 import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.BranchRef;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.RepositoryInventory;
 import org.opendevstack.apiservice.externalservice.bitbucket.service.BitbucketService;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestMinimalRef;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
 import lombok.extern.slf4j.Slf4j;
@@ -15,41 +18,73 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * Implementation of BitbucketService.
  * Uses BitbucketApiClientFactory to obtain clients for different Bitbucket
  * instances
  * and delegates operations to the appropriate generated API client.
+ * Default branches and branch existence are cached in {@link BitbucketRefCache}; project inventories
+ * are answered from {@link BitbucketInventoryIndex}.
  */
 @Service
 @Slf4j
 public class BitbucketServiceImpl implements BitbucketService {
 
     private final BitbucketApiClientFactory clientFactory;
+    private final BitbucketRefCache refCache;
+    private final BitbucketInventoryIndex inventoryIndex;
+
+    /**
+     * Bounds the concurrent requests of bulk operations per instance, shared by all callers
+     */
+    private final Map<String, Semaphore> requestPermits = new ConcurrentHashMap<>();
 
     /**
      * Constructor with dependency injection
      * 
      * @param clientFactory Factory for creating Bitbucket API clients
+     * @param refCache Cache of default branches and branch existence
+     * @param inventoryIndex Index of the repositories and branches of projects
      */
-    public BitbucketServiceImpl(BitbucketApiClientFactory clientFactory) {
+    public BitbucketServiceImpl(BitbucketApiClientFactory clientFactory, BitbucketRefCache refCache,
+            BitbucketInventoryIndex inventoryIndex) {
         this.clientFactory = clientFactory;
+        this.refCache = refCache;
+        this.inventoryIndex = inventoryIndex;
         log.info("BitbucketServiceImpl initialized");
     }
 
     @Override
     public String getDefaultBranch(String instanceName, String projectKey, String repositorySlug)
             throws BitbucketException {
+        return refCache.getDefaultBranch(instanceName, projectKey, repositorySlug,
+                () -> loadDefaultBranch(instanceName, projectKey, repositorySlug));
+    }
+
+    private String loadDefaultBranch(String instanceName, String projectKey, String repositorySlug)
+            throws BitbucketException {
         log.debug("Getting default branch for repository '{}/{}' in instance '{}'",
                 projectKey, repositorySlug, instanceName);
 
         try {
             BitbucketApiClient bitbucketClient = clientFactory.getClient(instanceName);
-            ApiClient apiClient = bitbucketClient.getApiClient();
-
-            ProjectApi projectApi = new ProjectApi(apiClient);
+            ProjectApi projectApi = bitbucketClient.getProjectApi();
 
             RestMinimalRef defaultBranch = projectApi.getDefaultBranch2(projectKey, repositorySlug);
 
@@ -76,14 +111,18 @@ public class BitbucketServiceImpl implements BitbucketService {
     @Override
     public boolean branchExists(String instanceName, String projectKey, String repositorySlug, String branchName)
             throws BitbucketException {
+        return refCache.branchExists(instanceName, projectKey, repositorySlug, branchName,
+                () -> loadBranchExists(instanceName, projectKey, repositorySlug, branchName));
+    }
+
+    private boolean loadBranchExists(String instanceName, String projectKey, String repositorySlug, String branchName)
+            throws BitbucketException {
         log.debug("Checking if branch '{}' exists in repository '{}/{}' in instance '{}'",
                 branchName, projectKey, repositorySlug, instanceName);
 
         try {
             BitbucketApiClient bitbucketClient = clientFactory.getClient(instanceName);
-            ApiClient apiClient = bitbucketClient.getApiClient();
-
-            RepositoryApi repositoryApi = new RepositoryApi(apiClient);
+            RepositoryApi repositoryApi = bitbucketClient.getRepositoryApi();
 
             // Get branches matching the branch name filter
             // Method signature: getBranches(projectKey, repositorySlug, boostMatches,
@@ -129,6 +168,150 @@ public class BitbucketServiceImpl implements BitbucketService {
         }
     }
 
+    @Override
+    public Map<BranchRef, Boolean> branchesExist(String instanceName, Collection<BranchRef> branches)
+            throws BitbucketException {
+        BitbucketApiClient bitbucketClient = clientFactory.getClient(instanceName);
+        Semaphore permits = requestPermits.computeIfAbsent(instanceName,
+                name -> new Semaphore(Math.max(1, bitbucketClient.getConfig().getMaxConcurrentRequests())));
+
+        Map<RepositoryKey, List<BranchRef>> byRepository = new LinkedHashMap<>();
+        for (BranchRef branch : branches) {
+            byRepository.computeIfAbsent(new RepositoryKey(branch.projectKey(), branch.repositorySlug()),
+                    key -> new ArrayList<>()).add(branch);
+        }
+        log.debug("Checking {} branches in {} repositories in instance '{}'",
+                branches.size(), byRepository.size(), instanceName);
+
+        Map<BranchRef, Boolean> found = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> checks = new ArrayList<>();
+            for (Map.Entry<RepositoryKey, List<BranchRef>> repository : byRepository.entrySet()) {
+                checks.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        found.putAll(checkRepositoryBranches(instanceName, repository.getKey(), repository.getValue()));
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(checks);
+        }
+
+        Map<BranchRef, Boolean> results = new LinkedHashMap<>();
+        branches.forEach(branch -> results.put(branch, found.get(branch)));
+        return results;
+    }
+
+    /**
+     * Check the given branches of one repository. A single branch is looked up by name; for several
+     * branches the branch list of the repository is fetched once, and only if any branch is not cached.
+     */
+    private Map<BranchRef, Boolean> checkRepositoryBranches(String instanceName, RepositoryKey repository,
+            List<BranchRef> branches) throws BitbucketException {
+        Map<BranchRef, Boolean> results = new LinkedHashMap<>();
+        if (branches.size() == 1) {
+            BranchRef branch = branches.get(0);
+            results.put(branch, branchExists(instanceName, repository.projectKey(), repository.repositorySlug(),
+                    branch.branchName()));
+            return results;
+        }
+
+        AtomicReference<Set<String>> branchNames = new AtomicReference<>();
+        for (BranchRef branch : branches) {
+            boolean exists = refCache.branchExists(instanceName, repository.projectKey(), repository.repositorySlug(),
+                    branch.branchName(), () -> {
+                        if (branchNames.get() == null) {
+                            branchNames.set(listBranchNames(instanceName, repository.projectKey(),
+                                    repository.repositorySlug()));
+                        }
+                        return branchNames.get().contains(branch.branchName());
+                    });
+            results.put(branch, exists);
+        }
+        return results;
+    }
+
+    /**
+     * List the display IDs and ref IDs of all branches of a repository
+     */
+    private Set<String> listBranchNames(String instanceName, String projectKey, String repositorySlug)
+            throws BitbucketException {
+        log.debug("Listing branches of repository '{}/{}' in instance '{}'", projectKey, repositorySlug, instanceName);
+
+        try {
+            RepositoryApi repositoryApi = clientFactory.getClient(instanceName).getRepositoryApi();
+            Set<String> names = new HashSet<>();
+            try (Stream<RestBranch> branches = BitbucketPages.branches(repositoryApi, projectKey, repositorySlug, null)) {
+                branches.forEach(branch -> {
+                    names.add(branch.getDisplayId());
+                    if (branch.getId() != null) {
+                        names.add(branch.getId());
+                        names.add(branch.getId().replaceFirst("^refs/heads/", ""));
+                    }
+                });
+            }
+            return names;
+
+        } catch (HttpClientErrorException.NotFound e) {
+            // Repository not found
+            log.debug("Repository '{}/{}' not found", projectKey, repositorySlug);
+            return Set.of();
+
+        } catch (RestClientException e) {
+            log.error("Error listing branches of '{}/{}'", projectKey, repositorySlug, e);
+            throw new BitbucketException(
+                    String.format("Failed to list branches of repository '%s/%s'", projectKey, repositorySlug), e);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws BitbucketException {
+        BitbucketException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof BitbucketException bitbucketException
+                            ? bitbucketException
+                            : new BitbucketException("Failed to check branches", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BitbucketException("Interrupted while checking branches", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private record RepositoryKey(String projectKey, String repositorySlug) {
+    }
+
+    @Override
+    public Map<String, RepositoryInventory> getProjectInventory(String instanceName, String projectKey)
+            throws BitbucketException {
+        return inventoryIndex.getRepositories(instanceName, projectKey);
+    }
+
+    @Override
+    public void evictRepository(String instanceName, String projectKey, String repositorySlug) {
+        log.debug("Evicting cached refs of repository '{}/{}' in instance '{}'", projectKey, repositorySlug, instanceName);
+        refCache.evictRepository(instanceName, projectKey, repositorySlug);
+        inventoryIndex.markStale(instanceName, projectKey, repositorySlug);
+    }
+
+    @Override
+    public void evictBranch(String instanceName, String projectKey, String repositorySlug, String branchName) {
+        log.debug("Evicting cached branch '{}' of repository '{}/{}' in instance '{}'",
+                branchName, projectKey, repositorySlug, instanceName);
+        refCache.evictBranch(instanceName, projectKey, repositorySlug, branchName);
+        inventoryIndex.markStale(instanceName, projectKey, repositorySlug);
+    }
+
     @Override
     public Set<String> getAvailableInstances() {
         return clientFactory.getAvailableInstances();
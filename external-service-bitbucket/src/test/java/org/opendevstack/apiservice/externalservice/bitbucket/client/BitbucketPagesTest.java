@@ -0,0 +1,164 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.client;
+
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketPages.Page;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BitbucketPages
+ */
+class BitbucketPagesTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private final List<Integer> requestedStarts = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testStream_ReturnsAllPagesInOrder() {
+        // Arrange & Act
+        List<Integer> values;
+        try (Stream<Integer> stream = BitbucketPages.stream(this::fetch, Function.identity(), PAGE_SIZE)) {
+            values = stream.toList();
+        }
+
+        // Assert
+        assertEquals(List.of(0, 1, 2, 3, 4), values);
+        assertEquals(List.of(0, 2, 4), requestedStarts);
+    }
+
+    @Test
+    void testStream_IsLazyUntilConsumed() {
+        // Arrange & Act
+        try (Stream<Integer> stream = BitbucketPages.stream(this::fetch, Function.identity(), PAGE_SIZE)) {
+
+            // Assert
+            assertNotNull(stream);
+            assertTrue(requestedStarts.isEmpty());
+        }
+    }
+
+    @Test
+    void testStream_PrefetchesNextPageWhileCurrentPageIsConsumed() throws InterruptedException {
+        // Arrange
+        CountDownLatch secondPageRequested = new CountDownLatch(1);
+        BitbucketPages.PageRequest<Page<Integer>> request = (start, limit) -> {
+            if (start.intValue() == PAGE_SIZE) {
+                secondPageRequested.countDown();
+            }
+            return fetch(start, limit);
+        };
+
+        try (Stream<Integer> stream = BitbucketPages.stream(request, Function.identity(), PAGE_SIZE)) {
+            Iterator<Integer> iterator = stream.iterator();
+
+            // Act
+            Integer first = iterator.next();
+
+            // Assert
+            assertEquals(0, first);
+            assertTrue(secondPageRequested.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testStream_EarlyTerminationStopsRequestingPages() {
+        // Arrange & Act
+        List<Integer> values;
+        try (Stream<Integer> stream = BitbucketPages.stream(this::fetch, Function.identity(), PAGE_SIZE)) {
+            values = stream.limit(1).toList();
+        }
+
+        // Assert
+        assertEquals(List.of(0), values);
+        assertTrue(requestedStarts.size() <= 2, "Requested pages: " + requestedStarts);
+    }
+
+    @Test
+    void testStream_FailedPrefetchIsRethrownToConsumer() {
+        // Arrange
+        RestClientException failure = new RestClientException("Connection failed");
+        BitbucketPages.PageRequest<Page<Integer>> request = (start, limit) -> {
+            if (start.intValue() > 0) {
+                throw failure;
+            }
+            return fetch(start, limit);
+        };
+
+        // Act & Assert
+        try (Stream<Integer> stream = BitbucketPages.stream(request, Function.identity(), PAGE_SIZE)) {
+            RestClientException thrown = assertThrows(RestClientException.class, stream::toList);
+            assertSame(failure, thrown);
+        }
+    }
+
+    @Test
+    void testBranches_FollowsNextPageStart() {
+        // Arrange
+        RepositoryApi repositoryApi = mock(RepositoryApi.class);
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo"), any(), eq("MODIFICATION"), any(), any(), any(),
+                eq(BigDecimal.ZERO), any()))
+                .thenReturn(branchPage(false, 7, "main", "develop"));
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo"), any(), eq("MODIFICATION"), any(), any(), any(),
+                eq(BigDecimal.valueOf(7)), any()))
+                .thenReturn(branchPage(true, null, "feature/x"));
+
+        // Act
+        List<String> branches;
+        try (Stream<RestBranch> stream = BitbucketPages.branches(repositoryApi, "PROJ", "repo", "MODIFICATION")) {
+            branches = stream.map(RestBranch::getDisplayId).toList();
+        }
+
+        // Assert
+        assertEquals(List.of("main", "develop", "feature/x"), branches);
+    }
+
+    @Test
+    void testBranches_NullResponseIsEmpty() {
+        // Arrange
+        RepositoryApi repositoryApi = mock(RepositoryApi.class);
+
+        // Act & Assert
+        try (Stream<RestBranch> stream = BitbucketPages.branches(repositoryApi, "PROJ", "repo", null)) {
+            assertEquals(0, stream.count());
+        }
+    }
+
+    /**
+     * Serves five values in pages of {@code limit} values
+     */
+    private Page<Integer> fetch(BigDecimal start, BigDecimal limit) {
+        requestedStarts.add(start.intValue());
+        int from = start.intValue();
+        int to = Math.min(5, from + limit.intValue());
+        boolean lastPage = to >= 5;
+        return new Page<>(IntStream.range(from, to).boxed().toList(), lastPage, lastPage ? null : to);
+    }
+
+    private static GetBranches200Response branchPage(boolean isLastPage, Integer nextPageStart, String... names) {
+        GetBranches200Response page = new GetBranches200Response();
+        for (String name : names) {
+            page.addValuesItem(new RestBranch(name, false, null, null));
+        }
+        page.isLastPage(isLastPage);
+        page.nextPageStart(nextPageStart);
+        return page;
+    }
+}
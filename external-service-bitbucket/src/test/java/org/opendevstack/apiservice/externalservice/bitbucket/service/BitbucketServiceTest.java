@@ -3,10 +3,16 @@ package org.opendevstack.apiservice.externalservice.bitbucket.service;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.ApiClient;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClient;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClientFactory;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.ProjectApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
 import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestMinimalRef;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration;
 import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.BranchRef;
+import org.opendevstack.apiservice.externalservice.bitbucket.service.impl.BitbucketInventoryIndex;
+import org.opendevstack.apiservice.externalservice.bitbucket.service.impl.BitbucketRefCache;
 import org.opendevstack.apiservice.externalservice.bitbucket.service.impl.BitbucketServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,13 +21,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 
+import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,11 +53,18 @@ class BitbucketServiceTest {
     @Mock
     private ApiClient apiClient;
 
+    @Mock
+    private RepositoryApi repositoryApi;
+
+    @Mock
+    private BitbucketInventoryIndex inventoryIndex;
+
     private BitbucketService bitbucketService;
 
     @BeforeEach
     void setUp() {
-        bitbucketService = new BitbucketServiceImpl(clientFactory);
+        bitbucketService = new BitbucketServiceImpl(clientFactory,
+            new BitbucketRefCache(new BitbucketServiceConfiguration()), inventoryIndex);
     }
 
     @Test
@@ -74,7 +94,7 @@ class BitbucketServiceTest {
         String repositorySlug = "my-repo";
 
         when(clientFactory.getClient(instanceName)).thenReturn(bitbucketApiClient);
-        when(bitbucketApiClient.getApiClient()).thenReturn(apiClient);
+        when(bitbucketApiClient.getProjectApi()).thenReturn(new ProjectApi(apiClient));
         
         // Mock the invokeAPI to throw RestClientException
         when(apiClient.invokeAPI(anyString(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
@@ -86,7 +106,7 @@ class BitbucketServiceTest {
         );
 
         verify(clientFactory).getClient(instanceName);
-        verify(bitbucketApiClient).getApiClient();
+        verify(bitbucketApiClient).getProjectApi();
     }
 
     @Test
@@ -118,7 +138,7 @@ class BitbucketServiceTest {
         String branchName = "feature/test";
 
         when(clientFactory.getClient(instanceName)).thenReturn(bitbucketApiClient);
-        when(bitbucketApiClient.getApiClient()).thenReturn(apiClient);
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(new RepositoryApi(apiClient));
         
         // Mock the parameterToMultiValueMap method to return empty map instead of null
         when(apiClient.parameterToMultiValueMap(any(), anyString(), any()))
@@ -134,7 +154,7 @@ class BitbucketServiceTest {
         );
 
         verify(clientFactory).getClient(instanceName);
-        verify(bitbucketApiClient).getApiClient();
+        verify(bitbucketApiClient).getRepositoryApi();
     }
 
     @Test
@@ -201,7 +221,7 @@ class BitbucketServiceTest {
         minimalRef.id("refs/heads/" + expectedBranch);
         
         when(clientFactory.getClient(instanceName)).thenReturn(bitbucketApiClient);
-        when(bitbucketApiClient.getApiClient()).thenReturn(apiClient);
+        when(bitbucketApiClient.getProjectApi()).thenReturn(new ProjectApi(apiClient));
         
         // Mock the invokeAPI to return the RestMinimalRef
         when(apiClient.invokeAPI(anyString(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
@@ -214,7 +234,7 @@ class BitbucketServiceTest {
         assertNotNull(result);
         assertEquals(expectedBranch, result);
         verify(clientFactory).getClient(instanceName);
-        verify(bitbucketApiClient).getApiClient();
+        verify(bitbucketApiClient).getProjectApi();
     }
     
     @Test
@@ -234,7 +254,7 @@ class BitbucketServiceTest {
         response.values(List.of(branch));
         
         when(clientFactory.getClient(instanceName)).thenReturn(bitbucketApiClient);
-        when(bitbucketApiClient.getApiClient()).thenReturn(apiClient);
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(new RepositoryApi(apiClient));
         
         // Mock the parameterToMultiValueMap and invokeAPI methods
         when(apiClient.parameterToMultiValueMap(any(), anyString(), any()))
@@ -248,7 +268,7 @@ class BitbucketServiceTest {
         // Assert
         assertTrue(result);
         verify(clientFactory).getClient(instanceName);
-        verify(bitbucketApiClient).getApiClient();
+        verify(bitbucketApiClient).getRepositoryApi();
     }
     
     @Test
@@ -264,7 +284,7 @@ class BitbucketServiceTest {
         response.values(Collections.emptyList());
         
         when(clientFactory.getClient(instanceName)).thenReturn(bitbucketApiClient);
-        when(bitbucketApiClient.getApiClient()).thenReturn(apiClient);
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(new RepositoryApi(apiClient));
         
         // Mock the parameterToMultiValueMap and invokeAPI methods
         when(apiClient.parameterToMultiValueMap(any(), anyString(), any()))
@@ -278,6 +298,102 @@ class BitbucketServiceTest {
         // Assert
         assertFalse(result);
         verify(clientFactory).getClient(instanceName);
-        verify(bitbucketApiClient).getApiClient();
+        verify(bitbucketApiClient).getRepositoryApi();
+    }
+
+    @Test
+    void testBranchesExist_ListsBranchesOncePerRepository() throws Exception {
+        // Arrange
+        when(clientFactory.getClient("dev")).thenReturn(bitbucketApiClient);
+        when(bitbucketApiClient.getConfig()).thenReturn(new BitbucketServiceConfiguration.BitbucketInstanceConfig());
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(repositoryApi);
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo-a"), isNull(), isNull(), isNull(), isNull(), isNull(), any(), any()))
+            .thenReturn(branchPage(true, null, "main", "release/1.0"));
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo-b"), isNull(), isNull(), isNull(), isNull(), isNull(), any(), any()))
+            .thenReturn(branchPage(true, null, "main"));
+
+        BranchRef aMain = new BranchRef("PROJ", "repo-a", "main");
+        BranchRef aRelease = new BranchRef("PROJ", "repo-a", "release/1.0");
+        BranchRef bMain = new BranchRef("PROJ", "repo-b", "main");
+        BranchRef bRelease = new BranchRef("PROJ", "repo-b", "release/1.0");
+
+        // Act
+        Map<BranchRef, Boolean> result = bitbucketService.branchesExist("dev", List.of(aMain, aRelease, bMain, bRelease));
+
+        // Assert
+        assertEquals(List.of(aMain, aRelease, bMain, bRelease), List.copyOf(result.keySet()));
+        assertTrue(result.get(aMain));
+        assertTrue(result.get(aRelease));
+        assertTrue(result.get(bMain));
+        assertFalse(result.get(bRelease));
+        verify(repositoryApi, times(2)).getBranches(anyString(), anyString(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testBranchesExist_FollowsBranchPages() throws Exception {
+        // Arrange
+        when(clientFactory.getClient("dev")).thenReturn(bitbucketApiClient);
+        when(bitbucketApiClient.getConfig()).thenReturn(new BitbucketServiceConfiguration.BitbucketInstanceConfig());
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(repositoryApi);
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo-a"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(BigDecimal.ZERO), any()))
+            .thenReturn(branchPage(false, 1000, "main"));
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo-a"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(BigDecimal.valueOf(1000)), any()))
+            .thenReturn(branchPage(true, null, "release/1.0"));
+
+        BranchRef main = new BranchRef("PROJ", "repo-a", "main");
+        BranchRef release = new BranchRef("PROJ", "repo-a", "release/1.0");
+
+        // Act
+        Map<BranchRef, Boolean> result = bitbucketService.branchesExist("dev", List.of(main, release));
+
+        // Assert
+        assertTrue(result.get(main));
+        assertTrue(result.get(release));
+    }
+
+    @Test
+    void testBranchesExist_MissingRepositoryReportsFalse() throws Exception {
+        // Arrange
+        when(clientFactory.getClient("dev")).thenReturn(bitbucketApiClient);
+        when(bitbucketApiClient.getConfig()).thenReturn(new BitbucketServiceConfiguration.BitbucketInstanceConfig());
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(repositoryApi);
+        when(repositoryApi.getBranches(anyString(), anyString(), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        BranchRef main = new BranchRef("PROJ", "missing", "main");
+        BranchRef release = new BranchRef("PROJ", "missing", "release/1.0");
+
+        // Act
+        Map<BranchRef, Boolean> result = bitbucketService.branchesExist("dev", List.of(main, release));
+
+        // Assert
+        assertFalse(result.get(main));
+        assertFalse(result.get(release));
+    }
+
+    @Test
+    void testBranchesExist_FailureIsReported() throws Exception {
+        // Arrange
+        when(clientFactory.getClient("dev")).thenReturn(bitbucketApiClient);
+        when(bitbucketApiClient.getConfig()).thenReturn(new BitbucketServiceConfiguration.BitbucketInstanceConfig());
+        when(bitbucketApiClient.getRepositoryApi()).thenReturn(repositoryApi);
+        when(repositoryApi.getBranches(anyString(), anyString(), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new RestClientException("Connection failed"));
+
+        // Act & Assert
+        assertThrows(BitbucketException.class, () -> bitbucketService.branchesExist("dev", List.of(
+            new BranchRef("PROJ", "repo-a", "main"), new BranchRef("PROJ", "repo-b", "main"))));
+    }
+
+    private static GetBranches200Response branchPage(boolean isLastPage, Integer nextPageStart, String... branchNames) {
+        GetBranches200Response page = new GetBranches200Response();
+        for (String branchName : branchNames) {
+            RestBranch branch = new RestBranch(branchName, false, null, null);
+            branch.id("refs/heads/" + branchName);
+            page.addValuesItem(branch);
+        }
+        page.isLastPage(isLastPage);
+        page.nextPageStart(nextPageStart);
+        return page;
     }
 }
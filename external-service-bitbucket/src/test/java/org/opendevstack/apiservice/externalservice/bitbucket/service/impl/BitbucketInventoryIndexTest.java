@@ -0,0 +1,284 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClient;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.BitbucketApiClientFactory;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.ProjectApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.api.RepositoryApi;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetBranches200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.GetRepositoriesRecentlyAccessed200Response;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestBranch;
+import org.opendevstack.apiservice.externalservice.bitbucket.client.model.RestRepository;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration.InventoryConfig;
+import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+import org.opendevstack.apiservice.externalservice.bitbucket.model.RepositoryInventory;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BitbucketInventoryIndex
+ */
+class BitbucketInventoryIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private ProjectApi projectApi;
+    private RepositoryApi repositoryApi;
+    private InventoryConfig config;
+    private MutableClock clock;
+    private BitbucketInventoryIndex index;
+
+    @BeforeEach
+    void setUp() throws BitbucketException {
+        BitbucketApiClientFactory clientFactory = mock(BitbucketApiClientFactory.class);
+        BitbucketApiClient client = mock(BitbucketApiClient.class);
+        projectApi = mock(ProjectApi.class);
+        repositoryApi = mock(RepositoryApi.class);
+        when(clientFactory.getClient("dev")).thenReturn(client);
+        when(client.getProjectApi()).thenReturn(projectApi);
+        when(client.getRepositoryApi()).thenReturn(repositoryApi);
+
+        config = new InventoryConfig();
+        clock = new MutableClock(NOW);
+        index = new BitbucketInventoryIndex(clientFactory, config, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+    }
+
+    @Test
+    void testGetRepositories_IndexesProjectOnFirstQuery() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a", "repo-b");
+        stubBranches("repo-a", branch("main", true, "c1"), branch("release/1.0", false, "c0"));
+        stubBranches("repo-b", branch("develop", true, "c2"));
+
+        // Act
+        Map<String, RepositoryInventory> first = index.getRepositories("dev", "PROJ");
+        Map<String, RepositoryInventory> second = index.getRepositories("dev", "PROJ");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(List.of("repo-a", "repo-b"), List.copyOf(first.keySet()));
+        assertEquals("main", first.get("repo-a").defaultBranch());
+        assertEquals(Set.of("main", "release/1.0"), first.get("repo-a").branches());
+        assertTrue(first.get("repo-b").hasBranch("develop"));
+        verify(projectApi, times(1)).getRepositories(eq("PROJ"), any(), any());
+    }
+
+    @Test
+    void testIncrementalRefresh_RelistsOnlyChangedRepositories() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a", "repo-b");
+        stubBranches("repo-a", branch("main", true, "c1"));
+        stubBranches("repo-b", branch("main", true, "c2"));
+        index.getRepositories("dev", "PROJ");
+        stubBranches("repo-b", branch("feature/x", false, "c3"), branch("main", true, "c2"));
+
+        // Act
+        index.refreshAll();
+
+        // Assert
+        Map<String, RepositoryInventory> repositories = index.getRepositories("dev", "PROJ");
+        assertEquals(Set.of("main"), repositories.get("repo-a").branches());
+        assertEquals(Set.of("main", "feature/x"), repositories.get("repo-b").branches());
+        verify(repositoryApi, times(2)).getBranches(eq("PROJ"), eq("repo-a"), any(), any(), any(), any(), any(), any(), any());
+        verify(repositoryApi, times(3)).getBranches(eq("PROJ"), eq("repo-b"), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testMarkStale_RelistsRepositoryOnNextRefresh() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a");
+        stubBranches("repo-a", branch("main", true, "c1"), branch("old", false, "c0"));
+        index.getRepositories("dev", "PROJ");
+        stubBranches("repo-a", branch("main", true, "c1"));
+
+        // Act
+        index.markStale("dev", "PROJ", "repo-a");
+        index.refreshAll();
+
+        // Assert
+        assertEquals(Set.of("main"), index.getRepositories("dev", "PROJ").get("repo-a").branches());
+    }
+
+    @Test
+    void testFullRefresh_RelistsAllRepositoriesAfterInterval() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a");
+        stubBranches("repo-a", branch("main", true, "c1"), branch("old", false, "c0"));
+        index.getRepositories("dev", "PROJ");
+        stubBranches("repo-a", branch("main", true, "c1"));
+
+        // Act
+        index.refreshAll();
+        Set<String> afterIncremental = index.getRepositories("dev", "PROJ").get("repo-a").branches();
+        clock.advance(Duration.ofSeconds(config.getFullRefreshIntervalSeconds()));
+        index.refreshAll();
+
+        // Assert
+        assertEquals(Set.of("main", "old"), afterIncremental);
+        assertEquals(Set.of("main"), index.getRepositories("dev", "PROJ").get("repo-a").branches());
+    }
+
+    @Test
+    void testRefresh_DropsDeletedRepositories() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a", "repo-b");
+        stubBranches("repo-a", branch("main", true, "c1"));
+        stubBranches("repo-b", branch("main", true, "c2"));
+        index.getRepositories("dev", "PROJ");
+        stubRepositories("repo-a");
+
+        // Act
+        index.refreshAll();
+
+        // Assert
+        assertEquals(Set.of("repo-a"), index.getRepositories("dev", "PROJ").keySet());
+    }
+
+    @Test
+    void testRefresh_FailedRepositoryKeepsPreviousState() throws BitbucketException {
+        // Arrange
+        stubRepositories("repo-a");
+        stubBranches("repo-a", branch("main", true, "c1"));
+        index.getRepositories("dev", "PROJ");
+        when(repositoryApi.getBranches(eq("PROJ"), eq("repo-a"), any(), any(), any(), any(), any(), any(), any()))
+            .thenThrow(new RestClientException("Connection failed"));
+
+        // Act
+        index.refreshAll();
+
+        // Assert
+        assertEquals("main", index.getRepositories("dev", "PROJ").get("repo-a").defaultBranch());
+    }
+
+    @Test
+    void testGetRepositories_FailedFirstIndexingIsReported() {
+        // Arrange
+        when(projectApi.getRepositories(anyString(), any(), any())).thenThrow(new RestClientException("Connection failed"));
+
+        // Act & Assert
+        assertThrows(BitbucketException.class, () -> index.getRepositories("dev", "PROJ"));
+        index.refreshAll();
+        verify(projectApi, times(1)).getRepositories(eq("PROJ"), any(), any());
+    }
+
+    @Test
+    void testGetRepositories_DropsLeastRecentlyQueriedOnDemandProject() throws BitbucketException {
+        // Arrange
+        config.setMaxOnDemandProjects(2);
+        when(projectApi.getRepositories(anyString(), any(), any())).thenReturn(repositoriesPage("repo-a"));
+        GetBranches200Response branches = new GetBranches200Response();
+        branches.addValuesItem(branch("main", true, "c1"));
+        branches.isLastPage(true);
+        when(repositoryApi.getBranches(anyString(), eq("repo-a"), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(branches);
+        index.getRepositories("dev", "PROJ");
+        clock.advance(Duration.ofSeconds(1));
+        index.getRepositories("dev", "OTHER");
+        clock.advance(Duration.ofSeconds(1));
+        index.getRepositories("dev", "PROJ");
+
+        // Act
+        index.getRepositories("dev", "THIRD");
+        index.refreshAll();
+
+        // Assert
+        verify(projectApi, times(2)).getRepositories(eq("PROJ"), any(), any());
+        verify(projectApi, times(1)).getRepositories(eq("OTHER"), any(), any());
+        verify(projectApi, times(2)).getRepositories(eq("THIRD"), any(), any());
+    }
+
+    @Test
+    void testRefreshAll_DropsIdleOnDemandProjects() throws BitbucketException {
+        // Arrange
+        config.setOnDemandIdleSeconds(60);
+        stubRepositories("repo-a");
+        stubBranches("repo-a", branch("main", true, "c1"));
+        index.getRepositories("dev", "PROJ");
+        clock.advance(Duration.ofSeconds(61));
+
+        // Act
+        index.refreshAll();
+
+        // Assert
+        verify(projectApi, times(1)).getRepositories(eq("PROJ"), any(), any());
+    }
+
+    private void stubRepositories(String... slugs) {
+        when(projectApi.getRepositories(eq("PROJ"), any(), any())).thenReturn(repositoriesPage(slugs));
+    }
+
+    private static GetRepositoriesRecentlyAccessed200Response repositoriesPage(String... slugs) {
+        GetRepositoriesRecentlyAccessed200Response page = new GetRepositoriesRecentlyAccessed200Response();
+        for (String slug : slugs) {
+            page.addValuesItem(new RestRepository().slug(slug));
+        }
+        page.isLastPage(true);
+        return page;
+    }
+
+    private void stubBranches(String slug, RestBranch... branches) {
+        GetBranches200Response page = new GetBranches200Response();
+        for (RestBranch branch : branches) {
+            page.addValuesItem(branch);
+        }
+        page.isLastPage(true);
+        when(repositoryApi.getBranches(eq("PROJ"), eq(slug), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(page);
+    }
+
+    private static RestBranch branch(String displayId, boolean isDefault, String latestCommit) {
+        RestBranch branch = new RestBranch(displayId, isDefault, latestCommit, null);
+        branch.id("refs/heads/" + displayId);
+        return branch;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
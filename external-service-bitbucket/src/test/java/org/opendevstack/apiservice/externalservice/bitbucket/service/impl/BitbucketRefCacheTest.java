@@ -0,0 +1,232 @@
+package org.opendevstack.apiservice.externalservice.bitbucket.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.externalservice.bitbucket.config.BitbucketServiceConfiguration.RefCacheConfig;
+import org.opendevstack.apiservice.externalservice.bitbucket.exception.BitbucketException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BitbucketRefCache
+ */
+class BitbucketRefCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private RefCacheConfig config;
+    private MutableClock clock;
+    private BitbucketRefCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new RefCacheConfig();
+        clock = new MutableClock(NOW);
+        cache = new BitbucketRefCache(config, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.destroy();
+    }
+
+    @Test
+    void testDefaultBranch_LoadedOnceWithinTtl() throws BitbucketException {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        String first = cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+        clock.advance(Duration.ofSeconds(59));
+        String second = cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("main-1", first);
+        assertEquals("main-1", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testDefaultBranch_DifferentRepositoriesLoadedSeparately() throws BitbucketException {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+        cache.getDefaultBranch("dev", "PROJ", "other-repo", () -> "main-" + loads.incrementAndGet());
+        cache.getDefaultBranch("prod", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testDefaultBranch_StaleValueReturnedWhileRevalidating() throws Exception {
+        // Arrange
+        CountDownLatch revalidated = new CountDownLatch(1);
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+        clock.advance(Duration.ofSeconds(61));
+
+        // Act
+        String stale = cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> {
+            revalidated.countDown();
+            return "develop";
+        });
+
+        // Assert
+        assertEquals("main", stale);
+        assertTrue(revalidated.await(5, TimeUnit.SECONDS));
+        assertEventually(() -> "develop".equals(cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "unexpected")));
+    }
+
+    @Test
+    void testDefaultBranch_LoadedAgainAfterRevalidateWindow() throws BitbucketException {
+        // Arrange
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+        clock.advance(Duration.ofSeconds(90));
+
+        // Act
+        String result = cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "develop");
+
+        // Assert
+        assertEquals("develop", result);
+    }
+
+    @Test
+    void testBranchExists_MissingBranchCachedBriefly() throws BitbucketException {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        assertFalse(cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> loads.incrementAndGet() > 1));
+        assertFalse(cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> loads.incrementAndGet() > 1));
+        clock.advance(Duration.ofSeconds(5));
+        boolean afterExpiry = cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> loads.incrementAndGet() > 1);
+
+        // Assert
+        assertTrue(afterExpiry);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testFailedLoad_IsNotCached() throws BitbucketException {
+        // Act & Assert
+        assertThrows(BitbucketException.class, () -> cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> {
+            throw new BitbucketException("Connection failed");
+        }));
+        assertEquals("main", cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main"));
+    }
+
+    @Test
+    void testEvictBranch_RemovesOnlyThatBranch() throws BitbucketException {
+        // Arrange
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+        cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> true);
+        cache.branchExists("dev", "PROJ", "my-repo", "feature/y", () -> true);
+
+        // Act
+        cache.evictBranch("dev", "PROJ", "my-repo", "feature/x");
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertFalse(cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> false));
+    }
+
+    @Test
+    void testEvictRepository_RemovesDefaultBranchAndBranches() throws BitbucketException {
+        // Arrange
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+        cache.branchExists("dev", "PROJ", "my-repo", "feature/x", () -> true);
+        cache.getDefaultBranch("dev", "PROJ", "other-repo", () -> "main");
+
+        // Act
+        cache.evictRepository("dev", "PROJ", "my-repo");
+
+        // Assert
+        assertEquals(1, cache.size());
+        assertEquals("develop", cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "develop"));
+    }
+
+    @Test
+    void testDisabled_AlwaysLoads() throws BitbucketException {
+        // Arrange
+        config.setEnabled(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testMetrics_CountHitsAndMisses() throws BitbucketException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // Act
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+        cache.getDefaultBranch("dev", "PROJ", "my-repo", () -> "main");
+
+        // Assert
+        assertEquals(1.0, registry.get("bitbucket.ref.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("bitbucket.ref.cache.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("bitbucket.ref.cache.size").gauge().value());
+    }
+
+    private static void assertEventually(CheckedCondition condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.test()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 seconds");
+            Thread.sleep(10);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CheckedCondition {
+        boolean test() throws Exception;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
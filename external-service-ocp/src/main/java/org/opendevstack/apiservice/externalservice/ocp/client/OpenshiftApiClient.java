@@ -1,42 +1,85 @@
 package org.opendevstack.apiservice.externalservice.ocp.client;
 
 import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.OpenshiftInstanceConfig;
+import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.SecretCacheConfig;
 import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.Base64;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Client for interacting with OpenShift API.
  * Provides methods to retrieve secrets and other resources from an OpenShift cluster.
+ * Secrets are cached per namespace, see {@link OpenshiftSecretCache}.
  */
 @Slf4j
-public class OpenshiftApiClient {
+public class OpenshiftApiClient implements AutoCloseable {
+    
+    /**
+     * Requests only the metadata of an object, falling back to the full object on clusters that do not support it
+     */
+    private static final List<MediaType> METADATA_ONLY = List.of(
+        MediaType.parseMediaType("application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1"),
+        MediaType.APPLICATION_JSON
+    );
     
     private final String instanceName;
     private final OpenshiftInstanceConfig config;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final OpenshiftSecretCache secretCache;
     
     /**
-     * Constructor for OpenshiftApiClient
+     * Constructor for OpenshiftApiClient with the default secret cache configuration
      * 
      * @param instanceName Name of the OpenShift instance
      * @param config Configuration for this instance
      * @param restTemplate RestTemplate configured with appropriate timeouts and SSL settings
      */
     public OpenshiftApiClient(String instanceName, OpenshiftInstanceConfig config, RestTemplate restTemplate) {
+        this(instanceName, config, new SecretCacheConfig(), restTemplate);
+    }
+    
+    /**
+     * Constructor for OpenshiftApiClient
+     * 
+     * @param instanceName Name of the OpenShift instance
+     * @param config Configuration for this instance
+     * @param secretCacheConfig Configuration of the secret cache
+     * @param restTemplate RestTemplate configured with appropriate timeouts and SSL settings
+     */
+    public OpenshiftApiClient(String instanceName, OpenshiftInstanceConfig config, SecretCacheConfig secretCacheConfig,
+                              RestTemplate restTemplate) {
         this.instanceName = instanceName;
         this.config = config;
         this.restTemplate = restTemplate;
         this.objectMapper = new ObjectMapper();
+        this.secretCache = new OpenshiftSecretCache(this, secretCacheConfig);
     }
     
     /**
@@ -55,10 +98,14 @@ public class OpenshiftApiClient {
      * 
      * @param secretName Name of the secret to retrieve
      * @param namespace Namespace where the secret is located
-     * @return Map containing the decoded secret data
+     * @return Unmodifiable map containing the decoded secret data
      * @throws OpenshiftException if the secret cannot be retrieved
      */
     public Map<String, String> getSecret(String secretName, String namespace) throws OpenshiftException {
+        return secretCache.get(namespace, secretName, () -> fetchSecret(secretName, namespace));
+    }
+    
+    private Map<String, String> fetchSecret(String secretName, String namespace) throws OpenshiftException {
         log.debug("Retrieving secret '{}' from namespace '{}' in OpenShift instance '{}'", 
                   secretName, namespace, instanceName);
         
@@ -66,24 +113,18 @@ public class OpenshiftApiClient {
                                    config.getApiUrl(), namespace, secretName);
         
         try {
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            // The secret is parsed from the response stream, its values are decoded when they are read
+            SecretData secret = restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().putAll(createHeaders()),
+                response -> response.getStatusCode() == HttpStatus.OK ? parseSecret(response.getBody()) : null);
             
-            ResponseEntity<String> response = restTemplate.exchange(
-                url, 
-                HttpMethod.GET, 
-                entity, 
-                String.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseSecretData(response.getBody());
-            } else {
+            if (secret == null) {
                 throw new OpenshiftException(
-                    String.format("Failed to retrieve secret '%s' from namespace '%s'. Status: %s", 
-                                  secretName, namespace, response.getStatusCode())
+                    String.format("Failed to retrieve secret '%s' from namespace '%s'. Empty response", 
+                                  secretName, namespace)
                 );
             }
+            return secret;
             
         } catch (RestClientException e) {
             log.error("Error retrieving secret '{}' from OpenShift instance '{}'", secretName, instanceName, e);
@@ -95,6 +136,67 @@ public class OpenshiftApiClient {
         }
     }
     
+    /**
+     * Get several secrets from a namespace with at most one request.
+     * Cached secrets are taken from the cache; the others are read from a single list of the secrets of the namespace.
+     * 
+     * @param secretNames Names of the secrets to retrieve
+     * @param namespace Namespace where the secrets are located
+     * @return Map of secret name to decoded secret data, in the order of the names; secrets that do not exist are omitted
+     * @throws OpenshiftException if the secrets cannot be listed
+     */
+    public Map<String, Map<String, String>> getSecrets(Collection<String> secretNames, String namespace)
+            throws OpenshiftException {
+        Map<String, Map<String, String>> cached = new HashMap<>();
+        Set<String> uncached = new HashSet<>();
+        for (String secretName : secretNames) {
+            Map<String, String> secret = secretCache.getIfCached(namespace, secretName);
+            if (secret != null) {
+                cached.put(secretName, secret);
+            } else {
+                uncached.add(secretName);
+            }
+        }
+        
+        Map<String, SecretData> listed = Map.of();
+        if (!uncached.isEmpty()) {
+            log.debug("Listing {} secrets from namespace '{}' in OpenShift instance '{}'", 
+                      uncached.size(), namespace, instanceName);
+            long generation = secretCache.generation(namespace);
+            listed = listSecrets(namespace, null, uncached::contains);
+            Set<String> missing = new HashSet<>(uncached);
+            missing.removeAll(listed.keySet());
+            secretCache.putAll(namespace, listed, missing, generation);
+        }
+        
+        Map<String, Map<String, String>> secrets = new LinkedHashMap<>();
+        for (String secretName : secretNames) {
+            Map<String, String> secret = cached.containsKey(secretName) ? cached.get(secretName) : listed.get(secretName);
+            if (secret != null) {
+                secrets.put(secretName, secret);
+            }
+        }
+        return secrets;
+    }
+    
+    /**
+     * Get all secrets of a namespace that match a label selector with one request
+     * 
+     * @param labelSelector Kubernetes label selector, e.g. {@code app=webhook-proxy}
+     * @param namespace Namespace where the secrets are located
+     * @return Map of secret name to decoded secret data
+     * @throws OpenshiftException if the secrets cannot be listed
+     */
+    public Map<String, Map<String, String>> getSecretsByLabel(String labelSelector, String namespace)
+            throws OpenshiftException {
+        log.debug("Listing secrets matching '{}' from namespace '{}' in OpenShift instance '{}'", 
+                  labelSelector, namespace, instanceName);
+        long generation = secretCache.generation(namespace);
+        Map<String, SecretData> listed = listSecrets(namespace, labelSelector, secretName -> true);
+        secretCache.putAll(namespace, listed, Set.of(), generation);
+        return Collections.unmodifiableMap(listed);
+    }
+    
     /**
      * Get a specific value from a secret
      * 
@@ -134,87 +236,316 @@ public class OpenshiftApiClient {
      * 
      * @param secretName Name of the secret
      * @return true if the secret exists, false otherwise
+     * @throws OpenshiftException if it cannot be checked whether the secret exists
      */
-    public boolean secretExists(String secretName) {
+    public boolean secretExists(String secretName) throws OpenshiftException {
         return secretExists(secretName, config.getNamespace());
     }
     
     /**
-     * Check if a secret exists in a specific namespace
+     * Check if a secret exists in a specific namespace.
+     * Only the metadata of the secret is requested, and secrets that do not exist are remembered for a short time.
      * 
      * @param secretName Name of the secret
      * @param namespace Namespace where the secret might be located
      * @return true if the secret exists, false otherwise
+     * @throws OpenshiftException if it cannot be checked whether the secret exists
      */
-    public boolean secretExists(String secretName, String namespace) {
+    public boolean secretExists(String secretName, String namespace) throws OpenshiftException {
+        return secretCache.exists(namespace, secretName, () -> fetchSecretExists(secretName, namespace));
+    }
+    
+    private boolean fetchSecretExists(String secretName, String namespace) throws OpenshiftException {
+        String url = String.format("%s/api/v1/namespaces/%s/secrets/%s", 
+                                   config.getApiUrl(), namespace, secretName);
+        
         try {
-            getSecret(secretName, namespace);
+            HttpHeaders headers = createHeaders();
+            headers.setAccept(METADATA_ONLY);
+            
+            restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), Void.class);
             return true;
-        } catch (OpenshiftException e) {
+            
+        } catch (HttpClientErrorException.NotFound e) {
             log.debug("Secret '{}' does not exist in namespace '{}'", secretName, namespace);
             return false;
+            
+        } catch (RestClientException e) {
+            log.error("Error checking if secret '{}' exists in OpenShift instance '{}'", secretName, instanceName, e);
+            throw new OpenshiftException(
+                String.format("Failed to check if secret '%s' exists in namespace '%s' of OpenShift instance '%s'", 
+                              secretName, namespace, instanceName), 
+                e
+            );
         }
     }
     
     /**
-     * Create HTTP headers with authentication token
+     * List the secrets of a namespace in one request, parsing the response as a stream and keeping only the data
+     * of the wanted secrets
      * 
-     * @return HttpHeaders with authorization and content type
+     * @param namespace Namespace of the secrets
+     * @param labelSelector Label selector, or null to list all secrets of the namespace
+     * @param wanted Selects the secrets to keep by name
+     * @return Map of secret name to secret data, in the order of the list
+     * @throws OpenshiftException if the secrets cannot be listed or parsed
      */
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(config.getToken());
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return headers;
+    private Map<String, SecretData> listSecrets(String namespace, String labelSelector, Predicate<String> wanted)
+            throws OpenshiftException {
+        UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(config.getApiUrl())
+            .path("/api/v1/namespaces/{namespace}/secrets");
+        Map<String, String> variables = new HashMap<>();
+        variables.put("namespace", namespace);
+        if (labelSelector != null) {
+            uri.queryParam("labelSelector", "{labelSelector}");
+            variables.put("labelSelector", labelSelector);
+        }
+        URI url = uri.encode().buildAndExpand(variables).toUri();
+        
+        try {
+            return restTemplate.execute(url, HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setBearerAuth(config.getToken());
+                    request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON));
+                },
+                response -> parseSecretList(response.getBody(), wanted));
+            
+        } catch (RestClientException e) {
+            log.error("Error listing secrets of namespace '{}' in OpenShift instance '{}'", namespace, instanceName, e);
+            throw new OpenshiftException(
+                String.format("Failed to list secrets of namespace '%s' in OpenShift instance '%s'", 
+                              namespace, instanceName), 
+                e
+            );
+        }
+    }
+    
+    /**
+     * Parse a secret list as a stream. The data of secrets that are not wanted is skipped without being read
+     * into memory, as long as the metadata of a secret precedes its data, as it does in responses of the API server.
+     * 
+     * @param body Response body of the secret list
+     * @param wanted Selects the secrets to keep by name
+     * @return Map of secret name to secret data, in the order of the list
+     * @throws IOException if the response cannot be parsed
+     */
+    private Map<String, SecretData> parseSecretList(InputStream body, Predicate<String> wanted) throws IOException {
+        Map<String, SecretData> secrets = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a secret list");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("items".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        ParsedSecret secret = parseSecretObject(parser, wanted);
+                        if (secret != null && secret.name() != null) {
+                            secrets.put(secret.name(), secret.data());
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        log.debug("Parsed {} secrets from secret list", secrets.size());
+        return secrets;
+    }
+    
+    /**
+     * Parse a single secret from a response stream
+     * 
+     * @param body Response body of the secret
+     * @return The secret data, values are decoded when they are read
+     * @throws IOException if the response cannot be parsed
+     */
+    private SecretData parseSecret(InputStream body) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a secret");
+            }
+            ParsedSecret secret = parseSecretObject(parser, name -> true);
+            log.debug("Successfully parsed secret data with {} keys", secret.data().size());
+            return secret.data();
+        }
     }
     
     /**
-     * Parse secret data from the API response and decode base64 values
+     * Parse a secret object whose start token was read. Values are kept as raw base64 bytes.
      * 
-     * @param jsonResponse JSON response from OpenShift API
-     * @return Map with decoded secret values
-     * @throws OpenshiftException if parsing fails
+     * @return The parsed secret, or null if it is not wanted; the name is null if the secret has no metadata
+     */
+    private static ParsedSecret parseSecretObject(JsonParser parser, Predicate<String> wanted) throws IOException {
+        String name = null;
+        Map<String, byte[]> data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("metadata".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+                name = parseName(parser);
+            } else if ("data".equals(field) && parser.currentToken() == JsonToken.START_OBJECT
+                    && (name == null || wanted.test(name))) {
+                data = new HashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String key = parser.currentName();
+                    parser.nextToken();
+                    data.put(key, rawValue(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (name != null && !wanted.test(name)) {
+            return null;
+        }
+        return new ParsedSecret(name, new SecretData(data != null ? data : Map.of()));
+    }
+    
+    /**
+     * Copy the current string value from the parser buffer as bytes, without creating a string.
+     * Base64 values only contain ASCII characters.
      */
-    private Map<String, String> parseSecretData(String jsonResponse) throws OpenshiftException {
+    private static byte[] rawValue(JsonParser parser) throws IOException {
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        byte[] raw = new byte[parser.getTextLength()];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = (byte) chars[offset + i];
+        }
+        return raw;
+    }
+    
+    private static String parseName(JsonParser parser) throws IOException {
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+    
+    /**
+     * Get the current resource version of the secrets of a namespace, to watch them from
+     * 
+     * @param namespace Namespace of the secrets
+     * @return Resource version of the secret list
+     * @throws OpenshiftException if the secrets cannot be listed
+     */
+    String getSecretsResourceVersion(String namespace) throws OpenshiftException {
+        String url = String.format("%s/api/v1/namespaces/%s/secrets?limit=1", config.getApiUrl(), namespace);
+        
         try {
-            JsonNode root = objectMapper.readTree(jsonResponse);
-            JsonNode dataNode = root.get("data");
-            
-            Map<String, String> secretData = new HashMap<>();
-            
-            if (dataNode != null && dataNode.isObject()) {
-                dataNode.fieldNames().forEachRemaining(key -> {
-                    String base64Value = dataNode.get(key).asText();
-                    String decodedValue = decodeBase64(base64Value);
-                    secretData.put(key, decodedValue);
-                });
+            ResponseEntity<String> response = restTemplate.exchange(
+                url, 
+                HttpMethod.GET, 
+                new HttpEntity<>(createHeaders()), 
+                String.class
+            );
+            JsonNode resourceVersion = response.getBody() == null ? null
+                    : objectMapper.readTree(response.getBody()).path("metadata").get("resourceVersion");
+            if (resourceVersion == null || resourceVersion.asText().isEmpty()) {
+                throw new OpenshiftException(
+                    String.format("No resource version in secret list of namespace '%s'", namespace)
+                );
             }
+            return resourceVersion.asText();
             
-            log.debug("Successfully parsed secret data with {} keys", secretData.size());
-            return secretData;
-            
-        } catch (Exception e) {
-            log.error("Error parsing secret data", e);
-            throw new OpenshiftException("Failed to parse secret data from OpenShift response", e);
+        } catch (RestClientException | JsonProcessingException e) {
+            throw new OpenshiftException(
+                String.format("Failed to list secrets of namespace '%s' in OpenShift instance '%s'", 
+                              namespace, instanceName), 
+                e
+            );
         }
     }
     
     /**
-     * Decode a base64 encoded string
+     * Watch the secrets of a namespace from a resource version. Returns when the server ends the watch
+     * after {@code timeoutSeconds} or when the handler returns false.
      * 
-     * @param base64Value Base64 encoded string
-     * @return Decoded string
+     * @param namespace Namespace of the secrets
+     * @param resourceVersion Resource version to watch from
+     * @param timeoutSeconds Duration of the watch request
+     * @param handler Handles each event, returns false to end the watch
+     * @throws OpenshiftException if the watch fails
      */
-    private String decodeBase64(String base64Value) {
+    void watchSecrets(String namespace, String resourceVersion, int timeoutSeconds,
+                      Predicate<SecretWatchEvent> handler) throws OpenshiftException {
+        String url = String.format(
+            "%s/api/v1/namespaces/%s/secrets?watch=true&allowWatchBookmarks=true&resourceVersion=%s&timeoutSeconds=%d",
+            config.getApiUrl(), namespace, resourceVersion, timeoutSeconds);
+        
         try {
-            byte[] decodedBytes = Base64.getDecoder().decode(base64Value);
-            return new String(decodedBytes);
-        } catch (IllegalArgumentException e) {
-            log.warn("Failed to decode base64 value, returning original value", e);
-            return base64Value;
+            restTemplate.execute(url, HttpMethod.GET,
+                request -> request.getHeaders().setBearerAuth(config.getToken()),
+                response -> {
+                    try (BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.isBlank() && !handler.test(parseWatchEvent(line))) {
+                                break;
+                            }
+                        }
+                    }
+                    return null;
+                });
+            
+        } catch (RestClientException e) {
+            throw new OpenshiftException(
+                String.format("Failed to watch secrets of namespace '%s' in OpenShift instance '%s'", 
+                              namespace, instanceName), 
+                e
+            );
         }
     }
     
+    /**
+     * Parse a watch event, without decoding the secret data it contains
+     * 
+     * @param line One line of the watch response
+     * @return The parsed event
+     * @throws JsonProcessingException if the line is not valid JSON
+     */
+    private SecretWatchEvent parseWatchEvent(String line) throws JsonProcessingException {
+        JsonNode event = objectMapper.readTree(line);
+        JsonNode object = event.path("object");
+        JsonNode metadata = object.path("metadata");
+        return new SecretWatchEvent(
+            event.path("type").asText(),
+            metadata.path("name").asText(null),
+            metadata.path("resourceVersion").asText(null),
+            object.path("code").asInt()
+        );
+    }
+    
+    /**
+     * Stop watching secrets and drop all cached secrets
+     */
+    @Override
+    public void close() {
+        secretCache.close();
+    }
+    
+    /**
+     * Create HTTP headers with authentication token
+     * 
+     * @return HttpHeaders with authorization and content type
+     */
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(config.getToken());
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+    
     /**
      * Get the instance name this client is configured for
      * 
@@ -232,5 +563,18 @@ public class OpenshiftApiClient {
     public String getDefaultNamespace() {
         return config.getNamespace();
     }
+    
+    /**
+     * Event of a secret watch
+     * 
+     * @param type ADDED, MODIFIED, DELETED, BOOKMARK or ERROR
+     * @param name Name of the secret, null for ERROR events
+     * @param resourceVersion Resource version of the secret, null for ERROR events
+     * @param code HTTP status code of ERROR events, 0 otherwise
+     */
+    record SecretWatchEvent(String type, String name, String resourceVersion, int code) {
+    }
+    
+    private record ParsedSecret(String name, SecretData data) {
+    }
 }
-
@@ -4,6 +4,7 @@ import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceCo
 import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.OpenshiftInstanceConfig;
 import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
@@ -20,11 +21,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Factory for creating OpenshiftApiClient instances.
  * Uses the factory pattern to provide configured clients for different OpenShift instances.
- * Clients are cached and reused for efficiency.
+ * Clients are cached and reused for efficiency, and closed when the factory is destroyed.
  */
 @Component
 @Slf4j
-public class OpenshiftApiClientFactory {
+public class OpenshiftApiClientFactory implements DisposableBean {
     
     private final OpenshiftServiceConfiguration configuration;
     private final Map<String, OpenshiftApiClient> clientCache;
@@ -73,10 +74,15 @@ public class OpenshiftApiClientFactory {
         log.info("Creating new OpenshiftApiClient for instance '{}'", instanceName);
         
         RestTemplate restTemplate = createRestTemplate(instanceConfig);
-        OpenshiftApiClient client = new OpenshiftApiClient(instanceName, instanceConfig, restTemplate);
+        OpenshiftApiClient client = new OpenshiftApiClient(instanceName, instanceConfig, configuration.getSecretCache(), 
+                                                         restTemplate);
         
-        // Cache the client
-        clientCache.put(instanceName, client);
+        // Cache the client; a client created concurrently for the same instance is used instead
+        OpenshiftApiClient existing = clientCache.putIfAbsent(instanceName, client);
+        if (existing != null) {
+            client.close();
+            return existing;
+        }
         
         return client;
     }
@@ -122,6 +128,13 @@ public class OpenshiftApiClientFactory {
      */
     public void clearCache() {
         log.info("Clearing OpenshiftApiClient cache");
+        clientCache.values().forEach(OpenshiftApiClient::close);
+        clientCache.clear();
+    }
+    
+    @Override
+    public void destroy() {
+        clientCache.values().forEach(OpenshiftApiClient::close);
         clientCache.clear();
     }
     
@@ -0,0 +1,433 @@
+package org.opendevstack.apiservice.externalservice.ocp.client;
+
+import org.opendevstack.apiservice.externalservice.ocp.client.OpenshiftApiClient.SecretWatchEvent;
+import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.SecretCacheConfig;
+import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the secrets of one OpenShift instance, per namespace.
+ * When a secret of a namespace is cached for the first time, the secrets of that namespace are
+ * watched from the current resource version of the namespace. Cached secrets are used until the
+ * watch reports that they were added, modified or deleted. While the watch of a namespace is not
+ * running, cached secrets of that namespace are only used for the configured time to live, and
+ * when the watch is established again all cached secrets of the namespace are dropped, since
+ * changes in between may have been missed.
+ * At most the configured number of namespaces are watched at the same time; secrets of further
+ * namespaces are only cached for the time to live. A namespace whose secrets were not read for the
+ * configured idle time is no longer watched and its cached secrets are dropped.
+ * Secrets that do not exist are remembered for a short time, independent of the watch.
+ */
+@Slf4j
+class OpenshiftSecretCache implements AutoCloseable {
+
+    /**
+     * Loads a secret from the cluster when it is not cached
+     */
+    @FunctionalInterface
+    interface Loader {
+        Map<String, String> load() throws OpenshiftException;
+    }
+
+    /**
+     * Checks in the cluster whether a secret exists when the answer is not cached
+     */
+    @FunctionalInterface
+    interface ExistenceCheck {
+        boolean exists() throws OpenshiftException;
+    }
+
+    private final OpenshiftApiClient client;
+    private final SecretCacheConfig config;
+    private final Clock clock;
+
+    private final Map<String, NamespaceCache> namespaces = new ConcurrentHashMap<>();
+    private final AtomicInteger watchedNamespaces = new AtomicInteger();
+    private volatile boolean closed;
+
+    OpenshiftSecretCache(OpenshiftApiClient client, SecretCacheConfig config) {
+        this(client, config, Clock.systemUTC());
+    }
+
+    OpenshiftSecretCache(OpenshiftApiClient client, SecretCacheConfig config, Clock clock) {
+        this.client = client;
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Get a secret, loading it if it is not cached or no longer valid
+     *
+     * @param namespace Namespace of the secret
+     * @param secretName Name of the secret
+     * @param loader Loads the secret from the cluster
+     * @return The decoded secret data
+     * @throws OpenshiftException if the secret is not cached and cannot be loaded
+     */
+    Map<String, String> get(String namespace, String secretName, Loader loader) throws OpenshiftException {
+        if (!config.isEnabled() || closed) {
+            return loader.load();
+        }
+
+        NamespaceCache cache = cache(namespace);
+        Instant now = clock.instant();
+        Entry entry = cache.entries.get(secretName);
+        if (isValid(cache, entry, now)) {
+            return entry.data();
+        }
+
+        long generation = cache.generation.get();
+        Map<String, String> data = loader.load();
+        // A secret that changed while it was loaded is not cached, it may have been loaded before the change
+        if (cache.generation.get() == generation && hasRoom(secretName, cache, now)) {
+            cache.missing.remove(secretName);
+            cache.entries.put(secretName, new Entry(data, now));
+        }
+        return data;
+    }
+
+    /**
+     * Check whether a secret exists. A cached secret exists; that a secret does not exist is
+     * remembered for the configured time to live of missing secrets.
+     *
+     * @param namespace Namespace of the secret
+     * @param secretName Name of the secret
+     * @param check Checks in the cluster whether the secret exists
+     * @return true if the secret exists, false otherwise
+     * @throws OpenshiftException if the answer is not cached and the check fails
+     */
+    boolean exists(String namespace, String secretName, ExistenceCheck check) throws OpenshiftException {
+        if (!config.isEnabled() || closed) {
+            return check.exists();
+        }
+
+        NamespaceCache cache = cache(namespace);
+        Instant now = clock.instant();
+        if (isValid(cache, cache.entries.get(secretName), now)) {
+            return true;
+        }
+        Instant missingSince = cache.missing.get(secretName);
+        if (missingSince != null && now.isBefore(missingSince.plusSeconds(config.getMissingTtlSeconds()))) {
+            return false;
+        }
+
+        long generation = cache.generation.get();
+        boolean exists = check.exists();
+        if (exists) {
+            cache.missing.remove(secretName);
+        } else if (cache.generation.get() == generation && config.getMissingTtlSeconds() > 0
+                && (cache.missing.containsKey(secretName) || hasRoom(secretName, cache, now))) {
+            cache.missing.put(secretName, now);
+        }
+        return exists;
+    }
+
+    /**
+     * Get a secret if it is cached and still valid
+     *
+     * @param namespace Namespace of the secret
+     * @param secretName Name of the secret
+     * @return The cached secret data, or null if it has to be loaded
+     */
+    Map<String, String> getIfCached(String namespace, String secretName) {
+        if (!config.isEnabled() || closed) {
+            return null;
+        }
+        NamespaceCache cache = cache(namespace);
+        Entry entry = cache.entries.get(secretName);
+        return isValid(cache, entry, clock.instant()) ? entry.data() : null;
+    }
+
+    /**
+     * Get the current generation of a namespace, to be passed to {@link #putAll} after secrets
+     * of the namespace were loaded
+     *
+     * @param namespace Namespace of the secrets
+     * @return Generation of the namespace
+     */
+    long generation(String namespace) {
+        if (!config.isEnabled() || closed) {
+            return -1;
+        }
+        return cache(namespace).generation.get();
+    }
+
+    /**
+     * Cache secrets loaded together, unless a secret of the namespace was invalidated since the
+     * given generation
+     *
+     * @param namespace Namespace of the secrets
+     * @param secrets Loaded secret data by secret name
+     * @param missing Names of requested secrets that do not exist
+     * @param generation Generation of the namespace before the secrets were loaded
+     */
+    void putAll(String namespace, Map<String, ? extends Map<String, String>> secrets, Set<String> missing,
+            long generation) {
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache == null || cache.generation.get() != generation) {
+            return;
+        }
+        Instant now = clock.instant();
+        secrets.forEach((secretName, data) -> {
+            if (hasRoom(secretName, cache, now)) {
+                cache.missing.remove(secretName);
+                cache.entries.put(secretName, new Entry(data, now));
+            }
+        });
+        if (config.getMissingTtlSeconds() > 0) {
+            missing.forEach(secretName -> {
+                if (cache.missing.containsKey(secretName) || hasRoom(secretName, cache, now)) {
+                    cache.missing.put(secretName, now);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drop a cached secret
+     *
+     * @param namespace Namespace of the secret
+     * @param secretName Name of the secret
+     */
+    void invalidate(String namespace, String secretName) {
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache != null) {
+            cache.invalidate(secretName);
+        }
+    }
+
+    /**
+     * @return whether the secrets of a namespace are currently watched
+     */
+    boolean isWatching(String namespace) {
+        NamespaceCache cache = namespaces.get(namespace);
+        return cache != null && cache.watching;
+    }
+
+    /**
+     * @return number of namespaces that are watched, or whose watch is retried after a failure
+     */
+    int watchedNamespaces() {
+        return watchedNamespaces.get();
+    }
+
+    /**
+     * @return number of cached secrets and missing secrets, including expired ones not yet removed
+     */
+    int size() {
+        return namespaces.values().stream().mapToInt(cache -> cache.entries.size() + cache.missing.size()).sum();
+    }
+
+    private boolean isValid(NamespaceCache cache, Entry entry, Instant now) {
+        return entry != null && (cache.watching || now.isBefore(entry.loadedAt().plusSeconds(config.getTtlSeconds())));
+    }
+
+    private boolean hasRoom(String secretName, NamespaceCache cache, Instant now) {
+        if (size() < config.getMaxEntries() || cache.entries.containsKey(secretName)) {
+            return true;
+        }
+        Duration ttl = Duration.ofSeconds(config.getTtlSeconds());
+        Duration missingTtl = Duration.ofSeconds(config.getMissingTtlSeconds());
+        namespaces.values().forEach(namespace -> {
+            namespace.missing.values().removeIf(missingSince -> !now.isBefore(missingSince.plus(missingTtl)));
+            if (!namespace.watching) {
+                namespace.entries.values().removeIf(entry -> !now.isBefore(entry.loadedAt().plus(ttl)));
+            }
+        });
+        return size() < config.getMaxEntries();
+    }
+
+    /**
+     * Get the cache of a namespace, creating it if the namespace was not read recently, and record the read
+     */
+    private NamespaceCache cache(String namespace) {
+        Instant now = clock.instant();
+        NamespaceCache cache = namespaces.get(namespace);
+        if (cache == null) {
+            dropIdleNamespaces(now);
+            cache = namespaces.computeIfAbsent(namespace, this::watch);
+        }
+        cache.lastRead = now;
+        return cache;
+    }
+
+    private NamespaceCache watch(String namespace) {
+        NamespaceCache cache = new NamespaceCache(clock.instant());
+        if (config.isWatchEnabled() && reserveWatch()) {
+            // Assigned before the watch starts, so that a drop by the watch itself releases the slot
+            cache.watcher = Thread.ofVirtual()
+                    .name("openshift-secret-watch-" + client.getInstanceName() + "-" + namespace)
+                    .unstarted(() -> runWatch(namespace, cache));
+            cache.watcher.start();
+        }
+        return cache;
+    }
+
+    private boolean reserveWatch() {
+        int watched;
+        do {
+            watched = watchedNamespaces.get();
+            if (watched >= config.getMaxWatchedNamespaces()) {
+                log.debug("Not watching further namespaces of OpenShift instance '{}', {} are watched already",
+                        client.getInstanceName(), watched);
+                return false;
+            }
+        } while (!watchedNamespaces.compareAndSet(watched, watched + 1));
+        return true;
+    }
+
+    private boolean isIdle(NamespaceCache cache, Instant now) {
+        return config.getNamespaceIdleSeconds() > 0
+                && !now.isBefore(cache.lastRead.plusSeconds(config.getNamespaceIdleSeconds()));
+    }
+
+    private void dropIdleNamespaces(Instant now) {
+        namespaces.forEach((namespace, cache) -> {
+            if (isIdle(cache, now)) {
+                drop(namespace, cache);
+            }
+        });
+    }
+
+    /**
+     * Stop watching a namespace and drop its cached secrets
+     */
+    private void drop(String namespace, NamespaceCache cache) {
+        cache.stopped = true;
+        if (!namespaces.remove(namespace, cache)) {
+            return;
+        }
+        log.debug("Dropping idle namespace '{}' of OpenShift instance '{}'", namespace, client.getInstanceName());
+        if (cache.watcher != null) {
+            // The slot is free for another namespace even if the watch request is still ending
+            watchedNamespaces.decrementAndGet();
+            if (cache.watcher != Thread.currentThread()) {
+                cache.watcher.interrupt();
+            }
+        }
+    }
+
+    private void runWatch(String namespace, NamespaceCache cache) {
+        Duration retryDelay = Duration.ofSeconds(Math.max(1, config.getWatchRetryDelaySeconds()));
+        Duration maxRetryDelay = Duration.ofSeconds(Math.max(retryDelay.getSeconds(), config.getTtlSeconds()));
+        Duration delay = retryDelay;
+
+        while (!closed && !cache.stopped && !Thread.currentThread().isInterrupted()) {
+            if (isIdle(cache, clock.instant())) {
+                drop(namespace, cache);
+                break;
+            }
+            try {
+                if (cache.resourceVersion == null) {
+                    cache.resourceVersion = client.getSecretsResourceVersion(namespace);
+                    // Changes before this resource version were not watched
+                    cache.invalidateAll();
+                }
+                cache.watching = true;
+                client.watchSecrets(namespace, cache.resourceVersion, config.getWatchTimeoutSeconds(),
+                        event -> handle(namespace, cache, event));
+                delay = retryDelay;
+            } catch (OpenshiftException | RuntimeException e) {
+                cache.watching = false;
+                cache.resourceVersion = null;
+                if (closed || cache.stopped) {
+                    return;
+                }
+                log.debug("Watch of secrets in namespace '{}' of OpenShift instance '{}' failed, retrying in {}s: {}",
+                        namespace, client.getInstanceName(), delay.getSeconds(), e.getMessage());
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                delay = delay.multipliedBy(2).compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay.multipliedBy(2);
+            }
+        }
+        cache.watching = false;
+    }
+
+    /**
+     * Handle a watch event
+     *
+     * @return whether the watch continues
+     */
+    private boolean handle(String namespace, NamespaceCache cache, SecretWatchEvent event) {
+        switch (event.type()) {
+            case "ADDED", "MODIFIED", "DELETED" -> {
+                log.debug("Secret '{}' in namespace '{}' was {}", event.name(), namespace,
+                        event.type().toLowerCase());
+                cache.invalidate(event.name());
+            }
+            case "ERROR" -> {
+                // Usually 410 Gone: the resource version is too old, start again from the current one
+                log.debug("Watch of secrets in namespace '{}' reported error {}", namespace, event.code());
+                cache.watching = false;
+                cache.resourceVersion = null;
+                return false;
+            }
+            default -> {
+                // BOOKMARK only advances the resource version
+            }
+        }
+        if (event.resourceVersion() != null) {
+            cache.resourceVersion = event.resourceVersion();
+        }
+        return !closed && !cache.stopped && !isIdle(cache, clock.instant());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        namespaces.values().forEach(cache -> {
+            if (cache.watcher != null) {
+                cache.watcher.interrupt();
+            }
+        });
+        namespaces.clear();
+    }
+
+    private record Entry(Map<String, String> data, Instant loadedAt) {
+    }
+
+    private static final class NamespaceCache {
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        /** Secrets that did not exist, with the time they were found missing */
+        private final Map<String, Instant> missing = new ConcurrentHashMap<>();
+        /** Incremented whenever a secret of the namespace is invalidated */
+        private final AtomicLong generation = new AtomicLong();
+        private volatile boolean watching;
+        private volatile String resourceVersion;
+        private volatile Instant lastRead;
+        /** Set when the namespace was dropped, to end its watch */
+        private volatile boolean stopped;
+        /** Thread of the watch, if the namespace holds one of the watch slots */
+        private volatile Thread watcher;
+
+        private NamespaceCache(Instant lastRead) {
+            this.lastRead = lastRead;
+        }
+
+        private void invalidate(String secretName) {
+            generation.incrementAndGet();
+            entries.remove(secretName);
+            missing.remove(secretName);
+        }
+
+        private void invalidateAll() {
+            generation.incrementAndGet();
+            entries.clear();
+            missing.clear();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.opendevstack.apiservice.externalservice.ocp.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unmodifiable data of a secret that keeps the raw base64 bytes of each value, as returned by the
+ * cluster, and decodes a value only when it is first read. The decoded bytes are kept and reused by
+ * later reads, so keys that are never read, such as large certificates, are never decoded.
+ * Values are decoded with an explicit charset (UTF-8 unless given). Values that are not valid base64
+ * are returned as is.
+ * <p>
+ * Credentials can be read with {@link #getBytes(String)} or {@link #getChars(String)}, which return
+ * copies owned by the caller that can be wiped with {@link Arrays#fill(byte[], byte)} after use.
+ * Secret data may be cached and shared, so it is never wiped itself.
+ */
+@Slf4j
+public final class SecretData extends AbstractMap<String, String> {
+
+    private final Map<String, byte[]> encoded;
+    private final Charset charset;
+    private final Map<String, byte[]> decoded = new ConcurrentHashMap<>();
+
+    /**
+     * @param encoded Raw base64 bytes by key; the arrays are taken over, not copied
+     */
+    SecretData(Map<String, byte[]> encoded) {
+        this(encoded, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param encoded Raw base64 bytes by key; the arrays are taken over, not copied
+     * @param charset Charset of the decoded values
+     */
+    SecretData(Map<String, byte[]> encoded, Charset charset) {
+        this.encoded = Map.copyOf(encoded);
+        this.charset = charset;
+    }
+
+    /**
+     * Get a decoded value as a string. Prefer {@link #getChars(String)} for credentials that should be wiped.
+     *
+     * @param key Key within the secret data
+     * @return The decoded value, or null if the key does not exist
+     */
+    @Override
+    public String get(Object key) {
+        byte[] value = decoded(key);
+        return value == null ? null : new String(value, charset);
+    }
+
+    /**
+     * Get a decoded value as bytes
+     *
+     * @param key Key within the secret data
+     * @return A copy of the decoded bytes owned by the caller, or null if the key does not exist
+     */
+    public byte[] getBytes(String key) {
+        byte[] value = decoded(key);
+        return value == null ? null : value.clone();
+    }
+
+    /**
+     * Get a decoded value as characters, without creating an intermediate string
+     *
+     * @param key Key within the secret data
+     * @return The decoded characters owned by the caller, or null if the key does not exist
+     */
+    public char[] getChars(String key) {
+        byte[] value = decoded(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            CharBuffer chars = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .decode(ByteBuffer.wrap(value));
+            char[] result = Arrays.copyOfRange(chars.array(), chars.arrayOffset() + chars.position(),
+                    chars.arrayOffset() + chars.limit());
+            Arrays.fill(chars.array(), '\0');
+            return result;
+        } catch (CharacterCodingException e) {
+            // Not thrown when malformed input is replaced
+            throw new IllegalStateException("Failed to decode secret value", e);
+        }
+    }
+
+    /**
+     * @return The charset values are decoded with
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return encoded.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return encoded.size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return encoded.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                Iterator<String> keys = encoded.keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        String key = keys.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return encoded.size();
+            }
+        };
+    }
+
+    private byte[] decoded(Object key) {
+        byte[] value = encoded.get(key);
+        if (value == null) {
+            return null;
+        }
+        return decoded.computeIfAbsent((String) key, k -> decode(value));
+    }
+
+    private static byte[] decode(byte[] base64Value) {
+        try {
+            return Base64.getDecoder().decode(base64Value);
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to decode base64 value, returning original value", e);
+            return base64Value;
+        }
+    }
+}
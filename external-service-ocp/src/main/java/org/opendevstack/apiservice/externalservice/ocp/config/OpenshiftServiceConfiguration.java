@@ -32,6 +32,11 @@ public class OpenshiftServiceConfiguration {
      */
     private Map<String, OpenshiftInstanceConfig> instances = new HashMap<>();
     
+    /**
+     * Cache of secrets per instance and namespace
+     */
+    private SecretCacheConfig secretCache = new SecretCacheConfig();
+    
     /**
      * Configuration for a single OpenShift instance.
      */
@@ -68,4 +73,62 @@ public class OpenshiftServiceConfiguration {
          */
         private boolean trustAllCertificates = false;
     }
+    
+    /**
+     * Configuration of the secret cache.
+     * Secrets are kept coherent by watching the secrets of each namespace that has cached secrets.
+     * While the watch of a namespace is not running, e.g. because the token may not watch secrets,
+     * cached secrets of that namespace are only used for the time to live.
+     */
+    @Data
+    public static class SecretCacheConfig {
+        /**
+         * Whether secrets are cached (default: true)
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Whether secrets are watched to invalidate cached secrets when they change (default: true)
+         */
+        private boolean watchEnabled = true;
+        
+        /**
+         * Time to live in seconds of cached secrets while their namespace is not watched (default: 60)
+         */
+        private long ttlSeconds = 60;
+        
+        /**
+         * Time to live in seconds of the answer that a secret does not exist (default: 10)
+         */
+        private long missingTtlSeconds = 10;
+        
+        /**
+         * Duration in seconds of a single watch request before it is renewed; must be lower than the
+         * read timeout of the instance (default: 25)
+         */
+        private int watchTimeoutSeconds = 25;
+        
+        /**
+         * Delay in seconds before a failed watch is retried, doubled up to the time to live on
+         * repeated failures (default: 5)
+         */
+        private long watchRetryDelaySeconds = 5;
+        
+        /**
+         * Maximum number of cached secrets per instance (default: 1000)
+         */
+        private int maxEntries = 1000;
+        
+        /**
+         * Maximum number of namespaces watched per instance; secrets of further namespaces are cached
+         * for the time to live only (default: 50)
+         */
+        private int maxWatchedNamespaces = 50;
+        
+        /**
+         * Time in seconds after which a namespace whose secrets were not read is no longer watched and
+         * its cached secrets are dropped (default: 600)
+         */
+        private long namespaceIdleSeconds = 600;
+    }
 }
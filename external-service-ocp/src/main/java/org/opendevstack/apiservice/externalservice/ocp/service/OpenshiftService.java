@@ -2,6 +2,7 @@ package org.opendevstack.apiservice.externalservice.ocp.service;
 
 import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -32,6 +33,30 @@ public interface OpenshiftService {
      */
     Map<String, String> getSecret(String instanceName, String secretName, String namespace) throws OpenshiftException;
     
+    /**
+     * Get several secrets from a namespace in a specific OpenShift instance with at most one request
+     * 
+     * @param instanceName Name of the OpenShift instance
+     * @param secretNames Names of the secrets to retrieve
+     * @param namespace Namespace where the secrets are located
+     * @return Map of secret name to decoded secret data, in the order of the names; secrets that do not exist are omitted
+     * @throws OpenshiftException if the secrets cannot be retrieved
+     */
+    Map<String, Map<String, String>> getSecrets(String instanceName, Collection<String> secretNames, String namespace)
+            throws OpenshiftException;
+    
+    /**
+     * Get all secrets of a namespace in a specific OpenShift instance that match a label selector with one request
+     * 
+     * @param instanceName Name of the OpenShift instance
+     * @param labelSelector Kubernetes label selector, e.g. {@code app=webhook-proxy}
+     * @param namespace Namespace where the secrets are located
+     * @return Map of secret name to decoded secret data
+     * @throws OpenshiftException if the secrets cannot be retrieved
+     */
+    Map<String, Map<String, String>> getSecretsByLabel(String instanceName, String labelSelector, String namespace)
+            throws OpenshiftException;
+    
     /**
      * Get a specific value from a secret
      * 
@@ -60,9 +85,11 @@ public interface OpenshiftService {
      * 
      * @param instanceName Name of the OpenShift instance
      * @param secretName Name of the secret
-     * @return true if the secret exists, false otherwise
+     * @return true if the secret exists, false if it does not
+     * @throws OpenshiftException if it cannot be checked whether the secret exists, e.g. because the
+     *         instance is not configured or the API cannot be reached
      */
-    boolean secretExists(String instanceName, String secretName);
+    boolean secretExists(String instanceName, String secretName) throws OpenshiftException;
     
     /**
      * Check if a secret exists in a specific namespace in a specific OpenShift instance
@@ -70,9 +97,11 @@ public interface OpenshiftService {
      * @param instanceName Name of the OpenShift instance
      * @param secretName Name of the secret
      * @param namespace Namespace where the secret might be located
-     * @return true if the secret exists, false otherwise
+     * @return true if the secret exists, false if it does not
+     * @throws OpenshiftException if it cannot be checked whether the secret exists, e.g. because the
+     *         instance is not configured or the API cannot be reached
      */
-    boolean secretExists(String instanceName, String secretName, String namespace);
+    boolean secretExists(String instanceName, String secretName, String namespace) throws OpenshiftException;
     
     /**
      * Get all available OpenShift instance names
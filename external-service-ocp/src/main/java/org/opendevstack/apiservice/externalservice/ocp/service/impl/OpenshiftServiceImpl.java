@@ -7,6 +7,7 @@ import org.opendevstack.apiservice.externalservice.ocp.service.OpenshiftService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -46,6 +47,24 @@ public class OpenshiftServiceImpl implements OpenshiftService {
         return client.getSecret(secretName, namespace);
     }
     
+    @Override
+    public Map<String, Map<String, String>> getSecrets(String instanceName, Collection<String> secretNames, 
+                                                       String namespace) throws OpenshiftException {
+        log.debug("Getting {} secrets from namespace '{}' in instance '{}'", 
+                  secretNames.size(), namespace, instanceName);
+        OpenshiftApiClient client = clientFactory.getClient(instanceName);
+        return client.getSecrets(secretNames, namespace);
+    }
+    
+    @Override
+    public Map<String, Map<String, String>> getSecretsByLabel(String instanceName, String labelSelector, 
+                                                              String namespace) throws OpenshiftException {
+        log.debug("Getting secrets matching '{}' from namespace '{}' in instance '{}'", 
+                  labelSelector, namespace, instanceName);
+        OpenshiftApiClient client = clientFactory.getClient(instanceName);
+        return client.getSecretsByLabel(labelSelector, namespace);
+    }
+    
     @Override
     public String getSecretValue(String instanceName, String secretName, String key) throws OpenshiftException {
         log.debug("Getting secret value for key '{}' from secret '{}' in instance '{}'", 
@@ -63,28 +82,18 @@ public class OpenshiftServiceImpl implements OpenshiftService {
     }
     
     @Override
-    public boolean secretExists(String instanceName, String secretName) {
-        try {
-            log.debug("Checking if secret '{}' exists in instance '{}'", secretName, instanceName);
-            OpenshiftApiClient client = clientFactory.getClient(instanceName);
-            return client.secretExists(secretName);
-        } catch (OpenshiftException e) {
-            log.error("Error checking if secret exists", e);
-            return false;
-        }
+    public boolean secretExists(String instanceName, String secretName) throws OpenshiftException {
+        log.debug("Checking if secret '{}' exists in instance '{}'", secretName, instanceName);
+        OpenshiftApiClient client = clientFactory.getClient(instanceName);
+        return client.secretExists(secretName);
     }
     
     @Override
-    public boolean secretExists(String instanceName, String secretName, String namespace) {
-        try {
-            log.debug("Checking if secret '{}' exists in namespace '{}' in instance '{}'", 
-                      secretName, namespace, instanceName);
-            OpenshiftApiClient client = clientFactory.getClient(instanceName);
-            return client.secretExists(secretName, namespace);
-        } catch (OpenshiftException e) {
-            log.error("Error checking if secret exists", e);
-            return false;
-        }
+    public boolean secretExists(String instanceName, String secretName, String namespace) throws OpenshiftException {
+        log.debug("Checking if secret '{}' exists in namespace '{}' in instance '{}'", 
+                  secretName, namespace, instanceName);
+        OpenshiftApiClient client = clientFactory.getClient(instanceName);
+        return client.secretExists(secretName, namespace);
     }
     
     @Override
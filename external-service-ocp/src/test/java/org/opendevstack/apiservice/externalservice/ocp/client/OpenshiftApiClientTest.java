@@ -0,0 +1,212 @@
+package org.opendevstack.apiservice.externalservice.ocp.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opendevstack.apiservice.externalservice.ocp.client.OpenshiftApiClient.SecretWatchEvent;
+import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.OpenshiftInstanceConfig;
+import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.SecretCacheConfig;
+import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for OpenshiftApiClient
+ */
+class OpenshiftApiClientTest {
+
+    private static final String API_URL = "https://api.dev.ocp.example.com:6443";
+    private static final String SECRETS_URL = API_URL + "/api/v1/namespaces/example-cd/secrets";
+
+    private MockRestServiceServer server;
+    private OpenshiftApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        OpenshiftInstanceConfig config = new OpenshiftInstanceConfig();
+        config.setApiUrl(API_URL);
+        config.setToken("token");
+        config.setNamespace("example-cd");
+        SecretCacheConfig cacheConfig = new SecretCacheConfig();
+        cacheConfig.setWatchEnabled(false);
+
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new OpenshiftApiClient("dev", config, cacheConfig, restTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void testGetSecret_DecodesAndCachesSecret() throws OpenshiftException {
+        // Arrange
+        server.expect(once(), requestTo(SECRETS_URL + "/webhook-proxy"))
+                .andExpect(header("Authorization", "Bearer token"))
+                .andRespond(withSuccess("{\"data\":{\"trigger-secret\":\"" + encode("s3cr3t") + "\"}}",
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        Map<String, String> secret = client.getSecret("webhook-proxy");
+        String value = client.getSecretValue("webhook-proxy", "trigger-secret");
+
+        // Assert
+        assertEquals(Map.of("trigger-secret", "s3cr3t"), secret);
+        assertEquals("s3cr3t", value);
+        server.verify();
+    }
+
+    @Test
+    void testGetSecrets_ListsNamespaceOnceAndKeepsRequestedSecrets() throws OpenshiftException {
+        // Arrange
+        server.expect(once(), requestTo(SECRETS_URL))
+                .andRespond(withSuccess(secretList(
+                        secret("builder-token", "token", "ignored"),
+                        secret("webhook-proxy", "trigger-secret", "s3cr3t"),
+                        secret("git-credentials", "password", "pa55")),
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        Map<String, Map<String, String>> secrets = client.getSecrets(
+                List.of("webhook-proxy", "missing", "git-credentials"), "example-cd");
+        Map<String, Map<String, String>> again = client.getSecrets(List.of("git-credentials"), "example-cd");
+
+        // Assert
+        assertEquals(List.of("webhook-proxy", "git-credentials"), List.copyOf(secrets.keySet()));
+        assertEquals("s3cr3t", secrets.get("webhook-proxy").get("trigger-secret"));
+        assertEquals(Map.of("password", "pa55"), secrets.get("git-credentials"));
+        assertEquals("pa55", again.get("git-credentials").get("password"));
+        assertFalse(client.secretExists("missing"));
+        server.verify();
+    }
+
+    @Test
+    void testGetSecretsByLabel_SendsEncodedLabelSelector() throws OpenshiftException {
+        // Arrange
+        server.expect(once(), requestTo(SECRETS_URL + "?labelSelector=app%3Dwebhook-proxy%2Ctier%20in%20%28a%2Cb%29"))
+                .andRespond(withSuccess(secretList(secret("webhook-proxy", "trigger-secret", "s3cr3t")),
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        Map<String, Map<String, String>> secrets = client.getSecretsByLabel("app=webhook-proxy,tier in (a,b)",
+                "example-cd");
+
+        // Assert
+        assertEquals(Map.of("webhook-proxy", Map.of("trigger-secret", "s3cr3t")), secrets);
+        assertEquals("s3cr3t", client.getSecretValue("webhook-proxy", "trigger-secret"));
+        server.verify();
+    }
+
+    @Test
+    void testSecretExists_RequestsOnlyMetadata() throws OpenshiftException {
+        // Arrange
+        server.expect(once(), requestTo(SECRETS_URL + "/webhook-proxy"))
+                .andExpect(header("Accept", containsString("as=PartialObjectMetadata")))
+                .andRespond(withSuccess("{\"kind\":\"PartialObjectMetadata\",\"metadata\":{\"name\":\"webhook-proxy\"}}",
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        boolean exists = client.secretExists("webhook-proxy");
+
+        // Assert
+        assertTrue(exists);
+        server.verify();
+    }
+
+    @Test
+    void testSecretExists_NotFoundIsRemembered() throws OpenshiftException {
+        // Arrange
+        server.expect(once(), requestTo(SECRETS_URL + "/missing"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // Act
+        boolean first = client.secretExists("missing");
+        boolean second = client.secretExists("missing");
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        server.verify();
+    }
+
+    @Test
+    void testSecretExists_TransportErrorIsNotReportedAsMissing() {
+        // Arrange
+        server.expect(requestTo(SECRETS_URL + "/webhook-proxy"))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // Act & Assert
+        assertThrows(OpenshiftException.class, () -> client.secretExists("webhook-proxy"));
+    }
+
+    @Test
+    void testGetSecretsResourceVersion_ReturnsListResourceVersion() throws OpenshiftException {
+        // Arrange
+        server.expect(requestTo(SECRETS_URL + "?limit=1"))
+                .andRespond(withSuccess("{\"kind\":\"SecretList\",\"metadata\":{\"resourceVersion\":\"4711\"},\"items\":[]}",
+                        MediaType.APPLICATION_JSON));
+
+        // Act
+        String resourceVersion = client.getSecretsResourceVersion("example-cd");
+
+        // Assert
+        assertEquals("4711", resourceVersion);
+    }
+
+    @Test
+    void testWatchSecrets_ParsesEventsUntilHandlerStops() throws OpenshiftException {
+        // Arrange
+        String events = String.join("\n",
+                "{\"type\":\"MODIFIED\",\"object\":{\"kind\":\"Secret\",\"metadata\":{\"name\":\"webhook-proxy\",\"resourceVersion\":\"4712\"},\"data\":{}}}",
+                "{\"type\":\"BOOKMARK\",\"object\":{\"kind\":\"Secret\",\"metadata\":{\"resourceVersion\":\"4713\"}}}",
+                "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"code\":410}}",
+                "{\"type\":\"DELETED\",\"object\":{\"kind\":\"Secret\",\"metadata\":{\"name\":\"ignored\",\"resourceVersion\":\"4714\"}}}");
+        server.expect(requestTo(SECRETS_URL
+                        + "?watch=true&allowWatchBookmarks=true&resourceVersion=4711&timeoutSeconds=25"))
+                .andRespond(withSuccess(events, MediaType.APPLICATION_JSON));
+        List<SecretWatchEvent> received = new ArrayList<>();
+
+        // Act
+        client.watchSecrets("example-cd", "4711", 25, event -> {
+            received.add(event);
+            return !"ERROR".equals(event.type());
+        });
+
+        // Assert
+        assertEquals(List.of(
+                new SecretWatchEvent("MODIFIED", "webhook-proxy", "4712", 0),
+                new SecretWatchEvent("BOOKMARK", null, "4713", 0),
+                new SecretWatchEvent("ERROR", null, null, 410)), received);
+    }
+
+    private static String secretList(String... secrets) {
+        return "{\"kind\":\"SecretList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"4711\"},"
+                + "\"items\":[" + String.join(",", secrets) + "]}";
+    }
+
+    private static String secret(String name, String key, String value) {
+        return "{\"metadata\":{\"name\":\"" + name + "\",\"labels\":{\"app\":\"webhook-proxy\"}},"
+                + "\"data\":{\"" + key + "\":\"" + encode(value) + "\"},\"type\":\"Opaque\"}";
+    }
+
+        private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes());
+    }
+}
@@ -0,0 +1,345 @@
+package org.opendevstack.apiservice.externalservice.ocp.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opendevstack.apiservice.externalservice.ocp.client.OpenshiftApiClient.SecretWatchEvent;
+import org.opendevstack.apiservice.externalservice.ocp.config.OpenshiftServiceConfiguration.SecretCacheConfig;
+import org.opendevstack.apiservice.externalservice.ocp.exception.OpenshiftException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OpenshiftSecretCache
+ */
+@ExtendWith(MockitoExtension.class)
+class OpenshiftSecretCacheTest {
+
+    private static final String NAMESPACE = "example-cd";
+
+    @Mock
+    private OpenshiftApiClient client;
+
+    private SecretCacheConfig config;
+    private MutableClock clock;
+    private OpenshiftSecretCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        config = new SecretCacheConfig();
+        config.setWatchEnabled(false);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    @Test
+    void testGet_CachedSecretIsNotLoadedAgain() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+
+        // Act
+        Map<String, String> first = cache.get(NAMESPACE, "webhook-proxy", this::load);
+        Map<String, String> second = cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testGet_UnwatchedSecretExpiresAfterTtl() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Act
+        clock.advance(Duration.ofSeconds(config.getTtlSeconds()));
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_DisabledCacheAlwaysLoads() throws OpenshiftException {
+        // Arrange
+        config.setEnabled(false);
+        cache = new OpenshiftSecretCache(client, config, clock);
+
+        // Act
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testGet_SecretInvalidatedWhileLoadingIsNotCached() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "other", this::load);
+
+        // Act
+        cache.get(NAMESPACE, "webhook-proxy", () -> {
+            cache.invalidate(NAMESPACE, "webhook-proxy");
+            return load();
+        });
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testGet_FullCacheDoesNotCacheFurtherSecrets() throws OpenshiftException {
+        // Arrange
+        config.setMaxEntries(1);
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "first", this::load);
+
+        // Act
+        cache.get(NAMESPACE, "second", this::load);
+        cache.get(NAMESPACE, "second", this::load);
+
+        // Assert
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testExists_MissingSecretIsRememberedForMissingTtl() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+        AtomicInteger checks = new AtomicInteger();
+        OpenshiftSecretCache.ExistenceCheck missing = () -> {
+            checks.incrementAndGet();
+            return false;
+        };
+
+        // Act
+        boolean first = cache.exists(NAMESPACE, "webhook-proxy", missing);
+        boolean second = cache.exists(NAMESPACE, "webhook-proxy", missing);
+        clock.advance(Duration.ofSeconds(config.getMissingTtlSeconds()));
+        boolean afterTtl = cache.exists(NAMESPACE, "webhook-proxy", missing);
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        assertFalse(afterTtl);
+        assertEquals(2, checks.get());
+    }
+
+    @Test
+    void testExists_CachedSecretExistsWithoutCheck() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Act
+        boolean exists = cache.exists(NAMESPACE, "webhook-proxy", () -> fail("Secret should not be checked"));
+
+        // Assert
+        assertTrue(exists);
+    }
+
+    @Test
+    void testExists_InvalidatedMissingSecretIsCheckedAgain() throws OpenshiftException {
+        // Arrange
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.exists(NAMESPACE, "webhook-proxy", () -> false);
+
+        // Act
+        cache.invalidate(NAMESPACE, "webhook-proxy");
+        boolean exists = cache.exists(NAMESPACE, "webhook-proxy", () -> true);
+
+        // Assert
+        assertTrue(exists);
+    }
+
+    @Test
+    void testWatch_WatchedSecretIsUsedBeyondTtlUntilModified() throws Exception {
+        // Arrange
+        config.setWatchEnabled(true);
+        BlockingQueue<SecretWatchEvent> events = new LinkedBlockingQueue<>();
+        when(client.getInstanceName()).thenReturn("dev");
+        when(client.getSecretsResourceVersion(NAMESPACE)).thenReturn("100");
+        doAnswer(invocation -> {
+            Predicate<SecretWatchEvent> handler = invocation.getArgument(3);
+            try {
+                while (handler.test(events.take())) {
+                    // Deliver events until the handler ends the watch
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }).when(client).watchSecrets(eq(NAMESPACE), any(), anyInt(), any());
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        awaitWatching(true);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        int loadsBeforeChange = loads.get();
+
+        // Act
+        clock.advance(Duration.ofSeconds(config.getTtlSeconds() * 2));
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        int loadsAfterTtl = loads.get();
+        events.put(new SecretWatchEvent("MODIFIED", "webhook-proxy", "101", 0));
+        awaitSize(0);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertEquals(loadsBeforeChange, loadsAfterTtl);
+        assertEquals(loadsBeforeChange + 1, loads.get());
+    }
+
+    @Test
+    void testWatch_FailedWatchFallsBackToTtl() throws Exception {
+        // Arrange
+        config.setWatchEnabled(true);
+        when(client.getInstanceName()).thenReturn("dev");
+        when(client.getSecretsResourceVersion(NAMESPACE)).thenThrow(new OpenshiftException("Forbidden"));
+        cache = new OpenshiftSecretCache(client, config, clock);
+
+        // Act
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        verify(client, timeout(5000)).getSecretsResourceVersion(NAMESPACE);
+        clock.advance(Duration.ofSeconds(config.getTtlSeconds()));
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        assertFalse(cache.isWatching(NAMESPACE));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testWatch_NamespacesBeyondLimitAreNotWatched() throws Exception {
+        // Arrange
+        config.setWatchEnabled(true);
+        config.setMaxWatchedNamespaces(1);
+        when(client.getInstanceName()).thenReturn("dev");
+        when(client.getSecretsResourceVersion(NAMESPACE)).thenReturn("100");
+        doAnswer(invocation -> blockUntilInterrupted()).when(client).watchSecrets(eq(NAMESPACE), any(), anyInt(), any());
+        cache = new OpenshiftSecretCache(client, config, clock);
+
+        // Act
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        cache.get("other-cd", "webhook-proxy", this::load);
+        awaitWatching(true);
+
+        // Assert
+        assertEquals(1, cache.watchedNamespaces());
+        assertFalse(cache.isWatching("other-cd"));
+        verify(client, never()).getSecretsResourceVersion("other-cd");
+    }
+
+    @Test
+    void testWatch_IdleNamespaceIsDropped() throws Exception {
+        // Arrange
+        config.setWatchEnabled(true);
+        config.setMaxWatchedNamespaces(1);
+        config.setNamespaceIdleSeconds(600);
+        when(client.getInstanceName()).thenReturn("dev");
+        when(client.getSecretsResourceVersion(anyString())).thenReturn("100");
+        doAnswer(invocation -> blockUntilInterrupted()).when(client).watchSecrets(anyString(), any(), anyInt(), any());
+        cache = new OpenshiftSecretCache(client, config, clock);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+        awaitWatching(true);
+
+        // Act
+        clock.advance(Duration.ofSeconds(600));
+        cache.get("other-cd", "webhook-proxy", this::load);
+        cache.get(NAMESPACE, "webhook-proxy", this::load);
+
+        // Assert
+        verify(client, timeout(5000)).getSecretsResourceVersion("other-cd");
+        assertFalse(cache.isWatching(NAMESPACE));
+        assertEquals(3, loads.get());
+    }
+
+    private Map<String, String> load() {
+        loads.incrementAndGet();
+        return Map.of("trigger-secret", "s3cr3t");
+    }
+
+    private static Object blockUntilInterrupted() {
+        try {
+            Thread.sleep(Long.MAX_VALUE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private void awaitWatching(boolean watching) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.isWatching(NAMESPACE) != watching && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(watching, cache.isWatching(NAMESPACE));
+    }
+
+    private void awaitSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.size() != size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, cache.size());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
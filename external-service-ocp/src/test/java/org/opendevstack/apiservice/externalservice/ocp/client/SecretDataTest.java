@@ -0,0 +1,89 @@
+package org.opendevstack.apiservice.externalservice.ocp.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SecretData
+ */
+class SecretDataTest {
+
+    @Test
+    void testGet_DecodesValueWithExplicitCharset() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("password", encode("pässwört")));
+
+        // Act
+        String value = data.get("password");
+
+        // Assert
+        assertEquals("pässwört", value);
+        assertEquals(StandardCharsets.UTF_8, data.getCharset());
+    }
+
+    @Test
+    void testGetBytes_ReturnsCopyThatCanBeWiped() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("token", encode("s3cr3t")));
+
+        // Act
+        byte[] bytes = data.getBytes("token");
+        Arrays.fill(bytes, (byte) 0);
+
+        // Assert
+        assertArrayEquals("s3cr3t".getBytes(StandardCharsets.UTF_8), data.getBytes("token"));
+    }
+
+    @Test
+    void testGetChars_DecodesWithoutString() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("password", encode("pässwört")));
+
+        // Act
+        char[] chars = data.getChars("password");
+
+        // Assert
+        assertArrayEquals("pässwört".toCharArray(), chars);
+    }
+
+    @Test
+    void testGet_MissingKeyReturnsNull() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("token", encode("s3cr3t")));
+
+        // Act & Assert
+        assertNull(data.get("missing"));
+        assertNull(data.getBytes("missing"));
+        assertNull(data.getChars("missing"));
+        assertFalse(data.containsKey("missing"));
+    }
+
+    @Test
+    void testGet_InvalidBase64IsReturnedAsIs() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("plain", "not base64!".getBytes(StandardCharsets.US_ASCII)));
+
+        // Act & Assert
+        assertEquals("not base64!", data.get("plain"));
+    }
+
+    @Test
+    void testEquals_ComparesDecodedValues() {
+        // Arrange
+        SecretData data = new SecretData(Map.of("username", encode("admin"), "password", encode("s3cr3t")));
+
+        // Act & Assert
+        assertEquals(Map.of("username", "admin", "password", "s3cr3t"), data);
+        assertThrows(UnsupportedOperationException.class, () -> data.put("username", "root"));
+    }
+
+    private static byte[] encode(String value) {
+        return Base64.getEncoder().encode(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -125,6 +126,47 @@ class OpenshiftServiceTest {
         verify(apiClient).getSecretValue(secretName, key, namespace);
     }
 
+    @Test
+    void testGetSecrets_Success() throws OpenshiftException {
+        // Arrange
+        String instanceName = "dev";
+        String namespace = "example-cd";
+        List<String> secretNames = List.of("webhook-proxy", "git-credentials");
+        Map<String, Map<String, String>> expectedSecrets = Map.of(
+                "webhook-proxy", Map.of("trigger-secret", "s3cr3t"),
+                "git-credentials", Map.of("password", "pa55"));
+
+        when(clientFactory.getClient(instanceName)).thenReturn(apiClient);
+        when(apiClient.getSecrets(secretNames, namespace)).thenReturn(expectedSecrets);
+
+        // Act
+        Map<String, Map<String, String>> result = openshiftService.getSecrets(instanceName, secretNames, namespace);
+
+        // Assert
+        assertEquals(expectedSecrets, result);
+        verify(apiClient).getSecrets(secretNames, namespace);
+    }
+
+    @Test
+    void testGetSecretsByLabel_Success() throws OpenshiftException {
+        // Arrange
+        String instanceName = "dev";
+        String namespace = "example-cd";
+        Map<String, Map<String, String>> expectedSecrets = Map.of(
+                "webhook-proxy", Map.of("trigger-secret", "s3cr3t"));
+
+        when(clientFactory.getClient(instanceName)).thenReturn(apiClient);
+        when(apiClient.getSecretsByLabel("app=webhook-proxy", namespace)).thenReturn(expectedSecrets);
+
+        // Act
+        Map<String, Map<String, String>> result = openshiftService.getSecretsByLabel(instanceName,
+                "app=webhook-proxy", namespace);
+
+        // Assert
+        assertEquals(expectedSecrets, result);
+        verify(apiClient).getSecretsByLabel("app=webhook-proxy", namespace);
+    }
+
     @Test
     void testSecretExists_ReturnsTrue() throws OpenshiftException {
         // Arrange
@@ -181,22 +223,34 @@ class OpenshiftServiceTest {
     }
 
     @Test
-    void testSecretExists_HandlesException() throws OpenshiftException {
+    void testSecretExists_PropagatesException() throws OpenshiftException {
         // Arrange
         String instanceName = "dev";
         String secretName = "test-secret";
 
         when(clientFactory.getClient(instanceName)).thenThrow(new OpenshiftException("Connection failed"));
 
-        // Act
-        boolean result = openshiftService.secretExists(instanceName, secretName);
-
-        // Assert
-        assertFalse(result);
+        // Act & Assert
+        assertThrows(OpenshiftException.class, () -> openshiftService.secretExists(instanceName, secretName));
         verify(clientFactory).getClient(instanceName);
         verify(apiClient, never()).secretExists(anyString());
     }
 
+    @Test
+    void testSecretExistsWithNamespace_PropagatesException() throws OpenshiftException {
+        // Arrange
+        String instanceName = "dev";
+        String secretName = "test-secret";
+        String namespace = "custom-namespace";
+
+        when(clientFactory.getClient(instanceName)).thenReturn(apiClient);
+        when(apiClient.secretExists(secretName, namespace)).thenThrow(new OpenshiftException("Forbidden"));
+
+        // Act & Assert
+        assertThrows(OpenshiftException.class,
+                () -> openshiftService.secretExists(instanceName, secretName, namespace));
+    }
+
     @Test
     void testGetAvailableInstances() {
         // Arrange
@@ -30,6 +30,12 @@ public class UiPathProperties {
      */
     private String queueItemsEndpoint = "/odata/QueueItems";
 
+    /**
+     * Action endpoint for adding several queue items at once.
+     * Default: /odata/Queues/UiPathODataSvc.BulkAddQueueItems
+     */
+    private String bulkAddQueueItemsEndpoint = "/odata/Queues/UiPathODataSvc.BulkAddQueueItems";
+
     /**
      * Client ID for UIPath Orchestrator authentication.
      */
@@ -58,6 +64,37 @@ public class UiPathProperties {
      */
     private int timeout = 30000;
 
+    /**
+     * Maximum number of references resolved by a single queue item status query.
+     * Default: 20
+     */
+    private int statusBatchSize = 20;
+
+    /**
+     * Time in milliseconds that single-reference status checks are collected before they are
+     * resolved together. A value of 0 disables batching.
+     * Default: 20
+     */
+    private long statusBatchWindowMs = 20;
+
+    /**
+     * Maximum number of queue items sent in a single BulkAddQueueItems call.
+     * Default: 100
+     */
+    private int bulkSubmitBatchSize = 100;
+
+    /**
+     * Time in milliseconds that buffered queue item submissions wait for more items before they are sent.
+     * Default: 200
+     */
+    private long bulkSubmitFlushMs = 200;
+
+    /**
+     * Maximum number of queue item submissions held in the buffer; further submissions are rejected.
+     * Default: 1000
+     */
+    private int bulkSubmitBufferCapacity = 1000;
+
     /**
      * SSL configuration properties.
      */
@@ -77,4 +114,11 @@ public class UiPathProperties {
     public String getQueueItemsUrl() {
         return host + queueItemsEndpoint;
     }
+
+    /**
+     * Get the full bulk add queue items URL.
+     */
+    public String getBulkAddQueueItemsUrl() {
+        return host + bulkAddQueueItemsEndpoint;
+    }
 }
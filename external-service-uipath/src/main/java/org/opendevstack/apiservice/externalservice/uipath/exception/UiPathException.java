@@ -1,5 +1,14 @@
 package org.opendevstack.apiservice.externalservice.uipath.exception;
 
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Exception thrown when there are issues with UIPath Orchestrator operations.
  */
@@ -68,6 +77,52 @@ public class UiPathException extends Exception {
         }
     }
 
+    /**
+     * Exception thrown when some queue items of a bulk submission could not be created.
+     * The items that were created are still available through {@link #getCreatedItems()}.
+     */
+    public static class BulkQueueItemCreationException extends QueueItemCreationException {
+        private final transient List<UiPathQueueItem> createdItems;
+        private final transient Map<String, String> failures;
+        private final transient Set<String> unconfirmedReferences;
+
+        public BulkQueueItemCreationException(List<UiPathQueueItem> createdItems, Map<String, String> failures) {
+            this(createdItems, failures, Set.of());
+        }
+
+        public BulkQueueItemCreationException(List<UiPathQueueItem> createdItems, Map<String, String> failures,
+                Set<String> unconfirmedReferences) {
+            super(String.join(", ", failures.keySet()),
+                  String.format("%d of %d queue items could not be created", failures.size(),
+                          failures.size() + createdItems.size()));
+            this.createdItems = List.copyOf(createdItems);
+            this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+            this.unconfirmedReferences = Collections.unmodifiableSet(new LinkedHashSet<>(unconfirmedReferences));
+        }
+
+        /**
+         * @return the queue items that were created
+         */
+        public List<UiPathQueueItem> getCreatedItems() {
+            return createdItems;
+        }
+
+        /**
+         * @return the failure reason for each reference that could not be created
+         */
+        public Map<String, String> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return the references of {@link #getFailures()} that were accepted by UIPath Orchestrator but whose
+         *         created item could not be looked up; they may exist, so resubmitting them can create duplicates
+         */
+        public Set<String> getUnconfirmedReferences() {
+            return unconfirmedReferences;
+        }
+    }
+
     /**
      * Exception thrown when a queue item is not found.
      */
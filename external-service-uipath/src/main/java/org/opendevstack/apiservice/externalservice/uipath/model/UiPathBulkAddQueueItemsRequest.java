@@ -0,0 +1,32 @@
+package org.opendevstack.apiservice.externalservice.uipath.model;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Request model for the BulkAddQueueItems action of UIPath Orchestrator.
+ * All items are added to the same queue.
+ */
+@Data
+public class UiPathBulkAddQueueItemsRequest {
+
+    /**
+     * Every item is committed on its own, so one invalid item does not reject the others.
+     */
+    public static final String COMMIT_PROCESS_ALL_INDEPENDENTLY = "ProcessAllIndependently";
+
+    @JsonProperty("queueName")
+    private String queueName;
+    @JsonProperty("commitType")
+    private String commitType = COMMIT_PROCESS_ALL_INDEPENDENTLY;
+    @JsonProperty("queueItems")
+    private List<UiPathQueueItemRequest.ItemData> queueItems;
+
+    public UiPathBulkAddQueueItemsRequest() {}
+
+    public UiPathBulkAddQueueItemsRequest(String queueName, List<UiPathQueueItemRequest.ItemData> queueItems) {
+        this.queueName = queueName;
+        this.queueItems = queueItems;
+    }
+}
@@ -0,0 +1,41 @@
+package org.opendevstack.apiservice.externalservice.uipath.model;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Response of the BulkAddQueueItems action of UIPath Orchestrator.
+ * Orchestrator only reports the items it could not add; the created items are not returned.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Data
+public class UiPathBulkAddQueueItemsResponse {
+    @JsonProperty("Success")
+    private Boolean success;
+    @JsonProperty("Total")
+    private Integer total;
+    @JsonProperty("SuccessCount")
+    private Integer successCount;
+    @JsonProperty("FailedItems")
+    private List<FailedItem> failedItems;
+
+    public UiPathBulkAddQueueItemsResponse() {}
+
+    /**
+     * Queue item that Orchestrator rejected.
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @Data
+    public static class FailedItem {
+        @JsonProperty("Reference")
+        private String reference;
+        @JsonProperty("ErrorCode")
+        private Integer errorCode;
+        @JsonProperty("ErrorMessage")
+        private String errorMessage;
+
+        public FailedItem() {}
+    }
+}
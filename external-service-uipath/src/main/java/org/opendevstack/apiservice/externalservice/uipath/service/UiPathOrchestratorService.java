@@ -5,9 +5,12 @@ import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemRequest;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Service interface for integrating with UIPath Orchestrator.
@@ -42,6 +45,23 @@ public interface UiPathOrchestratorService {
      */
     CompletableFuture<UiPathQueueItem> addQueueItemAsync(UiPathQueueItemRequest request);
 
+    /**
+     * Adds several queue items with the BulkAddQueueItems action of UIPath Orchestrator.
+     * Items are grouped by queue name and sent in chunks of {@code bulkSubmitBatchSize}; every item is
+     * committed independently. Since Orchestrator does not return the created items, they are looked up
+     * by reference afterwards among the items newer than the submission, so each request must carry a
+     * reference that no other request of the call uses.
+     *
+     * @param requests the queue item requests
+     * @return the created queue items, in the order of the requests
+     * @throws UiPathException.BulkQueueItemCreationException if some items could not be created or confirmed;
+     *         it holds the created items, the failure reason per reference and the unconfirmed references
+     * @throws UiPathException.QueueItemCreationException if a request has no reference, two requests share a
+     *         reference, or Orchestrator cannot be reached before submitting
+     */
+    List<UiPathQueueItem> addQueueItems(List<UiPathQueueItemRequest> requests)
+            throws UiPathException.QueueItemCreationException;
+
     /**
      * Gets the status of a queue item by its ID.
      *
@@ -67,6 +87,8 @@ public interface UiPathOrchestratorService {
     /**
      * Gets the latest queue item (highest ID) for a given reference.
      * This mimics the behavior of the Ansible role which gets the highest ID.
+     * Only the latest item is requested from Orchestrator, without its SpecificContent and Output,
+     * so the cost does not depend on how many items share the reference.
      *
      * @param reference the reference string to search for
      * @return Optional containing the latest queue item, or empty if not found
@@ -75,6 +97,19 @@ public interface UiPathOrchestratorService {
     Optional<UiPathQueueItem> getLatestQueueItemByReference(String reference) 
             throws UiPathException.StatusCheckException;
 
+    /**
+     * Streams all queue items with the given reference, newest first.
+     * Items are fetched lazily in pages of {@code pageSize}, so the full history of a reference can be
+     * walked without loading it into memory at once.
+     *
+     * @param reference the reference string to search for
+     * @param pageSize the number of items requested per page
+     * @return a lazy stream of queue items ordered by descending ID
+     * @throws IllegalStateException wrapping a {@link UiPathException.StatusCheckException} if a page cannot be fetched
+     *         while the stream is consumed
+     */
+    Stream<UiPathQueueItem> streamQueueItemsByReference(String reference, int pageSize);
+
     /**
      * Checks if a queue item has finalized (completed successfully or failed).
      * Uses reference to find the latest queue item, then checks its status.
@@ -127,4 +162,17 @@ public interface UiPathOrchestratorService {
      * @return a UiPathQueueItemResult containing the status and details
      */
     UiPathQueueItemResult checkQueueItemByReference(String reference);
+
+    /**
+     * Checks the status of the queue items for several references at once.
+     * References are resolved in chunks of {@code statusBatchSize}, each with a single OData query,
+     * and the result for every reference is determined as in {@link #checkQueueItemByReference(String)}.
+     *
+     * This method does not throw exceptions; a failed query yields an ERROR result for each
+     * reference of the affected chunk.
+     *
+     * @param references the references to check (null or empty references yield NO_REFERENCE)
+     * @return the result for each distinct reference, in the order the references were given
+     */
+    Map<String, UiPathQueueItemResult> checkQueueItemsByReference(Collection<String> references);
 }
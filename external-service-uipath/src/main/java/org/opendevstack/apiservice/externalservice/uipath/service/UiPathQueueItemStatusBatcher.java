@@ -0,0 +1,139 @@
+package org.opendevstack.apiservice.externalservice.uipath.service;
+
+import org.opendevstack.apiservice.externalservice.uipath.config.UiPathProperties;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects concurrent single-reference status checks and resolves them together through
+ * {@link UiPathOrchestratorService#checkQueueItemsByReference(java.util.Collection)}.
+ *
+ * A batch is resolved once {@code statusBatchWindowMs} has passed since its first reference was
+ * submitted, or as soon as it holds {@code statusBatchSize} references. Callers checking the same
+ * reference within a window share one result. With a window of 0 every check is resolved directly.
+ */
+@Component
+public class UiPathQueueItemStatusBatcher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UiPathQueueItemStatusBatcher.class);
+
+    private final UiPathOrchestratorService uiPathService;
+    private final int batchSize;
+    private final long windowMs;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("uipath-status-batcher").daemon().factory());
+    private final ExecutorService resolver = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private Map<String, CompletableFuture<UiPathQueueItemResult>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public UiPathQueueItemStatusBatcher(UiPathOrchestratorService uiPathService,
+            @Qualifier("uiPathOrchestratorProperties") UiPathProperties properties) {
+        this.uiPathService = uiPathService;
+        this.batchSize = Math.max(1, properties.getStatusBatchSize());
+        this.windowMs = properties.getStatusBatchWindowMs();
+    }
+
+    /**
+     * Checks the status of a queue item by reference, waiting for the batch it joins to be resolved.
+     *
+     * @param reference the reference string to search for (can be null or empty)
+     * @return the result for the reference, as returned by {@link UiPathOrchestratorService#checkQueueItemByReference(String)}
+     */
+    public UiPathQueueItemResult checkQueueItemByReference(String reference) {
+        return submit(reference).join();
+    }
+
+    /**
+     * Adds a reference to the current batch.
+     *
+     * @param reference the reference string to search for (can be null or empty)
+     * @return a future completed with the result for the reference once its batch is resolved; never completed exceptionally
+     */
+    public CompletableFuture<UiPathQueueItemResult> submit(String reference) {
+        if (reference == null || reference.isEmpty()) {
+            return CompletableFuture.completedFuture(UiPathQueueItemResult.noReference());
+        }
+        if (windowMs <= 0) {
+            return CompletableFuture.completedFuture(uiPathService.checkQueueItemByReference(reference));
+        }
+
+        CompletableFuture<UiPathQueueItemResult> result;
+        Map<String, CompletableFuture<UiPathQueueItemResult>> fullBatch = null;
+        synchronized (lock) {
+            result = pending.computeIfAbsent(reference, r -> new CompletableFuture<>());
+            if (pending.size() >= batchSize) {
+                fullBatch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return result;
+    }
+
+    private void flush() {
+        Map<String, CompletableFuture<UiPathQueueItemResult>> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Takes the pending batch and cancels its timer. Must be called while holding {@link #lock}.
+     */
+    private Map<String, CompletableFuture<UiPathQueueItemResult>> drain() {
+        Map<String, CompletableFuture<UiPathQueueItemResult>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<String, CompletableFuture<UiPathQueueItemResult>> batch) {
+        // Resolve off the timer thread so that a slow query does not delay the next batch
+        resolver.execute(() -> resolve(batch));
+    }
+
+    private void resolve(Map<String, CompletableFuture<UiPathQueueItemResult>> batch) {
+        logger.debug("Resolving UIPath status batch of {} references", batch.size());
+        try {
+            Map<String, UiPathQueueItemResult> results = uiPathService.checkQueueItemsByReference(batch.keySet());
+            batch.forEach((reference, result) -> result.complete(results.getOrDefault(reference,
+                    UiPathQueueItemResult.error("Failed to check UIPath status", "No result for reference: " + reference))));
+        } catch (RuntimeException e) {
+            logger.error("Failed to resolve UIPath status batch: {}", e.getMessage(), e);
+            batch.values().forEach(result -> result.complete(
+                    UiPathQueueItemResult.error("Unexpected error checking UIPath", e.getMessage())));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        scheduler.shutdownNow();
+        resolver.close();
+    }
+}
@@ -0,0 +1,206 @@
+package org.opendevstack.apiservice.externalservice.uipath.service;
+
+import org.opendevstack.apiservice.externalservice.uipath.config.UiPathProperties;
+import org.opendevstack.apiservice.externalservice.uipath.exception.UiPathException;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffers single queue item submissions and sends them together through
+ * {@link UiPathOrchestratorService#addQueueItems(List)}.
+ *
+ * The buffer is flushed once {@code bulkSubmitFlushMs} has passed since its first item was submitted,
+ * or as soon as it holds {@code bulkSubmitBatchSize} items. At most {@code bulkSubmitBufferCapacity}
+ * items may be buffered or in flight; further submissions fail immediately. With a flush interval
+ * of 0 every item is added directly. A second item with a reference that is already buffered flushes the
+ * buffer before it is added.
+ */
+@Component
+public class UiPathQueueItemSubmissionBuffer implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UiPathQueueItemSubmissionBuffer.class);
+
+    private final UiPathOrchestratorService uiPathService;
+    private final int batchSize;
+    private final long flushMs;
+    private final int capacity;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("uipath-submission-buffer").daemon().factory());
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private List<Submission> pending = new ArrayList<>();
+    private int outstanding;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public UiPathQueueItemSubmissionBuffer(UiPathOrchestratorService uiPathService,
+            @Qualifier("uiPathOrchestratorProperties") UiPathProperties properties) {
+        this.uiPathService = uiPathService;
+        this.batchSize = Math.max(1, properties.getBulkSubmitBatchSize());
+        this.flushMs = properties.getBulkSubmitFlushMs();
+        this.capacity = Math.max(1, properties.getBulkSubmitBufferCapacity());
+    }
+
+    /**
+     * Adds a queue item to the buffer.
+     *
+     * @param request the queue item request; must carry a reference
+     * @return a future completed with the created queue item once its batch has been sent, or completed
+     *         exceptionally with a {@link UiPathException.QueueItemCreationException} for this item
+     */
+    public CompletableFuture<UiPathQueueItem> submit(UiPathQueueItemRequest request) {
+        String reference = request.getItemData() != null ? request.getItemData().getReference() : null;
+        if (reference == null || reference.isBlank()) {
+            // Created items are matched back to their submissions by reference
+            return CompletableFuture.failedFuture(new UiPathException.QueueItemCreationException(
+                    reference, "Queue item reference is required"));
+        }
+        if (flushMs <= 0) {
+            try {
+                return CompletableFuture.completedFuture(uiPathService.addQueueItem(request));
+            } catch (UiPathException.QueueItemCreationException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        Submission submission = new Submission(request, new CompletableFuture<>());
+        List<Submission> earlierBatch = null;
+        List<Submission> fullBatch = null;
+        synchronized (lock) {
+            if (outstanding >= capacity) {
+                return CompletableFuture.failedFuture(new UiPathException.QueueItemCreationException(
+                        submission.reference(), "Submission buffer is full (" + capacity + " items)"));
+            }
+            outstanding++;
+            if (pending.stream().anyMatch(buffered -> buffered.reference().equals(submission.reference()))) {
+                // A bulk submission needs distinct references, so the buffered batch goes out first
+                earlierBatch = drain();
+            }
+            pending.add(submission);
+            if (pending.size() >= batchSize) {
+                fullBatch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, flushMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (earlierBatch != null) {
+            dispatch(earlierBatch);
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        }
+        return submission.result();
+    }
+
+    /**
+     * Sends the buffered items without waiting for the flush interval.
+     */
+    public void flush() {
+        List<Submission> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Takes the pending batch and cancels its timer. Must be called while holding {@link #lock}.
+     */
+    private List<Submission> drain() {
+        List<Submission> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Submission> batch) {
+        // Send off the timer thread so that a slow submission does not delay the next flush
+        sender.execute(() -> send(batch));
+    }
+
+    private void send(List<Submission> batch) {
+        logger.debug("Sending UIPath submission batch of {} queue items", batch.size());
+        try {
+            List<UiPathQueueItem> created = uiPathService.addQueueItems(
+                    batch.stream().map(Submission::request).toList());
+            complete(batch, created, Map.of());
+        } catch (UiPathException.BulkQueueItemCreationException e) {
+            complete(batch, e.getCreatedItems(), e.getFailures());
+        } catch (UiPathException.QueueItemCreationException | RuntimeException e) {
+            logger.error("Failed to send UIPath submission batch: {}", e.getMessage(), e);
+            batch.forEach(submission -> submission.result().completeExceptionally(
+                    new UiPathException.QueueItemCreationException(submission.reference(), e)));
+        } finally {
+            synchronized (lock) {
+                outstanding -= batch.size();
+            }
+        }
+    }
+
+    private static void complete(List<Submission> batch, List<UiPathQueueItem> created, Map<String, String> failures) {
+        Map<String, Deque<UiPathQueueItem>> createdByReference = byReference(batch, created);
+        for (Submission submission : batch) {
+            UiPathQueueItem item = createdByReference.get(submission.reference()).poll();
+            if (item != null) {
+                submission.result().complete(item);
+            } else {
+                submission.result().completeExceptionally(new UiPathException.QueueItemCreationException(
+                        submission.reference(), failures.getOrDefault(submission.reference(), "No result for queue item")));
+            }
+        }
+    }
+
+    /**
+     * Groups the created items by reference, in the order they were returned, ignoring items whose
+     * reference does not belong to the batch.
+     */
+    private static Map<String, Deque<UiPathQueueItem>> byReference(List<Submission> batch, List<UiPathQueueItem> items) {
+        Map<String, Deque<UiPathQueueItem>> byReference = new HashMap<>();
+        batch.forEach(submission -> byReference.put(submission.reference(), new ArrayDeque<>()));
+        for (UiPathQueueItem item : items) {
+            Deque<UiPathQueueItem> matches = byReference.get(item.getReference());
+            if (matches != null) {
+                matches.add(item);
+            }
+        }
+        return byReference;
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        scheduler.shutdownNow();
+        sender.close();
+    }
+
+    private record Submission(UiPathQueueItemRequest request, CompletableFuture<UiPathQueueItem> result) {
+
+        String reference() {
+            return request.getItemData().getReference();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.opendevstack.apiservice.externalservice.uipath.exception.UiPathExcept
 import org.opendevstack.apiservice.externalservice.uipath.model.QueueItemStatus;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathAuthRequest;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathAuthResponse;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathBulkAddQueueItemsRequest;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathBulkAddQueueItemsResponse;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathODataResponse;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemRequest;
@@ -25,10 +27,24 @@ import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Implementation of UiPathService for UIPath Orchestrator.
@@ -40,6 +56,14 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
 
     private static final Logger logger = LoggerFactory.getLogger(UiPathOrchestratorServiceImpl.class);
 
+    /**
+     * Fields needed to evaluate the status of the latest queue item. SpecificContent and Output are
+     * left out because they carry the robot payload and are not used for status checks.
+     */
+    private static final String LATEST_ITEM_FIELDS = "Id,QueueDefinitionId,Status,ReviewStatus,Reference,Priority,"
+            + "DeferDate,DueDate,StartProcessing,EndProcessing,CreationTime,Progress,ProcessingException,"
+            + "ReviewerUserId,OrganizationUnitId";
+
     private final RestTemplate restTemplate;
     private final UiPathProperties properties;
 
@@ -149,6 +173,141 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
         }
     }
 
+    @Override
+    public List<UiPathQueueItem> addQueueItems(List<UiPathQueueItemRequest> requests)
+            throws UiPathException.QueueItemCreationException {
+
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        Map<String, List<UiPathQueueItemRequest.ItemData>> byQueue = new LinkedHashMap<>();
+        Set<String> references = new LinkedHashSet<>();
+        for (UiPathQueueItemRequest request : requests) {
+            UiPathQueueItemRequest.ItemData itemData = request.getItemData();
+            if (itemData == null || !StringUtils.hasText(itemData.getReference())) {
+                throw new UiPathException.QueueItemCreationException("unknown",
+                        "Bulk submission requires a reference for every queue item");
+            }
+            if (!references.add(itemData.getReference())) {
+                // The created items are looked up by reference, so two items of one reference cannot be told apart
+                throw new UiPathException.QueueItemCreationException(itemData.getReference(),
+                        "Bulk submission requires a distinct reference for every queue item");
+            }
+            byQueue.computeIfAbsent(itemData.getName(), name -> new ArrayList<>()).add(itemData);
+        }
+        logger.info("Adding {} queue items to {} queue(s) in bulk", requests.size(), byQueue.size());
+
+        String token;
+        long previousId;
+        try {
+            token = authenticate();
+            previousId = latestQueueItemId(token);
+        } catch (UiPathException.AuthenticationException | UiPathException.StatusCheckException e) {
+            logger.error("Failed to prepare adding queue items: {}", e.getMessage());
+            throw new UiPathException.QueueItemCreationException(requests.size() + " queue items", e);
+        }
+        HttpHeaders headers = createAuthHeaders(token);
+
+        Map<String, String> failures = new LinkedHashMap<>();
+        int batchSize = Math.max(1, properties.getBulkSubmitBatchSize());
+        for (Map.Entry<String, List<UiPathQueueItemRequest.ItemData>> queue : byQueue.entrySet()) {
+            List<UiPathQueueItemRequest.ItemData> items = queue.getValue();
+            for (int from = 0; from < items.size(); from += batchSize) {
+                List<UiPathQueueItemRequest.ItemData> chunk = items.subList(from, Math.min(from + batchSize, items.size()));
+                failures.putAll(bulkAddQueueItems(queue.getKey(), chunk, headers));
+            }
+        }
+
+        List<String> accepted = references.stream()
+                .filter(reference -> !failures.containsKey(reference))
+                .toList();
+        Set<String> unconfirmed = new LinkedHashSet<>();
+        Map<String, UiPathQueueItem> latest = findCreatedQueueItems(token, accepted, previousId, failures, unconfirmed);
+
+        List<UiPathQueueItem> createdItems = new ArrayList<>();
+        for (String reference : accepted) {
+            UiPathQueueItem item = latest.get(reference);
+            if (item != null) {
+                createdItems.add(item);
+            } else if (!unconfirmed.contains(reference)) {
+                failures.put(reference, "Queue item not found after bulk submission");
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            logger.warn("Bulk submission created {} queue items, {} failed: {}", createdItems.size(), failures.size(), failures);
+            throw new UiPathException.BulkQueueItemCreationException(createdItems, failures, unconfirmed);
+        }
+        logger.info("Successfully created {} queue items in bulk", createdItems.size());
+        return createdItems;
+    }
+
+    /**
+     * Sends one BulkAddQueueItems call and returns the failure reason per reference that was not added.
+     */
+    private Map<String, String> bulkAddQueueItems(String queueName, List<UiPathQueueItemRequest.ItemData> chunk,
+            HttpHeaders headers) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        try {
+            ResponseEntity<UiPathBulkAddQueueItemsResponse> response = restTemplate.postForEntity(
+                    properties.getBulkAddQueueItemsUrl(),
+                    new HttpEntity<>(new UiPathBulkAddQueueItemsRequest(queueName, chunk), headers),
+                    UiPathBulkAddQueueItemsResponse.class
+            );
+
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                chunk.forEach(item -> failures.put(item.getReference(), "Unexpected response status: " + response.getStatusCode()));
+            } else if (response.getBody() != null && response.getBody().getFailedItems() != null) {
+                for (UiPathBulkAddQueueItemsResponse.FailedItem failed : response.getBody().getFailedItems()) {
+                    if (failed.getReference() == null) {
+                        // Cannot be matched to a request; the lookup afterwards reports it as not found
+                        logger.warn("UIPath rejected a queue item without reference: {}", failed.getErrorMessage());
+                        continue;
+                    }
+                    failures.put(failed.getReference(), failed.getErrorMessage() != null
+                            ? failed.getErrorMessage() : "Rejected by UIPath Orchestrator");
+                }
+            }
+        } catch (RestClientException e) {
+            logger.error("Failed to add {} queue items to queue '{}': {}", chunk.size(), queueName, e.getMessage(), e);
+            chunk.forEach(item -> failures.put(item.getReference(), e.getMessage()));
+        }
+        return failures;
+    }
+
+    /**
+     * Returns the highest queue item ID before a bulk submission, or 0 if there are no queue items yet.
+     * Items created by the submission get higher IDs, so older items of the same references are not
+     * mistaken for them.
+     */
+    private long latestQueueItemId(String token) throws UiPathException.StatusCheckException {
+        List<UiPathQueueItem> items = queryQueueItems(token, "latest queue item", null, 1, "Id");
+        return items.isEmpty() ? 0 : items.get(0).getId();
+    }
+
+    /**
+     * Looks up the queue item created for each reference that was accepted by a bulk submission, ignoring
+     * items up to {@code previousId}. If the lookup fails, the items may still have been created, so their
+     * references are recorded as failed and unconfirmed.
+     */
+    private Map<String, UiPathQueueItem> findCreatedQueueItems(String token, List<String> references, long previousId,
+            Map<String, String> failures, Set<String> unconfirmed) {
+        Map<String, UiPathQueueItem> latest = new HashMap<>();
+        int batchSize = Math.max(1, properties.getStatusBatchSize());
+        for (int from = 0; from < references.size(); from += batchSize) {
+            List<String> chunk = references.subList(from, Math.min(from + batchSize, references.size()));
+            try {
+                latest.putAll(queryLatestQueueItems(token, chunk, previousId));
+            } catch (UiPathException.StatusCheckException e) {
+                logger.warn("Failed to look up created queue items {}: {}", chunk, e.getMessage());
+                chunk.forEach(reference -> failures.put(reference,
+                        "Queue item was submitted but could not be confirmed: " + e.getMessage()));
+                unconfirmed.addAll(chunk);
+            }
+        }
+        return latest;
+    }
+
     @Override
     public UiPathQueueItem getQueueItemById(Long queueItemId) 
             throws UiPathException.QueueItemNotFoundException, UiPathException.StatusCheckException {
@@ -192,16 +351,132 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
         
         logger.debug("Getting queue items by reference: '{}'", reference);
 
+        List<UiPathQueueItem> items = queryQueueItems(reference, referenceFilter(reference), null, null);
+        logger.debug("Found {} queue item(s) with reference '{}'", items.size(), reference);
+        return items;
+    }
+
+    @Override
+    public Optional<UiPathQueueItem> getLatestQueueItemByReference(String reference) 
+            throws UiPathException.StatusCheckException {
+        
+        logger.debug("Getting latest queue item by reference: '{}'", reference);
+
+        // Let Orchestrator pick the item with the highest ID so the response size does not grow with the retry history
+        List<UiPathQueueItem> items = queryQueueItems(reference, referenceFilter(reference), 1, LATEST_ITEM_FIELDS);
+
+        if (items.isEmpty()) {
+            logger.debug("No queue items found with reference '{}'", reference);
+            return Optional.empty();
+        }
+
+        UiPathQueueItem latestItem = items.get(0);
+        logger.debug("Latest queue item for reference '{}' is ID {} with status: {}", 
+                    reference, latestItem.getId(), latestItem.getStatus());
+
+        return Optional.of(latestItem);
+    }
+
+    @Override
+    public Stream<UiPathQueueItem> streamQueueItemsByReference(String reference, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        logger.debug("Streaming queue items by reference '{}' in pages of {}", reference, pageSize);
+
+        Iterator<UiPathQueueItem> items = new QueueItemPageIterator(reference, pageSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(items, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Iterates over the queue items of a reference newest first, fetching one page at a time.
+     * Pages are addressed by the last ID seen rather than by offset, so every page costs the same
+     * regardless of how deep into the history it is.
+     */
+    private final class QueueItemPageIterator implements Iterator<UiPathQueueItem> {
+
+        private final String reference;
+        private final int pageSize;
+        private Iterator<UiPathQueueItem> page = Collections.emptyIterator();
+        private Long lastId;
+        private boolean lastPage;
+
+        private QueueItemPageIterator(String reference, int pageSize) {
+            this.reference = reference;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                fetchNextPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public UiPathQueueItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            UiPathQueueItem item = page.next();
+            lastId = item.getId();
+            return item;
+        }
+
+        private void fetchNextPage() {
+            String filter = referenceFilter(reference);
+            if (lastId != null) {
+                filter += " and Id lt " + lastId;
+            }
+            try {
+                List<UiPathQueueItem> items = queryQueueItems(reference, filter, pageSize, null);
+                lastPage = items.size() < pageSize;
+                page = items.iterator();
+            } catch (UiPathException.StatusCheckException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Runs an OData query against the queue items endpoint.
+     *
+     * @param reference the reference being queried, used for logging and error reporting
+     * @param filter the {@code $filter} expression, or {@code null} to query all queue items
+     * @param top when set, the results are ordered by descending ID and limited to this many items
+     * @param select when set, the comma separated fields to return instead of the full entity
+     */
+    private List<UiPathQueueItem> queryQueueItems(String reference, String filter, Integer top, String select)
+            throws UiPathException.StatusCheckException {
+
+        try {
+            return queryQueueItems(authenticate(), reference, filter, top, select);
+        } catch (UiPathException.AuthenticationException e) {
+            logger.error("Authentication failed while querying by reference: {}", e.getMessage());
+            throw new UiPathException.StatusCheckException(reference, e);
+        }
+    }
+
+    private List<UiPathQueueItem> queryQueueItems(String token, String reference, String filter, Integer top, String select)
+            throws UiPathException.StatusCheckException {
+
         try {
-            String token = authenticate();
             HttpHeaders headers = createAuthHeaders(token);
             HttpEntity<Void> request = new HttpEntity<>(headers);
 
-            // Build OData query: $filter=Reference eq 'reference'&$select=Id (or all fields)
-            String url = UriComponentsBuilder.fromUriString(properties.getQueueItemsUrl())
-                    .queryParam("$filter", "Reference eq '" + reference + "'")
-                    .build()
-                    .toUriString();
+            UriComponentsBuilder uri = UriComponentsBuilder.fromUriString(properties.getQueueItemsUrl());
+            if (filter != null) {
+                uri.queryParam("$filter", filter);
+            }
+            if (top != null) {
+                uri.queryParam("$orderby", "Id desc").queryParam("$top", top);
+            }
+            if (select != null) {
+                uri.queryParam("$select", select);
+            }
+            String url = uri.build().toUriString();
 
             ResponseEntity<UiPathODataResponse<UiPathQueueItem>> response = restTemplate.exchange(
                     url,
@@ -211,11 +486,7 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
             );
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                UiPathODataResponse<UiPathQueueItem> odataResponse = response.getBody();
-                List<UiPathQueueItem> items = odataResponse.getValue();
-                
-                logger.debug("Found {} queue item(s) with reference '{}'", items != null ? items.size() : 0, reference);
-                
+                List<UiPathQueueItem> items = response.getBody().getValue();
                 return items != null ? items : List.of();
             } else {
                 logger.warn("Unexpected response when querying by reference '{}': {}", 
@@ -223,38 +494,17 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
                 return List.of();
             }
 
-        } catch (UiPathException.AuthenticationException e) {
-            logger.error("Authentication failed while querying by reference: {}", e.getMessage());
-            throw new UiPathException.StatusCheckException(reference, e);
         } catch (RestClientException e) {
             logger.error("Failed to query queue items by reference '{}': {}", reference, e.getMessage(), e);
             throw new UiPathException.StatusCheckException(reference, e);
         }
     }
 
-    @Override
-    public Optional<UiPathQueueItem> getLatestQueueItemByReference(String reference) 
-            throws UiPathException.StatusCheckException {
-        
-        logger.debug("Getting latest queue item by reference: '{}'", reference);
-
-        List<UiPathQueueItem> items = getQueueItemsByReference(reference);
-
-        if (items.isEmpty()) {
-            logger.debug("No queue items found with reference '{}'", reference);
-            return Optional.empty();
-        }
-
-        // Get the item with the highest ID (most recent)
-        Optional<UiPathQueueItem> latestItem = items.stream()
-                .max(Comparator.comparing(UiPathQueueItem::getId));
-
-        latestItem.ifPresent(item -> 
-            logger.debug("Latest queue item for reference '{}' is ID {} with status: {}", 
-                        reference, item.getId(), item.getStatus())
-        );
-
-        return latestItem;
+    /**
+     * Builds the OData filter for a reference, escaping single quotes as OData string literals require.
+     */
+    private static String referenceFilter(String reference) {
+        return "Reference eq '" + reference.replace("'", "''") + "'";
     }
 
     @Override
@@ -326,40 +576,131 @@ public class UiPathOrchestratorServiceImpl implements UiPathOrchestratorService
 
         try {
             logger.debug("Checking UIPath queue item status for reference: '{}'", reference);
-            Optional<UiPathQueueItem> queueItem = getLatestQueueItemByReference(reference);
+            return toQueueItemResult(reference, getLatestQueueItemByReference(reference));
 
-            if (queueItem.isEmpty()) {
-                logger.warn("UIPath queue item not found for reference: '{}'", reference);
-                return UiPathQueueItemResult.notFound(reference);
+        } catch (UiPathException.StatusCheckException e) {
+            logger.error("Failed to check UIPath status for reference '{}': {}", reference, e.getMessage(), e);
+            return UiPathQueueItemResult.error("Failed to check UIPath status", e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error checking UIPath status for reference '{}': {}", reference, e.getMessage(), e);
+            return UiPathQueueItemResult.error("Unexpected error checking UIPath", e.getMessage());
+        }
+    }
+
+    @Override
+    public Map<String, UiPathQueueItemResult> checkQueueItemsByReference(Collection<String> references) {
+        Map<String, UiPathQueueItemResult> results = new LinkedHashMap<>();
+        List<String> toQuery = new ArrayList<>();
+        for (String reference : references) {
+            if (reference == null || reference.isEmpty()) {
+                results.put(reference, UiPathQueueItemResult.noReference());
+            } else if (!results.containsKey(reference)) {
+                results.put(reference, null);
+                toQuery.add(reference);
             }
+        }
+        if (toQuery.isEmpty()) {
+            return results;
+        }
 
-            UiPathQueueItem item = queueItem.get();
-            QueueItemStatus status = item.getStatusEnum();
-            logger.debug("UIPath queue item '{}' status: {}", reference, status);
+        logger.debug("Checking UIPath queue item status for {} references", toQuery.size());
 
-            // If UIPath is not in final state, return in-progress
-            if (!status.isFinalState()) {
-                logger.debug("UIPath queue item '{}' is still in progress with status: {}", reference, status);
-                return UiPathQueueItemResult.inProgress(item);
+        String token;
+        try {
+            // One token for every chunk instead of one authentication per reference
+            token = authenticate();
+        } catch (UiPathException.AuthenticationException e) {
+            logger.error("Authentication failed while checking {} references: {}", toQuery.size(), e.getMessage());
+            toQuery.forEach(reference -> results.put(reference,
+                    UiPathQueueItemResult.error("Failed to check UIPath status", e.getMessage())));
+            return results;
+        }
+
+        int batchSize = Math.max(1, properties.getStatusBatchSize());
+        for (int from = 0; from < toQuery.size(); from += batchSize) {
+            List<String> chunk = toQuery.subList(from, Math.min(from + batchSize, toQuery.size()));
+            try {
+                Map<String, UiPathQueueItem> latest = queryLatestQueueItems(token, chunk, null);
+                chunk.forEach(reference ->
+                        results.put(reference, toQueueItemResult(reference, Optional.ofNullable(latest.get(reference)))));
+            } catch (UiPathException.StatusCheckException e) {
+                logger.error("Failed to check UIPath status for references {}: {}", chunk, e.getMessage(), e);
+                chunk.forEach(reference -> results.put(reference,
+                        UiPathQueueItemResult.error("Failed to check UIPath status", e.getMessage())));
             }
+        }
+        return results;
+    }
 
-            // If UIPath failed, return failure
-            if (!status.isSuccessful()) {
-                logger.warn("UIPath queue item '{}' failed with status: {}", reference, status);
-                return UiPathQueueItemResult.failure(item);
+    /**
+     * Fetches the latest queue item of each reference. Items are read newest first, one page holding at most
+     * one item per unresolved reference; a reference is dropped from the filter as soon as its latest item
+     * was seen, so a long retry history of one reference cannot push the others off the page.
+     *
+     * @param afterId when set, only items with a higher ID are considered
+     */
+    private Map<String, UiPathQueueItem> queryLatestQueueItems(String token, List<String> references, Long afterId)
+            throws UiPathException.StatusCheckException {
+        Map<String, UiPathQueueItem> latest = new HashMap<>();
+        Set<String> unresolved = new LinkedHashSet<>(references);
+        Long lastId = null;
+        while (!unresolved.isEmpty()) {
+            String filter = unresolved.stream()
+                    .map(UiPathOrchestratorServiceImpl::referenceFilter)
+                    .collect(Collectors.joining(" or "));
+            if (afterId != null || lastId != null) {
+                filter = "(" + filter + ")";
+            }
+            if (afterId != null) {
+                filter += " and Id gt " + afterId;
             }
+            if (lastId != null) {
+                filter += " and Id lt " + lastId;
+            }
+            int pageSize = unresolved.size();
+            List<UiPathQueueItem> page = queryQueueItems(token, unresolved.toString(), filter, pageSize, LATEST_ITEM_FIELDS);
+            for (UiPathQueueItem item : page) {
+                if (unresolved.remove(item.getReference())) {
+                    latest.put(item.getReference(), item);
+                }
+                lastId = item.getId();
+            }
+            if (page.size() < pageSize) {
+                // Every remaining reference has no older items
+                break;
+            }
+        }
+        return latest;
+    }
 
-            // UIPath succeeded
-            logger.debug("UIPath queue item '{}' completed successfully", reference);
-            return UiPathQueueItemResult.success(item);
+    /**
+     * Maps the latest queue item of a reference to a status result.
+     */
+    private UiPathQueueItemResult toQueueItemResult(String reference, Optional<UiPathQueueItem> queueItem) {
+        if (queueItem.isEmpty()) {
+            logger.warn("UIPath queue item not found for reference: '{}'", reference);
+            return UiPathQueueItemResult.notFound(reference);
+        }
 
-        } catch (UiPathException.StatusCheckException e) {
-            logger.error("Failed to check UIPath status for reference '{}': {}", reference, e.getMessage(), e);
-            return UiPathQueueItemResult.error("Failed to check UIPath status", e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error checking UIPath status for reference '{}': {}", reference, e.getMessage(), e);
-            return UiPathQueueItemResult.error("Unexpected error checking UIPath", e.getMessage());
+        UiPathQueueItem item = queueItem.get();
+        QueueItemStatus status = item.getStatusEnum();
+        logger.debug("UIPath queue item '{}' status: {}", reference, status);
+
+        // If UIPath is not in final state, return in-progress
+        if (!status.isFinalState()) {
+            logger.debug("UIPath queue item '{}' is still in progress with status: {}", reference, status);
+            return UiPathQueueItemResult.inProgress(item);
+        }
+
+        // If UIPath failed, return failure
+        if (!status.isSuccessful()) {
+            logger.warn("UIPath queue item '{}' failed with status: {}", reference, status);
+            return UiPathQueueItemResult.failure(item);
         }
+
+        // UIPath succeeded
+        logger.debug("UIPath queue item '{}' completed successfully", reference);
+        return UiPathQueueItemResult.success(item);
     }
 
     /**
@@ -0,0 +1,138 @@
+package org.opendevstack.apiservice.externalservice.uipath.service;
+
+import org.opendevstack.apiservice.externalservice.uipath.config.UiPathProperties;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UiPathQueueItemStatusBatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+class UiPathQueueItemStatusBatcherTest {
+
+    @Mock
+    private UiPathOrchestratorService uiPathService;
+
+    private UiPathQueueItemStatusBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.destroy();
+        }
+    }
+
+    @Test
+    void submit_ConcurrentReferencesWithinWindow_ResolvedInOneBatch() throws Exception {
+        // Given
+        batcher = newBatcher(10, 50);
+        stubBatchResolution();
+
+        // When
+        CompletableFuture<UiPathQueueItemResult> a = batcher.submit("A");
+        CompletableFuture<UiPathQueueItemResult> b = batcher.submit("B");
+        CompletableFuture<UiPathQueueItemResult> duplicate = batcher.submit("A");
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.NOT_FOUND, a.get(5, TimeUnit.SECONDS).getResultStatus());
+        assertEquals(UiPathQueueItemResult.ResultStatus.NOT_FOUND, b.get(5, TimeUnit.SECONDS).getResultStatus());
+        assertSame(a, duplicate);
+        assertEquals(List.of(List.of("A", "B")), capturedBatches());
+    }
+
+    @Test
+    void submit_FullBatch_ResolvedWithoutWaitingForWindow() throws Exception {
+        // Given
+        batcher = newBatcher(2, 60_000);
+        stubBatchResolution();
+
+        // When
+        CompletableFuture<UiPathQueueItemResult> a = batcher.submit("A");
+        CompletableFuture<UiPathQueueItemResult> b = batcher.submit("B");
+        CompletableFuture<UiPathQueueItemResult> c = batcher.submit("C");
+
+        // Then
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+        assertFalse(c.isDone());
+        assertEquals(List.of(List.of("A", "B")), capturedBatches());
+    }
+
+    @Test
+    void submit_BatchFailure_CompletesWithError() throws Exception {
+        // Given
+        batcher = newBatcher(1, 50);
+        when(uiPathService.checkQueueItemsByReference(anyCollection())).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        UiPathQueueItemResult result = batcher.submit("A").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.ERROR, result.getResultStatus());
+    }
+
+    @Test
+    void submit_EmptyReference_ReturnsNoReferenceImmediately() {
+        // Given
+        batcher = newBatcher(10, 50);
+
+        // When
+        UiPathQueueItemResult result = batcher.checkQueueItemByReference("");
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.NO_REFERENCE, result.getResultStatus());
+        verifyNoInteractions(uiPathService);
+    }
+
+    @Test
+    void submit_ZeroWindow_ChecksDirectly() {
+        // Given
+        batcher = newBatcher(10, 0);
+        when(uiPathService.checkQueueItemByReference("A")).thenReturn(UiPathQueueItemResult.notFound("A"));
+
+        // When
+        UiPathQueueItemResult result = batcher.checkQueueItemByReference("A");
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.NOT_FOUND, result.getResultStatus());
+        verify(uiPathService, never()).checkQueueItemsByReference(any());
+    }
+
+    private UiPathQueueItemStatusBatcher newBatcher(int batchSize, long windowMs) {
+        UiPathProperties properties = new UiPathProperties();
+        properties.setStatusBatchSize(batchSize);
+        properties.setStatusBatchWindowMs(windowMs);
+        return new UiPathQueueItemStatusBatcher(uiPathService, properties);
+    }
+
+    private void stubBatchResolution() {
+        when(uiPathService.checkQueueItemsByReference(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> references = invocation.getArgument(0);
+            return references.stream().collect(Collectors.toMap(reference -> reference, UiPathQueueItemResult::notFound));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> capturedBatches() {
+        ArgumentCaptor<Collection<String>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(uiPathService, atLeastOnce()).checkQueueItemsByReference(batches.capture());
+        return batches.getAllValues().stream().map(List::copyOf).toList();
+    }
+}
@@ -0,0 +1,216 @@
+package org.opendevstack.apiservice.externalservice.uipath.service;
+
+import org.opendevstack.apiservice.externalservice.uipath.config.UiPathProperties;
+import org.opendevstack.apiservice.externalservice.uipath.exception.UiPathException;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UiPathQueueItemSubmissionBuffer.
+ */
+@ExtendWith(MockitoExtension.class)
+class UiPathQueueItemSubmissionBufferTest {
+
+    @Mock
+    private UiPathOrchestratorService uiPathService;
+
+    private UiPathQueueItemSubmissionBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.destroy();
+        }
+    }
+
+    @Test
+    void submit_ItemsWithinInterval_SentInOneBulkCall() throws Exception {
+        // Given
+        buffer = newBuffer(10, 50, 100);
+        stubCreateAll();
+
+        // When
+        CompletableFuture<UiPathQueueItem> a = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> b = buffer.submit(request("B"));
+
+        // Then
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).getReference());
+        assertEquals("B", b.get(5, TimeUnit.SECONDS).getReference());
+        assertEquals(List.of(List.of("A", "B")), capturedBatches());
+    }
+
+    @Test
+    void submit_FullBatch_SentWithoutWaitingForInterval() throws Exception {
+        // Given
+        buffer = newBuffer(2, 60_000, 100);
+        stubCreateAll();
+
+        // When
+        CompletableFuture<UiPathQueueItem> a = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> b = buffer.submit(request("B"));
+        CompletableFuture<UiPathQueueItem> c = buffer.submit(request("C"));
+
+        // Then
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+        assertFalse(c.isDone());
+        assertEquals(List.of(List.of("A", "B")), capturedBatches());
+    }
+
+    @Test
+    void submit_BufferedReference_SendsBufferedBatchFirst() throws Exception {
+        // Given
+        buffer = newBuffer(10, 60_000, 100);
+        stubCreateAll();
+
+        // When
+        CompletableFuture<UiPathQueueItem> first = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> second = buffer.submit(request("A"));
+        first.get(5, TimeUnit.SECONDS);
+        assertFalse(second.isDone());
+        buffer.flush();
+
+        // Then
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of("A"), List.of("A")), capturedBatches());
+    }
+
+    @Test
+    void submit_PartialFailure_FailsOnlyRejectedItems() throws Exception {
+        // Given
+        buffer = newBuffer(2, 60_000, 100);
+        when(uiPathService.addQueueItems(anyList())).thenThrow(new UiPathException.BulkQueueItemCreationException(
+                List.of(queueItem("A")), Map.of("B", "Duplicate reference")));
+
+        // When
+        CompletableFuture<UiPathQueueItem> a = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> b = buffer.submit(request("B"));
+
+        // Then
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).getReference());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> b.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(UiPathException.QueueItemCreationException.class, failure.getCause());
+        assertTrue(failure.getCause().getMessage().contains("Duplicate reference"));
+    }
+
+    @Test
+    void submit_CreatedItemsOfOtherReferences_AreIgnored() throws Exception {
+        // Given
+        buffer = newBuffer(2, 60_000, 100);
+        when(uiPathService.addQueueItems(anyList())).thenReturn(List.of(queueItem("A"), queueItem("X")));
+
+        // When
+        CompletableFuture<UiPathQueueItem> a = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> b = buffer.submit(request("B"));
+
+        // Then
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).getReference());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> b.get(5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause().getMessage().contains("No result for queue item"));
+    }
+
+    @Test
+    void submit_BlankReference_RejectsImmediately() throws Exception {
+        // Given
+        buffer = newBuffer(2, 60_000, 100);
+
+        // When
+        CompletableFuture<UiPathQueueItem> rejected = buffer.submit(request(" "));
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(UiPathException.QueueItemCreationException.class, failure.getCause());
+        verifyNoInteractions(uiPathService);
+    }
+
+    @Test
+    void submit_BufferFull_RejectsImmediately() throws Exception {
+        // Given
+        buffer = newBuffer(1, 60_000, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(uiPathService.addQueueItems(anyList())).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(queueItem("A"));
+        });
+
+        // When
+        CompletableFuture<UiPathQueueItem> a = buffer.submit(request("A"));
+        CompletableFuture<UiPathQueueItem> rejected = buffer.submit(request("B"));
+        release.countDown();
+
+        // Then
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(UiPathException.QueueItemCreationException.class, failure.getCause());
+        assertEquals("A", a.get(5, TimeUnit.SECONDS).getReference());
+    }
+
+    @Test
+    void submit_ZeroInterval_AddsDirectly() throws Exception {
+        // Given
+        buffer = newBuffer(10, 0, 100);
+        when(uiPathService.addQueueItem(any())).thenReturn(queueItem("A"));
+
+        // When
+        UiPathQueueItem item = buffer.submit(request("A")).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals("A", item.getReference());
+        verify(uiPathService, never()).addQueueItems(anyList());
+    }
+
+    private UiPathQueueItemSubmissionBuffer newBuffer(int batchSize, long flushMs, int capacity) {
+        UiPathProperties properties = new UiPathProperties();
+        properties.setBulkSubmitBatchSize(batchSize);
+        properties.setBulkSubmitFlushMs(flushMs);
+        properties.setBulkSubmitBufferCapacity(capacity);
+        return new UiPathQueueItemSubmissionBuffer(uiPathService, properties);
+    }
+
+    private void stubCreateAll() throws Exception {
+        when(uiPathService.addQueueItems(anyList())).thenAnswer(invocation -> {
+            List<UiPathQueueItemRequest> requests = invocation.getArgument(0);
+            return requests.stream().map(r -> queueItem(r.getItemData().getReference())).toList();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> capturedBatches() throws Exception {
+        ArgumentCaptor<List<UiPathQueueItemRequest>> batches = ArgumentCaptor.forClass(List.class);
+        verify(uiPathService, atLeastOnce()).addQueueItems(batches.capture());
+        return batches.getAllValues().stream()
+                .map(batch -> batch.stream().map(r -> r.getItemData().getReference()).toList())
+                .toList();
+    }
+
+    private static UiPathQueueItemRequest request(String reference) {
+        return new UiPathQueueItemRequest.Builder()
+                .queueName("Queue1")
+                .reference(reference)
+                .build();
+    }
+
+    private static UiPathQueueItem queueItem(String reference) {
+        UiPathQueueItem item = new UiPathQueueItem();
+        item.setReference(reference);
+        item.setStatus("New");
+        return item;
+    }
+}
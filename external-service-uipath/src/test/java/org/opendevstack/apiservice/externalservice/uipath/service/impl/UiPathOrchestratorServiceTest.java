@@ -3,12 +3,16 @@ package org.opendevstack.apiservice.externalservice.uipath.service.impl;
 import org.opendevstack.apiservice.externalservice.uipath.config.UiPathProperties;
 import org.opendevstack.apiservice.externalservice.uipath.exception.UiPathException;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathAuthResponse;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathBulkAddQueueItemsRequest;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathBulkAddQueueItemsResponse;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathODataResponse;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItem;
 import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemRequest;
+import org.opendevstack.apiservice.externalservice.uipath.model.UiPathQueueItemResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
@@ -23,6 +27,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -254,19 +260,14 @@ class UiPathOrchestratorServiceTest {
                 eq(UiPathAuthResponse.class)
         )).thenReturn(new ResponseEntity<>(authResponse, HttpStatus.OK));
 
-        // Given - Multiple items, should return the one with highest ID
-        UiPathQueueItem item1 = new UiPathQueueItem();
-        item1.setId(100L);
-        item1.setReference("TEST-001");
-        item1.setStatus("FAILED");
-
-        UiPathQueueItem item2 = new UiPathQueueItem();
-        item2.setId(200L); // This should be returned (highest ID)
-        item2.setReference("TEST-001");
-        item2.setStatus("SUCCESSFUL");
+        // Given - Orchestrator returns only the item with the highest ID
+        UiPathQueueItem item = new UiPathQueueItem();
+        item.setId(200L);
+        item.setReference("TEST-001");
+        item.setStatus("SUCCESSFUL");
 
         UiPathODataResponse<UiPathQueueItem> odataResponse = new UiPathODataResponse<>();
-        odataResponse.setValue(List.of(item1, item2));
+        odataResponse.setValue(List.of(item));
 
         when(restTemplate.exchange(
                 anyString(),
@@ -422,4 +423,349 @@ class UiPathOrchestratorServiceTest {
         // Then
         assertFalse(isValid);
     }
+
+    @Test
+    void getLatestQueueItemByReference_RequestsOnlyLatestItem() throws Exception {
+        // Given
+        stubAuthentication();
+        stubQueueItemPages(List.of(queueItem(300L)));
+
+        // When
+        Optional<UiPathQueueItem> result = service.getLatestQueueItemByReference("TEST-001");
+
+        // Then
+        assertEquals(300L, result.orElseThrow().getId());
+        String url = capturedQueryUrls().get(0);
+        assertTrue(url.contains("$filter=Reference eq 'TEST-001'"));
+        assertTrue(url.contains("$orderby=Id desc"));
+        assertTrue(url.contains("$top=1"));
+        assertTrue(url.contains("$select=Id,"));
+        assertFalse(url.contains("SpecificContent"));
+    }
+
+    @Test
+    void getLatestQueueItemByReference_EscapesQuotesInReference() throws Exception {
+        // Given
+        stubAuthentication();
+        stubQueueItemPages(List.of());
+
+        // When
+        service.getLatestQueueItemByReference("o'brien_TEAM");
+
+        // Then
+        assertTrue(capturedQueryUrls().get(0).contains("Reference eq 'o''brien_TEAM'"));
+    }
+
+    @Test
+    void streamQueueItemsByReference_FetchesPagesByLastId() throws Exception {
+        // Given
+        stubAuthentication();
+        stubQueueItemPages(List.of(queueItem(500L), queueItem(400L)), List.of(queueItem(300L)));
+
+        // When
+        List<Long> ids = service.streamQueueItemsByReference("TEST-001", 2)
+                .map(UiPathQueueItem::getId)
+                .collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of(500L, 400L, 300L), ids);
+        List<String> urls = capturedQueryUrls();
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).contains("$top=2"));
+        assertFalse(urls.get(0).contains("Id lt"));
+        assertTrue(urls.get(1).contains("Reference eq 'TEST-001' and Id lt 400"));
+    }
+
+    @Test
+    void streamQueueItemsByReference_IsLazy() throws Exception {
+        // Given
+        stubAuthentication();
+        stubQueueItemPages(List.of(queueItem(500L), queueItem(400L)));
+
+        // When
+        Optional<UiPathQueueItem> first = service.streamQueueItemsByReference("TEST-001", 2).findFirst();
+
+        // Then
+        assertEquals(500L, first.orElseThrow().getId());
+        assertEquals(1, capturedQueryUrls().size());
+    }
+
+    @Test
+    void streamQueueItemsByReference_QueryFailure() throws Exception {
+        // Given
+        stubAuthentication();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenThrow(new RestClientException("Connection refused"));
+
+        // When / Then
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.streamQueueItemsByReference("TEST-001", 2).toList());
+        assertInstanceOf(UiPathException.StatusCheckException.class, e.getCause());
+    }
+
+    @Test
+    void checkQueueItemsByReference_QueriesEachChunkOnceWithSingleAuthentication() throws Exception {
+        // Given
+        properties.setStatusBatchSize(2);
+        stubAuthentication();
+        stubQueueItemPages(
+                List.of(queueItem(20L, "B", "INPROGRESS"), queueItem(12L, "A", "FAILED")),
+                List.of());
+
+        // When
+        Map<String, UiPathQueueItemResult> results = service.checkQueueItemsByReference(List.of("A", "B", "C", "A", ""));
+
+        // Then
+        assertEquals(List.of("A", "B", "C", ""), List.copyOf(results.keySet()));
+        assertEquals(UiPathQueueItemResult.ResultStatus.FAILURE, results.get("A").getResultStatus());
+        assertEquals(12L, results.get("A").getQueueItem().orElseThrow().getId());
+        assertEquals(UiPathQueueItemResult.ResultStatus.IN_PROGRESS, results.get("B").getResultStatus());
+        assertEquals(UiPathQueueItemResult.ResultStatus.NOT_FOUND, results.get("C").getResultStatus());
+        assertEquals(UiPathQueueItemResult.ResultStatus.NO_REFERENCE, results.get("").getResultStatus());
+
+        List<String> urls = capturedQueryUrls();
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(0).contains("Reference eq 'A' or Reference eq 'B'"));
+        assertTrue(urls.get(0).contains("$select=Id,"));
+        assertTrue(urls.get(0).contains("$orderby=Id desc&$top=2"));
+        assertTrue(urls.get(1).contains("Reference eq 'C'"));
+        verify(restTemplate, times(1)).postForEntity(anyString(), any(HttpEntity.class), eq(UiPathAuthResponse.class));
+    }
+
+    @Test
+    void checkQueueItemsByReference_PagesUntilEveryReferenceIsResolved() throws Exception {
+        // Given
+        stubAuthentication();
+        stubQueueItemPages(
+                List.of(queueItem(30L, "A", "FAILED"), queueItem(29L, "A", "FAILED")),
+                List.of(queueItem(5L, "B", "SUCCESSFUL")));
+
+        // When
+        Map<String, UiPathQueueItemResult> results = service.checkQueueItemsByReference(List.of("A", "B"));
+
+        // Then
+        assertEquals(30L, results.get("A").getQueueItem().orElseThrow().getId());
+        assertEquals(5L, results.get("B").getQueueItem().orElseThrow().getId());
+
+        List<String> urls = capturedQueryUrls();
+        assertEquals(2, urls.size());
+        assertTrue(urls.get(1).contains("(Reference eq 'B') and Id lt 29"));
+        assertTrue(urls.get(1).contains("$top=1"));
+    }
+
+    @Test
+    void checkQueueItemsByReference_FailedChunkYieldsErrors() throws Exception {
+        // Given
+        properties.setStatusBatchSize(1);
+        stubAuthentication();
+        UiPathODataResponse<UiPathQueueItem> odataResponse = new UiPathODataResponse<>();
+        odataResponse.setValue(List.of(queueItem(11L, "A", "SUCCESSFUL")));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(odataResponse, HttpStatus.OK))
+                .thenThrow(new RestClientException("Connection refused"));
+
+        // When
+        Map<String, UiPathQueueItemResult> results = service.checkQueueItemsByReference(List.of("A", "B"));
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.SUCCESS, results.get("A").getResultStatus());
+        assertEquals(UiPathQueueItemResult.ResultStatus.ERROR, results.get("B").getResultStatus());
+    }
+
+    @Test
+    void checkQueueItemsByReference_AuthenticationFailure() {
+        // Given
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(UiPathAuthResponse.class)))
+                .thenThrow(new RestClientException("Connection refused"));
+
+        // When
+        Map<String, UiPathQueueItemResult> results = service.checkQueueItemsByReference(List.of("A", "B"));
+
+        // Then
+        assertEquals(UiPathQueueItemResult.ResultStatus.ERROR, results.get("A").getResultStatus());
+        assertEquals(UiPathQueueItemResult.ResultStatus.ERROR, results.get("B").getResultStatus());
+        verify(restTemplate, never()).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addQueueItems_SendsChunksPerQueueAndMapsCreatedItems() throws Exception {
+        // Given
+        properties.setBulkSubmitBatchSize(2);
+        stubAuthentication();
+        when(restTemplate.postForEntity(eq(properties.getBulkAddQueueItemsUrl()), any(HttpEntity.class),
+                eq(UiPathBulkAddQueueItemsResponse.class)))
+                .thenReturn(new ResponseEntity<>(new UiPathBulkAddQueueItemsResponse(), HttpStatus.OK));
+        stubQueueItemPages(List.of(queueItem(100L)), List.of(queueItem(104L, "D", "New"), queueItem(103L, "C", "New"),
+                queueItem(102L, "B", "New"), queueItem(101L, "A", "New")));
+
+        // When
+        List<UiPathQueueItem> created = service.addQueueItems(List.of(
+                queueItemRequest("Queue1", "A"), queueItemRequest("Queue2", "B"),
+                queueItemRequest("Queue1", "C"), queueItemRequest("Queue1", "D")));
+
+        // Then
+        assertEquals(List.of("A", "B", "C", "D"), created.stream().map(UiPathQueueItem::getReference).toList());
+        ArgumentCaptor<HttpEntity<UiPathBulkAddQueueItemsRequest>> body = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(3)).postForEntity(eq(properties.getBulkAddQueueItemsUrl()), body.capture(),
+                eq(UiPathBulkAddQueueItemsResponse.class));
+        List<UiPathBulkAddQueueItemsRequest> bulkRequests = body.getAllValues().stream().map(HttpEntity::getBody).toList();
+        assertEquals(List.of("Queue1", "Queue1", "Queue2"), bulkRequests.stream().map(UiPathBulkAddQueueItemsRequest::getQueueName).toList());
+        assertEquals(List.of(2, 1, 1), bulkRequests.stream().map(r -> r.getQueueItems().size()).toList());
+        assertEquals(UiPathBulkAddQueueItemsRequest.COMMIT_PROCESS_ALL_INDEPENDENTLY, bulkRequests.get(0).getCommitType());
+        verify(restTemplate, times(1)).postForEntity(eq(properties.getLoginUrl()), any(HttpEntity.class), eq(UiPathAuthResponse.class));
+        List<String> urls = capturedQueryUrls();
+        assertFalse(urls.get(0).contains("$filter"));
+        assertTrue(urls.get(1).contains("Reference eq 'D') and Id gt 100"));
+    }
+
+    @Test
+    void addQueueItems_PartialFailure_ReportsFailedReferences() throws Exception {
+        // Given
+        stubAuthentication();
+        UiPathBulkAddQueueItemsResponse.FailedItem failedItem = new UiPathBulkAddQueueItemsResponse.FailedItem();
+        failedItem.setReference("B");
+        failedItem.setErrorMessage("Duplicate reference");
+        UiPathBulkAddQueueItemsResponse bulkResponse = new UiPathBulkAddQueueItemsResponse();
+        bulkResponse.setFailedItems(List.of(failedItem));
+        when(restTemplate.postForEntity(eq(properties.getBulkAddQueueItemsUrl()), any(HttpEntity.class),
+                eq(UiPathBulkAddQueueItemsResponse.class)))
+                .thenReturn(new ResponseEntity<>(bulkResponse, HttpStatus.OK));
+        stubQueueItemPages(List.of(), List.of(queueItem(1L, "A", "New")));
+
+        // When
+        UiPathException.BulkQueueItemCreationException exception = assertThrows(
+                UiPathException.BulkQueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", "A"), queueItemRequest("Queue1", "B"))));
+
+        // Then
+        assertEquals(List.of(1L), exception.getCreatedItems().stream().map(UiPathQueueItem::getId).toList());
+        assertEquals(Map.of("B", "Duplicate reference"), exception.getFailures());
+        assertEquals(UiPathException.ERROR_CODE_QUEUE_ITEM_CREATION_FAILED, exception.getErrorCode());
+    }
+
+    @Test
+    void addQueueItems_FailedCall_ReportsEveryItemOfTheChunk() throws Exception {
+        // Given
+        stubAuthentication();
+        when(restTemplate.postForEntity(eq(properties.getBulkAddQueueItemsUrl()), any(HttpEntity.class),
+                eq(UiPathBulkAddQueueItemsResponse.class)))
+                .thenThrow(new RestClientException("Service unavailable"));
+        stubQueueItemPages(List.of());
+
+        // When
+        UiPathException.BulkQueueItemCreationException exception = assertThrows(
+                UiPathException.BulkQueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", "A"), queueItemRequest("Queue1", "B"))));
+
+        // Then
+        assertTrue(exception.getCreatedItems().isEmpty());
+        assertEquals(List.of("A", "B"), List.copyOf(exception.getFailures().keySet()));
+        assertTrue(exception.getUnconfirmedReferences().isEmpty());
+        // Only the ID lookup before the submission
+        verify(restTemplate, times(1)).exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addQueueItems_LookupFailure_ReportsUnconfirmedReferences() throws Exception {
+        // Given
+        stubAuthentication();
+        when(restTemplate.postForEntity(eq(properties.getBulkAddQueueItemsUrl()), any(HttpEntity.class),
+                eq(UiPathBulkAddQueueItemsResponse.class)))
+                .thenReturn(new ResponseEntity<>(new UiPathBulkAddQueueItemsResponse(), HttpStatus.OK));
+        UiPathODataResponse<UiPathQueueItem> previous = new UiPathODataResponse<>();
+        previous.setValue(List.of(queueItem(100L)));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(new ResponseEntity<>(previous, HttpStatus.OK))
+                .thenThrow(new RestClientException("Connection reset"));
+
+        // When
+        UiPathException.BulkQueueItemCreationException exception = assertThrows(
+                UiPathException.BulkQueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", "A"), queueItemRequest("Queue1", "B"))));
+
+        // Then
+        assertTrue(exception.getCreatedItems().isEmpty());
+        assertEquals(Set.of("A", "B"), exception.getUnconfirmedReferences());
+        assertTrue(exception.getFailures().get("A").startsWith("Queue item was submitted but could not be confirmed"));
+    }
+
+    @Test
+    void addQueueItems_PreviousIdLookupFailure_SubmitsNothing() throws Exception {
+        // Given
+        stubAuthentication();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenThrow(new RestClientException("Connection refused"));
+
+        // When & Then
+        assertThrows(UiPathException.QueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", "A"))));
+        verify(restTemplate, never()).postForEntity(eq(properties.getBulkAddQueueItemsUrl()), any(HttpEntity.class),
+                eq(UiPathBulkAddQueueItemsResponse.class));
+    }
+
+    @Test
+    void addQueueItems_DuplicateReference_Throws() {
+        // When & Then
+        assertThrows(UiPathException.QueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", "A"), queueItemRequest("Queue2", "A"))));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void addQueueItems_MissingReference_Throws() {
+        // When & Then
+        assertThrows(UiPathException.QueueItemCreationException.class,
+                () -> service.addQueueItems(List.of(queueItemRequest("Queue1", null))));
+        verifyNoInteractions(restTemplate);
+    }
+
+    private void stubAuthentication() {
+        UiPathAuthResponse authResponse = new UiPathAuthResponse();
+        authResponse.setSuccess(true);
+        authResponse.setResult("test-token");
+        when(restTemplate.postForEntity(eq(properties.getLoginUrl()), any(HttpEntity.class), eq(UiPathAuthResponse.class)))
+                .thenReturn(new ResponseEntity<>(authResponse, HttpStatus.OK));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void stubQueueItemPages(List<UiPathQueueItem>... pages) {
+        var stubbing = when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class)));
+        for (List<UiPathQueueItem> page : pages) {
+            UiPathODataResponse<UiPathQueueItem> odataResponse = new UiPathODataResponse<>();
+            odataResponse.setValue(page);
+            stubbing = stubbing.thenReturn(new ResponseEntity<>(odataResponse, HttpStatus.OK));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> capturedQueryUrls() {
+        ArgumentCaptor<String> url = ArgumentCaptor.forClass(String.class);
+        verify(restTemplate, atLeastOnce()).exchange(url.capture(), eq(HttpMethod.GET), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+        return url.getAllValues();
+    }
+
+    private static UiPathQueueItemRequest queueItemRequest(String queueName, String reference) {
+        return new UiPathQueueItemRequest.Builder()
+                .queueName(queueName)
+                .reference(reference)
+                .build();
+    }
+
+    private static UiPathQueueItem queueItem(Long id) {
+        UiPathQueueItem item = new UiPathQueueItem();
+        item.setId(id);
+        item.setReference("TEST-001");
+        item.setStatus("NEW");
+        return item;
+    }
+
+    private static UiPathQueueItem queueItem(Long id, String reference, String status) {
+        UiPathQueueItem item = queueItem(id);
+        item.setReference(reference);
+        item.setStatus(status);
+        return item;
+    }
 }
@@ -15,6 +15,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 /**
  * Client for interacting with the ODS Webhook Proxy.
  * Provides methods to trigger release manager builds via the webhook proxy /build endpoint.
+ * Clients are lightweight per-project facades; the RestTemplate and its connection pool are
+ * shared by all clients of a cluster.
  */
 @Slf4j
 public class WebhookProxyClient {
@@ -34,7 +36,8 @@ public class WebhookProxyClient {
      * @param projectKey Project key
      * @param baseUrl Base URL of the webhook proxy
      * @param config Cluster configuration
-     * @param restTemplate RestTemplate configured with appropriate timeouts and SSL settings
+     * @param restTemplate RestTemplate configured with appropriate timeouts and SSL settings,
+     *                     shared with the clients of the other projects of the cluster
      */
     public WebhookProxyClient(String clusterName, String projectKey, String baseUrl, 
                              ClusterConfig config, RestTemplate restTemplate) {
@@ -153,7 +156,7 @@ public class WebhookProxyClient {
      * @param triggerSecret Trigger secret
      * @throws WebhookProxyException.ValidationException if validation fails
      */
-    private void validateBuildRequest(WebhookProxyBuildRequest request, String triggerSecret) 
+    public void validateBuildRequest(WebhookProxyBuildRequest request, String triggerSecret) 
             throws WebhookProxyException.ValidationException {
         
         if (request == null) {
@@ -229,4 +232,13 @@ public class WebhookProxyClient {
     public String getBaseUrl() {
         return baseUrl;
     }
+    
+    /**
+     * Get the RestTemplate used to send requests
+     * 
+     * @return RestTemplate shared by the clients of the cluster
+     */
+    RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
 }
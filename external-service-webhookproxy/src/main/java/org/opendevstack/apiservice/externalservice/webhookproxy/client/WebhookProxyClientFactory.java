@@ -4,35 +4,42 @@ import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookPr
 import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.ClusterConfig;
 import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-
-import javax.net.ssl.*;
-import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.X509Certificate;
-import java.time.Duration;
+
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Factory for creating WebhookProxyClient instances.
  * Uses the factory pattern to provide configured clients for different
  * clusters.
- * Clients are cached per cluster+project combination for efficiency.
+ * Each cluster has one pooled HTTP transport that is shared by the clients of all its projects,
+ * so connections are reused across projects and the number of connections per cluster is bounded.
+ * Clients are lightweight and cached per cluster+project combination; clients that were not used
+ * for the configured idle timeout are dropped and created again on the next request.
  */
 @Component
 @Slf4j
-public class WebhookProxyClientFactory {
+public class WebhookProxyClientFactory implements DisposableBean {
+
+    private static final long MAX_EVICTION_INTERVAL_SECONDS = 60;
 
     private final WebhookProxyConfiguration configuration;
-    private final Map<String, WebhookProxyClient> clientCache;
     private final RestTemplateBuilder restTemplateBuilder;
+    private final Clock clock;
+    private final Map<String, WebhookProxyTransport> transports = new ConcurrentHashMap<>();
+    private final Map<String, CachedClient> clientCache = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("webhook-proxy-client-eviction").daemon().factory());
 
     /**
      * Constructor with dependency injection
@@ -40,11 +47,23 @@ public class WebhookProxyClientFactory {
      * @param configuration       Webhook proxy configuration
      * @param restTemplateBuilder RestTemplate builder for creating HTTP clients
      */
+    @Autowired
     public WebhookProxyClientFactory(WebhookProxyConfiguration configuration,
             RestTemplateBuilder restTemplateBuilder) {
+        this(configuration, restTemplateBuilder, Clock.systemUTC());
+    }
+
+    WebhookProxyClientFactory(WebhookProxyConfiguration configuration, RestTemplateBuilder restTemplateBuilder,
+            Clock clock) {
         this.configuration = configuration;
         this.restTemplateBuilder = restTemplateBuilder;
-        this.clientCache = new ConcurrentHashMap<>();
+        this.clock = clock;
+
+        long idleTimeout = configuration.getClientIdleTimeoutSeconds();
+        if (idleTimeout > 0) {
+            long interval = Math.min(idleTimeout, MAX_EVICTION_INTERVAL_SECONDS);
+            evictor.scheduleAtFixedRate(this::evictIdleClients, interval, interval, TimeUnit.SECONDS);
+        }
 
         log.info("WebhookProxyClientFactory initialized with {} cluster(s)",
                 configuration.getClusters().size());
@@ -62,14 +81,6 @@ public class WebhookProxyClientFactory {
     public WebhookProxyClient getClient(String clusterName, String projectKey)
             throws WebhookProxyException.ConfigurationException {
 
-        String cacheKey = clusterName + ":" + projectKey;
-
-        // Check cache first
-        if (clientCache.containsKey(cacheKey)) {
-            log.debug("Returning cached client for cluster '{}' and project '{}'", clusterName, projectKey);
-            return clientCache.get(cacheKey);
-        }
-
         // Get cluster configuration
         ClusterConfig clusterConfig = configuration.getClusters().get(clusterName);
 
@@ -79,20 +90,11 @@ public class WebhookProxyClientFactory {
                             clusterName, configuration.getClusters().keySet()));
         }
 
-        log.info("Creating new WebhookProxyClient for cluster '{}' and project '{}'", clusterName, projectKey);
-
-        // Build the webhook proxy URL dynamically
-        String webhookProxyUrl = clusterConfig.buildWebhookProxyUrl(projectKey);
-        log.debug("Webhook proxy URL: {}", webhookProxyUrl);
-
-        RestTemplate restTemplate = createRestTemplate(clusterConfig);
-        WebhookProxyClient client = new WebhookProxyClient(clusterName, projectKey, webhookProxyUrl,
-                clusterConfig, restTemplate);
-
-        // Cache the client
-        clientCache.put(cacheKey, client);
-
-        return client;
+        String cacheKey = clusterName + ":" + projectKey;
+        CachedClient cached = clientCache.computeIfAbsent(cacheKey,
+                key -> new CachedClient(createClient(clusterName, projectKey, clusterConfig), clock.instant()));
+        cached.lastUsed = clock.instant();
+        return cached.client;
     }
 
     /**
@@ -115,64 +117,76 @@ public class WebhookProxyClientFactory {
     }
 
     /**
-     * Create a RestTemplate configured for a specific cluster
-     * 
-     * @param config Cluster configuration
-     * @return Configured RestTemplate
+     * Drop cached clients that were not used for the configured idle timeout.
+     * The transports of the clusters are kept, so a dropped client can be created again cheaply.
      */
-    private RestTemplate createRestTemplate(ClusterConfig config) {
-        RestTemplate restTemplate = restTemplateBuilder.build();
-
-        // Set timeouts using SimpleClientHttpRequestFactory
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(config.getConnectionTimeout());
-        requestFactory.setReadTimeout(config.getReadTimeout());
-        restTemplate.setRequestFactory(requestFactory);
-
-        if (config.isTrustAllCertificates()) {
-            log.warn("Creating RestTemplate with SSL certificate verification DISABLED for webhook proxy - " +
-                    "this should only be used in development environments");
-            configureTrustAllCertificates(restTemplate);
-
+    void evictIdleClients() {
+        long idleTimeout = configuration.getClientIdleTimeoutSeconds();
+        if (idleTimeout <= 0) {
+            return;
+        }
+        Instant cutoff = clock.instant().minusSeconds(idleTimeout);
+        int before = clientCache.size();
+        clientCache.values().removeIf(cached -> cached.lastUsed.isBefore(cutoff));
+        int evicted = before - clientCache.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle webhook proxy client(s), {} remaining", evicted, clientCache.size());
         }
+    }
 
-        return restTemplate;
+    /**
+     * @return number of cached per-project clients
+     */
+    int getCachedClientCount() {
+        return clientCache.size();
     }
 
     /**
-     * Configure RestTemplate to trust all SSL certificates
-     * WARNING: This should only be used in development environments
+     * @return number of cluster transports created so far
+     */
+    int getTransportCount() {
+        return transports.size();
+    }
+
+    /**
+     * Create a lightweight client for a project on top of the shared transport of its cluster
      * 
-     * @param restTemplate RestTemplate to configure
+     * @param clusterName   Name of the cluster
+     * @param projectKey    Project key
+     * @param clusterConfig Cluster configuration
+     * @return New WebhookProxyClient
      */
-    @SuppressWarnings({"java:S4830", "java:S1186"}) // Intentionally disabling SSL validation for development
-    private void configureTrustAllCertificates(RestTemplate restTemplate) {
-        try {
-            TrustManager[] trustAllCerts = new TrustManager[]{
-                new X509TrustManager() {
-                    public X509Certificate[] getAcceptedIssuers() {
-                        return new X509Certificate[0];
-                    }
-                    // Intentionally empty - trusting all certificates for development environments
-                    public void checkClientTrusted(X509Certificate[] certs, String authType) {
-                        // No validation performed - development only
-                    }
-                    // Intentionally empty - trusting all certificates for development environments
-                    public void checkServerTrusted(X509Certificate[] certs, String authType) {
-                        // No validation performed - development only
-                    }
-                }
-            };
-            
-            SSLContext sslContext = SSLContext.getInstance("TLS");
-            sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-            
-            HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-            // Intentionally disabling hostname verification for development environments
-            HttpsURLConnection.setDefaultHostnameVerifier((hostname, session) -> true);
-            
-        } catch (NoSuchAlgorithmException | KeyManagementException e) {
-            log.error("Failed to configure SSL trust all certificates", e);
+    private WebhookProxyClient createClient(String clusterName, String projectKey, ClusterConfig clusterConfig) {
+        log.info("Creating new WebhookProxyClient for cluster '{}' and project '{}'", clusterName, projectKey);
+
+        // Build the webhook proxy URL dynamically
+        String webhookProxyUrl = clusterConfig.buildWebhookProxyUrl(projectKey);
+        log.debug("Webhook proxy URL: {}", webhookProxyUrl);
+
+        WebhookProxyTransport transport = transports.computeIfAbsent(clusterName, name -> {
+            log.info("Creating pooled webhook proxy transport for cluster '{}'", name);
+            return new WebhookProxyTransport(name, clusterConfig, restTemplateBuilder);
+        });
+        return new WebhookProxyClient(clusterName, projectKey, webhookProxyUrl, clusterConfig,
+                transport.getRestTemplate());
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+        clientCache.clear();
+        transports.values().forEach(WebhookProxyTransport::close);
+        transports.clear();
+    }
+
+    private static final class CachedClient {
+
+        private final WebhookProxyClient client;
+        private volatile Instant lastUsed;
+
+        private CachedClient(WebhookProxyClient client, Instant lastUsed) {
+            this.client = client;
+            this.lastUsed = lastUsed;
         }
     }
 }
@@ -0,0 +1,124 @@
+package org.opendevstack.apiservice.externalservice.webhookproxy.client;
+
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.ClusterConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.client5.http.ssl.TrustAllStrategy;
+import org.apache.hc.core5.ssl.SSLContextBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+/**
+ * HTTP transport shared by the webhook proxy clients of all projects of one cluster.
+ * Connections are pooled per cluster, limited per project (each project has its own webhook proxy
+ * host), and closed after they were idle for the configured time.
+ */
+@Slf4j
+final class WebhookProxyTransport implements AutoCloseable {
+
+    private final String clusterName;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+
+    /**
+     * @param clusterName Name of the cluster
+     * @param config Cluster configuration
+     * @param restTemplateBuilder RestTemplate builder for creating the HTTP client
+     */
+    WebhookProxyTransport(String clusterName, ClusterConfig config, RestTemplateBuilder restTemplateBuilder) {
+        this.clusterName = clusterName;
+
+        PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder
+                .create()
+                .setMaxConnTotal(Math.max(1, config.getMaxConnections()))
+                .setMaxConnPerRoute(Math.max(1, config.getMaxConnectionsPerProject()))
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(config.getConnectionTimeout()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(config.getReadTimeout()))
+                        .build());
+
+        if (config.isTrustAllCertificates()) {
+            log.warn("Creating transport for cluster '{}' with SSL certificate verification DISABLED for webhook proxy - " +
+                    "this should only be used in development environments", clusterName);
+            configureTrustAllCertificates(connectionManagerBuilder);
+        }
+
+        this.connectionManager = connectionManagerBuilder.build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(Math.max(1, config.getIdleConnectionTimeoutSeconds())))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // Time to wait for a pooled connection when all connections of the project are in use
+        requestFactory.setConnectionRequestTimeout(config.getConnectionTimeout());
+        this.restTemplate = restTemplateBuilder.build();
+        this.restTemplate.setRequestFactory(requestFactory);
+    }
+
+    /**
+     * @return RestTemplate backed by the connection pool of the cluster
+     */
+    RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+
+    /**
+     * @return Name of the cluster
+     */
+    String getClusterName() {
+        return clusterName;
+    }
+
+    /**
+     * @return Number of pooled connections, leased or available
+     */
+    int getPooledConnections() {
+        var stats = connectionManager.getTotalStats();
+        return stats.getLeased() + stats.getAvailable();
+    }
+
+    /**
+     * Configure the connection pool to trust all SSL certificates and skip hostname verification.
+     * Unlike a default SSL socket factory, this only affects the connections of this cluster.
+     * WARNING: This should only be used in development environments
+     *
+     * @param connectionManagerBuilder Connection manager builder to configure
+     */
+    @SuppressWarnings("java:S4830") // Intentionally disabling SSL validation for development
+    private void configureTrustAllCertificates(PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder) {
+        try {
+            SSLContext sslContext = SSLContextBuilder.create()
+                    .loadTrustMaterial(TrustAllStrategy.INSTANCE)
+                    .build();
+            connectionManagerBuilder.setTlsSocketStrategy(
+                    new DefaultClientTlsStrategy(sslContext, NoopHostnameVerifier.INSTANCE));
+        } catch (GeneralSecurityException e) {
+            log.error("Failed to configure SSL trust all certificates", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Failed to close webhook proxy transport for cluster '{}': {}", clusterName, e.getMessage());
+        }
+    }
+}
@@ -25,6 +25,9 @@ import java.util.Map;
  *         cluster-base: apps.cluster-b.ocp.example.com
  *         connection-timeout: 60000
  *         read-timeout: 60000
+ *
+ * All projects of a cluster share one pooled HTTP transport; the per-project clients are lightweight
+ * and are dropped after they were not used for {@code client-idle-timeout-seconds}.
  */
 @Configuration
 @ConfigurationProperties(prefix = "externalservices.webhook-proxy")
@@ -35,6 +38,40 @@ public class WebhookProxyConfiguration {
      * Map of cluster configurations with cluster name as key and configuration as value.
      */
     private Map<String, ClusterConfig> clusters = new HashMap<>();
+
+    /**
+     * Seconds after which a per-project client that was not used is dropped from the cache,
+     * 0 to keep clients forever (default: 1800)
+     */
+    private long clientIdleTimeoutSeconds = 1800;
+
+    /**
+     * Asynchronous build trigger queue configuration
+     */
+    private TriggerQueueConfig triggerQueue = new TriggerQueueConfig();
+
+    /**
+     * Configuration of the queue of asynchronously submitted build triggers.
+     * Concurrency and rate limits are configured per cluster.
+     */
+    @Data
+    public static class TriggerQueueConfig {
+
+        /**
+         * Maximum number of queued triggers per cluster; further submissions are rejected (default: 500)
+         */
+        private int capacityPerCluster = 500;
+
+        /**
+         * Seconds the status of a completed trigger can be queried (default: 3600)
+         */
+        private long statusRetentionSeconds = 3600;
+
+        /**
+         * Maximum number of trigger statuses kept; the oldest completed ones are dropped first (default: 10000)
+         */
+        private int maxStatusEntries = 10000;
+    }
     
     /**
      * Configuration for a single cluster.
@@ -71,6 +108,31 @@ public class WebhookProxyConfiguration {
          * Default Jenkinsfile path if not specified in request (default: Jenkinsfile)
          */
         private String defaultJenkinsfilePath = "Jenkinsfile";
+
+        /**
+         * Maximum number of pooled connections to the webhook proxies of the cluster (default: 50)
+         */
+        private int maxConnections = 50;
+
+        /**
+         * Maximum number of pooled connections to the webhook proxy of a single project (default: 5)
+         */
+        private int maxConnectionsPerProject = 5;
+
+        /**
+         * Seconds after which pooled connections that were not used are closed (default: 60)
+         */
+        private long idleConnectionTimeoutSeconds = 60;
+
+        /**
+         * Maximum number of queued build triggers sent to the cluster at the same time (default: 4)
+         */
+        private int maxConcurrentTriggers = 4;
+
+        /**
+         * Maximum number of queued build triggers sent to the cluster per second, 0 for no limit (default: 2)
+         */
+        private double maxTriggersPerSecond = 2;
         
         /**
          * Constructs the webhook proxy base URL for a given project key
@@ -0,0 +1,104 @@
+package org.opendevstack.apiservice.externalservice.webhookproxy.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Status of an asynchronously submitted build trigger.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookProxyTriggerStatus {
+
+    /**
+     * Outcome of a build trigger
+     */
+    public enum State {
+        /** Waiting for the concurrency or rate limit of the cluster */
+        QUEUED,
+        /** Being sent to the webhook proxy */
+        RUNNING,
+        /** Accepted by the webhook proxy */
+        SUCCEEDED,
+        /** Rejected by the webhook proxy, or the webhook proxy could not be reached */
+        FAILED
+    }
+
+    /**
+     * ID returned when the trigger was submitted
+     */
+    private String triggerId;
+
+    /**
+     * Name of the cluster
+     */
+    private String clusterName;
+
+    /**
+     * Project key
+     */
+    private String projectKey;
+
+    /**
+     * Repository name
+     */
+    private String repository;
+
+    /**
+     * Git branch
+     */
+    private String branch;
+
+    /**
+     * Component name, if given
+     */
+    private String component;
+
+    /**
+     * Current state of the trigger
+     */
+    private State state;
+
+    /**
+     * Number of identical submissions coalesced into this trigger while it was queued, including the first
+     */
+    private int submissions;
+
+    /**
+     * Time the trigger was first submitted
+     */
+    private Instant submittedAt;
+
+    /**
+     * Time the trigger was sent to the webhook proxy, if it was
+     */
+    private Instant startedAt;
+
+    /**
+     * Time the trigger completed, if it did
+     */
+    private Instant completedAt;
+
+    /**
+     * Response of the webhook proxy, if one was received
+     */
+    private WebhookProxyBuildResponse response;
+
+    /**
+     * Error message if the trigger failed
+     */
+    private String errorMessage;
+
+    /**
+     * @return whether the trigger has completed, successfully or not
+     */
+    public boolean isCompleted() {
+        return state == State.SUCCEEDED || state == State.FAILED;
+    }
+}
@@ -85,4 +85,17 @@ public class WebhookProxyException extends Exception {
             super(message, cause);
         }
     }
+    
+    /**
+     * Exception thrown when a build trigger cannot be queued, e.g. because the queue of the cluster is full
+     */
+    public static class TriggerRejectedException extends WebhookProxyException {
+        public TriggerRejectedException(String message) {
+            super(message);
+        }
+        
+        public TriggerRejectedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
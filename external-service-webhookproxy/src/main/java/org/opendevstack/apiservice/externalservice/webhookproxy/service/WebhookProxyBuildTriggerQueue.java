@@ -0,0 +1,438 @@
+package org.opendevstack.apiservice.externalservice.webhookproxy.service;
+
+import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookProxyClient;
+import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookProxyClientFactory;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.ClusterConfig;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.TriggerQueueConfig;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.EnvPair;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildRequest;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildResponse;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus.State;
+import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Queue of build triggers that are sent to the webhook proxies in the background, so that callers
+ * do not wait for the webhook proxy round trip.
+ *
+ * Submitted triggers are validated and queued per cluster, and a trigger ID is returned immediately.
+ * Each cluster sends at most {@code max-concurrent-triggers} triggers at the same time and at most
+ * {@code max-triggers-per-second} per second. A submission that is identical to a trigger still
+ * queued for the cluster (same project, repository, branch, component, Jenkinsfile, environment and
+ * trigger secret) is coalesced into it and returns its trigger ID. The status of a trigger can be
+ * queried by its ID until {@code status-retention-seconds} after it completed.
+ */
+@Component
+@Slf4j
+public class WebhookProxyBuildTriggerQueue implements DisposableBean {
+
+    private static final long CLEANUP_INTERVAL_SECONDS = 60;
+
+    private final WebhookProxyClientFactory clientFactory;
+    private final WebhookProxyConfiguration configuration;
+    private final TriggerQueueConfig config;
+    private final Clock clock;
+
+    private final Map<String, ClusterLane> lanes = new ConcurrentHashMap<>();
+    private final Map<String, Trigger> triggers = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("webhook-proxy-trigger-queue").daemon().factory());
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean closed;
+
+    @Autowired
+    public WebhookProxyBuildTriggerQueue(WebhookProxyClientFactory clientFactory,
+            WebhookProxyConfiguration configuration) {
+        this(clientFactory, configuration, Clock.systemUTC());
+    }
+
+    WebhookProxyBuildTriggerQueue(WebhookProxyClientFactory clientFactory, WebhookProxyConfiguration configuration,
+            Clock clock) {
+        this.clientFactory = clientFactory;
+        this.configuration = configuration;
+        this.config = configuration.getTriggerQueue();
+        this.clock = clock;
+        scheduler.scheduleAtFixedRate(this::removeExpiredStatuses, CLEANUP_INTERVAL_SECONDS,
+                CLEANUP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Queue a build trigger
+     *
+     * @param clusterName Name of the target cluster
+     * @param projectKey Project key
+     * @param request Build request; it is copied, later changes are not sent
+     * @param triggerSecret Trigger secret for authentication
+     * @param jenkinsfilePath Optional custom Jenkinsfile path (uses default if null)
+     * @param component Optional component name (extracted from repository if null)
+     * @return ID of the trigger, or of the identical queued trigger the submission was coalesced into
+     * @throws WebhookProxyException.ConfigurationException if the cluster is not configured
+     * @throws WebhookProxyException.ValidationException if the request is invalid
+     * @throws WebhookProxyException.TriggerRejectedException if the queue of the cluster is full or shut down
+     */
+    public String submit(String clusterName, String projectKey, WebhookProxyBuildRequest request,
+            String triggerSecret, String jenkinsfilePath, String component) throws WebhookProxyException {
+        WebhookProxyClient client = clientFactory.getClient(clusterName, projectKey);
+        client.validateBuildRequest(request, triggerSecret);
+
+        WebhookProxyBuildRequest copy = WebhookProxyBuildRequest.builder()
+                .branch(request.getBranch())
+                .repository(request.getRepository())
+                .project(request.getProject())
+                .env(request.getEnv() != null
+                        ? request.getEnv().stream()
+                                .map(pair -> new EnvPair(pair.getName(), pair.getValue()))
+                                .collect(Collectors.toCollection(ArrayList::new))
+                        : new ArrayList<>())
+                .build();
+        Key key = new Key(projectKey, copy.getRepository(), copy.getBranch(), blankToNull(component),
+                blankToNull(jenkinsfilePath), List.copyOf(copy.getEnv()), triggerSecret);
+        ClusterLane lane = lanes.computeIfAbsent(clusterName,
+                name -> new ClusterLane(configuration.getClusters().get(name)));
+
+        Trigger trigger;
+        synchronized (lane) {
+            if (closed) {
+                throw new WebhookProxyException.TriggerRejectedException("Build trigger queue is shut down");
+            }
+            Trigger pending = lane.pendingByKey.get(key);
+            if (pending != null) {
+                pending.coalesce();
+                log.info("Coalesced build trigger for project '{}' on cluster '{}' into queued trigger {}",
+                        projectKey, clusterName, pending.id);
+                return pending.id;
+            }
+            if (lane.queue.size() >= Math.max(1, config.getCapacityPerCluster())) {
+                throw new WebhookProxyException.TriggerRejectedException(String.format(
+                        "Build trigger queue of cluster '%s' is full (%d triggers)", clusterName, lane.queue.size()));
+            }
+            if (triggers.size() >= Math.max(1, config.getMaxStatusEntries())) {
+                trimStatuses();
+            }
+            trigger = new Trigger(UUID.randomUUID().toString(), clusterName, client, copy, key, clock.instant());
+            lane.queue.add(trigger);
+            lane.pendingByKey.put(key, trigger);
+            triggers.put(trigger.id, trigger);
+        }
+        log.info("Queued build trigger {} for project '{}' on cluster '{}': branch='{}', repository='{}'",
+                trigger.id, projectKey, clusterName, copy.getBranch(), copy.getRepository());
+
+        dispatch(lane);
+        return trigger.id;
+    }
+
+    /**
+     * Get the status of a build trigger
+     *
+     * @param triggerId ID returned by {@link #submit}
+     * @return The status, or empty if the trigger is unknown or its status has expired
+     */
+    public Optional<WebhookProxyTriggerStatus> getStatus(String triggerId) {
+        if (triggerId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(triggers.get(triggerId)).map(Trigger::toStatus);
+    }
+
+    /**
+     * @return number of queued triggers of a cluster that were not sent yet
+     */
+    public int getQueuedCount(String clusterName) {
+        ClusterLane lane = lanes.get(clusterName);
+        if (lane == null) {
+            return 0;
+        }
+        synchronized (lane) {
+            return lane.queue.size();
+        }
+    }
+
+    /**
+     * Send queued triggers of all clusters that are within their limits
+     */
+    void dispatchAll() {
+        lanes.values().forEach(this::dispatch);
+    }
+
+    /**
+     * Drop the statuses of triggers that completed longer than the retention time ago
+     */
+    void removeExpiredStatuses() {
+        Instant cutoff = clock.instant().minusSeconds(config.getStatusRetentionSeconds());
+        triggers.values().removeIf(trigger -> trigger.completedBefore(cutoff));
+    }
+
+    private void trimStatuses() {
+        removeExpiredStatuses();
+        int excess = triggers.size() - Math.max(1, config.getMaxStatusEntries()) + 1;
+        if (excess > 0) {
+            triggers.values().stream()
+                    .map(Trigger::toStatus)
+                    .filter(WebhookProxyTriggerStatus::isCompleted)
+                    .sorted(Comparator.comparing(WebhookProxyTriggerStatus::getCompletedAt))
+                    .limit(excess)
+                    .forEach(status -> triggers.remove(status.getTriggerId()));
+        }
+    }
+
+    private void dispatch(ClusterLane lane) {
+        List<Trigger> ready = new ArrayList<>();
+        synchronized (lane) {
+            while (!closed && lane.running < Math.max(1, lane.config.getMaxConcurrentTriggers())
+                    && !lane.queue.isEmpty()) {
+                long waitNanos = lane.acquirePermit(clock.instant());
+                if (waitNanos > 0) {
+                    if (lane.retry == null) {
+                        scheduleDispatch(lane, waitNanos);
+                    }
+                    break;
+                }
+                Trigger trigger = lane.queue.poll();
+                lane.pendingByKey.remove(trigger.key);
+                trigger.key = null;
+                lane.running++;
+                ready.add(trigger);
+            }
+        }
+        for (Trigger trigger : ready) {
+            try {
+                sender.execute(() -> send(lane, trigger));
+            } catch (RejectedExecutionException e) {
+                // Shut down after the trigger was taken from the queue
+                trigger.complete(State.FAILED, null, "Build trigger queue was shut down before the trigger was sent",
+                        clock.instant());
+                synchronized (lane) {
+                    lane.running--;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dispatch again once the rate limit allows it. Must be called while holding the monitor of the lane.
+     */
+    private void scheduleDispatch(ClusterLane lane, long delayNanos) {
+        try {
+            lane.retry = scheduler.schedule(() -> {
+                synchronized (lane) {
+                    lane.retry = null;
+                }
+                dispatch(lane);
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down, queued triggers are failed by destroy()
+        }
+    }
+
+    private void send(ClusterLane lane, Trigger trigger) {
+        trigger.start(clock.instant());
+        try {
+            WebhookProxyBuildResponse response = trigger.client.triggerBuild(trigger.request, trigger.triggerSecret,
+                    trigger.jenkinsfilePath, trigger.component);
+            if (response.isSuccess()) {
+                log.info("Build trigger {} for project '{}' on cluster '{}' succeeded", trigger.id,
+                        trigger.projectKey, trigger.clusterName);
+            } else {
+                log.warn("Build trigger {} for project '{}' on cluster '{}' returned non-success status: {}",
+                        trigger.id, trigger.projectKey, trigger.clusterName, response.getStatusCode());
+            }
+            trigger.complete(response.isSuccess() ? State.SUCCEEDED : State.FAILED, response,
+                    response.getErrorMessage(), clock.instant());
+        } catch (WebhookProxyException.BuildTriggerException e) {
+            log.warn("Build trigger {} for project '{}' on cluster '{}' failed: {}", trigger.id,
+                    trigger.projectKey, trigger.clusterName, e.getMessage());
+            trigger.complete(State.FAILED, new WebhookProxyBuildResponse(e.getStatusCode(), null, false, e.getMessage()),
+                    e.getMessage(), clock.instant());
+        } catch (WebhookProxyException | RuntimeException e) {
+            log.warn("Build trigger {} for project '{}' on cluster '{}' failed: {}", trigger.id,
+                    trigger.projectKey, trigger.clusterName, e.getMessage());
+            trigger.complete(State.FAILED, null, e.getMessage(), clock.instant());
+        } finally {
+            synchronized (lane) {
+                lane.running--;
+            }
+            dispatch(lane);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        scheduler.shutdownNow();
+        Instant now = clock.instant();
+        lanes.values().forEach(lane -> {
+            synchronized (lane) {
+                lane.queue.forEach(trigger -> trigger.complete(State.FAILED, null,
+                        "Build trigger queue was shut down before the trigger was sent", now));
+                lane.queue.clear();
+                lane.pendingByKey.clear();
+            }
+        });
+        // Waits for triggers that are being sent
+        sender.close();
+    }
+
+    /**
+     * Identity of a trigger for coalescing
+     */
+    private record Key(String projectKey, String repository, String branch, String component,
+            String jenkinsfilePath, List<EnvPair> env, String triggerSecret) {
+
+        @Override
+        public String toString() {
+            // The trigger secret must not end up in logs
+            return "Key[projectKey=" + projectKey + ", repository=" + repository + ", branch=" + branch
+                    + ", component=" + component + "]";
+        }
+    }
+
+    /**
+     * Queued triggers, concurrency and rate limit of one cluster. Guarded by its own monitor.
+     */
+    private static final class ClusterLane {
+
+        private final ClusterConfig config;
+        private final Deque<Trigger> queue = new ArrayDeque<>();
+        private final Map<Key, Trigger> pendingByKey = new HashMap<>();
+        private int running;
+        private ScheduledFuture<?> retry;
+        private double permits;
+        private Instant lastRefill;
+
+        private ClusterLane(ClusterConfig config) {
+            this.config = config;
+        }
+
+        /**
+         * Take a permit of the rate limit (a token bucket holding up to one second of permits)
+         *
+         * @return 0 if a permit was taken, otherwise the nanoseconds until the next permit is available
+         */
+        private long acquirePermit(Instant now) {
+            double rate = config.getMaxTriggersPerSecond();
+            if (rate <= 0) {
+                return 0;
+            }
+            double burst = Math.max(1, rate);
+            if (lastRefill == null) {
+                permits = burst;
+            } else {
+                long elapsedNanos = Math.max(0, Duration.between(lastRefill, now).toNanos());
+                permits = Math.min(burst, permits + elapsedNanos * rate / 1_000_000_000d);
+            }
+            lastRefill = now;
+            if (permits >= 1) {
+                permits -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - permits) / rate * 1_000_000_000d));
+        }
+    }
+
+    private static final class Trigger {
+
+        private final String id;
+        private final String clusterName;
+        private final WebhookProxyClient client;
+        private final String projectKey;
+        private final String component;
+        private final String jenkinsfilePath;
+        private final WebhookProxyBuildRequest request;
+        private final Instant submittedAt;
+        /** Only set while queued, it holds the trigger secret */
+        private Key key;
+        /** Dropped once the trigger completed */
+        private volatile String triggerSecret;
+
+        private int submissions = 1;
+        private State state = State.QUEUED;
+        private Instant startedAt;
+        private Instant completedAt;
+        private WebhookProxyBuildResponse response;
+        private String errorMessage;
+
+        private Trigger(String id, String clusterName, WebhookProxyClient client, WebhookProxyBuildRequest request,
+                Key key, Instant submittedAt) {
+            this.id = id;
+            this.clusterName = clusterName;
+            this.client = client;
+            this.projectKey = key.projectKey();
+            this.component = key.component();
+            this.jenkinsfilePath = key.jenkinsfilePath();
+            this.request = request;
+            this.key = key;
+            this.triggerSecret = key.triggerSecret();
+            this.submittedAt = submittedAt;
+        }
+
+        private synchronized void coalesce() {
+            submissions++;
+        }
+
+        private synchronized void start(Instant now) {
+            state = State.RUNNING;
+            startedAt = now;
+        }
+
+        private synchronized void complete(State state, WebhookProxyBuildResponse response, String errorMessage,
+                Instant now) {
+            this.state = state;
+            this.response = response;
+            this.errorMessage = errorMessage;
+            this.completedAt = now;
+            this.triggerSecret = null;
+        }
+
+        private synchronized boolean completedBefore(Instant cutoff) {
+            return completedAt != null && completedAt.isBefore(cutoff);
+        }
+
+        private synchronized WebhookProxyTriggerStatus toStatus() {
+            return WebhookProxyTriggerStatus.builder()
+                    .triggerId(id)
+                    .clusterName(clusterName)
+                    .projectKey(projectKey)
+                    .repository(request.getRepository())
+                    .branch(request.getBranch())
+                    .component(component)
+                    .state(state)
+                    .submissions(submissions)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .response(response)
+                    .errorMessage(errorMessage)
+                    .build();
+        }
+    }
+}
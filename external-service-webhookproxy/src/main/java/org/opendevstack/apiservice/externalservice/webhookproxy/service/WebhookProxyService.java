@@ -2,13 +2,17 @@ package org.opendevstack.apiservice.externalservice.webhookproxy.service;
 
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildRequest;
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildResponse;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus;
 import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Service interface for triggering builds via the ODS Webhook Proxy.
  * Provides high-level methods to trigger release manager builds across different clusters.
+ * Builds can be triggered synchronously, waiting for the webhook proxy, or submitted to a queue
+ * that sends them in the background and reports their outcome by trigger ID.
  */
 public interface WebhookProxyService {
     
@@ -43,6 +47,45 @@ public interface WebhookProxyService {
                                           String jenkinsfilePath, String component)
             throws WebhookProxyException;
     
+    /**
+     * Submit a release manager build trigger without waiting for the webhook proxy.
+     * Identical triggers still queued for the cluster are coalesced.
+     * 
+     * @param clusterName Name of the target cluster
+     * @param projectKey Project key
+     * @param request Build request
+     * @param triggerSecret Trigger secret for authentication
+     * @return Trigger ID to query the outcome with {@link #getTriggerStatus(String)}
+     * @throws WebhookProxyException if the cluster is not configured, the request is invalid or the queue is full
+     */
+    String submitBuild(String clusterName, String projectKey, WebhookProxyBuildRequest request, String triggerSecret)
+            throws WebhookProxyException;
+    
+    /**
+     * Submit a release manager build trigger with optional parameters without waiting for the webhook proxy.
+     * Identical triggers still queued for the cluster are coalesced.
+     * 
+     * @param clusterName Name of the target cluster
+     * @param projectKey Project key
+     * @param request Build request
+     * @param triggerSecret Trigger secret for authentication
+     * @param jenkinsfilePath Optional custom Jenkinsfile path (uses default if null)
+     * @param component Optional component name (extracted from repository if null)
+     * @return Trigger ID to query the outcome with {@link #getTriggerStatus(String)}
+     * @throws WebhookProxyException if the cluster is not configured, the request is invalid or the queue is full
+     */
+    String submitBuild(String clusterName, String projectKey, WebhookProxyBuildRequest request, String triggerSecret,
+                       String jenkinsfilePath, String component)
+            throws WebhookProxyException;
+    
+    /**
+     * Get the status of a submitted build trigger
+     * 
+     * @param triggerId Trigger ID returned by submitBuild
+     * @return The status, or empty if the trigger is unknown or its status has expired
+     */
+    Optional<WebhookProxyTriggerStatus> getTriggerStatus(String triggerId);
+    
     /**
      * Get all available cluster names
      * 
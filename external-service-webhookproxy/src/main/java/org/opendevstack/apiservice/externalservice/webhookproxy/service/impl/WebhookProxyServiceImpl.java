@@ -5,17 +5,21 @@ import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookPr
 import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration;
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildRequest;
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildResponse;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus;
 import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
+import org.opendevstack.apiservice.externalservice.webhookproxy.service.WebhookProxyBuildTriggerQueue;
 import org.opendevstack.apiservice.externalservice.webhookproxy.service.WebhookProxyService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Implementation of WebhookProxyService.
  * Uses WebhookProxyClientFactory to obtain clients for different clusters
  * and delegates build trigger operations to the appropriate client.
+ * Submitted builds are delegated to the WebhookProxyBuildTriggerQueue.
  */
 @Service
 @Slf4j
@@ -23,17 +27,21 @@ public class WebhookProxyServiceImpl implements WebhookProxyService {
     
     private final WebhookProxyClientFactory clientFactory;
     private final WebhookProxyConfiguration configuration;
+    private final WebhookProxyBuildTriggerQueue triggerQueue;
     
     /**
      * Constructor with dependency injection
      * 
      * @param clientFactory Factory for creating webhook proxy clients
      * @param configuration Webhook proxy configuration
+     * @param triggerQueue Queue sending submitted build triggers in the background
      */
     public WebhookProxyServiceImpl(WebhookProxyClientFactory clientFactory,
-                                  WebhookProxyConfiguration configuration) {
+                                  WebhookProxyConfiguration configuration,
+                                  WebhookProxyBuildTriggerQueue triggerQueue) {
         this.clientFactory = clientFactory;
         this.configuration = configuration;
+        this.triggerQueue = triggerQueue;
         log.info("WebhookProxyServiceImpl initialized");
     }
     
@@ -82,6 +90,29 @@ public class WebhookProxyServiceImpl implements WebhookProxyService {
         return response;
     }
     
+    @Override
+    public String submitBuild(String clusterName, String projectKey, WebhookProxyBuildRequest request,
+                              String triggerSecret) throws WebhookProxyException {
+        return submitBuild(clusterName, projectKey, request, triggerSecret, null, null);
+    }
+    
+    @Override
+    public String submitBuild(String clusterName, String projectKey, WebhookProxyBuildRequest request,
+                              String triggerSecret, String jenkinsfilePath, String component)
+            throws WebhookProxyException {
+        
+        log.info("Submitting build for project '{}' on cluster '{}': branch='{}', repository='{}'",
+                projectKey, clusterName, request != null ? request.getBranch() : null,
+                request != null ? request.getRepository() : null);
+        
+        return triggerQueue.submit(clusterName, projectKey, request, triggerSecret, jenkinsfilePath, component);
+    }
+    
+    @Override
+    public Optional<WebhookProxyTriggerStatus> getTriggerStatus(String triggerId) {
+        return triggerQueue.getStatus(triggerId);
+    }
+    
     @Override
     public Set<String> getAvailableClusters() {
         return clientFactory.getAvailableClusters();
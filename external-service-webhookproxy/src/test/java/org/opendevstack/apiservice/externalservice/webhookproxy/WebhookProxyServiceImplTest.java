@@ -5,12 +5,15 @@ import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookPr
 import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration;
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildRequest;
 import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildResponse;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus;
 import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
+import org.opendevstack.apiservice.externalservice.webhookproxy.service.WebhookProxyBuildTriggerQueue;
 import org.opendevstack.apiservice.externalservice.webhookproxy.service.impl.WebhookProxyServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +23,7 @@ class WebhookProxyServiceImplTest {
     private WebhookProxyClientFactory clientFactory;
     private WebhookProxyConfiguration configuration;
     private WebhookProxyClient client;
+    private WebhookProxyBuildTriggerQueue triggerQueue;
     private WebhookProxyServiceImpl service;
 
     @BeforeEach
@@ -27,7 +31,8 @@ class WebhookProxyServiceImplTest {
         clientFactory = mock(WebhookProxyClientFactory.class);
         configuration = mock(WebhookProxyConfiguration.class);
         client = mock(WebhookProxyClient.class);
-        service = new WebhookProxyServiceImpl(clientFactory, configuration);
+        triggerQueue = mock(WebhookProxyBuildTriggerQueue.class);
+        service = new WebhookProxyServiceImpl(clientFactory, configuration, triggerQueue);
     }
 
     @Test
@@ -96,6 +101,31 @@ class WebhookProxyServiceImplTest {
         assertEquals("Forbidden", result.getErrorMessage());
     }
 
+    @Test
+    void submitBuild_delegatesToTriggerQueue() throws Exception {
+        WebhookProxyBuildRequest request = WebhookProxyBuildRequest.builder()
+                .branch("master")
+                .repository("repo")
+                .project("example-project")
+                .build();
+        when(triggerQueue.submit("cluster-a", "example-project", request, "triggersecret", null, null))
+                .thenReturn("trigger-1");
+
+        assertEquals("trigger-1", service.submitBuild("cluster-a", "example-project", request, "triggersecret"));
+        verifyNoInteractions(clientFactory);
+    }
+
+    @Test
+    void getTriggerStatus_delegatesToTriggerQueue() {
+        WebhookProxyTriggerStatus status = WebhookProxyTriggerStatus.builder()
+                .triggerId("trigger-1")
+                .state(WebhookProxyTriggerStatus.State.QUEUED)
+                .build();
+        when(triggerQueue.getStatus("trigger-1")).thenReturn(Optional.of(status));
+
+        assertEquals(Optional.of(status), service.getTriggerStatus("trigger-1"));
+    }
+
     @Test
     void getAvailableClusters_returnsSet() {
         Set<String> clusters = Set.of("cluster-a", "cluster-b");
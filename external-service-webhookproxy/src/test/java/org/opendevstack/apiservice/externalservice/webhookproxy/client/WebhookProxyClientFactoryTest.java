@@ -0,0 +1,204 @@
+package org.opendevstack.apiservice.externalservice.webhookproxy.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.ClusterConfig;
+import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookProxyClientFactoryTest {
+
+    private WebhookProxyConfiguration configuration;
+    private MutableClock clock;
+    private WebhookProxyClientFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new WebhookProxyConfiguration();
+        configuration.getClusters().put("cluster-a", clusterConfig("apps.cluster-a.ocp.example.com"));
+        configuration.getClusters().put("cluster-b", clusterConfig("apps.cluster-b.ocp.example.com"));
+        configuration.setClientIdleTimeoutSeconds(600);
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        factory = new WebhookProxyClientFactory(configuration, new RestTemplateBuilder(), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+    }
+
+    @Test
+    void getClient_sameProject_returnsCachedClient() throws Exception {
+        WebhookProxyClient first = factory.getClient("cluster-a", "project-a");
+        WebhookProxyClient second = factory.getClient("cluster-a", "project-a");
+
+        assertSame(first, second);
+        assertEquals("https://webhook-proxy-project-a-cd.apps.cluster-a.ocp.example.com", first.getBaseUrl());
+    }
+
+    @Test
+    void getClient_projectsOfSameCluster_shareTransport() throws Exception {
+        WebhookProxyClient projectA = factory.getClient("cluster-a", "project-a");
+        WebhookProxyClient projectB = factory.getClient("cluster-a", "project-b");
+        WebhookProxyClient otherCluster = factory.getClient("cluster-b", "project-a");
+
+        assertNotSame(projectA, projectB);
+        assertSame(projectA.getRestTemplate(), projectB.getRestTemplate());
+        assertNotSame(projectA.getRestTemplate(), otherCluster.getRestTemplate());
+        assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, projectA.getRestTemplate().getRequestFactory());
+        assertEquals(2, factory.getTransportCount());
+        assertEquals(3, factory.getCachedClientCount());
+    }
+
+    @Test
+    void getClient_concurrentRequests_createSingleClient() throws Exception {
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<WebhookProxyClient> task = () -> {
+            start.await();
+            return factory.getClient("cluster-a", "project-a");
+        };
+
+        Set<WebhookProxyClient> clients = new HashSet<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<WebhookProxyClient>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<WebhookProxyClient> future : futures) {
+                clients.add(future.get());
+            }
+        }
+
+        assertEquals(1, clients.size());
+        assertEquals(1, factory.getTransportCount());
+    }
+
+    @Test
+    void evictIdleClients_dropsOnlyIdleClientsAndKeepsTransport() throws Exception {
+        WebhookProxyClient idle = factory.getClient("cluster-a", "project-a");
+        clock.advance(Duration.ofSeconds(400));
+        WebhookProxyClient active = factory.getClient("cluster-a", "project-b");
+        clock.advance(Duration.ofSeconds(300));
+
+        factory.evictIdleClients();
+
+        assertEquals(1, factory.getCachedClientCount());
+        assertSame(active, factory.getClient("cluster-a", "project-b"));
+        WebhookProxyClient recreated = factory.getClient("cluster-a", "project-a");
+        assertNotSame(idle, recreated);
+        assertSame(idle.getRestTemplate(), recreated.getRestTemplate());
+        assertEquals(1, factory.getTransportCount());
+    }
+
+    @Test
+    void evictIdleClients_disabled_keepsClients() throws Exception {
+        configuration.setClientIdleTimeoutSeconds(0);
+        factory.getClient("cluster-a", "project-a");
+        clock.advance(Duration.ofDays(1));
+
+        factory.evictIdleClients();
+
+        assertEquals(1, factory.getCachedClientCount());
+    }
+
+    @Test
+    void getClient_clusterNotConfigured_throwsException() {
+        Exception ex = assertThrows(WebhookProxyException.ConfigurationException.class,
+                () -> factory.getClient("unknown", "project-a"));
+
+        assertTrue(ex.getMessage().contains("Cluster 'unknown' is not configured"));
+        assertEquals(0, factory.getCachedClientCount());
+    }
+
+    @Test
+    void transport_reusesConnectionsAcrossRequests() throws Exception {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/build", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        try (WebhookProxyTransport transport = new WebhookProxyTransport("cluster-a",
+                clusterConfig("apps.cluster-a.ocp.example.com"), new RestTemplateBuilder())) {
+            String url = "http://localhost:" + server.getAddress().getPort() + "/build";
+            Set<String> bodies = new HashSet<>();
+            for (int i = 0; i < 3; i++) {
+                bodies.add(transport.getRestTemplate().postForObject(url, "{}", String.class));
+            }
+
+            assertEquals(Set.of("ok"), bodies);
+            assertEquals(1, clientPorts.size());
+            assertEquals(1, transport.getPooledConnections());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static ClusterConfig clusterConfig(String clusterBase) {
+        ClusterConfig config = new ClusterConfig();
+        config.setClusterBase(clusterBase);
+        config.setConnectionTimeout(5000);
+        config.setReadTimeout(5000);
+        return config;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
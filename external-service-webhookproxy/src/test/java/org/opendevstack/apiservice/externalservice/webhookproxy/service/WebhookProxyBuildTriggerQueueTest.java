@@ -0,0 +1,311 @@
+package org.opendevstack.apiservice.externalservice.webhookproxy.service;
+
+import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookProxyClient;
+import org.opendevstack.apiservice.externalservice.webhookproxy.client.WebhookProxyClientFactory;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration;
+import org.opendevstack.apiservice.externalservice.webhookproxy.config.WebhookProxyConfiguration.ClusterConfig;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildRequest;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyBuildResponse;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus;
+import org.opendevstack.apiservice.externalservice.webhookproxy.dto.WebhookProxyTriggerStatus.State;
+import org.opendevstack.apiservice.externalservice.webhookproxy.exception.WebhookProxyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class WebhookProxyBuildTriggerQueueTest {
+
+    private static final String CLUSTER = "cluster-a";
+    private static final String PROJECT = "example-project";
+    private static final String SECRET = "triggersecret";
+
+    private WebhookProxyConfiguration configuration;
+    private ClusterConfig clusterConfig;
+    private WebhookProxyClientFactory clientFactory;
+    private WebhookProxyClient client;
+    private MutableClock clock;
+    private WebhookProxyBuildTriggerQueue queue;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        configuration = new WebhookProxyConfiguration();
+        clusterConfig = new ClusterConfig();
+        clusterConfig.setClusterBase("apps.cluster-a.ocp.example.com");
+        clusterConfig.setMaxConcurrentTriggers(1);
+        clusterConfig.setMaxTriggersPerSecond(0);
+        configuration.getClusters().put(CLUSTER, clusterConfig);
+
+        clientFactory = mock(WebhookProxyClientFactory.class);
+        client = mock(WebhookProxyClient.class);
+        when(clientFactory.getClient(CLUSTER, PROJECT)).thenReturn(client);
+
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        queue = new WebhookProxyBuildTriggerQueue(clientFactory, configuration, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.destroy();
+    }
+
+    @Test
+    void submit_returnsBeforeTriggerIsSentAndReportsOutcome() throws Exception {
+        CountDownLatch release = blockTriggers();
+
+        String triggerId = queue.submit(CLUSTER, PROJECT, request("master"), SECRET, null, "compA");
+
+        awaitState(triggerId, State.RUNNING);
+        release.countDown();
+        WebhookProxyTriggerStatus status = awaitState(triggerId, State.SUCCEEDED);
+        assertEquals(CLUSTER, status.getClusterName());
+        assertEquals(PROJECT, status.getProjectKey());
+        assertEquals("master", status.getBranch());
+        assertEquals("compA", status.getComponent());
+        assertEquals(200, status.getResponse().getStatusCode());
+        assertNotNull(status.getCompletedAt());
+        verify(client).triggerBuild(any(WebhookProxyBuildRequest.class), eq(SECRET), isNull(), eq("compA"));
+    }
+
+    @Test
+    void submit_identicalQueuedTriggers_areCoalesced() throws Exception {
+        CountDownLatch release = blockTriggers();
+        String running = queue.submit(CLUSTER, PROJECT, request("release/1.0"), SECRET, null, null);
+        awaitState(running, State.RUNNING);
+
+        String first = queue.submit(CLUSTER, PROJECT, request("master"), SECRET, null, null);
+        String second = queue.submit(CLUSTER, PROJECT, request("master"), SECRET, null, null);
+        String otherBranch = queue.submit(CLUSTER, PROJECT, request("develop"), SECRET, null, null);
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherBranch);
+        assertNotEquals(running, first);
+        assertEquals(2, queue.getStatus(first).orElseThrow().getSubmissions());
+        assertEquals(State.QUEUED, queue.getStatus(first).orElseThrow().getState());
+        assertEquals(2, queue.getQueuedCount(CLUSTER));
+
+        release.countDown();
+        awaitState(first, State.SUCCEEDED);
+        awaitState(otherBranch, State.SUCCEEDED);
+        verify(client, times(3)).triggerBuild(any(WebhookProxyBuildRequest.class), eq(SECRET), isNull(), isNull());
+    }
+
+    @Test
+    void submit_laterChangesToRequest_doNotAffectQueuedTrigger() throws Exception {
+        CountDownLatch release = blockTriggers();
+        String running = queue.submit(CLUSTER, PROJECT, request("release/1.0"), SECRET, null, null);
+        awaitState(running, State.RUNNING);
+
+        WebhookProxyBuildRequest request = request("master");
+        String queued = queue.submit(CLUSTER, PROJECT, request, SECRET, null, null);
+        request.getEnv().get(0).setValue("PROD");
+        String changed = queue.submit(CLUSTER, PROJECT, request, SECRET, null, null);
+
+        assertNotEquals(queued, changed);
+        release.countDown();
+        awaitState(queued, State.SUCCEEDED);
+        awaitState(changed, State.SUCCEEDED);
+        verify(client).triggerBuild(argThat(sent -> "master".equals(sent.getBranch())
+                && "DEV".equals(sent.getEnv().get(0).getValue())), eq(SECRET), isNull(), isNull());
+    }
+
+    @Test
+    void submit_respectsConcurrencyLimitOfCluster() throws Exception {
+        clusterConfig.setMaxConcurrentTriggers(2);
+        CountDownLatch release = blockTriggers();
+
+        String[] triggerIds = new String[4];
+        for (int i = 0; i < triggerIds.length; i++) {
+            triggerIds[i] = queue.submit(CLUSTER, PROJECT, request("branch-" + i), SECRET, null, null);
+        }
+
+        awaitState(triggerIds[0], State.RUNNING);
+        awaitState(triggerIds[1], State.RUNNING);
+        assertEquals(2, queue.getQueuedCount(CLUSTER));
+        assertEquals(State.QUEUED, queue.getStatus(triggerIds[2]).orElseThrow().getState());
+
+        release.countDown();
+        for (String triggerId : triggerIds) {
+            awaitState(triggerId, State.SUCCEEDED);
+        }
+    }
+
+    @Test
+    void submit_respectsRateLimitOfCluster() throws Exception {
+        clusterConfig.setMaxConcurrentTriggers(10);
+        clusterConfig.setMaxTriggersPerSecond(1);
+        when(client.triggerBuild(any(), anyString(), any(), any()))
+                .thenReturn(new WebhookProxyBuildResponse(200, "ok", true, null));
+
+        String first = queue.submit(CLUSTER, PROJECT, request("branch-1"), SECRET, null, null);
+        String second = queue.submit(CLUSTER, PROJECT, request("branch-2"), SECRET, null, null);
+        queue.submit(CLUSTER, PROJECT, request("branch-3"), SECRET, null, null);
+
+        awaitState(first, State.SUCCEEDED);
+        assertEquals(2, queue.getQueuedCount(CLUSTER));
+
+        clock.advance(Duration.ofSeconds(1));
+        queue.dispatchAll();
+
+        awaitState(second, State.SUCCEEDED);
+        assertEquals(1, queue.getQueuedCount(CLUSTER));
+        verify(client, times(2)).triggerBuild(any(), anyString(), any(), any());
+    }
+
+    @Test
+    void submit_failedTrigger_reportsError() throws Exception {
+        when(client.triggerBuild(any(), anyString(), any(), any()))
+                .thenThrow(new WebhookProxyException.BuildTriggerException("Webhook proxy server error", 500));
+
+        String triggerId = queue.submit(CLUSTER, PROJECT, request("master"), SECRET, null, null);
+
+        WebhookProxyTriggerStatus status = awaitState(triggerId, State.FAILED);
+        assertEquals("Webhook proxy server error", status.getErrorMessage());
+        assertEquals(500, status.getResponse().getStatusCode());
+        assertFalse(status.getResponse().isSuccess());
+    }
+
+    @Test
+    void submit_invalidRequest_throwsWithoutQueueing() throws Exception {
+        WebhookProxyBuildRequest request = request("master");
+        doThrow(new WebhookProxyException.ValidationException("Trigger secret is required"))
+                .when(client).validateBuildRequest(request, null);
+
+        assertThrows(WebhookProxyException.ValidationException.class,
+                () -> queue.submit(CLUSTER, PROJECT, request, null, null, null));
+        assertEquals(0, queue.getQueuedCount(CLUSTER));
+        verify(client, never()).triggerBuild(any(), any(), any(), any());
+    }
+
+    @Test
+    void submit_queueFull_throwsTriggerRejectedException() throws Exception {
+        configuration.getTriggerQueue().setCapacityPerCluster(1);
+        blockTriggers();
+        String running = queue.submit(CLUSTER, PROJECT, request("branch-1"), SECRET, null, null);
+        awaitState(running, State.RUNNING);
+        queue.submit(CLUSTER, PROJECT, request("branch-2"), SECRET, null, null);
+
+        assertThrows(WebhookProxyException.TriggerRejectedException.class,
+                () -> queue.submit(CLUSTER, PROJECT, request("branch-3"), SECRET, null, null));
+        // Identical to a queued trigger, so it does not need room in the queue
+        assertDoesNotThrow(() -> queue.submit(CLUSTER, PROJECT, request("branch-2"), SECRET, null, null));
+    }
+
+    @Test
+    void removeExpiredStatuses_dropsCompletedTriggersAfterRetention() throws Exception {
+        configuration.getTriggerQueue().setStatusRetentionSeconds(60);
+        when(client.triggerBuild(any(), anyString(), any(), any()))
+                .thenReturn(new WebhookProxyBuildResponse(200, "ok", true, null));
+        String triggerId = queue.submit(CLUSTER, PROJECT, request("master"), SECRET, null, null);
+        awaitState(triggerId, State.SUCCEEDED);
+
+        clock.advance(Duration.ofSeconds(30));
+        queue.removeExpiredStatuses();
+        assertTrue(queue.getStatus(triggerId).isPresent());
+
+        clock.advance(Duration.ofSeconds(31));
+        queue.removeExpiredStatuses();
+        assertTrue(queue.getStatus(triggerId).isEmpty());
+    }
+
+    @Test
+    void destroy_failsQueuedTriggers() throws Exception {
+        CountDownLatch release = blockTriggers();
+        String running = queue.submit(CLUSTER, PROJECT, request("branch-1"), SECRET, null, null);
+        awaitState(running, State.RUNNING);
+        String queued = queue.submit(CLUSTER, PROJECT, request("branch-2"), SECRET, null, null);
+
+        // Queued triggers are failed before waiting for the triggers being sent
+        Thread destroyer = Thread.ofPlatform().start(queue::destroy);
+        awaitState(queued, State.FAILED);
+        release.countDown();
+        destroyer.join(5000);
+
+        assertFalse(destroyer.isAlive());
+        assertEquals(State.SUCCEEDED, queue.getStatus(running).orElseThrow().getState());
+        assertEquals(State.FAILED, queue.getStatus(queued).orElseThrow().getState());
+        assertThrows(WebhookProxyException.TriggerRejectedException.class,
+                () -> queue.submit(CLUSTER, PROJECT, request("branch-3"), SECRET, null, null));
+    }
+
+    @Test
+    void getStatus_unknownTrigger_returnsEmpty() {
+        assertTrue(queue.getStatus("unknown").isEmpty());
+        assertTrue(queue.getStatus(null).isEmpty());
+    }
+
+    /**
+     * Make the client block until the returned latch is released, then succeed
+     */
+    private CountDownLatch blockTriggers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(client.triggerBuild(any(), anyString(), any(), any())).thenAnswer(invocation -> {
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new WebhookProxyBuildResponse(200, "ok", true, null);
+        });
+        return release;
+    }
+
+    private WebhookProxyTriggerStatus awaitState(String triggerId, State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        WebhookProxyTriggerStatus status = queue.getStatus(triggerId).orElseThrow();
+        while (status.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = queue.getStatus(triggerId).orElseThrow();
+        }
+        assertEquals(state, status.getState());
+        return status;
+    }
+
+    private static WebhookProxyBuildRequest request(String branch) {
+        return WebhookProxyBuildRequest.builder()
+                .branch(branch)
+                .repository("example-project-releasemanager")
+                .project(PROJECT)
+                .build()
+                .addEnv("ENVIRONMENT", "DEV");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}